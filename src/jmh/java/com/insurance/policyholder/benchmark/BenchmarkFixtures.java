@@ -0,0 +1,108 @@
+package com.insurance.policyholder.benchmark;
+
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.Address;
+import com.insurance.policyholder.domain.model.valueobject.ContactInfo;
+import com.insurance.policyholder.domain.model.valueobject.Money;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PersonalInfo;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基準測試共用的測試資料
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 產生 count 組檢查碼正確的身分證字號
+     * 逐一嘗試最後一碼，只保留 NationalId.of 接受的組合
+     */
+    static List<String> nationalIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        String letters = "ABCDEFGHJKLMNPQRSTUVXYWZIO";
+        for (int i = 0; ids.size() < count; i++) {
+            String prefix = letters.charAt(i % letters.length()) + (i % 2 == 0 ? "1" : "2")
+                    + String.format("%07d", (i * 7919L) % 10_000_000L);
+            for (int check = 0; check <= 9; check++) {
+                try {
+                    ids.add(NationalId.of(prefix + check).getValue());
+                    break;
+                } catch (RuntimeException ignored) {
+                    // 檢查碼不符，嘗試下一碼
+                }
+            }
+        }
+        return ids;
+    }
+
+    static PolicyHolder policyHolder(int policyCount) {
+        PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                PolicyHolderId.generate(1L),
+                NationalId.of("A123456789"),
+                PersonalInfo.of("王小明", Gender.MALE, LocalDate.of(1990, 1, 15)),
+                ContactInfo.of("0912345678", "test@example.com"),
+                Address.of("100", "台北市", "中正區", "測試路100號"),
+                PolicyHolderStatus.ACTIVE,
+                1L
+        );
+        for (int i = 0; i < policyCount; i++) {
+            policyHolder.addReconstitutedPolicy(Policy.create(
+                    PolicyType.values()[i % PolicyType.values().length],
+                    Money.twd(10_000 + i),
+                    Money.twd(1_000_000),
+                    START_DATE,
+                    START_DATE.plusYears(1)));
+        }
+        return policyHolder;
+    }
+
+    static PolicyHolderReadModel readModel(int index) {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 10, 0);
+        return new PolicyHolderReadModel(
+                PolicyHolderId.generate(index + 1L).getValue(),
+                "A123456789",
+                "王小明",
+                "MALE",
+                LocalDate.of(1990, 1, 15),
+                "0912345678",
+                "test@example.com",
+                "100",
+                "台北市",
+                "中正區",
+                "測試路" + index + "號",
+                "ACTIVE",
+                timestamp,
+                timestamp,
+                1L
+        );
+    }
+
+    static CreatePolicyHolderRequest createRequest() {
+        CreatePolicyHolderRequest request = new CreatePolicyHolderRequest();
+        request.setNationalId("A123456789");
+        request.setName("王小明");
+        request.setGender("MALE");
+        request.setBirthDate(LocalDate.of(1990, 1, 15));
+        request.setMobilePhone("0912345678");
+        request.setEmail("test@example.com");
+        request.setAddress(new AddressRequest("100", "台北市", "中正區", "測試路100號"));
+        return request;
+    }
+}
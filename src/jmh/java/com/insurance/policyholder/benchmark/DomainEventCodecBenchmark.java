@@ -0,0 +1,81 @@
+package com.insurance.policyholder.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.infrastructure.adapter.output.event.DomainEventCodec;
+import com.insurance.policyholder.infrastructure.adapter.output.event.upcast.EventUpcasterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 事件序列化基準測試：EventStoreAdapter 寫入與讀取時使用的 JSON 編解碼
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class DomainEventCodecBenchmark {
+
+    private DomainEventCodec codec;
+    private PolicyHolderCreated createdEvent;
+    private PolicyAdded policyAddedEvent;
+    private String createdPayload;
+    private String policyAddedPayload;
+    private String legacyCreatedPayload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        codec = new DomainEventCodec();
+        PolicyHolder policyHolder = BenchmarkFixtures.policyHolder(1);
+        createdEvent = new PolicyHolderCreated(policyHolder);
+        policyAddedEvent = new PolicyAdded(policyHolder.getId().getValue(), policyHolder.getPolicies().get(0), 1L);
+        createdPayload = codec.encode(createdEvent);
+        policyAddedPayload = codec.encode(policyAddedEvent);
+        // 未標記版本的舊格式 payload，解碼時需經過 upcaster
+        ObjectNode legacy = (ObjectNode) codec.getObjectMapper().readTree(createdPayload);
+        legacy.remove(List.of(EventUpcasterChain.SCHEMA_VERSION_FIELD, "zipCode", "city", "district", "street"));
+        legacyCreatedPayload = codec.getObjectMapper().writeValueAsString(legacy);
+    }
+
+    @Benchmark
+    public String encodePolicyHolderCreated() {
+        return codec.encode(createdEvent);
+    }
+
+    @Benchmark
+    public String encodePolicyAdded() {
+        return codec.encode(policyAddedEvent);
+    }
+
+    @Benchmark
+    public DomainEvent decodePolicyHolderCreated() {
+        return codec.decode(PolicyHolderCreated.class.getName(), createdPayload);
+    }
+
+    @Benchmark
+    public DomainEvent decodePolicyAdded() {
+        return codec.decode(PolicyAdded.class.getName(), policyAddedPayload);
+    }
+
+    @Benchmark
+    public DomainEvent decodeLegacyPolicyHolderCreated() {
+        return codec.decode(PolicyHolderCreated.class.getName(), legacyCreatedPayload);
+    }
+}
@@ -0,0 +1,65 @@
+package com.insurance.policyholder.benchmark;
+
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 領域值物件基準測試：身分證字號驗證與 ID 產生
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class DomainValueObjectBenchmark {
+
+    private List<String> nationalIds;
+    private int cursor;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        nationalIds = BenchmarkFixtures.nationalIds(64);
+    }
+
+    @Benchmark
+    public NationalId nationalIdOf() {
+        cursor = (cursor + 1) & 63;
+        return NationalId.of(nationalIds.get(cursor));
+    }
+
+    @Benchmark
+    public PolicyHolderId policyHolderIdGenerate() {
+        return PolicyHolderId.generate();
+    }
+
+    @Benchmark
+    public PolicyHolderId policyHolderIdFromSequence() {
+        return PolicyHolderId.generate(++sequence);
+    }
+
+    @Benchmark
+    public PolicyId policyIdGenerate() {
+        return PolicyId.generate();
+    }
+
+    @Benchmark
+    public PolicyId policyIdFromSequence() {
+        return PolicyId.generate(++sequence);
+    }
+}
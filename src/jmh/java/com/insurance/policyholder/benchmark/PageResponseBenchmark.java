@@ -0,0 +1,59 @@
+package com.insurance.policyholder.benchmark;
+
+import com.insurance.policyholder.application.readmodel.PagedResult;
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PageResponse;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderListItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 分頁回應基準測試：列表查詢回應的組裝成本
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class PageResponseBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private PolicyHolderRestMapper mapper;
+    private PagedResult<PolicyHolderReadModel> pagedResult;
+
+    @Setup
+    public void setUp() {
+        mapper = new PolicyHolderRestMapper();
+        List<PolicyHolderReadModel> content = IntStream.range(0, pageSize)
+                .mapToObj(BenchmarkFixtures::readModel)
+                .toList();
+        pagedResult = new PagedResult<>(content, 0, pageSize, 10_000);
+    }
+
+    @Benchmark
+    public PageResponse<PolicyHolderListItemResponse> fromWithMapper() {
+        return PageResponse.from(pagedResult, mapper::toListItemResponse);
+    }
+
+    @Benchmark
+    public PageResponse<PolicyHolderReadModel> fromWithoutMapping() {
+        return PageResponse.from(pagedResult);
+    }
+}
@@ -0,0 +1,55 @@
+package com.insurance.policyholder.benchmark;
+
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 持久化轉換器基準測試：PolicyHolder 與 JPA Entity 互轉
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class PersistenceMapperBenchmark {
+
+    @Param({"0", "10"})
+    public int policyCount;
+
+    private PolicyHolderMapper mapper;
+    private PolicyHolder policyHolder;
+    private PolicyHolderJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new PolicyHolderMapper(new PolicyMapper());
+        policyHolder = BenchmarkFixtures.policyHolder(policyCount);
+        entity = mapper.toEntity(policyHolder);
+    }
+
+    @Benchmark
+    public PolicyHolderJpaEntity toEntity() {
+        return mapper.toEntity(policyHolder);
+    }
+
+    @Benchmark
+    public PolicyHolder toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,58 @@
+package com.insurance.policyholder.benchmark;
+
+import com.insurance.policyholder.application.command.CreatePolicyHolderCommand;
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderListItemResponse;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST 轉換器基準測試：請求轉命令、ReadModel 轉回應
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class RestMapperBenchmark {
+
+    private PolicyHolderRestMapper mapper;
+    private CreatePolicyHolderRequest request;
+    private PolicyHolderReadModel readModel;
+
+    @Setup
+    public void setUp() {
+        mapper = new PolicyHolderRestMapper();
+        request = BenchmarkFixtures.createRequest();
+        readModel = BenchmarkFixtures.readModel(0);
+    }
+
+    @Benchmark
+    public CreatePolicyHolderCommand toCommand() {
+        return mapper.toCommand(request);
+    }
+
+    @Benchmark
+    public PolicyHolderResponse toResponse() {
+        return mapper.toResponse(readModel);
+    }
+
+    @Benchmark
+    public PolicyHolderListItemResponse toListItemResponse() {
+        return mapper.toListItemResponse(readModel);
+    }
+}
@@ -0,0 +1,174 @@
+package com.insurance.policyholder.datagen;
+
+import com.insurance.policyholder.PolicyholderManagementApplication;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 合成資料產生器進入點（gradle generateData）
+ *
+ * 參數（--key=value）：
+ * holders（預設 1000000）、seed、start-index、as-of（基準日期）、threads、chunk-size、batch-size、
+ * output（jdbc 或 ndjson）、jdbc-url、jdbc-user、jdbc-password、create-schema、out-dir、gzip
+ */
+public final class DataGeneratorMain {
+
+    private DataGeneratorMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        long holders = Long.parseLong(options.getOrDefault("holders", "1000000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        long startIndex = Long.parseLong(options.getOrDefault("start-index", "1"));
+        LocalDate asOf = LocalDate.parse(options.getOrDefault("as-of", "2024-01-01"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int chunkSize = Integer.parseInt(options.getOrDefault("chunk-size", "100000"));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "1000"));
+        String output = options.getOrDefault("output", "ndjson");
+
+        if (startIndex + holders > NationalIdGenerator.CAPACITY) {
+            throw new IllegalArgumentException("At most " + NationalIdGenerator.CAPACITY + " policy holders can be generated");
+        }
+
+        DataSink sink;
+        if ("jdbc".equals(output)) {
+            String url = options.getOrDefault("jdbc-url", "jdbc:h2:file:./data/policyholderdb");
+            String user = options.getOrDefault("jdbc-user", "sa");
+            String password = options.getOrDefault("jdbc-password", "");
+            if (Boolean.parseBoolean(options.getOrDefault("create-schema", "false"))) {
+                createSchema(url, user, password);
+            }
+            sink = new JdbcDataSink(url, user, password, batchSize);
+        } else if ("ndjson".equals(output)) {
+            sink = new NdjsonDataSink(Path.of(options.getOrDefault("out-dir", "build/generated-data")),
+                    Boolean.parseBoolean(options.getOrDefault("gzip", "true")));
+        } else {
+            throw new IllegalArgumentException("Unknown output: " + output);
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed, startIndex, asOf);
+        Statistics statistics = new Statistics();
+        int chunks = (int) ((holders + chunkSize - 1) / chunkSize);
+        System.out.printf("Generating %d policy holders (seed=%d, start-index=%d) in %d chunk(s) with %d thread(s) to %s%n",
+                holders, seed, startIndex, chunks, threads, output);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long from = (long) chunk * chunkSize;
+                long to = Math.min(holders, from + chunkSize);
+                int chunkIndex = chunk;
+                futures.add(executor.submit(() -> {
+                    try (DataSink.ChunkWriter writer = sink.open(chunkIndex)) {
+                        for (long index = from; index < to; index++) {
+                            GeneratedPolicyHolder holder = generator.generate(index);
+                            writer.write(holder);
+                            statistics.record(holder);
+                        }
+                    }
+                    statistics.printProgress(holders, start);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        statistics.printSummary(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * 啟動一次非 Web 的應用程式，由 Flyway 執行 db/migration 建立資料表後關閉
+     */
+    private static void createSchema(String url, String user, String password) {
+        new SpringApplicationBuilder(PolicyholderManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + user,
+                        "--spring.datasource.password=" + password,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.insurance.policyholder=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN")
+                .close();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    /**
+     * 產生過程的統計（保單數分佈與類型分佈），用於確認資料形狀
+     */
+    private static final class Statistics {
+
+        private static final int MAX_BUCKET = 10;
+
+        private final AtomicLong holders = new AtomicLong();
+        private final AtomicLong policies = new AtomicLong();
+        private final AtomicLongArray policiesPerHolder = new AtomicLongArray(MAX_BUCKET + 1);
+        private final AtomicLongArray policyTypes = new AtomicLongArray(PolicyType.values().length);
+
+        void record(GeneratedPolicyHolder holder) {
+            List<Policy> holderPolicies = holder.policyHolder().getPolicies();
+            holders.incrementAndGet();
+            policies.addAndGet(holderPolicies.size());
+            policiesPerHolder.incrementAndGet(Math.min(holderPolicies.size(), MAX_BUCKET));
+            for (Policy policy : holderPolicies) {
+                policyTypes.incrementAndGet(policy.getPolicyType().ordinal());
+            }
+        }
+
+        void printProgress(long total, long startNanos) {
+            long done = holders.get();
+            double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 0.001);
+            System.out.printf("  %,d / %,d holders (%.0f holders/s)%n", done, total, done / seconds);
+        }
+
+        void printSummary(Duration elapsed) {
+            double seconds = Math.max(elapsed.toMillis() / 1000.0, 0.001);
+            System.out.printf("Generated %,d holders and %,d policies in %.1fs (%.0f rows/s)%n",
+                    holders.get(), policies.get(), seconds, (holders.get() + policies.get()) / seconds);
+            StringBuilder distribution = new StringBuilder("Policies per holder:");
+            for (int bucket = 0; bucket <= MAX_BUCKET; bucket++) {
+                distribution.append(String.format(" %s%s=%.1f%%", bucket, bucket == MAX_BUCKET ? "+" : "",
+                        100.0 * policiesPerHolder.get(bucket) / Math.max(holders.get(), 1)));
+            }
+            System.out.println(distribution);
+            StringBuilder types = new StringBuilder("Policy types:");
+            for (PolicyType type : PolicyType.values()) {
+                types.append(String.format(" %s=%.1f%%", type,
+                        100.0 * policyTypes.get(type.ordinal()) / Math.max(policies.get(), 1)));
+            }
+            System.out.println(types);
+        }
+    }
+}
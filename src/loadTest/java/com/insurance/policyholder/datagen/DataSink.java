@@ -0,0 +1,15 @@
+package com.insurance.policyholder.datagen;
+
+/**
+ * 產生資料的輸出目的地
+ * 每個分段（chunk）各自開啟一個寫入器，可由多個執行緒同時寫入不同分段
+ */
+interface DataSink {
+
+    ChunkWriter open(int chunk) throws Exception;
+
+    interface ChunkWriter extends AutoCloseable {
+
+        void write(GeneratedPolicyHolder holder) throws Exception;
+    }
+}
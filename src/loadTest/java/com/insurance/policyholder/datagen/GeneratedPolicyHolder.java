@@ -0,0 +1,11 @@
+package com.insurance.policyholder.datagen;
+
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 產生的保戶（領域物件已通過所有值物件驗證）與其建立時間
+ */
+public record GeneratedPolicyHolder(long index, PolicyHolder policyHolder, LocalDateTime createdAt) {
+}
@@ -0,0 +1,127 @@
+package com.insurance.policyholder.datagen;
+
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * 以批次 JDBC 寫入 policy_holders 與 policies 資料表
+ * 每個分段使用獨立連線，每 batchSize 筆保戶執行一次批次並提交
+ */
+final class JdbcDataSink implements DataSink {
+
+    private static final String INSERT_HOLDER = "INSERT INTO policy_holders (id, national_id, name, gender, birth_date, "
+            + "mobile_phone, email, zip_code, city, district, street, status, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_POLICY = "INSERT INTO policies (id, policy_holder_id, policy_type, "
+            + "premium_amount, premium_currency, sum_insured, sum_insured_currency, start_date, end_date, status, "
+            + "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int batchSize;
+
+    JdbcDataSink(String url, String username, String password, int batchSize) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ChunkWriter open(int chunk) throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        connection.setAutoCommit(false);
+        return new JdbcChunkWriter(connection);
+    }
+
+    private final class JdbcChunkWriter implements ChunkWriter {
+
+        private final Connection connection;
+        private final PreparedStatement holders;
+        private final PreparedStatement policies;
+        private int pending;
+
+        JdbcChunkWriter(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.holders = connection.prepareStatement(INSERT_HOLDER);
+            this.policies = connection.prepareStatement(INSERT_POLICY);
+        }
+
+        @Override
+        public void write(GeneratedPolicyHolder generated) throws SQLException {
+            PolicyHolder holder = generated.policyHolder();
+            Timestamp createdAt = Timestamp.valueOf(generated.createdAt());
+            holders.setString(1, holder.getId().getValue());
+            holders.setString(2, holder.getNationalId().getValue());
+            holders.setString(3, holder.getPersonalInfo().getName());
+            holders.setString(4, holder.getPersonalInfo().getGender().name());
+            holders.setDate(5, Date.valueOf(holder.getPersonalInfo().getBirthDate()));
+            holders.setString(6, holder.getContactInfo().getMobilePhone());
+            if (holder.getContactInfo().getEmail() == null) {
+                holders.setNull(7, Types.VARCHAR);
+            } else {
+                holders.setString(7, holder.getContactInfo().getEmail());
+            }
+            holders.setString(8, holder.getAddress().getZipCode());
+            holders.setString(9, holder.getAddress().getCity());
+            holders.setString(10, holder.getAddress().getDistrict());
+            holders.setString(11, holder.getAddress().getStreet());
+            holders.setString(12, holder.getStatus().name());
+            holders.setLong(13, 0L);
+            holders.setTimestamp(14, createdAt);
+            holders.setTimestamp(15, createdAt);
+            holders.addBatch();
+
+            for (Policy policy : holder.getPolicies()) {
+                policies.setString(1, policy.getId().getValue());
+                policies.setString(2, holder.getId().getValue());
+                policies.setString(3, policy.getPolicyType().name());
+                policies.setBigDecimal(4, policy.getPremium().getAmount());
+                policies.setString(5, policy.getPremium().getCurrency().getCurrencyCode());
+                policies.setBigDecimal(6, policy.getSumInsured().getAmount());
+                policies.setString(7, policy.getSumInsured().getCurrency().getCurrencyCode());
+                policies.setDate(8, Date.valueOf(policy.getStartDate()));
+                policies.setDate(9, Date.valueOf(policy.getEndDate()));
+                policies.setString(10, policy.getStatus().name());
+                policies.setLong(11, 0L);
+                policies.setTimestamp(12, createdAt);
+                policies.setTimestamp(13, createdAt);
+                policies.addBatch();
+            }
+
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            // 保單參照保戶，須先寫入保戶批次
+            holders.executeBatch();
+            policies.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    flush();
+                }
+            } finally {
+                holders.close();
+                policies.close();
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.insurance.policyholder.datagen;
+
+import com.insurance.policyholder.domain.model.enums.Gender;
+
+/**
+ * 由序號產生檢查碼正確的身分證字號
+ * 序號與字號一對一對應（序號小於 CAPACITY 時不重複），第二碼依性別為 1 或 2
+ */
+public final class NationalIdGenerator {
+
+    /**
+     * 可產生的不重複字號數（26 個字母 × 7 碼流水號）
+     */
+    public static final long CAPACITY = 26L * 10_000_000L;
+
+    private static final String LETTERS = "ABCDEFGHJKLMNPQRSTUVXYWZIO";
+
+    private NationalIdGenerator() {
+    }
+
+    /**
+     * @param n      序號（0 ≤ n < CAPACITY）
+     * @param gender 決定第二碼
+     */
+    public static String format(long n, Gender gender) {
+        if (n < 0 || n >= CAPACITY) {
+            throw new IllegalArgumentException("Serial out of range: " + n);
+        }
+        // 字母以序號取餘數輪替，讓相鄰序號分散在不同字母
+        int letterIndex = (int) (n % LETTERS.length());
+        long serial = n / LETTERS.length();
+        char[] id = new char[10];
+        id[0] = LETTERS.charAt(letterIndex);
+        id[1] = gender == Gender.MALE ? '1' : '2';
+        for (int i = 8; i >= 2; i--) {
+            id[i] = (char) ('0' + serial % 10);
+            serial /= 10;
+        }
+
+        // LETTERS 依字母對應值 10..35 排列
+        int letterValue = 10 + letterIndex;
+        int sum = letterValue / 10 + letterValue % 10 * 9;
+        for (int i = 1; i <= 8; i++) {
+            sum += (id[i] - '0') * (9 - i);
+        }
+        id[9] = (char) ('0' + (10 - sum % 10) % 10);
+        return new String(id);
+    }
+}
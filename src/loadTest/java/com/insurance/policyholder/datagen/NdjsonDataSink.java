@@ -0,0 +1,85 @@
+package com.insurance.policyholder.datagen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 以 NDJSON 輸出，每行一位保戶（保單內嵌為陣列）
+ * 每個分段一個檔案（policyholders-00000.ndjson[.gz]），分段內依序號排列
+ */
+final class NdjsonDataSink implements DataSink {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path directory;
+    private final boolean gzip;
+
+    NdjsonDataSink(Path directory, boolean gzip) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.gzip = gzip;
+    }
+
+    @Override
+    public ChunkWriter open(int chunk) throws IOException {
+        Path file = directory.resolve(String.format("policyholders-%05d.ndjson%s", chunk, gzip ? ".gz" : ""));
+        OutputStream out = Files.newOutputStream(file);
+        if (gzip) {
+            out = new GZIPOutputStream(out, 1 << 16);
+        }
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        return new ChunkWriter() {
+            @Override
+            public void write(GeneratedPolicyHolder holder) throws IOException {
+                writer.write(objectMapper.writeValueAsString(toJson(holder)));
+                writer.newLine();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    private ObjectNode toJson(GeneratedPolicyHolder generated) {
+        PolicyHolder holder = generated.policyHolder();
+        ObjectNode json = objectMapper.createObjectNode()
+                .put("id", holder.getId().getValue())
+                .put("nationalId", holder.getNationalId().getValue())
+                .put("name", holder.getPersonalInfo().getName())
+                .put("gender", holder.getPersonalInfo().getGender().name())
+                .put("birthDate", holder.getPersonalInfo().getBirthDate().toString())
+                .put("mobilePhone", holder.getContactInfo().getMobilePhone())
+                .put("email", holder.getContactInfo().getEmail())
+                .put("zipCode", holder.getAddress().getZipCode())
+                .put("city", holder.getAddress().getCity())
+                .put("district", holder.getAddress().getDistrict())
+                .put("street", holder.getAddress().getStreet())
+                .put("status", holder.getStatus().name())
+                .put("createdAt", generated.createdAt().toString());
+        ArrayNode policies = json.putArray("policies");
+        for (Policy policy : holder.getPolicies()) {
+            policies.addObject()
+                    .put("id", policy.getId().getValue())
+                    .put("policyType", policy.getPolicyType().name())
+                    .put("premium", policy.getPremium().getAmount())
+                    .put("currency", policy.getPremium().getCurrency().getCurrencyCode())
+                    .put("sumInsured", policy.getSumInsured().getAmount())
+                    .put("startDate", policy.getStartDate().toString())
+                    .put("endDate", policy.getEndDate().toString())
+                    .put("status", policy.getStatus().name());
+        }
+        return json;
+    }
+}
@@ -0,0 +1,202 @@
+package com.insurance.policyholder.datagen;
+
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.Address;
+import com.insurance.policyholder.domain.model.valueobject.ContactInfo;
+import com.insurance.policyholder.domain.model.valueobject.Money;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PersonalInfo;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 決定性的合成資料產生器
+ *
+ * 每筆保戶只由 (seed, index) 決定，與執行緒數及產生順序無關，可平行分段產生且結果可重現。
+ * 資料經由領域值物件建立（身分證檢查碼、手機與 Email 格式、地址、年齡限制），保證可被系統讀取。
+ *
+ * 保單數呈偏態分佈：約 15% 無保單、多數 1–3 張，另有 2% 的大戶持有 10–40 張
+ */
+public final class SyntheticDataGenerator {
+
+    /**
+     * 每位保戶可分配的保單編號數，保單編號 = 保戶序號 × POLICY_SLOTS + 第幾張
+     */
+    static final int POLICY_SLOTS = 64;
+
+    private static final String[] SURNAMES = {
+            "陳", "林", "黃", "張", "李", "王", "吳", "劉", "蔡", "楊", "許", "鄭", "謝", "郭", "洪", "曾", "邱", "廖", "賴", "周"
+    };
+    private static final String[] GIVEN_NAME_CHARS = {
+            "志", "明", "俊", "傑", "建", "宏", "家", "豪", "雅", "婷", "怡", "君", "淑", "芬", "美", "玲", "冠", "宇", "欣", "安"
+    };
+    // 郵遞區號、縣市、行政區，DISTRICT_WEIGHTS 為相對人口權重
+    private static final String[][] DISTRICTS = {
+            {"100", "台北市", "中正區"}, {"106", "台北市", "大安區"}, {"110", "台北市", "信義區"},
+            {"114", "台北市", "內湖區"}, {"220", "新北市", "板橋區"}, {"231", "新北市", "新店區"},
+            {"235", "新北市", "中和區"}, {"241", "新北市", "三重區"}, {"330", "桃園市", "桃園區"},
+            {"320", "桃園市", "中壢區"}, {"300", "新竹市", "東區"}, {"407", "台中市", "西屯區"},
+            {"406", "台中市", "北屯區"}, {"700", "台南市", "中西區"}, {"710", "台南市", "永康區"},
+            {"807", "高雄市", "三民區"}, {"813", "高雄市", "左營區"}, {"830", "高雄市", "鳳山區"}
+    };
+    private static final int[] DISTRICT_WEIGHTS = {3, 6, 4, 5, 10, 6, 8, 7, 9, 8, 4, 8, 8, 3, 5, 7, 4, 7};
+    private static final String[] STREETS = {"中山路", "中正路", "民生路", "民權路", "建國路", "復興路", "和平路", "成功路"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com.tw", "hotmail.com", "example.com"};
+    // 保單類型權重：LIFE, HEALTH, ACCIDENT, TRAVEL, PROPERTY, AUTO, SAFETY
+    private static final int[] POLICY_TYPE_WEIGHTS = {30, 25, 15, 8, 7, 10, 5};
+
+    private final long seed;
+    private final long startIndex;
+    private final LocalDate asOf;
+    private static final int DISTRICT_WEIGHT_TOTAL = sum(DISTRICT_WEIGHTS);
+    private static final int POLICY_TYPE_WEIGHT_TOTAL = sum(POLICY_TYPE_WEIGHTS);
+
+    /**
+     * @param seed       亂數種子
+     * @param startIndex 序號起點（保戶編號、身分證序號由此起算，避免與既有資料衝突）
+     * @param asOf       資料的基準日期（生日、保單起訖日以此計算）
+     */
+    public SyntheticDataGenerator(long seed, long startIndex, LocalDate asOf) {
+        this.seed = seed;
+        this.startIndex = startIndex;
+        this.asOf = asOf;
+    }
+
+    /**
+     * 產生第 index 筆保戶（含保單）
+     */
+    public GeneratedPolicyHolder generate(long index) {
+        long serial = startIndex + index;
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(serial)));
+
+        Gender gender = random.nextBoolean() ? Gender.MALE : Gender.FEMALE;
+        LocalDate birthDate = asOf.minusYears(20 + random.nextInt(66)).minusDays(random.nextInt(365));
+        String name = SURNAMES[random.nextInt(SURNAMES.length)]
+                + GIVEN_NAME_CHARS[random.nextInt(GIVEN_NAME_CHARS.length)]
+                + GIVEN_NAME_CHARS[random.nextInt(GIVEN_NAME_CHARS.length)];
+        String mobilePhone = String.format("09%08d", random.nextInt(100_000_000));
+        // 約三成保戶未留 Email
+        String email = random.nextInt(10) < 3 ? null
+                : "user" + serial + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+        String[] district = pickDistrict(random);
+        String street = STREETS[random.nextInt(STREETS.length)] + (1 + random.nextInt(300)) + "號";
+
+        int statusRoll = random.nextInt(100);
+        PolicyHolderStatus status = statusRoll < 90 ? PolicyHolderStatus.ACTIVE
+                : statusRoll < 98 ? PolicyHolderStatus.INACTIVE : PolicyHolderStatus.SUSPENDED;
+
+        PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                PolicyHolderId.generate(serial),
+                NationalId.of(NationalIdGenerator.format(serial, gender)),
+                PersonalInfo.of(name, gender, birthDate),
+                ContactInfo.of(mobilePhone, email),
+                Address.of(district[0], district[1], district[2], street),
+                status,
+                0L
+        );
+
+        LocalDateTime createdAt = asOf.minusDays(random.nextInt(3650)).atTime(random.nextInt(24), random.nextInt(60));
+        int policyCount = policyCount(random);
+        for (int i = 0; i < policyCount; i++) {
+            policyHolder.addReconstitutedPolicy(policy(random, serial * POLICY_SLOTS + i, createdAt.toLocalDate()));
+        }
+
+        return new GeneratedPolicyHolder(index, policyHolder, createdAt);
+    }
+
+    /**
+     * 保單起始日介於要保人建立日與基準日後 180 天之間
+     */
+    private Policy policy(SplittableRandom random, long sequence, LocalDate holderCreated) {
+        PolicyType type = pickPolicyType(random);
+        int window = (int) (asOf.toEpochDay() - holderCreated.toEpochDay()) + 180;
+        LocalDate startDate = holderCreated.plusDays(random.nextInt(window + 1));
+        LocalDate endDate = startDate.plusYears(switch (type) {
+            case LIFE -> 20 + random.nextInt(11);
+            case TRAVEL -> 0;
+            default -> 1;
+        }).plusDays(type == PolicyType.TRAVEL ? 3 + random.nextInt(28) : 0);
+
+        PolicyStatus status;
+        if (endDate.isBefore(asOf)) {
+            status = PolicyStatus.TERMINATED;
+        } else {
+            status = random.nextInt(100) < 5 ? PolicyStatus.LAPSED : PolicyStatus.ACTIVE;
+        }
+
+        long premium = switch (type) {
+            case LIFE -> 20_000 + random.nextInt(80_000);
+            case HEALTH -> 5_000 + random.nextInt(30_000);
+            case TRAVEL -> 300 + random.nextInt(3_000);
+            default -> 1_000 + random.nextInt(15_000);
+        };
+        long sumInsured = premium * (20 + random.nextInt(80));
+
+        return Policy.reconstitute(PolicyId.generate(sequence), type, Money.twd(premium), Money.twd(sumInsured),
+                startDate, endDate, status, 0L);
+    }
+
+    /**
+     * 偏態保單數：15% 為 0 張，2% 為 10–40 張，其餘為幾何分佈（平均約 2 張，上限 9 張）
+     */
+    private static int policyCount(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 15) {
+            return 0;
+        }
+        if (roll < 17) {
+            return 10 + random.nextInt(31);
+        }
+        int count = 1;
+        while (count < 9 && random.nextDouble() < 0.45) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String[] pickDistrict(SplittableRandom random) {
+        return DISTRICTS[pick(random, DISTRICT_WEIGHTS, DISTRICT_WEIGHT_TOTAL)];
+    }
+
+    private static PolicyType pickPolicyType(SplittableRandom random) {
+        return PolicyType.values()[pick(random, POLICY_TYPE_WEIGHTS, POLICY_TYPE_WEIGHT_TOTAL)];
+    }
+
+    private static int pick(SplittableRandom random, int[] weights, int total) {
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static int sum(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    /**
+     * SplitMix64 混合函數，讓相鄰序號得到不相關的亂數種子
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,55 @@
+package com.insurance.policyholder.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 依操作類型記錄回應時間（HdrHistogram，精度 3 位有效數字，上限 60 秒）與錯誤數
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        recorders.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * 取出目前累積的直方圖並歸零（用於丟棄暖機期間的資料）
+     */
+    void reset() {
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 取出自上次 reset 以來的結果
+     */
+    Map<Operation, Result> drain() {
+        Map<Operation, Result> results = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) ->
+                results.put(operation, new Result(recorder.getIntervalHistogram(), errors.get(operation).sum())));
+        return results;
+    }
+
+    record Result(Histogram histogram, long errors) {
+    }
+}
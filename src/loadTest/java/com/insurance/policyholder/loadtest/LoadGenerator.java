@@ -0,0 +1,101 @@
+package com.insurance.policyholder.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 產生混合工作負載
+ *
+ * CLOSED 模式：users 個使用者各自連續送出請求，回應時間自送出起算。
+ * OPEN 模式：依固定到達率排程請求，最多 users 個同時執行；回應時間自「預定送出時間」起算，
+ * 服務變慢造成的排隊時間也會計入，避免 coordinated omission 低估尾端延遲
+ */
+final class LoadGenerator {
+
+    private final PolicyHolderApiClient client;
+    private final LatencyRecorder recorder;
+    private final LoadTestOptions options;
+    private final AtomicInteger phase = new AtomicInteger();
+
+    LoadGenerator(PolicyHolderApiClient client, LatencyRecorder recorder, LoadTestOptions options) {
+        this.client = client;
+        this.recorder = recorder;
+        this.options = options;
+    }
+
+    void run(Duration duration) throws InterruptedException {
+        // 每個階段使用不同的亂數序列，同一組參數重複執行時操作順序一致
+        long seed = options.randomSeed() + phase.getAndIncrement() * 1_000_003L;
+        if (options.model() == LoadTestOptions.Model.OPEN) {
+            runOpen(duration, seed);
+        } else {
+            runClosed(duration, seed);
+        }
+    }
+
+    private void runClosed(Duration duration, long seed) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> users = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    execute(Operation.pick(random.nextInt(Operation.totalWeight())), System.nanoTime());
+                }
+            }, "load-user-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    private void runOpen(Duration duration, long seed) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.users());
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = Operation.pick(random.nextInt(Operation.totalWeight()));
+                workers.execute(() -> execute(operation, intended));
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    private void execute(Operation operation, long startNanos) {
+        boolean success;
+        try {
+            int status = client.execute(operation);
+            success = status >= 200 && status < 300;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(operation, System.nanoTime() - startNanos, success);
+    }
+}
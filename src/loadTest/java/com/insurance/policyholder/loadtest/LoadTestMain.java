@@ -0,0 +1,78 @@
+package com.insurance.policyholder.loadtest;
+
+import com.insurance.policyholder.PolicyholderManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP 壓力測試進入點（gradle loadTest）
+ *
+ * 未指定 --base-url 時在同一個 JVM 內以隨機埠啟動服務；先建立 seed-holders 筆保戶，
+ * 暖機後量測混合工作負載，輸出報告並在 SLO 未達成時以非零結束碼結束
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            // 以命令列參數覆寫 application.yml，關閉 SQL 與 DEBUG 日誌以免量測到日誌輸出的成本
+            context = new SpringApplicationBuilder(PolicyholderManagementApplication.class)
+                    .run("--server.port=0",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.com.insurance.policyholder=WARN",
+                            "--logging.level.org.hibernate.SQL=WARN");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        boolean passed;
+        try {
+            PolicyHolderApiClient client = new PolicyHolderApiClient(baseUrl, options.randomSeed());
+            seed(client, options.seedHolders());
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadGenerator generator = new LoadGenerator(client, recorder, options);
+            System.out.printf("Warming up for %ds against %s%n", options.warmup().toSeconds(), baseUrl);
+            generator.run(options.warmup());
+            recorder.reset();
+
+            System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+            long start = System.nanoTime();
+            generator.run(options.duration());
+            Map<Operation, LatencyRecorder.Result> results = recorder.drain();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            SloReport report = new SloReport(options, results, elapsed);
+            report.print(System.out);
+            report.write(options.reportDir());
+            System.out.println("Report written to " + options.reportDir().toAbsolutePath());
+            passed = report.isPassed();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static void seed(PolicyHolderApiClient client, int holders) throws Exception {
+        int created = 0;
+        for (int i = 0; i < holders; i++) {
+            if (client.create() == 201) {
+                created++;
+            }
+        }
+        System.out.printf("Seeded %d/%d policy holders%n", created, holders);
+        if (holders > 0 && created == 0) {
+            throw new IllegalStateException("Failed to seed any policy holder");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.insurance.policyholder.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 壓力測試參數
+ * 以 --key=value 形式傳入，未指定者使用預設值（對應 PRD 的 100 concurrent users）
+ *
+ * @param model        CLOSED：固定使用者數反覆送出請求；OPEN：固定到達率送出請求
+ * @param users        CLOSED 模式的使用者數；OPEN 模式的最大同時請求數
+ * @param rate         OPEN 模式每秒請求數
+ * @param warmup       暖機時間（不計入報告）
+ * @param duration     量測時間
+ * @param seedHolders  開始前預先建立的保戶數
+ * @param baseUrl      目標服務位址；未指定時啟動內嵌服務
+ * @param reportDir    報告輸出目錄
+ * @param randomSeed   亂數種子（決定操作順序與身分證字號流水號起點）
+ * @param maxErrorRate 可容許的錯誤率
+ */
+record LoadTestOptions(
+        Model model,
+        int users,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seedHolders,
+        String baseUrl,
+        Path reportDir,
+        long randomSeed,
+        double maxErrorRate) {
+
+    enum Model {
+        CLOSED,
+        OPEN
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(
+                Model.valueOf(values.getOrDefault("model", "CLOSED").toUpperCase()),
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Integer.parseInt(values.getOrDefault("seed-holders", "1000")),
+                values.get("base-url"),
+                Path.of(values.getOrDefault("report-dir", "build/reports/loadtest")),
+                Long.parseLong(values.getOrDefault("random-seed", "42")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01"))
+        );
+    }
+}
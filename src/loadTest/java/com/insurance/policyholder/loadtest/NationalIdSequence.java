@@ -0,0 +1,23 @@
+package com.insurance.policyholder.loadtest;
+
+import com.insurance.policyholder.datagen.NationalIdGenerator;
+import com.insurance.policyholder.domain.model.enums.Gender;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 依序產生不重複且檢查碼正確的身分證字號
+ */
+final class NationalIdSequence {
+
+    private final AtomicLong counter;
+
+    NationalIdSequence(long start) {
+        this.counter = new AtomicLong(start);
+    }
+
+    String next() {
+        long n = counter.getAndIncrement() % NationalIdGenerator.CAPACITY;
+        return NationalIdGenerator.format(n, n % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+    }
+}
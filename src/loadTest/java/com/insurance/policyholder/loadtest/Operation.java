@@ -0,0 +1,74 @@
+package com.insurance.policyholder.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 壓力測試的操作類型與混合比例
+ * 各操作依 PRD 歸入 API（P95 < 200ms）或分頁查詢（P95 < 500ms）的 SLO
+ */
+enum Operation {
+
+    CREATE(10, Slo.API),
+    UPDATE(10, Slo.API),
+    ADD_POLICY(10, Slo.API),
+    GET(35, Slo.API),
+    SEARCH(35, Slo.QUERY);
+
+    private final int weight;
+    private final Slo slo;
+
+    Operation(int weight, Slo slo) {
+        this.weight = weight;
+        this.slo = slo;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    Slo getSlo() {
+        return slo;
+    }
+
+    /**
+     * 依權重挑選操作
+     *
+     * @param roll 0（含）到權重總和（不含）之間的值
+     */
+    static Operation pick(int roll) {
+        int remaining = roll;
+        for (Operation operation : values()) {
+            remaining -= operation.weight;
+            if (remaining < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Roll out of range: " + roll);
+    }
+
+    static int totalWeight() {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        return total;
+    }
+
+    /**
+     * PRD 的回應時間目標（以 P95 衡量）
+     */
+    enum Slo {
+        API(Duration.ofMillis(200)),
+        QUERY(Duration.ofMillis(500));
+
+        private final Duration p95;
+
+        Slo(Duration p95) {
+            this.p95 = p95;
+        }
+
+        Duration getP95() {
+            return p95;
+        }
+    }
+}
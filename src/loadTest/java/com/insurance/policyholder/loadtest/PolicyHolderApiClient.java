@@ -0,0 +1,145 @@
+package com.insurance.policyholder.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 透過 PolicyHolderController 的 REST API 執行各項操作
+ * 建立成功的保戶編號保存在環狀緩衝區中，供後續查詢、更新與新增保單使用
+ */
+final class PolicyHolderApiClient {
+
+    private static final String BASE_PATH = "/api/v1/policyholders";
+    private static final int KNOWN_ID_CAPACITY = 1 << 16;
+    private static final String[] POLICY_TYPES = {"LIFE", "HEALTH", "TRAVEL", "PROPERTY", "AUTO"};
+    private static final String[] CITIES = {"台北市", "新北市", "桃園市", "台中市", "台南市", "高雄市"};
+    private static final String[] SURNAMES = {"陳", "林", "黃", "張", "李", "王", "吳", "劉", "蔡", "楊"};
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NationalIdSequence nationalIds;
+    private final AtomicReferenceArray<String> knownIds = new AtomicReferenceArray<>(KNOWN_ID_CAPACITY);
+    private final AtomicInteger knownIdCount = new AtomicInteger();
+
+    PolicyHolderApiClient(String baseUrl, long randomSeed) {
+        this.baseUrl = baseUrl + BASE_PATH;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        // 以亂數種子錯開流水號起點，重複執行時不會與既有資料撞號
+        this.nationalIds = new NationalIdSequence(Math.floorMod(randomSeed * 1_000_003L, 100_000_000L));
+    }
+
+    /**
+     * 執行一次操作
+     *
+     * @return HTTP 狀態碼
+     */
+    int execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case CREATE -> create();
+            case UPDATE -> update(randomKnownId());
+            case ADD_POLICY -> addPolicy(randomKnownId());
+            case GET -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomKnownId())).GET()).statusCode();
+            case SEARCH -> search();
+        };
+    }
+
+    int create() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("nationalId", nationalIds.next())
+                .put("name", SURNAMES[random.nextInt(SURNAMES.length)] + "測試" + random.nextInt(1000))
+                .put("gender", random.nextBoolean() ? "MALE" : "FEMALE")
+                .put("birthDate", LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20_000)).toString())
+                .put("mobilePhone", String.format("09%08d", random.nextInt(100_000_000)))
+                .put("email", "user" + random.nextInt(1_000_000) + "@example.com");
+        body.set("address", address(random));
+
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+        if (response.statusCode() == 201) {
+            JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+            if (id.isTextual()) {
+                int slot = knownIdCount.getAndIncrement();
+                knownIds.set(slot & (KNOWN_ID_CAPACITY - 1), id.asText());
+            }
+        }
+        return response.statusCode();
+    }
+
+    private int update(String id) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("mobilePhone", String.format("09%08d", random.nextInt(100_000_000)))
+                .put("email", "updated" + random.nextInt(1_000_000) + "@example.com");
+        body.set("address", address(random));
+
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body.toString()))).statusCode();
+    }
+
+    private int addPolicy(String id) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate startDate = LocalDate.now().plusDays(random.nextInt(30));
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("policyType", POLICY_TYPES[random.nextInt(POLICY_TYPES.length)])
+                .put("premium", 1_000 + random.nextInt(50_000))
+                .put("sumInsured", 100_000 + random.nextInt(5_000_000))
+                .put("startDate", startDate.toString())
+                .put("endDate", startDate.plusYears(1 + random.nextInt(20)).toString());
+
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id + "/policies"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))).statusCode();
+    }
+
+    private int search() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String name = URLEncoder.encode(SURNAMES[random.nextInt(SURNAMES.length)], StandardCharsets.UTF_8);
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "?name=" + name + "&page="
+                + random.nextInt(5) + "&size=20")).GET()).statusCode();
+    }
+
+    private ObjectNode address(ThreadLocalRandom random) {
+        return objectMapper.createObjectNode()
+                .put("zipCode", String.valueOf(100 + random.nextInt(900)))
+                .put("city", CITIES[random.nextInt(CITIES.length)])
+                .put("district", "測試區")
+                .put("street", "測試路" + (1 + random.nextInt(500)) + "號");
+    }
+
+    private String randomKnownId() {
+        int count = Math.min(knownIdCount.get(), KNOWN_ID_CAPACITY);
+        if (count == 0) {
+            throw new IllegalStateException("No policy holders available, seed-holders must be positive");
+        }
+        String id;
+        do {
+            // 計數先於寫入遞增，剛配置的位置可能尚未寫入
+            id = knownIds.get(ThreadLocalRandom.current().nextInt(count));
+        } while (id == null);
+        return id;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
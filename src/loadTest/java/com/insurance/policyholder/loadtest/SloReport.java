@@ -0,0 +1,144 @@
+package com.insurance.policyholder.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 壓力測試報告
+ * 依操作輸出百分位數，並以 PRD 的 SLO（P95）與錯誤率判定是否通過
+ *
+ * 輸出檔案：summary.json（機器可讀）、summary.txt，以及每個操作的 HdrHistogram 百分位分佈（*.hgrm，單位毫秒）
+ */
+final class SloReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestOptions options;
+    private final Map<Operation, LatencyRecorder.Result> results;
+    private final Duration elapsed;
+    private final List<String> violations = new ArrayList<>();
+
+    SloReport(LoadTestOptions options, Map<Operation, LatencyRecorder.Result> results, Duration elapsed) {
+        this.options = options;
+        this.results = new EnumMap<>(results);
+        this.elapsed = elapsed;
+        evaluate();
+    }
+
+    private void evaluate() {
+        Map<Operation.Slo, Histogram> bySlo = new EnumMap<>(Operation.Slo.class);
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, LatencyRecorder.Result> entry : results.entrySet()) {
+            bySlo.computeIfAbsent(entry.getKey().getSlo(), slo -> new Histogram(3)).add(entry.getValue().histogram());
+            requests += entry.getValue().histogram().getTotalCount();
+            errors += entry.getValue().errors();
+        }
+        for (Map.Entry<Operation.Slo, Histogram> entry : bySlo.entrySet()) {
+            double p95 = millis(entry.getValue().getValueAtPercentile(95));
+            long target = entry.getKey().getP95().toMillis();
+            if (p95 >= target) {
+                violations.add(String.format("%s P95 %.1fms >= %dms", entry.getKey(), p95, target));
+            }
+        }
+        if (requests == 0) {
+            violations.add("No requests completed");
+        } else if ((double) errors / requests > options.maxErrorRate()) {
+            violations.add(String.format("Error rate %.2f%% > %.2f%%",
+                    100.0 * errors / requests, 100.0 * options.maxErrorRate()));
+        }
+    }
+
+    boolean isPassed() {
+        return violations.isEmpty();
+    }
+
+    void print(PrintStream out) {
+        out.printf("Load test: model=%s users=%d%s duration=%ds%n", options.model(), options.users(),
+                options.model() == LoadTestOptions.Model.OPEN ? " rate=" + options.rate() + "/s" : "",
+                elapsed.toSeconds());
+        out.printf("%-11s %8s %8s %9s %9s %9s %9s %9s %7s%n",
+                "operation", "count", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors");
+        results.forEach((operation, result) -> {
+            Histogram histogram = result.histogram();
+            out.printf("%-11s %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                    operation, histogram.getTotalCount(), throughput(histogram),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(95)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue()), result.errors());
+        });
+        if (isPassed()) {
+            out.println("SLO: PASSED");
+        } else {
+            violations.forEach(violation -> out.println("SLO: FAILED - " + violation));
+        }
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out);
+        }
+        for (Map.Entry<Operation, LatencyRecorder.Result> entry : results.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), toJson());
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        results.forEach((operation, result) -> {
+            Histogram histogram = result.histogram();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("slo", operation.getSlo().name());
+            stats.put("count", histogram.getTotalCount());
+            stats.put("errors", result.errors());
+            stats.put("throughput", throughput(histogram));
+            stats.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            stats.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+            stats.put("p95Ms", millis(histogram.getValueAtPercentile(95)));
+            stats.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            stats.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            stats.put("maxMs", millis(histogram.getMaxValue()));
+            operations.put(operation.name(), stats);
+        });
+        Map<String, Object> slos = new LinkedHashMap<>();
+        for (Operation.Slo slo : Operation.Slo.values()) {
+            slos.put(slo.name(), Map.of("p95Ms", slo.getP95().toMillis()));
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("model", options.model().name());
+        json.put("users", options.users());
+        json.put("rate", options.model() == LoadTestOptions.Model.OPEN ? options.rate() : null);
+        json.put("durationSeconds", elapsed.toSeconds());
+        json.put("slos", slos);
+        json.put("operations", operations);
+        json.put("passed", isPassed());
+        json.put("violations", violations);
+        return json;
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
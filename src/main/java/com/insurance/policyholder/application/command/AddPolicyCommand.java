@@ -7,7 +7,7 @@ import java.time.LocalDate;
  * 新增保單命令
  * CQRS Command - 用於為保戶新增保單的請求
  */
-public class AddPolicyCommand {
+public class AddPolicyCommand implements PolicyHolderCommand {
 
     private final String policyHolderId;
     private final String policyType;
@@ -31,6 +31,7 @@ public class AddPolicyCommand {
         this.endDate = endDate;
     }
 
+    @Override
     public String getPolicyHolderId() {
         return policyHolderId;
     }
@@ -4,7 +4,7 @@ package com.insurance.policyholder.application.command;
  * 刪除保戶命令
  * CQRS Command - 軟刪除保戶（狀態改為 INACTIVE）
  */
-public class DeletePolicyHolderCommand {
+public class DeletePolicyHolderCommand implements PolicyHolderCommand {
 
     private final String policyHolderId;
 
@@ -12,6 +12,7 @@ public class DeletePolicyHolderCommand {
         this.policyHolderId = policyHolderId;
     }
 
+    @Override
     public String getPolicyHolderId() {
         return policyHolderId;
     }
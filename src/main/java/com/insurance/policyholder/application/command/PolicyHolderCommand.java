@@ -0,0 +1,13 @@
+package com.insurance.policyholder.application.command;
+
+/**
+ * 針對既有保戶聚合根的命令
+ * 同一保戶的命令會依序執行（見 infrastructure 的命令序列化）
+ */
+public interface PolicyHolderCommand {
+
+    /**
+     * 目標保戶 ID
+     */
+    String getPolicyHolderId();
+}
@@ -4,8 +4,11 @@ package com.insurance.policyholder.application.command;
  * 更新保戶命令
  * CQRS Command - 更新保戶聯絡資訊和地址
  * 注意：身分證字號不可修改
+ *
+ * 指定 expectedVersion 時以版本號為條件直接更新，不載入聚合根；
+ * 部分更新（patch）時為 null 的欄位維持原值，地址四個欄位須一併提供
  */
-public class UpdatePolicyHolderCommand {
+public class UpdatePolicyHolderCommand implements PolicyHolderCommand {
 
     private final String policyHolderId;
     private final String mobilePhone;
@@ -14,6 +17,8 @@ public class UpdatePolicyHolderCommand {
     private final String city;
     private final String district;
     private final String street;
+    private final Long expectedVersion;
+    private final boolean partial;
 
     public UpdatePolicyHolderCommand(
             String policyHolderId,
@@ -23,6 +28,31 @@ public class UpdatePolicyHolderCommand {
             String city,
             String district,
             String street) {
+        this(policyHolderId, mobilePhone, email, zipCode, city, district, street, null, false);
+    }
+
+    public UpdatePolicyHolderCommand(
+            String policyHolderId,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            Long expectedVersion) {
+        this(policyHolderId, mobilePhone, email, zipCode, city, district, street, expectedVersion, false);
+    }
+
+    private UpdatePolicyHolderCommand(
+            String policyHolderId,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            Long expectedVersion,
+            boolean partial) {
         this.policyHolderId = policyHolderId;
         this.mobilePhone = mobilePhone;
         this.email = email;
@@ -30,8 +60,27 @@ public class UpdatePolicyHolderCommand {
         this.city = city;
         this.district = district;
         this.street = street;
+        this.expectedVersion = expectedVersion;
+        this.partial = partial;
+    }
+
+    /**
+     * 部分更新命令（必須指定版本號）
+     */
+    public static UpdatePolicyHolderCommand patch(
+            String policyHolderId,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            long expectedVersion) {
+        return new UpdatePolicyHolderCommand(policyHolderId, mobilePhone, email, zipCode, city, district, street,
+                expectedVersion, true);
     }
 
+    @Override
     public String getPolicyHolderId() {
         return policyHolderId;
     }
@@ -59,4 +108,15 @@ public class UpdatePolicyHolderCommand {
     public String getStreet() {
         return street;
     }
+
+    /**
+     * 預期的目前版本號，null 表示不檢查
+     */
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public boolean isPartial() {
+        return partial;
+    }
 }
@@ -3,9 +3,9 @@ package com.insurance.policyholder.application.commandhandler;
 import com.insurance.policyholder.application.command.AddPolicyCommand;
 import com.insurance.policyholder.application.port.input.CommandHandler;
 import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyReadModel;
-import com.insurance.policyholder.domain.event.PolicyAdded;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.entity.Policy;
@@ -25,18 +25,22 @@ public class AddPolicyCommandHandler implements CommandHandler<AddPolicyCommand,
 
     private final PolicyHolderRepository policyHolderRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final EventStore eventStore;
 
     public AddPolicyCommandHandler(
             PolicyHolderRepository policyHolderRepository,
-            DomainEventPublisher domainEventPublisher) {
+            DomainEventPublisher domainEventPublisher,
+            EventStore eventStore) {
         this.policyHolderRepository = policyHolderRepository;
         this.domainEventPublisher = domainEventPublisher;
+        this.eventStore = eventStore;
     }
 
     @Override
     public PolicyReadModel handle(AddPolicyCommand command) {
-        // 1. 查詢保戶
+        // 1. 查詢保戶（先讀事件版本，載入後其他命令附加的事件會使發布時衝突）
         PolicyHolderId policyHolderId = PolicyHolderId.of(command.getPolicyHolderId());
+        long eventVersion = eventStore.currentVersion(policyHolderId.getValue());
         PolicyHolder policyHolder = policyHolderRepository.findById(policyHolderId)
                 .orElseThrow(() -> new PolicyHolderNotFoundException(command.getPolicyHolderId()));
 
@@ -55,9 +59,8 @@ public class AddPolicyCommandHandler implements CommandHandler<AddPolicyCommand,
         // 4. 儲存保戶
         PolicyHolder savedPolicyHolder = policyHolderRepository.save(policyHolder);
 
-        // 5. 發布領域事件
-        PolicyAdded event = new PolicyAdded(savedPolicyHolder.getId().getValue(), policy);
-        domainEventPublisher.publish(event);
+        // 5. 發布領域事件（PolicyAdded 由聚合根登記）
+        domainEventPublisher.publishAll(eventVersion, policyHolder.getDomainEventsAndClear());
 
         // 6. 轉換為 ReadModel 並回傳
         return toPolicyReadModel(savedPolicyHolder.getId().getValue(), policy);
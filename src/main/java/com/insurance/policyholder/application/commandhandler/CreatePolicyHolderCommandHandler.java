@@ -5,6 +5,7 @@ import com.insurance.policyholder.application.port.input.CommandHandler;
 import com.insurance.policyholder.application.port.output.DomainEventPublisher;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.valueobject.Address;
@@ -70,8 +71,8 @@ public class CreatePolicyHolderCommandHandler implements CommandHandler<CreatePo
         // 4. 儲存保戶
         PolicyHolder savedPolicyHolder = policyHolderRepository.save(policyHolder);
 
-        // 5. 發布領域事件
-        domainEventPublisher.publishAll(savedPolicyHolder.getDomainEventsAndClear());
+        // 5. 發布領域事件（事件登記於儲存前的聚合根；新聚合根的事件版本為 0）
+        domainEventPublisher.publishAll(0, policyHolder.getDomainEventsAndClear());
 
         // 6. 轉換為 ReadModel 並回傳
         return toReadModel(savedPolicyHolder);
@@ -93,7 +94,8 @@ public class CreatePolicyHolderCommandHandler implements CommandHandler<CreatePo
                 policyHolder.getStatus().name(),
                 null, // createdAt - 由 JPA Auditing 設定
                 null, // updatedAt - 由 JPA Auditing 設定
-                policyHolder.getVersion()
+                policyHolder.getVersion(),
+                PolicySummaryReadModel.from(policyHolder.getPolicySummary())
         );
     }
 }
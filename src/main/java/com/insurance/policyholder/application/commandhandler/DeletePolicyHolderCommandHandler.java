@@ -1,6 +1,8 @@
 package com.insurance.policyholder.application.commandhandler;
 
 import com.insurance.policyholder.application.command.DeletePolicyHolderCommand;
+import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
@@ -17,14 +19,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletePolicyHolderCommandHandler {
 
     private final PolicyHolderRepository repository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final EventStore eventStore;
 
-    public DeletePolicyHolderCommandHandler(PolicyHolderRepository repository) {
+    public DeletePolicyHolderCommandHandler(
+            PolicyHolderRepository repository,
+            DomainEventPublisher domainEventPublisher,
+            EventStore eventStore) {
         this.repository = repository;
+        this.domainEventPublisher = domainEventPublisher;
+        this.eventStore = eventStore;
     }
 
     public void handle(DeletePolicyHolderCommand command) {
-        // 1. 查詢現有保戶
+        // 1. 查詢現有保戶（先讀事件版本，載入後其他命令附加的事件會使發布時衝突）
         PolicyHolderId id = PolicyHolderId.of(command.getPolicyHolderId());
+        long eventVersion = eventStore.currentVersion(id.getValue());
         PolicyHolder policyHolder = repository.findById(id)
                 .orElseThrow(() -> new PolicyHolderNotFoundException(command.getPolicyHolderId()));
 
@@ -33,5 +43,8 @@ public class DeletePolicyHolderCommandHandler {
 
         // 3. 儲存更新後的保戶
         repository.save(policyHolder);
+
+        // 4. 發布領域事件（PolicyHolderDeleted）
+        domainEventPublisher.publishAll(eventVersion, policyHolder.getDomainEventsAndClear());
     }
 }
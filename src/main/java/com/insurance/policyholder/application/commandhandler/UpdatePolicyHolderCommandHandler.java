@@ -2,11 +2,16 @@ package com.insurance.policyholder.application.commandhandler;
 
 import com.insurance.policyholder.application.command.UpdatePolicyHolderCommand;
 import com.insurance.policyholder.application.port.input.CommandHandler;
+import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.valueobject.Address;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
 import com.insurance.policyholder.domain.model.valueobject.ContactInfo;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
 import org.springframework.stereotype.Service;
@@ -15,22 +20,35 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 更新保戶命令處理器
  * 處理保戶聯絡資訊與地址的更新
+ *
+ * 命令帶有版本號時不載入聚合根，由儲存庫以版本號為條件直接更新，版本不符拋出 StaleVersionException
  */
 @Service
 @Transactional
 public class UpdatePolicyHolderCommandHandler implements CommandHandler<UpdatePolicyHolderCommand, PolicyHolderReadModel> {
 
     private final PolicyHolderRepository repository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final EventStore eventStore;
 
-    public UpdatePolicyHolderCommandHandler(PolicyHolderRepository repository) {
+    public UpdatePolicyHolderCommandHandler(
+            PolicyHolderRepository repository,
+            DomainEventPublisher domainEventPublisher,
+            EventStore eventStore) {
         this.repository = repository;
+        this.domainEventPublisher = domainEventPublisher;
+        this.eventStore = eventStore;
     }
 
     @Override
     public PolicyHolderReadModel handle(UpdatePolicyHolderCommand command) {
+        if (command.getExpectedVersion() != null) {
+            return handleVersioned(command);
+        }
 
-        // 1. 查詢現有保戶
+        // 1. 查詢現有保戶（先讀事件版本，載入後其他命令附加的事件會使發布時衝突）
         PolicyHolderId id = PolicyHolderId.of(command.getPolicyHolderId());
+        long eventVersion = eventStore.currentVersion(id.getValue());
         PolicyHolder policyHolder = repository.findById(id)
                 .orElseThrow(() -> new PolicyHolderNotFoundException(command.getPolicyHolderId()));
 
@@ -53,10 +71,39 @@ public class UpdatePolicyHolderCommandHandler implements CommandHandler<UpdatePo
         // 4. 儲存更新後的保戶
         PolicyHolder savedPolicyHolder = repository.save(policyHolder);
 
-        // 5. 轉換為 ReadModel 並回傳
+        // 5. 發布領域事件（PolicyHolderUpdated）
+        domainEventPublisher.publishAll(eventVersion, policyHolder.getDomainEventsAndClear());
+
+        // 6. 轉換為 ReadModel 並回傳
         return toReadModel(savedPolicyHolder);
     }
 
+    private PolicyHolderReadModel handleVersioned(UpdatePolicyHolderCommand command) {
+        ContactAddressChange change = command.isPartial()
+                ? ContactAddressChange.partial(command.getMobilePhone(), command.getEmail(), toAddressIfPresent(command))
+                : ContactAddressChange.replace(
+                        ContactInfo.of(command.getMobilePhone(), command.getEmail()),
+                        Address.of(command.getZipCode(), command.getCity(), command.getDistrict(), command.getStreet()));
+
+        PolicyHolderId id = PolicyHolderId.of(command.getPolicyHolderId());
+        long eventVersion = eventStore.currentVersion(id.getValue());
+        PolicyHolder updated = repository.updateIfVersion(id, command.getExpectedVersion(), change)
+                .orElseThrow(() -> new PolicyHolderNotFoundException(command.getPolicyHolderId()));
+
+        // 事件內容為更新後的完整狀態與版本號，與載入聚合根的路徑相同
+        domainEventPublisher.publish(eventVersion, new PolicyHolderUpdated(updated, updated.getVersion()));
+
+        return toReadModel(updated);
+    }
+
+    private Address toAddressIfPresent(UpdatePolicyHolderCommand command) {
+        if (command.getZipCode() == null && command.getCity() == null
+                && command.getDistrict() == null && command.getStreet() == null) {
+            return null;
+        }
+        return Address.of(command.getZipCode(), command.getCity(), command.getDistrict(), command.getStreet());
+    }
+
     private PolicyHolderReadModel toReadModel(PolicyHolder policyHolder) {
         return new PolicyHolderReadModel(
                 policyHolder.getId().getValue(),
@@ -73,7 +120,8 @@ public class UpdatePolicyHolderCommandHandler implements CommandHandler<UpdatePo
                 policyHolder.getStatus().name(),
                 null, // createdAt - managed by persistence
                 null, // updatedAt - managed by persistence
-                policyHolder.getVersion()
+                policyHolder.getVersion(),
+                PolicySummaryReadModel.from(policyHolder.getPolicySummary())
         );
     }
 }
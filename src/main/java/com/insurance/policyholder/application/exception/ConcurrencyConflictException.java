@@ -0,0 +1,58 @@
+package com.insurance.policyholder.application.exception;
+
+/**
+ * 並行衝突例外
+ * 同一聚合根的另一個命令已先寫入，本次寫入被拒絕；重新讀取最新狀態後重試即可
+ */
+public class ConcurrencyConflictException extends RuntimeException {
+
+    private static final String ERROR_CODE = "CONCURRENCY_CONFLICT";
+
+    private final String aggregateId;
+    private final boolean retryable;
+
+    public ConcurrencyConflictException(String aggregateId, String message) {
+        this(aggregateId, message, null, true);
+    }
+
+    public ConcurrencyConflictException(String aggregateId, String message, Throwable cause) {
+        this(aggregateId, message, cause, true);
+    }
+
+    protected ConcurrencyConflictException(String aggregateId, String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.aggregateId = aggregateId;
+        this.retryable = retryable;
+    }
+
+    /**
+     * 預期版本與目前版本不符
+     */
+    public static ConcurrencyConflictException versionMismatch(String aggregateId, long expectedVersion, long actualVersion) {
+        return new ConcurrencyConflictException(aggregateId, "Aggregate " + aggregateId
+                + " expected at version " + expectedVersion + " but was " + actualVersion);
+    }
+
+    /**
+     * 等待同一聚合根的其他命令逾時
+     * 重試只會再等待一次，因此不可重試
+     */
+    public static ConcurrencyConflictException lockTimeout(String aggregateId, String message, Throwable cause) {
+        return new ConcurrencyConflictException(aggregateId, message, cause, false);
+    }
+
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    /**
+     * 是否可重試（重新載入聚合根後再次執行命令）
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,33 @@
+package com.insurance.policyholder.application.exception;
+
+/**
+ * 用戶端指定的版本號已過期
+ * 用戶端以 If-Match 帶入的版本與目前版本不符；重試無法成功，須由用戶端重新讀取後再送出，因此不可重試
+ */
+public class StaleVersionException extends ConcurrencyConflictException {
+
+    private static final String ERROR_CODE = "PRECONDITION_FAILED";
+
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public StaleVersionException(String aggregateId, long expectedVersion, long actualVersion) {
+        super(aggregateId, "Aggregate " + aggregateId + " expected at version " + expectedVersion
+                + " but was " + actualVersion, null, false);
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
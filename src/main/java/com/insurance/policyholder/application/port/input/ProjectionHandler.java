@@ -0,0 +1,38 @@
+package com.insurance.policyholder.application.port.input;
+
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+
+import java.util.List;
+
+/**
+ * 投影處理器介面
+ * 將領域事件套用至讀取模型，可由重播引擎從 Event Store 重建
+ *
+ * 事件以至少一次（at-least-once）的方式投遞，實作需具冪等性；
+ * 同一聚合根的事件保證依序投遞，不同聚合根的事件可能並行處理
+ */
+public interface ProjectionHandler {
+
+    /**
+     * 投影名稱（作為檢查點的識別）
+     */
+    String getName();
+
+    /**
+     * 清除投影內容，於重建開始前呼叫
+     */
+    void reset();
+
+    /**
+     * 套用一批事件
+     *
+     * @param events 依全域位置排序的事件
+     */
+    void handle(List<StoredEvent> events);
+
+    /**
+     * 追上 Event Store 尾端時呼叫，可於此切換至重建完成的投影
+     */
+    default void onCaughtUp() {
+    }
+}
@@ -15,14 +15,18 @@ public interface DomainEventPublisher {
     /**
      * 發布單一領域事件
      *
-     * @param event 要發布的領域事件
+     * @param expectedVersion 載入聚合根時讀取的事件版本（新聚合根為 0）
+     * @param event           要發布的領域事件
+     * @throws com.insurance.policyholder.application.exception.ConcurrencyConflictException 載入後已有其他命令附加事件時
      */
-    void publish(DomainEvent event);
+    void publish(long expectedVersion, DomainEvent event);
 
     /**
-     * 發布多個領域事件
+     * 發布同一聚合根的多個領域事件
      *
-     * @param events 要發布的領域事件列表
+     * @param expectedVersion 載入聚合根時讀取的事件版本（新聚合根為 0）
+     * @param events          要發布的領域事件列表（皆屬於同一聚合根）
+     * @throws com.insurance.policyholder.application.exception.ConcurrencyConflictException 載入後已有其他命令附加事件時
      */
-    void publishAll(List<DomainEvent> events);
+    void publishAll(long expectedVersion, List<DomainEvent> events);
 }
@@ -1,5 +1,7 @@
 package com.insurance.policyholder.application.port.output;
 
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
 import com.insurance.policyholder.domain.event.DomainEvent;
 
 import java.util.List;
@@ -13,27 +15,50 @@ import java.util.List;
 public interface EventStore {
 
     /**
-     * 儲存領域事件
+     * 以樂觀並行控制附加同一聚合根的事件
+     * 事件依序取得 expectedVersion + 1 起的聚合根序號；聚合根的事件一律經由此方法附加，
+     * expectedVersion 必須是載入聚合根時讀取的版本，載入後被其他命令搶先附加即視為衝突
      *
-     * @param event 要儲存的領域事件
+     * @param aggregateId     聚合根 ID
+     * @param expectedVersion 呼叫端讀取時該聚合根已有的事件數（新聚合根為 0）
+     * @param events          要附加的事件（皆屬於該聚合根）
+     * @throws ConcurrencyConflictException 目前版本與 expectedVersion 不符，或被並行寫入搶先時
      */
-    void save(DomainEvent event);
+    void append(String aggregateId, long expectedVersion, List<DomainEvent> events);
 
     /**
-     * 儲存多個領域事件
-     *
-     * @param events 要儲存的領域事件列表
+     * 聚合根目前的版本（已儲存的事件數，沒有事件時為 0）
+     * 命令在載入聚合根之前讀取，作為 append 的預期版本
      */
-    void saveAll(List<DomainEvent> events);
+    long currentVersion(String aggregateId);
 
     /**
      * 根據聚合根 ID 查詢事件
      *
      * @param aggregateId 聚合根 ID
-     * @return 該聚合根的所有事件（按時間排序）
+     * @return 該聚合根的所有事件（按聚合根序號排序）
      */
     List<DomainEvent> findByAggregateId(String aggregateId);
 
+    /**
+     * 查詢聚合根在指定事件之後的事件（不含該事件），用於快照之後的事件重播
+     *
+     * @param aggregateId  聚合根 ID
+     * @param afterEventId 已處理的最後一個事件 ID
+     * @return 該事件之後的事件（按聚合根序號排序）
+     * @throws IllegalArgumentException 指定事件不屬於該聚合根或不存在時
+     */
+    List<DomainEvent> findByAggregateIdAfter(String aggregateId, String afterEventId);
+
+    /**
+     * 根據聚合根 ID 查詢事件信封（只讀取標頭）
+     * payload 於呼叫 StoredEvent.getEvent() 時才載入並解碼，適用於只需要事件類型與時間的查詢（例如時間軸）
+     *
+     * @param aggregateId 聚合根 ID
+     * @return 該聚合根的所有事件信封（排序與 findByAggregateId 相同）
+     */
+    List<StoredEvent> findEnvelopesByAggregateId(String aggregateId);
+
     /**
      * 根據聚合根類型查詢事件
      *
@@ -49,4 +74,18 @@ public interface EventStore {
      * @return 該類型的所有事件（按時間排序）
      */
     List<DomainEvent> findByEventType(String eventType);
+
+    /**
+     * 依全域位置順序讀取事件（payload 延遲解碼）
+     *
+     * @param afterPosition 起始位置（不含），0 表示從頭開始
+     * @param limit         最多讀取筆數
+     * @return 位置大於 afterPosition 的事件（依位置排序）
+     */
+    List<StoredEvent> readForward(long afterPosition, int limit);
+
+    /**
+     * 目前最大的全域位置，沒有事件時為 0
+     */
+    long headPosition();
 }
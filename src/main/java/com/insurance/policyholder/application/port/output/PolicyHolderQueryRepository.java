@@ -1,5 +1,6 @@
 package com.insurance.policyholder.application.port.output;
 
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
 import com.insurance.policyholder.domain.model.valueobject.NationalId;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
@@ -25,6 +26,15 @@ public interface PolicyHolderQueryRepository<T> {
      */
     Optional<T> findById(PolicyHolderId id);
 
+    /**
+     * 只查詢版本號（不建立 Read Model）
+     *
+     * @param id              保戶編號
+     * @param includePolicies 是否一併查詢各保單的版本號
+     * @return 版本資訊，若不存在則為空
+     */
+    Optional<PolicyHolderVersionReadModel> findVersionById(PolicyHolderId id, boolean includePolicies);
+
     /**
      * 根據身分證字號查詢
      *
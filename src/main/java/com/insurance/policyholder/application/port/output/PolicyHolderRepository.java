@@ -1,6 +1,7 @@
 package com.insurance.policyholder.application.port.output;
 
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
 import com.insurance.policyholder.domain.model.valueobject.NationalId;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
 
@@ -22,6 +23,18 @@ public interface PolicyHolderRepository {
      */
     PolicyHolder save(PolicyHolder policyHolder);
 
+    /**
+     * 以版本號為條件更新聯絡資訊與地址
+     * 不載入聚合根，以單一敘述寫入變更的欄位並遞增版本號
+     *
+     * @param id              保戶編號
+     * @param expectedVersion 預期的目前版本號
+     * @param change          要寫入的欄位
+     * @return 更新後的保戶（不含保單），若保戶不存在則為空
+     * @throws com.insurance.policyholder.application.exception.StaleVersionException 版本號不符時
+     */
+    Optional<PolicyHolder> updateIfVersion(PolicyHolderId id, long expectedVersion, ContactAddressChange change);
+
     /**
      * 根據保戶編號查詢
      *
@@ -30,6 +43,16 @@ public interface PolicyHolderRepository {
      */
     Optional<PolicyHolder> findById(PolicyHolderId id);
 
+    /**
+     * 查詢保戶供讀取使用，目前的資料表查無時改查已封存的保戶（不支援封存的實作等同 findById）
+     * 回傳的聚合根只供讀取，含封存保單時不可再儲存
+     *
+     * @param id                      保戶編號
+     * @param includeArchivedPolicies 是否一併載入已封存的保單（歷史）
+     * @return 保戶聚合根，若不存在則為空
+     */
+    Optional<PolicyHolder> findIncludingArchived(PolicyHolderId id, boolean includeArchivedPolicies);
+
     /**
      * 根據身分證字號查詢
      *
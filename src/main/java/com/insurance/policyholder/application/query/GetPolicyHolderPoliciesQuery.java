@@ -1,23 +1,34 @@
 package com.insurance.policyholder.application.query;
 
+import java.util.Objects;
+
 /**
  * 查詢保戶保單查詢
  * CQRS Query - 用於查詢保戶的所有保單
+ *
+ * 以值相等比較，相同查詢可合併為同一次執行
+ * includeArchived 為 true 時一併列出已封存的保單（歷史）
  */
 public class GetPolicyHolderPoliciesQuery {
 
     private final String policyHolderId;
     private final String policyType;
     private final String status;
+    private final boolean includeArchived;
 
     public GetPolicyHolderPoliciesQuery(String policyHolderId) {
         this(policyHolderId, null, null);
     }
 
     public GetPolicyHolderPoliciesQuery(String policyHolderId, String policyType, String status) {
+        this(policyHolderId, policyType, status, false);
+    }
+
+    public GetPolicyHolderPoliciesQuery(String policyHolderId, String policyType, String status, boolean includeArchived) {
         this.policyHolderId = policyHolderId;
         this.policyType = policyType;
         this.status = status;
+        this.includeArchived = includeArchived;
     }
 
     public String getPolicyHolderId() {
@@ -32,6 +43,10 @@ public class GetPolicyHolderPoliciesQuery {
         return status;
     }
 
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
     public boolean hasTypeFilter() {
         return policyType != null && !policyType.isBlank();
     }
@@ -39,4 +54,30 @@ public class GetPolicyHolderPoliciesQuery {
     public boolean hasStatusFilter() {
         return status != null && !status.isBlank();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetPolicyHolderPoliciesQuery that = (GetPolicyHolderPoliciesQuery) o;
+        return includeArchived == that.includeArchived &&
+                Objects.equals(policyHolderId, that.policyHolderId) &&
+                Objects.equals(policyType, that.policyType) &&
+                Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(policyHolderId, policyType, status, includeArchived);
+    }
+
+    @Override
+    public String toString() {
+        return "GetPolicyHolderPoliciesQuery{" +
+                "policyHolderId='" + policyHolderId + '\'' +
+                ", policyType='" + policyType + '\'' +
+                ", status='" + status + '\'' +
+                ", includeArchived=" + includeArchived +
+                '}';
+    }
 }
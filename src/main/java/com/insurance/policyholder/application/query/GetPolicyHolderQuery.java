@@ -3,6 +3,8 @@ package com.insurance.policyholder.application.query;
 /**
  * 根據保戶編號查詢保戶
  * CQRS Query
+ *
+ * 以值相等比較，相同查詢可合併為同一次執行
  */
 public class GetPolicyHolderQuery {
 
@@ -18,4 +20,22 @@ public class GetPolicyHolderQuery {
     public String getPolicyHolderId() {
         return policyHolderId;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetPolicyHolderQuery that = (GetPolicyHolderQuery) o;
+        return policyHolderId.equals(that.policyHolderId);
+    }
+
+    @Override
+    public int hashCode() {
+        return policyHolderId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GetPolicyHolderQuery{policyHolderId='" + policyHolderId + "'}";
+    }
 }
@@ -0,0 +1,30 @@
+package com.insurance.policyholder.application.query;
+
+/**
+ * 查詢保戶的版本號（不建立完整的 Read Model）
+ * CQRS Query，用於條件式請求的驗證值
+ */
+public class GetPolicyHolderVersionQuery {
+
+    private final String policyHolderId;
+    private final boolean includePolicies;
+
+    /**
+     * @param includePolicies 是否一併查詢各保單的版本號
+     */
+    public GetPolicyHolderVersionQuery(String policyHolderId, boolean includePolicies) {
+        if (policyHolderId == null || policyHolderId.isBlank()) {
+            throw new IllegalArgumentException("PolicyHolder ID cannot be null or empty");
+        }
+        this.policyHolderId = policyHolderId;
+        this.includePolicies = includePolicies;
+    }
+
+    public String getPolicyHolderId() {
+        return policyHolderId;
+    }
+
+    public boolean isIncludePolicies() {
+        return includePolicies;
+    }
+}
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 /**
  * 查詢保戶保單查詢處理器
  * 實作查詢保戶的所有保單
+ * 保戶已封存時讀取封存的資料；要求歷史時一併列出已封存的保單
  */
 @Service
 @Transactional(readOnly = true)
@@ -32,7 +33,7 @@ public class GetPolicyHolderPoliciesQueryHandler implements QueryHandler<GetPoli
     public List<PolicyReadModel> handle(GetPolicyHolderPoliciesQuery query) {
         // 1. 查詢保戶
         PolicyHolderId policyHolderId = PolicyHolderId.of(query.getPolicyHolderId());
-        PolicyHolder policyHolder = policyHolderRepository.findById(policyHolderId)
+        PolicyHolder policyHolder = policyHolderRepository.findIncludingArchived(policyHolderId, query.isIncludeArchived())
                 .orElseThrow(() -> new PolicyHolderNotFoundException(query.getPolicyHolderId()));
 
         // 2. 取得保單列表並套用篩選條件
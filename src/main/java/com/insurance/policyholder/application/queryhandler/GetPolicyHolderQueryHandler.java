@@ -4,7 +4,9 @@ import com.insurance.policyholder.application.port.input.QueryHandler;
 import com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository;
 import com.insurance.policyholder.application.query.GetPolicyHolderByNationalIdQuery;
 import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderVersionQuery;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.valueobject.NationalId;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
@@ -40,4 +42,13 @@ public class GetPolicyHolderQueryHandler implements QueryHandler<GetPolicyHolder
                 .orElseThrow(() -> new PolicyHolderNotFoundException(
                         "National ID not found: " + query.getNationalId()));
     }
+
+    /**
+     * 只查詢版本號，供條件式請求在建立完整 Read Model 之前比對
+     */
+    public PolicyHolderVersionReadModel handleVersion(GetPolicyHolderVersionQuery query) {
+        PolicyHolderId id = PolicyHolderId.of(query.getPolicyHolderId());
+        return queryRepository.findVersionById(id, query.isIncludePolicies())
+                .orElseThrow(() -> new PolicyHolderNotFoundException(query.getPolicyHolderId()));
+    }
 }
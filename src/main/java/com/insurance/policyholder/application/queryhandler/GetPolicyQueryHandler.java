@@ -12,9 +12,12 @@ import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 查詢單一保單查詢處理器
  * 實作查詢單一保單詳細資訊
+ * 保單不在目前的資料表時才查詢已封存的保單
  */
 @Service
 @Transactional(readOnly = true)
@@ -30,19 +33,28 @@ public class GetPolicyQueryHandler implements QueryHandler<GetPolicyQuery, Polic
     public PolicyReadModel handle(GetPolicyQuery query) {
         // 1. 查詢保戶
         PolicyHolderId policyHolderId = PolicyHolderId.of(query.getPolicyHolderId());
-        PolicyHolder policyHolder = policyHolderRepository.findById(policyHolderId)
+        PolicyHolder policyHolder = policyHolderRepository.findIncludingArchived(policyHolderId, false)
                 .orElseThrow(() -> new PolicyHolderNotFoundException(query.getPolicyHolderId()));
 
-        // 2. 查詢保單
-        Policy policy = policyHolder.getPolicies().stream()
-                .filter(p -> p.getId().getValue().equals(query.getPolicyId()))
-                .findFirst()
-                .orElseThrow(() -> new PolicyNotFoundException(query.getPolicyId()));
+        // 2. 查詢保單，查無時再查已封存的保單
+        Optional<Policy> found = findPolicy(policyHolder, query.getPolicyId());
+        if (found.isEmpty()) {
+            policyHolder = policyHolderRepository.findIncludingArchived(policyHolderId, true)
+                    .orElseThrow(() -> new PolicyHolderNotFoundException(query.getPolicyHolderId()));
+            found = findPolicy(policyHolder, query.getPolicyId());
+        }
+        Policy policy = found.orElseThrow(() -> new PolicyNotFoundException(query.getPolicyId()));
 
         // 3. 轉換為 ReadModel
         return toPolicyReadModel(policyHolder.getId().getValue(), policy);
     }
 
+    private Optional<Policy> findPolicy(PolicyHolder policyHolder, String policyId) {
+        return policyHolder.getPolicies().stream()
+                .filter(p -> p.getId().getValue().equals(policyId))
+                .findFirst();
+    }
+
     private PolicyReadModel toPolicyReadModel(String policyHolderId, Policy policy) {
         return new PolicyReadModel(
                 policy.getId().getValue(),
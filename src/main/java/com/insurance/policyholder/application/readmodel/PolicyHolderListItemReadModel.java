@@ -4,7 +4,7 @@ import java.time.LocalDate;
 
 /**
  * 保戶列表項目讀取模型
- * 用於列表展示的簡化版本
+ * 用於列表展示的簡化版本，含有效保單摘要
  */
 public class PolicyHolderListItemReadModel {
 
@@ -15,6 +15,7 @@ public class PolicyHolderListItemReadModel {
     private final LocalDate birthDate;
     private final String mobilePhone;
     private final String status;
+    private final PolicySummaryReadModel policySummary;
 
     public PolicyHolderListItemReadModel(
             String id,
@@ -24,6 +25,18 @@ public class PolicyHolderListItemReadModel {
             LocalDate birthDate,
             String mobilePhone,
             String status) {
+        this(id, nationalId, name, gender, birthDate, mobilePhone, status, PolicySummaryReadModel.EMPTY);
+    }
+
+    public PolicyHolderListItemReadModel(
+            String id,
+            String nationalId,
+            String name,
+            String gender,
+            LocalDate birthDate,
+            String mobilePhone,
+            String status,
+            PolicySummaryReadModel policySummary) {
         this.id = id;
         this.maskedNationalId = maskNationalId(nationalId);
         this.name = name;
@@ -31,6 +44,7 @@ public class PolicyHolderListItemReadModel {
         this.birthDate = birthDate;
         this.mobilePhone = mobilePhone;
         this.status = status;
+        this.policySummary = policySummary;
     }
 
     private String maskNationalId(String nationalId) {
@@ -67,4 +81,8 @@ public class PolicyHolderListItemReadModel {
     public String getStatus() {
         return status;
     }
+
+    public PolicySummaryReadModel getPolicySummary() {
+        return policySummary;
+    }
 }
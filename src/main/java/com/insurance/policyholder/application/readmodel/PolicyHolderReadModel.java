@@ -7,6 +7,8 @@ import java.time.LocalDateTime;
  * 保戶讀取模型
  * CQRS 模式中的 Query 端使用
  * 扁平化的資料結構，便於查詢與展示
+ * 有效保單摘要來自保戶資料列上的反正規化欄位，不需載入保單
+ * 讀取端檢視表提供預先遮罩的身分證字號，其餘來源於取用時才遮罩
  */
 public class PolicyHolderReadModel {
 
@@ -25,6 +27,8 @@ public class PolicyHolderReadModel {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final Long version;
+    private final PolicySummaryReadModel policySummary;
+    private final String maskedNationalId;
 
     public PolicyHolderReadModel(
             String id,
@@ -42,6 +46,49 @@ public class PolicyHolderReadModel {
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
             Long version) {
+        this(id, nationalId, name, gender, birthDate, mobilePhone, email, zipCode, city, district, street,
+                status, createdAt, updatedAt, version, PolicySummaryReadModel.EMPTY);
+    }
+
+    public PolicyHolderReadModel(
+            String id,
+            String nationalId,
+            String name,
+            String gender,
+            LocalDate birthDate,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            String status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            Long version,
+            PolicySummaryReadModel policySummary) {
+        this(id, nationalId, name, gender, birthDate, mobilePhone, email, zipCode, city, district, street,
+                status, createdAt, updatedAt, version, policySummary, null);
+    }
+
+    public PolicyHolderReadModel(
+            String id,
+            String nationalId,
+            String name,
+            String gender,
+            LocalDate birthDate,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            String status,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            Long version,
+            PolicySummaryReadModel policySummary,
+            String maskedNationalId) {
         this.id = id;
         this.nationalId = nationalId;
         this.name = name;
@@ -57,6 +104,8 @@ public class PolicyHolderReadModel {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.version = version;
+        this.policySummary = policySummary;
+        this.maskedNationalId = maskedNationalId;
     }
 
     public String getId() {
@@ -126,10 +175,17 @@ public class PolicyHolderReadModel {
         return version;
     }
 
+    public PolicySummaryReadModel getPolicySummary() {
+        return policySummary;
+    }
+
     /**
-     * 取得遮蔽後的身分證字號
+     * 取得遮蔽後的身分證字號（有預先遮罩的值時直接回傳）
      */
     public String getMaskedNationalId() {
+        if (maskedNationalId != null) {
+            return maskedNationalId;
+        }
         if (nationalId == null || nationalId.length() < 10) {
             return nationalId;
         }
@@ -0,0 +1,37 @@
+package com.insurance.policyholder.application.readmodel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 保戶版本讀取模型
+ * 保戶與其保單的樂觀鎖版本號，保戶或任一保單變更時即不同
+ */
+public class PolicyHolderVersionReadModel {
+
+    private final String policyHolderId;
+    private final long version;
+    private final Map<String, Long> policyVersions;
+
+    /**
+     * @param policyVersions 保單編號 → 版本號（依保單編號排序）；未查詢保單時為空
+     */
+    public PolicyHolderVersionReadModel(String policyHolderId, long version, Map<String, Long> policyVersions) {
+        this.policyHolderId = policyHolderId;
+        this.version = version;
+        this.policyVersions = Collections.unmodifiableMap(new LinkedHashMap<>(policyVersions));
+    }
+
+    public String getPolicyHolderId() {
+        return policyHolderId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Map<String, Long> getPolicyVersions() {
+        return policyVersions;
+    }
+}
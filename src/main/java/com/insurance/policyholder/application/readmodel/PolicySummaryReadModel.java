@@ -0,0 +1,58 @@
+package com.insurance.policyholder.application.readmodel;
+
+import com.insurance.policyholder.domain.model.valueobject.PolicySummary;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 保戶有效保單摘要讀取模型
+ * 金額以幣別的最小單位表示（新台幣為 1/100 元）
+ */
+public class PolicySummaryReadModel {
+
+    public static final PolicySummaryReadModel EMPTY = from(PolicySummary.empty());
+
+    private final int activePolicies;
+    private final Map<String, Integer> activePoliciesByType;
+    private final long totalPremiumMinor;
+    private final long totalSumInsuredMinor;
+
+    public PolicySummaryReadModel(
+            int activePolicies,
+            Map<String, Integer> activePoliciesByType,
+            long totalPremiumMinor,
+            long totalSumInsuredMinor) {
+        this.activePolicies = activePolicies;
+        this.activePoliciesByType = Collections.unmodifiableMap(new LinkedHashMap<>(activePoliciesByType));
+        this.totalPremiumMinor = totalPremiumMinor;
+        this.totalSumInsuredMinor = totalSumInsuredMinor;
+    }
+
+    public static PolicySummaryReadModel from(PolicySummary summary) {
+        Map<String, Integer> byType = new LinkedHashMap<>();
+        summary.getActivePoliciesByType().forEach((type, count) -> byType.put(type.name(), count));
+        return new PolicySummaryReadModel(summary.getActivePolicies(), byType,
+                summary.getTotalPremiumMinor(), summary.getTotalSumInsuredMinor());
+    }
+
+    public int getActivePolicies() {
+        return activePolicies;
+    }
+
+    /**
+     * 各保單類型的有效保單數（依類型宣告順序，不含數量為 0 的類型）
+     */
+    public Map<String, Integer> getActivePoliciesByType() {
+        return activePoliciesByType;
+    }
+
+    public long getTotalPremiumMinor() {
+        return totalPremiumMinor;
+    }
+
+    public long getTotalSumInsuredMinor() {
+        return totalSumInsuredMinor;
+    }
+}
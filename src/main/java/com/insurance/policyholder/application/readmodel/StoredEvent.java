@@ -0,0 +1,126 @@
+package com.insurance.policyholder.application.readmodel;
+
+import com.insurance.policyholder.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 已儲存的領域事件（事件信封）
+ * 包含事件在 Event Store 中的全域位置與標頭欄位，用於依序重播與檢查點
+ *
+ * 標頭欄位不需解碼 payload 即可取得；payload 於第一次呼叫 getEvent() 時才解碼，之後重複使用
+ */
+public class StoredEvent {
+
+    private final long position;
+    private final long sequence;
+    private final String eventId;
+    private final String aggregateId;
+    private final String aggregateType;
+    private final String eventType;
+    private final LocalDateTime occurredOn;
+    private Supplier<DomainEvent> decoder;
+    private volatile DomainEvent event;
+
+    public StoredEvent(long position, DomainEvent event) {
+        this.position = position;
+        this.sequence = 0;
+        this.eventId = event.getEventId();
+        this.aggregateId = event.getAggregateId();
+        this.aggregateType = event.getAggregateType();
+        this.eventType = event.getClass().getName();
+        this.occurredOn = event.getOccurredOn();
+        this.event = event;
+    }
+
+    /**
+     * 建立延遲解碼的事件信封
+     *
+     * @param decoder 解碼 payload 的函式，至多呼叫一次
+     */
+    public StoredEvent(long position, String eventId, String aggregateId, String aggregateType,
+                       String eventType, LocalDateTime occurredOn, Supplier<DomainEvent> decoder) {
+        this(position, 0, eventId, aggregateId, aggregateType, eventType, occurredOn, decoder);
+    }
+
+    /**
+     * 建立延遲解碼且帶有聚合根序號的事件信封
+     *
+     * @param sequence 事件在聚合根內的序號
+     * @param decoder  解碼 payload 的函式，至多呼叫一次
+     */
+    public StoredEvent(long position, long sequence, String eventId, String aggregateId, String aggregateType,
+                       String eventType, LocalDateTime occurredOn, Supplier<DomainEvent> decoder) {
+        this.position = position;
+        this.sequence = sequence;
+        this.eventId = eventId;
+        this.aggregateId = aggregateId;
+        this.aggregateType = aggregateType;
+        this.eventType = eventType;
+        this.occurredOn = occurredOn;
+        this.decoder = decoder;
+    }
+
+    /**
+     * 全域位置（由 1 開始遞增，可能因交易回滾而不連續）
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * 事件在聚合根內的序號（由 1 開始連續遞增）；Event Store 未提供時為 0
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    /**
+     * 事件類別完整名稱（與儲存時相同）
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    /**
+     * 取得領域事件，第一次呼叫時解碼 payload
+     */
+    public DomainEvent getEvent() {
+        DomainEvent result = event;
+        if (result == null) {
+            synchronized (this) {
+                result = event;
+                if (result == null) {
+                    result = decoder.get();
+                    event = result;
+                    decoder = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * payload 是否已解碼
+     */
+    public boolean isDecoded() {
+        return event != null;
+    }
+}
@@ -21,6 +21,17 @@ public abstract class DomainEvent {
         this.aggregateType = aggregateType;
     }
 
+    /**
+     * 從事件儲存重建事件時使用
+     * 保留原始的事件 ID 與發生時間
+     */
+    protected DomainEvent(String eventId, LocalDateTime occurredOn, String aggregateId, String aggregateType) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
+        this.aggregateId = aggregateId;
+        this.aggregateType = aggregateType;
+    }
+
     public String getEventId() {
         return eventId;
     }
@@ -4,6 +4,7 @@ import com.insurance.policyholder.domain.model.entity.Policy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 保單新增事件
@@ -20,8 +21,12 @@ public class PolicyAdded extends DomainEvent {
     private final LocalDate startDate;
     private final LocalDate endDate;
     private final String status;
+    private final Long version;
 
-    public PolicyAdded(String policyHolderId, Policy policy) {
+    /**
+     * @param version 保戶儲存後的版本號
+     */
+    public PolicyAdded(String policyHolderId, Policy policy, Long version) {
         super(policyHolderId, AGGREGATE_TYPE);
         this.policyId = policy.getId().getValue();
         this.policyType = policy.getPolicyType().name();
@@ -30,6 +35,33 @@ public class PolicyAdded extends DomainEvent {
         this.startDate = policy.getStartDate();
         this.endDate = policy.getEndDate();
         this.status = policy.getStatus().name();
+        this.version = version;
+    }
+
+    /**
+     * 從事件儲存重建（不產生新的事件 ID）
+     */
+    public PolicyAdded(
+            String eventId,
+            LocalDateTime occurredOn,
+            String policyHolderId,
+            String policyId,
+            String policyType,
+            BigDecimal premium,
+            BigDecimal sumInsured,
+            LocalDate startDate,
+            LocalDate endDate,
+            String status,
+            Long version) {
+        super(eventId, occurredOn, policyHolderId, AGGREGATE_TYPE);
+        this.policyId = policyId;
+        this.policyType = policyType;
+        this.premium = premium;
+        this.sumInsured = sumInsured;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.version = version;
     }
 
     @Override
@@ -64,4 +96,11 @@ public class PolicyAdded extends DomainEvent {
     public String getStatus() {
         return status;
     }
+
+    /**
+     * 保戶儲存後的版本號（舊版事件為 null）
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
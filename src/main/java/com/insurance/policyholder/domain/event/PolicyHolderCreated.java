@@ -1,6 +1,9 @@
 package com.insurance.policyholder.domain.event;
 
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 保戶建立事件
@@ -15,6 +18,25 @@ public class PolicyHolderCreated extends DomainEvent {
     private final String mobilePhone;
     private final String email;
     private final String fullAddress;
+    private final String zipCode;
+    private final String city;
+    private final String district;
+    private final String street;
+
+    public PolicyHolderCreated(PolicyHolder policyHolder) {
+        super(policyHolder.getId().getValue(), "PolicyHolder");
+        this.nationalId = policyHolder.getNationalId().getValue();
+        this.name = policyHolder.getPersonalInfo().getName();
+        this.gender = policyHolder.getPersonalInfo().getGender().name();
+        this.birthDate = policyHolder.getPersonalInfo().getBirthDate();
+        this.mobilePhone = policyHolder.getContactInfo().getMobilePhone();
+        this.email = policyHolder.getContactInfo().getEmail();
+        this.fullAddress = policyHolder.getAddress().getFullAddress();
+        this.zipCode = policyHolder.getAddress().getZipCode();
+        this.city = policyHolder.getAddress().getCity();
+        this.district = policyHolder.getAddress().getDistrict();
+        this.street = policyHolder.getAddress().getStreet();
+    }
 
     public PolicyHolderCreated(
             String policyHolderId,
@@ -33,6 +55,42 @@ public class PolicyHolderCreated extends DomainEvent {
         this.mobilePhone = mobilePhone;
         this.email = email;
         this.fullAddress = fullAddress;
+        this.zipCode = null;
+        this.city = null;
+        this.district = null;
+        this.street = null;
+    }
+
+    /**
+     * 從事件儲存重建（不產生新的事件 ID）
+     */
+    public PolicyHolderCreated(
+            String eventId,
+            LocalDateTime occurredOn,
+            String policyHolderId,
+            String nationalId,
+            String name,
+            String gender,
+            LocalDate birthDate,
+            String mobilePhone,
+            String email,
+            String fullAddress,
+            String zipCode,
+            String city,
+            String district,
+            String street) {
+        super(eventId, occurredOn, policyHolderId, "PolicyHolder");
+        this.nationalId = nationalId;
+        this.name = name;
+        this.gender = gender;
+        this.birthDate = birthDate;
+        this.mobilePhone = mobilePhone;
+        this.email = email;
+        this.fullAddress = fullAddress;
+        this.zipCode = zipCode;
+        this.city = city;
+        this.district = district;
+        this.street = street;
     }
 
     public String getNationalId() {
@@ -63,6 +121,22 @@ public class PolicyHolderCreated extends DomainEvent {
         return fullAddress;
     }
 
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
     @Override
     public String getEventType() {
         return "PolicyHolderCreated";
@@ -2,6 +2,8 @@ package com.insurance.policyholder.domain.event;
 
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 
+import java.time.LocalDateTime;
+
 /**
  * 保戶刪除領域事件
  * 當保戶被軟刪除（狀態改為 INACTIVE）時發布
@@ -12,11 +14,32 @@ public class PolicyHolderDeleted extends DomainEvent {
 
     private final String nationalId;
     private final String name;
+    private final Long version;
 
-    public PolicyHolderDeleted(PolicyHolder policyHolder) {
+    /**
+     * @param version 保戶儲存後的版本號
+     */
+    public PolicyHolderDeleted(PolicyHolder policyHolder, Long version) {
         super(policyHolder.getId().getValue(), AGGREGATE_TYPE);
         this.nationalId = policyHolder.getNationalId().getMasked();
         this.name = policyHolder.getPersonalInfo().getName();
+        this.version = version;
+    }
+
+    /**
+     * 從事件儲存重建（不產生新的事件 ID）
+     */
+    public PolicyHolderDeleted(
+            String eventId,
+            LocalDateTime occurredOn,
+            String policyHolderId,
+            String nationalId,
+            String name,
+            Long version) {
+        super(eventId, occurredOn, policyHolderId, AGGREGATE_TYPE);
+        this.nationalId = nationalId;
+        this.name = name;
+        this.version = version;
     }
 
     @Override
@@ -31,4 +54,11 @@ public class PolicyHolderDeleted extends DomainEvent {
     public String getName() {
         return name;
     }
+
+    /**
+     * 保戶儲存後的版本號（舊版事件為 null）
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
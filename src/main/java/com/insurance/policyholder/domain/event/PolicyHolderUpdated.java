@@ -2,6 +2,8 @@ package com.insurance.policyholder.domain.event;
 
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 
+import java.time.LocalDateTime;
+
 /**
  * 保戶更新領域事件
  * 當保戶聯絡資訊或地址被更新時發布
@@ -18,7 +20,10 @@ public class PolicyHolderUpdated extends DomainEvent {
     private final String street;
     private final Long version;
 
-    public PolicyHolderUpdated(PolicyHolder policyHolder) {
+    /**
+     * @param version 保戶儲存後的版本號
+     */
+    public PolicyHolderUpdated(PolicyHolder policyHolder, Long version) {
         super(policyHolder.getId().getValue(), AGGREGATE_TYPE);
         this.mobilePhone = policyHolder.getContactInfo().getMobilePhone();
         this.email = policyHolder.getContactInfo().getEmail();
@@ -26,7 +31,31 @@ public class PolicyHolderUpdated extends DomainEvent {
         this.city = policyHolder.getAddress().getCity();
         this.district = policyHolder.getAddress().getDistrict();
         this.street = policyHolder.getAddress().getStreet();
-        this.version = policyHolder.getVersion();
+        this.version = version;
+    }
+
+    /**
+     * 從事件儲存重建（不產生新的事件 ID）
+     */
+    public PolicyHolderUpdated(
+            String eventId,
+            LocalDateTime occurredOn,
+            String policyHolderId,
+            String mobilePhone,
+            String email,
+            String zipCode,
+            String city,
+            String district,
+            String street,
+            Long version) {
+        super(eventId, occurredOn, policyHolderId, AGGREGATE_TYPE);
+        this.mobilePhone = mobilePhone;
+        this.email = email;
+        this.zipCode = zipCode;
+        this.city = city;
+        this.district = district;
+        this.street = street;
+        this.version = version;
     }
 
     @Override
@@ -58,6 +87,9 @@ public class PolicyHolderUpdated extends DomainEvent {
         return street;
     }
 
+    /**
+     * 保戶儲存後的版本號（舊版事件為 null）
+     */
     public Long getVersion() {
         return version;
     }
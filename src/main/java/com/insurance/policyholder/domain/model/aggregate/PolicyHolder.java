@@ -1,13 +1,21 @@
 package com.insurance.policyholder.domain.model.aggregate;
 
 import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
 import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 保戶聚合根
@@ -24,6 +32,8 @@ public class PolicyHolder {
     private Address address;
     private PolicyHolderStatus status;
     private final List<Policy> policies;
+    // 有效保單摘要：第一次取用時由保單計算，之後隨新增與終止保單逐筆更新（null 表示尚未計算）
+    private PolicySummary policySummary;
     private Long version;
 
     // 領域事件集合（用於發布事件）
@@ -86,8 +96,7 @@ public class PolicyHolder {
                 0L
         );
 
-        // 發布領域事件 - 將在 Phase 3 T053 中實作 PolicyHolderCreated 事件
-        // policyHolder.registerEvent(new PolicyHolderCreated(policyHolder));
+        policyHolder.registerEvent(new PolicyHolderCreated(policyHolder));
 
         return policyHolder;
     }
@@ -116,6 +125,99 @@ public class PolicyHolder {
         );
     }
 
+    /**
+     * 從持久化重建未載入保單的保戶（不產生事件）
+     * 有效保單摘要取自持久化的摘要，而非由空的保單清單計算
+     */
+    public static PolicyHolder reconstitute(
+            PolicyHolderId id,
+            NationalId nationalId,
+            PersonalInfo personalInfo,
+            ContactInfo contactInfo,
+            Address address,
+            PolicyHolderStatus status,
+            Long version,
+            PolicySummary policySummary) {
+
+        PolicyHolder policyHolder = reconstitute(id, nationalId, personalInfo, contactInfo, address, status, version);
+        policyHolder.policySummary = Objects.requireNonNull(policySummary, "policySummary");
+        return policyHolder;
+    }
+
+    /**
+     * 從事件流重建保戶（不產生事件）
+     * 第一個事件必須是 PolicyHolderCreated
+     *
+     * @param history 依發生順序排列的事件
+     * @param version 持久化版本號（樂觀鎖仍以寫入端為準）
+     */
+    public static PolicyHolder fromHistory(List<DomainEvent> history, Long version) {
+        if (history == null || history.isEmpty()) {
+            throw new IllegalArgumentException("Event history cannot be empty");
+        }
+        if (!(history.get(0) instanceof PolicyHolderCreated created)) {
+            throw new IllegalArgumentException("Event history must start with PolicyHolderCreated");
+        }
+
+        PolicyHolder policyHolder = new PolicyHolder(
+                PolicyHolderId.of(created.getAggregateId()),
+                NationalId.of(created.getNationalId()),
+                PersonalInfo.of(created.getName(), Gender.valueOf(created.getGender()), created.getBirthDate()),
+                ContactInfo.of(created.getMobilePhone(), created.getEmail()),
+                Address.of(created.getZipCode(), created.getCity(), created.getDistrict(), created.getStreet()),
+                PolicyHolderStatus.ACTIVE,
+                version
+        );
+        policyHolder.replay(history.subList(1, history.size()));
+        return policyHolder;
+    }
+
+    /**
+     * 依序套用事件（不產生事件），用於快照之後的事件重播
+     */
+    public void replay(List<DomainEvent> events) {
+        events.forEach(this::apply);
+    }
+
+    /**
+     * 套用單一事件至目前狀態
+     */
+    public void apply(DomainEvent event) {
+        if (event instanceof PolicyHolderUpdated updated) {
+            apply(updated);
+        } else if (event instanceof PolicyAdded added) {
+            apply(added);
+        } else if (event instanceof PolicyHolderDeleted deleted) {
+            apply(deleted);
+        } else if (event instanceof PolicyHolderCreated) {
+            throw new IllegalStateException("PolicyHolderCreated can only be the first event");
+        } else {
+            throw new IllegalArgumentException("Unsupported event: " + event.getEventType());
+        }
+    }
+
+    private void apply(PolicyHolderUpdated event) {
+        this.contactInfo = ContactInfo.of(event.getMobilePhone(), event.getEmail());
+        this.address = Address.of(event.getZipCode(), event.getCity(), event.getDistrict(), event.getStreet());
+    }
+
+    private void apply(PolicyAdded event) {
+        attach(Policy.reconstitute(
+                PolicyId.of(event.getPolicyId()),
+                PolicyType.valueOf(event.getPolicyType()),
+                Money.of(event.getPremium()),
+                Money.of(event.getSumInsured()),
+                event.getStartDate(),
+                event.getEndDate(),
+                PolicyStatus.valueOf(event.getStatus()),
+                0L
+        ));
+    }
+
+    private void apply(PolicyHolderDeleted event) {
+        this.status = PolicyHolderStatus.INACTIVE;
+    }
+
     /**
      * 新增保單
      * 只有 ACTIVE 狀態的保戶可以新增保單
@@ -124,8 +226,8 @@ public class PolicyHolder {
         if (status != PolicyHolderStatus.ACTIVE) {
             throw new IllegalStateException("Cannot add policy to inactive policyholder");
         }
-        policies.add(policy);
-        // 發布領域事件 - 將在 Phase 7 T101 中實作 PolicyAdded 事件
+        attach(policy);
+        registerEvent(new PolicyAdded(id.getValue(), policy, savedVersion()));
     }
 
     /**
@@ -133,7 +235,28 @@ public class PolicyHolder {
      * 用於從資料庫讀取時的重建
      */
     public void addReconstitutedPolicy(Policy policy) {
+        attach(policy);
+    }
+
+    /**
+     * 終止保單
+     * 保單狀態須透過聚合根變更，有效保單摘要才會一併更新
+     */
+    public void terminatePolicy(PolicyId policyId) {
+        Policy policy = policies.stream()
+                .filter(candidate -> candidate.getId().equals(policyId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Policy not found: " + policyId.getValue()));
+        PolicySummary remaining = policySummary != null ? policySummary.remove(policy) : null;
+        policy.terminate();
+        policySummary = remaining;
+    }
+
+    private void attach(Policy policy) {
         policies.add(policy);
+        if (policySummary != null) {
+            policySummary = policySummary.add(policy);
+        }
     }
 
     /**
@@ -141,7 +264,7 @@ public class PolicyHolder {
      */
     public void updateContactInfo(ContactInfo contactInfo) {
         this.contactInfo = contactInfo;
-        // 發布領域事件 - 將在 Phase 5 T081 中實作 PolicyHolderUpdated 事件
+        registerUpdatedEvent();
     }
 
     /**
@@ -149,7 +272,7 @@ public class PolicyHolder {
      */
     public void updateAddress(Address address) {
         this.address = address;
-        // 發布領域事件 - 將在 Phase 5 T081 中實作 PolicyHolderUpdated 事件
+        registerUpdatedEvent();
     }
 
     /**
@@ -160,7 +283,7 @@ public class PolicyHolder {
             throw new IllegalStateException("PolicyHolder is already inactive");
         }
         this.status = PolicyHolderStatus.INACTIVE;
-        // 發布領域事件 - 將在 Phase 6 T090 中實作 PolicyHolderDeleted 事件
+        registerEvent(new PolicyHolderDeleted(this, savedVersion()));
     }
 
     /**
@@ -170,6 +293,27 @@ public class PolicyHolder {
         domainEvents.add(event);
     }
 
+    /**
+     * 註冊 PolicyHolderUpdated 事件
+     * 事件內容為更新後的完整狀態，同一次操作中的多次更新合併為一個事件
+     */
+    private void registerUpdatedEvent() {
+        domainEvents.removeIf(event -> event instanceof PolicyHolderUpdated);
+        registerEvent(new PolicyHolderUpdated(this, savedVersion()));
+    }
+
+    /**
+     * 本次異動儲存後的版本號，記錄於事件供讀取端使用：
+     * 新建的保戶儲存後為 0，已儲存的保戶每次儲存遞增 1
+     */
+    private Long savedVersion() {
+        if (version == null) {
+            return null;
+        }
+        boolean created = domainEvents.stream().anyMatch(PolicyHolderCreated.class::isInstance);
+        return created ? version : version + 1;
+    }
+
     /**
      * 取得並清除所有領域事件
      */
@@ -208,6 +352,16 @@ public class PolicyHolder {
         return Collections.unmodifiableList(policies);
     }
 
+    /**
+     * 有效保單的摘要（由目前載入的保單計算一次，之後逐筆更新）
+     */
+    public PolicySummary getPolicySummary() {
+        if (policySummary == null) {
+            policySummary = PolicySummary.of(policies);
+        }
+        return policySummary;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -0,0 +1,104 @@
+package com.insurance.policyholder.domain.model.valueobject;
+
+import java.util.Objects;
+
+/**
+ * 聯絡資訊與地址的變更值物件
+ * 只包含要寫入的欄位，未包含的欄位維持原值；地址為整體替換
+ */
+public final class ContactAddressChange {
+
+    private final String mobilePhone;
+    private final boolean emailChanged;
+    private final String email;
+    private final Address address;
+
+    private ContactAddressChange(String mobilePhone, boolean emailChanged, String email, Address address) {
+        this.mobilePhone = mobilePhone;
+        this.emailChanged = emailChanged;
+        this.email = email;
+        this.address = address;
+    }
+
+    /**
+     * 完整替換聯絡資訊與地址
+     */
+    public static ContactAddressChange replace(ContactInfo contactInfo, Address address) {
+        Objects.requireNonNull(contactInfo, "ContactInfo cannot be null");
+        Objects.requireNonNull(address, "Address cannot be null");
+        return new ContactAddressChange(contactInfo.getMobilePhone(), true, contactInfo.getEmail(), address);
+    }
+
+    /**
+     * 部分更新
+     * 參數為 null 表示不變更；email 為空白表示清除
+     */
+    public static ContactAddressChange partial(String mobilePhone, String email, Address address) {
+        if (mobilePhone == null && email == null && address == null) {
+            throw new IllegalArgumentException("At least one field must be updated");
+        }
+        if (mobilePhone != null) {
+            ContactInfo.validateMobilePhone(mobilePhone);
+        }
+        String normalizedEmail = null;
+        if (email != null) {
+            normalizedEmail = ContactInfo.normalizeEmail(email);
+            if (normalizedEmail != null) {
+                ContactInfo.validateEmail(normalizedEmail);
+            }
+        }
+        return new ContactAddressChange(mobilePhone, email != null, normalizedEmail, address);
+    }
+
+    public boolean hasMobilePhone() {
+        return mobilePhone != null;
+    }
+
+    public String getMobilePhone() {
+        return mobilePhone;
+    }
+
+    public boolean hasEmail() {
+        return emailChanged;
+    }
+
+    /**
+     * 變更後的 email（hasEmail 為 true 時有效，null 代表清除）
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean hasAddress() {
+        return address != null;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ContactAddressChange that = (ContactAddressChange) o;
+        return emailChanged == that.emailChanged &&
+                Objects.equals(mobilePhone, that.mobilePhone) &&
+                Objects.equals(email, that.email) &&
+                Objects.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mobilePhone, emailChanged, email, address);
+    }
+
+    @Override
+    public String toString() {
+        return "ContactAddressChange{" +
+                "mobilePhone='" + mobilePhone + '\'' +
+                (emailChanged ? ", email='" + email + '\'' : "") +
+                ", address=" + address +
+                '}';
+    }
+}
@@ -31,7 +31,7 @@ public final class ContactInfo {
         return new ContactInfo(mobilePhone, normalizedEmail);
     }
 
-    private static void validateMobilePhone(String mobilePhone) {
+    static void validateMobilePhone(String mobilePhone) {
         if (mobilePhone == null || mobilePhone.isBlank()) {
             throw new IllegalArgumentException("MobilePhone cannot be null or empty");
         }
@@ -41,14 +41,14 @@ public final class ContactInfo {
         }
     }
 
-    private static String normalizeEmail(String email) {
+    static String normalizeEmail(String email) {
         if (email == null || email.isBlank()) {
             return null;
         }
         return email.trim();
     }
 
-    private static void validateEmail(String email) {
+    static void validateEmail(String email) {
         if (!EMAIL_PATTERN.matcher(email).matches()) {
             throw new IllegalArgumentException("Invalid email format: " + email);
         }
@@ -1,6 +1,7 @@
 package com.insurance.policyholder.domain.model.valueobject;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Currency;
 import java.util.Objects;
 
@@ -65,6 +66,15 @@ public final class Money {
         return currency;
     }
 
+    /**
+     * 以幣別的最小單位表示的金額（新台幣為 1/100 元），超出最小單位的位數四捨五入
+     */
+    public long toMinorUnits() {
+        return amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
     /**
      * 加法
      */
@@ -0,0 +1,169 @@
+package com.insurance.policyholder.domain.model.valueobject;
+
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 保戶的有效保單摘要值物件
+ * 只計入 ACTIVE 的保單：有效保單數、各保單類型的有效保單數，以及保費與保額合計（以幣別的最小單位表示）
+ */
+public final class PolicySummary {
+
+    private static final PolicySummary EMPTY = new PolicySummary(0, new EnumMap<>(PolicyType.class), 0L, 0L);
+
+    private final int activePolicies;
+    private final Map<PolicyType, Integer> activePoliciesByType;
+    private final long totalPremiumMinor;
+    private final long totalSumInsuredMinor;
+
+    private PolicySummary(int activePolicies, Map<PolicyType, Integer> activePoliciesByType,
+                          long totalPremiumMinor, long totalSumInsuredMinor) {
+        this.activePolicies = activePolicies;
+        this.activePoliciesByType = Collections.unmodifiableMap(activePoliciesByType);
+        this.totalPremiumMinor = totalPremiumMinor;
+        this.totalSumInsuredMinor = totalSumInsuredMinor;
+    }
+
+    /**
+     * 沒有任何有效保單
+     */
+    public static PolicySummary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 彙總保單（非 ACTIVE 的保單不計入）
+     */
+    public static PolicySummary of(Collection<Policy> policies) {
+        EnumMap<PolicyType, Integer> byType = new EnumMap<>(PolicyType.class);
+        int activePolicies = 0;
+        long totalPremiumMinor = 0L;
+        long totalSumInsuredMinor = 0L;
+        for (Policy policy : policies) {
+            if (policy.isActive()) {
+                byType.merge(policy.getPolicyType(), 1, Integer::sum);
+                activePolicies++;
+                totalPremiumMinor = Math.addExact(totalPremiumMinor, policy.getPremium().toMinorUnits());
+                totalSumInsuredMinor = Math.addExact(totalSumInsuredMinor, policy.getSumInsured().toMinorUnits());
+            }
+        }
+        return activePolicies == 0 ? EMPTY
+                : new PolicySummary(activePolicies, byType, totalPremiumMinor, totalSumInsuredMinor);
+    }
+
+    /**
+     * 以已彙總的數值重建
+     */
+    public static PolicySummary reconstitute(Map<PolicyType, Integer> activePoliciesByType,
+                                             long totalPremiumMinor, long totalSumInsuredMinor) {
+        EnumMap<PolicyType, Integer> byType = new EnumMap<>(PolicyType.class);
+        int activePolicies = 0;
+        for (Map.Entry<PolicyType, Integer> entry : activePoliciesByType.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Policy count cannot be negative: " + entry);
+            }
+            if (entry.getValue() > 0) {
+                byType.put(entry.getKey(), entry.getValue());
+                activePolicies += entry.getValue();
+            }
+        }
+        return new PolicySummary(activePolicies, byType, totalPremiumMinor, totalSumInsuredMinor);
+    }
+
+    /**
+     * 加入一張保單後的摘要（保單非 ACTIVE 時不變）
+     */
+    public PolicySummary add(Policy policy) {
+        if (!policy.isActive()) {
+            return this;
+        }
+        EnumMap<PolicyType, Integer> byType = new EnumMap<>(PolicyType.class);
+        byType.putAll(activePoliciesByType);
+        byType.merge(policy.getPolicyType(), 1, Integer::sum);
+        return new PolicySummary(
+                activePolicies + 1,
+                byType,
+                Math.addExact(totalPremiumMinor, policy.getPremium().toMinorUnits()),
+                Math.addExact(totalSumInsuredMinor, policy.getSumInsured().toMinorUnits()));
+    }
+
+    /**
+     * 移除一張保單後的摘要（保單非 ACTIVE 時不變），須在保單狀態變更前呼叫
+     */
+    public PolicySummary remove(Policy policy) {
+        if (!policy.isActive()) {
+            return this;
+        }
+        int count = getActivePolicies(policy.getPolicyType());
+        if (count == 0) {
+            throw new IllegalStateException("Policy is not counted in summary: " + policy.getId());
+        }
+        EnumMap<PolicyType, Integer> byType = new EnumMap<>(PolicyType.class);
+        byType.putAll(activePoliciesByType);
+        if (count == 1) {
+            byType.remove(policy.getPolicyType());
+        } else {
+            byType.put(policy.getPolicyType(), count - 1);
+        }
+        return new PolicySummary(
+                activePolicies - 1,
+                byType,
+                Math.subtractExact(totalPremiumMinor, policy.getPremium().toMinorUnits()),
+                Math.subtractExact(totalSumInsuredMinor, policy.getSumInsured().toMinorUnits()));
+    }
+
+    public int getActivePolicies() {
+        return activePolicies;
+    }
+
+    /**
+     * 各保單類型的有效保單數（不含數量為 0 的類型）
+     */
+    public Map<PolicyType, Integer> getActivePoliciesByType() {
+        return activePoliciesByType;
+    }
+
+    public int getActivePolicies(PolicyType policyType) {
+        return activePoliciesByType.getOrDefault(policyType, 0);
+    }
+
+    public long getTotalPremiumMinor() {
+        return totalPremiumMinor;
+    }
+
+    public long getTotalSumInsuredMinor() {
+        return totalSumInsuredMinor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PolicySummary that = (PolicySummary) o;
+        return activePolicies == that.activePolicies &&
+                totalPremiumMinor == that.totalPremiumMinor &&
+                totalSumInsuredMinor == that.totalSumInsuredMinor &&
+                activePoliciesByType.equals(that.activePoliciesByType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(activePolicies, activePoliciesByType, totalPremiumMinor, totalSumInsuredMinor);
+    }
+
+    @Override
+    public String toString() {
+        return "PolicySummary{" +
+                "activePolicies=" + activePolicies +
+                ", activePoliciesByType=" + activePoliciesByType +
+                ", totalPremiumMinor=" + totalPremiumMinor +
+                ", totalSumInsuredMinor=" + totalSumInsuredMinor +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest;
+
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 由樂觀鎖版本號產生 strong ETag
+ * 回應內容只由保戶資料列（及保單資料列）決定，任一欄位變更都會遞增 @Version，因此版本號相同即內容相同
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 保戶：保戶版本號
+     */
+    static String ofPolicyHolder(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * 解析 If-Match 中的保戶版本號
+     * 只接受單一 strong ETag；未帶標頭或為 * 時回傳 null（不檢查版本）
+     *
+     * @throws IllegalArgumentException 格式不符時
+     */
+    static Long parsePolicyHolderVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match does not match any policy holder version: " + ifMatch);
+        }
+    }
+
+    /**
+     * 保單列表：保戶版本號加上所有 (保單編號, 版本號) 的摘要
+     */
+    static String ofPolicies(PolicyHolderVersionReadModel version) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Long> policy : version.getPolicyVersions().entrySet()) {
+                digest.update((policy.getKey() + ":" + policy.getValue() + ";").getBytes(StandardCharsets.UTF_8));
+            }
+            String policies = HexFormat.of().formatHex(digest.digest(), 0, 8);
+            return "\"" + version.getVersion() + "-" + policies + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
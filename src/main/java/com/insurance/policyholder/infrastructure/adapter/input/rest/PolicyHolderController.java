@@ -11,6 +11,7 @@ import com.insurance.policyholder.application.commandhandler.UpdatePolicyHolderC
 import com.insurance.policyholder.application.query.GetPolicyHolderByNationalIdQuery;
 import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
 import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderVersionQuery;
 import com.insurance.policyholder.application.query.GetPolicyQuery;
 import com.insurance.policyholder.application.query.SearchPolicyHoldersQuery;
 import com.insurance.policyholder.application.queryhandler.GetPolicyHolderPoliciesQueryHandler;
@@ -23,6 +24,7 @@ import com.insurance.policyholder.application.readmodel.PolicyReadModel;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.ApiResponse;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PageResponse;
@@ -31,14 +33,17 @@ import com.insurance.policyholder.infrastructure.adapter.input.rest.response.Pol
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 保戶 REST Controller
@@ -91,8 +96,11 @@ public class PolicyHolderController {
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "保戶建立成功"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "請求資料驗證失敗"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "身分證字號已存在")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "身分證字號已存在"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "冪等鍵已用於不同的請求")
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", required = false,
+            description = "冪等鍵：以相同的鍵重送時回放第一次的回應，不會重複建立")
     public ResponseEntity<ApiResponse<PolicyHolderResponse>> createPolicyHolder(
             @Valid @RequestBody CreatePolicyHolderRequest request) {
 
@@ -117,18 +125,30 @@ public class PolicyHolderController {
     @Operation(summary = "查詢保戶", description = "根據保戶編號查詢保戶詳細資料")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "查詢成功"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "保戶未變更（If-None-Match 相符）"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在")
     })
     public ResponseEntity<ApiResponse<PolicyHolderResponse>> getPolicyHolder(
-            @Parameter(description = "保戶編號") @PathVariable String id) {
+            @Parameter(description = "保戶編號") @PathVariable String id,
+            WebRequest webRequest) {
 
         log.info("Getting policy holder by ID: {}", id);
 
+        // 條件式請求先以版本號比對，未變更時不建立 Read Model
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            long version = getPolicyHolderQueryHandler.handleVersion(new GetPolicyHolderVersionQuery(id, false)).getVersion();
+            if (webRequest.checkNotModified(ETags.ofPolicyHolder(version))) {
+                return null;
+            }
+        }
+
         GetPolicyHolderQuery query = new GetPolicyHolderQuery(id);
         PolicyHolderReadModel readModel = getPolicyHolderQueryHandler.handle(query);
         PolicyHolderResponse response = mapper.toResponse(readModel);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPolicyHolder(readModel.getVersion()))
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -188,21 +208,60 @@ public class PolicyHolderController {
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "更新成功"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "請求資料驗證失敗"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "If-Match 版本號不符")
     })
     public ResponseEntity<ApiResponse<PolicyHolderResponse>> updatePolicyHolder(
             @Parameter(description = "保戶編號") @PathVariable String id,
+            @Parameter(description = "保戶的 ETag，指定時以版本號為條件更新") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdatePolicyHolderRequest request) {
 
         log.info("Updating policy holder: {}", id);
 
-        UpdatePolicyHolderCommand command = mapper.toUpdateCommand(id, request);
+        UpdatePolicyHolderCommand command = mapper.toUpdateCommand(id, request, ETags.parsePolicyHolderVersion(ifMatch));
         PolicyHolderReadModel readModel = updatePolicyHolderCommandHandler.handle(command);
         PolicyHolderResponse response = mapper.toResponse(readModel);
 
         log.info("Policy holder updated successfully: {}", id);
 
-        return ResponseEntity.ok(ApiResponse.success(response, "Policy holder updated successfully"));
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPolicyHolder(readModel.getVersion()))
+                .body(ApiResponse.success(response, "Policy holder updated successfully"));
+    }
+
+    /**
+     * 部分更新保戶
+     * PATCH /api/v1/policyholders/{id}
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "部分更新保戶", description = "只更新有提供的聯絡資訊或地址欄位，必須以 If-Match 帶入保戶的 ETag")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "更新成功"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "請求資料驗證失敗"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "If-Match 版本號不符"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "428", description = "缺少 If-Match")
+    })
+    public ResponseEntity<ApiResponse<PolicyHolderResponse>> patchPolicyHolder(
+            @Parameter(description = "保戶編號") @PathVariable String id,
+            @Parameter(description = "保戶的 ETag") @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+            @Valid @RequestBody PatchPolicyHolderRequest request) {
+
+        log.info("Patching policy holder: {}", id);
+
+        Long expectedVersion = ETags.parsePolicyHolderVersion(ifMatch);
+        if (expectedVersion == null) {
+            throw new IllegalArgumentException("PATCH requires If-Match with the policy holder ETag");
+        }
+        UpdatePolicyHolderCommand command = mapper.toPatchCommand(id, request, expectedVersion);
+        PolicyHolderReadModel readModel = updatePolicyHolderCommandHandler.handle(command);
+        PolicyHolderResponse response = mapper.toResponse(readModel);
+
+        log.info("Policy holder patched successfully: {}", id);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPolicyHolder(readModel.getVersion()))
+                .body(ApiResponse.success(response, "Policy holder updated successfully"));
     }
 
     /**
@@ -238,8 +297,11 @@ public class PolicyHolderController {
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "保單新增成功"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "請求資料驗證失敗或保戶狀態不允許"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "冪等鍵已用於不同的請求")
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", required = false,
+            description = "冪等鍵：以相同的鍵重送時回放第一次的回應，不會重複建立")
     public ResponseEntity<ApiResponse<PolicyResponse>> addPolicy(
             @Parameter(description = "保戶編號") @PathVariable String id,
             @Valid @RequestBody AddPolicyRequest request) {
@@ -262,25 +324,37 @@ public class PolicyHolderController {
      * GET /api/v1/policyholders/{id}/policies
      */
     @GetMapping("/{id}/policies")
-    @Operation(summary = "查詢保單列表", description = "查詢指定保戶的所有保單，支援保單類型與狀態篩選")
+    @Operation(summary = "查詢保單列表", description = "查詢指定保戶的所有保單，支援保單類型與狀態篩選，可選擇包含已封存的保單")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "查詢成功"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "保單列表未變更（If-None-Match 相符）"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "保戶不存在")
     })
     public ResponseEntity<ApiResponse<java.util.List<PolicyResponse>>> getPolicyHolderPolicies(
             @Parameter(description = "保戶編號") @PathVariable String id,
             @Parameter(description = "保單類型（LIFE, HEALTH, ACCIDENT, TRAVEL, PROPERTY, AUTO, SAFETY）") @RequestParam(required = false) String type,
-            @Parameter(description = "保單狀態（ACTIVE, EXPIRED, CANCELLED）") @RequestParam(required = false) String status) {
+            @Parameter(description = "保單狀態（ACTIVE, EXPIRED, CANCELLED）") @RequestParam(required = false) String status,
+            @Parameter(description = "是否包含已封存的保單") @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
+
+        log.info("Getting policies for policy holder: {}, type: {}, status: {}, includeArchived: {}",
+                id, type, status, includeArchived);
 
-        log.info("Getting policies for policy holder: {}, type: {}, status: {}", id, type, status);
+        // 版本號在載入保單之前查詢：之後若有並行變更，ETag 只會比內容舊，用戶端下次仍會取得新內容
+        String etag = ETags.ofPolicies(getPolicyHolderQueryHandler.handleVersion(new GetPolicyHolderVersionQuery(id, true)));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery(id, type, status);
+        GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery(id, type, status, includeArchived);
         java.util.List<PolicyReadModel> readModels = getPolicyHolderPoliciesQueryHandler.handle(query);
         java.util.List<PolicyResponse> responses = readModels.stream()
                 .map(mapper::toPolicyResponse)
                 .toList();
 
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(responses));
     }
 
     /**
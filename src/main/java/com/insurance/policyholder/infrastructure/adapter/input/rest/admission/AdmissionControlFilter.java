@@ -0,0 +1,136 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 保戶 API 的准入控制
+ *
+ * 讀取（GET/HEAD）與寫入請求各有獨立的 ConcurrencyLimit（bulkhead），
+ * 寫入塞滿資料庫連線時讀取仍有自己的配額。達到上限的請求立即回 503 並附 Retry-After，不排隊等待。
+ * 上限依請求延遲自動調整；回應 5xx 或拋出例外視為失敗並收縮上限
+ *
+ * - policyholder.admission.limit       目前的並行上限（依 bulkhead）
+ * - policyholder.admission.in.flight   目前的並行數（依 bulkhead）
+ * - policyholder.admission.rejected    被拒絕的請求數（依 bulkhead）
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    /**
+     * 請求所屬的 bulkhead
+     */
+    public enum Bulkhead {
+        READ, WRITE;
+
+        static Bulkhead of(HttpServletRequest request) {
+            String method = request.getMethod();
+            return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final ConcurrencyLimit readLimit;
+    private final ConcurrencyLimit writeLimit;
+    private final List<String> pathPatterns;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public AdmissionControlFilter(ConcurrencyLimit readLimit, ConcurrencyLimit writeLimit, List<String> pathPatterns,
+                                  Duration retryAfter, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.pathPatterns = List.copyOf(pathPatterns);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+        this.readRejected = register(Bulkhead.READ, readLimit, registry);
+        this.writeRejected = register(Bulkhead.WRITE, writeLimit, registry);
+    }
+
+    private static Counter register(Bulkhead bulkhead, ConcurrencyLimit limit, MeterRegistry registry) {
+        Gauge.builder("policyholder.admission.limit", limit, ConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("bulkhead", bulkhead.tag())
+                .register(registry);
+        Gauge.builder("policyholder.admission.in.flight", limit, ConcurrencyLimit::getInFlight)
+                .description("Requests currently admitted")
+                .tag("bulkhead", bulkhead.tag())
+                .register(registry);
+        return Counter.builder("policyholder.admission.rejected")
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("bulkhead", bulkhead.tag())
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = Bulkhead.of(request);
+        ConcurrencyLimit limit = bulkhead == Bulkhead.READ ? readLimit : writeLimit;
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            (bulkhead == Bulkhead.READ ? readRejected : writeRejected).increment();
+            log.debug("Rejected {} {}: {} limit {} reached", request.getMethod(), request.getRequestURI(),
+                    bulkhead.tag(), limit.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!completed || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                limit.onDropped();
+            } else {
+                limit.onSuccess(System.nanoTime() - start, inFlight);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), "SERVICE_OVERLOADED",
+                        "Too many concurrent requests, please retry later", request.getRequestURI()));
+    }
+}
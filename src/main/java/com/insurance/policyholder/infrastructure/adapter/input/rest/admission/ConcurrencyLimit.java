@@ -0,0 +1,135 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 依延遲自動調整的並行上限（gradient 演算法）
+ *
+ * 以指數移動平均追蹤長期延遲作為基準，每個成功的請求以 gradient = tolerance × 基準 / 本次延遲
+ * （限制在 0.5 ~ 1.0）縮放上限，再加上 √limit 的排隊餘裕後平滑套用：
+ * 延遲接近基準時上限緩慢成長，延遲拉長時上限依比例收縮。
+ * 失敗（5xx 或例外）以乘法遞減處理；並行數不到上限一半時不調整，避免閒置時上限無限成長。
+ * 短期延遲遠低於基準時（例如尖峰過後）讓基準逐步回落
+ *
+ * 取得許可不阻塞：達到上限立即回傳 -1
+ */
+public class ConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final double BASELINE_DRIFT = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double baselineAlpha;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double baselineNanos;
+
+    /**
+     * @param initialLimit   初始上限
+     * @param minLimit       上限的下限
+     * @param maxLimit       上限的上限
+     * @param tolerance      可容忍的延遲倍數（相對於基準）
+     * @param smoothing      每次調整套用新值的比例（0 ~ 1）
+     * @param baselineWindow 長期延遲基準的平均樣本數
+     */
+    public ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                            int baselineWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (tolerance < 1.0 || smoothing <= 0 || smoothing > 1 || baselineWindow < 1) {
+            throw new IllegalArgumentException("Invalid tolerance, smoothing or baseline window");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.baselineAlpha = 2.0 / (baselineWindow + 1);
+    }
+
+    /**
+     * 嘗試取得一個許可
+     *
+     * @return 成功時回傳目前的並行數（含本次），已達上限回傳 -1
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 請求成功完成，以延遲樣本調整上限並釋放許可
+     *
+     * @param rttNanos        請求的處理時間
+     * @param inFlightAtStart 取得許可時的並行數
+     */
+    public void onSuccess(long rttNanos, int inFlightAtStart) {
+        try {
+            update(Math.max(rttNanos, 1), inFlightAtStart);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 請求失敗，乘法遞減上限並釋放許可
+     */
+    public void onDropped() {
+        try {
+            synchronized (this) {
+                limit = Math.max(minLimit, limit * DROP_BACKOFF);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        if (baselineNanos == 0) {
+            baselineNanos = rttNanos;
+        } else {
+            baselineNanos += baselineAlpha * (rttNanos - baselineNanos);
+            if (baselineNanos > 2 * rttNanos) {
+                baselineNanos *= BASELINE_DRIFT;
+            }
+        }
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /**
+     * 目前的並行上限（取整數）
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 目前的長期延遲基準（毫秒）
+     */
+    public synchronized double getBaselineMillis() {
+        return baselineNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,218 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Idempotency-Key 處理
+ *
+ * 帶有 Idempotency-Key 標頭的 POST 請求（限設定的路徑）：
+ * - 第一次執行：照常處理，回應狀態碼小於 500 時保存回應
+ * - 重送：不經過 Controller 與命令處理器，直接回放保存的回應（加上 Idempotent-Replayed 標頭）
+ * - 同時到達的重複請求：等待第一個請求完成後回放，等待逾時回 409
+ * - 同一 key 搭配不同的請求內容：回 422
+ *
+ * 每個請求以 policyholder.idempotency.requests 依 outcome 計數
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final List<String> pathPatterns;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore store, List<String> pathPatterns, ObjectMapper objectMapper,
+                             MeterRegistry registry) {
+        this.store = store;
+        this.pathPatterns = List.copyOf(pathPatterns);
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            count("invalid", "none");
+            writeError(request, response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        IdempotencyStore.Outcome outcome = store.begin(key, fingerprint(request, cachedRequest.body));
+
+        if (outcome instanceof IdempotencyStore.Outcome.Execute execute) {
+            count("executed", "none");
+            execute(cachedRequest, response, filterChain, execute.execution());
+        } else if (outcome instanceof IdempotencyStore.Outcome.Replay replay) {
+            count("replayed", replay.source().name().toLowerCase());
+            log.debug("Replaying stored response for idempotency key {} ({})", key, replay.source());
+            writeStored(response, replay.response());
+        } else if (outcome instanceof IdempotencyStore.Outcome.Mismatch) {
+            count("mismatch", "none");
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key was already used for a different request");
+        } else {
+            count("in_progress", "none");
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_PROGRESS",
+                    "A request with the same Idempotency-Key is still being processed");
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyStore.Execution execution) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(execution, wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(execution);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeStored(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String error, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(status.value(), error, message, request.getRequestURI()));
+    }
+
+    private void count(String outcome, String source) {
+        registry.counter("policyholder.idempotency.requests", "outcome", outcome, "source", source).increment();
+    }
+
+    /**
+     * 請求指紋：方法、路徑與內容的 SHA-256
+     */
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 預先讀入整個請求內容，讓指紋計算與後續的 @RequestBody 解析都能讀取
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.IdempotencyRecordJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.IdempotencyRecordJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 儲存庫
+ *
+ * 先查本機快取（TTL 到期即失效），未命中再查 idempotency_records 資料表（重啟或多節點時）。
+ * 同一 key 同時只會有一個請求執行：後到的請求等待第一個請求完成後回放其回應，
+ * 第一個請求失敗（未保存回應）時由等待者之一重新執行
+ *
+ * 本機快取達上限時不再放入新項目（資料表仍可回放），過期項目由排程清除
+ */
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordJpaRepository repository;
+    private final Duration ttl;
+    private final int maxLocalEntries;
+    private final Duration waitTimeout;
+    private final Clock clock;
+    private final Map<String, StoredResponse> local = new ConcurrentHashMap<>();
+    private final Map<String, Execution> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordJpaRepository repository, Duration ttl, int maxLocalEntries,
+                            Duration waitTimeout, Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.maxLocalEntries = maxLocalEntries;
+        this.waitTimeout = waitTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * 取得 key 的執行權，或已保存的回應
+     */
+    public Outcome begin(String key, String fingerprint) {
+        boolean waited = false;
+        while (true) {
+            StoredResponse cached = lookupLocal(key);
+            if (cached != null) {
+                return replay(cached, fingerprint, waited ? Source.WAITED : Source.LOCAL);
+            }
+
+            Execution execution = new Execution(key, fingerprint);
+            Execution running = inFlight.putIfAbsent(key, execution);
+            if (running != null) {
+                if (!running.fingerprint.equals(fingerprint)) {
+                    return new Outcome.Mismatch();
+                }
+                StoredResponse result;
+                try {
+                    result = running.result.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    return new Outcome.InProgress();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new Outcome.InProgress();
+                } catch (ExecutionException e) {
+                    result = null;
+                }
+                if (result != null) {
+                    return replay(result, fingerprint, Source.WAITED);
+                }
+                // 第一個請求未保存回應，重新競爭執行權
+                waited = true;
+                continue;
+            }
+
+            Optional<StoredResponse> stored = lookupDatabase(key);
+            if (stored.isPresent()) {
+                cacheLocally(key, stored.get());
+                release(execution, stored.get());
+                return replay(stored.get(), fingerprint, Source.DATABASE);
+            }
+            return new Outcome.Execute(execution);
+        }
+    }
+
+    /**
+     * 保存回應並喚醒等待中的重複請求
+     */
+    public void complete(Execution execution, int status, String contentType, byte[] body) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        StoredResponse response = new StoredResponse(execution.fingerprint, status, contentType, body, now.plus(ttl));
+        try {
+            repository.save(new IdempotencyRecordJpaEntity(execution.key, execution.fingerprint, status,
+                    contentType, body, now, response.expiresAt()));
+        } catch (DataIntegrityViolationException e) {
+            // 其他節點已保存同一 key；本機仍以本次回應喚醒等待者
+            log.debug("Idempotency key {} already stored by another node", execution.key);
+        }
+        cacheLocally(execution.key, response);
+        release(execution, response);
+    }
+
+    /**
+     * 放棄執行權（請求失敗、回應不保存），等待者會重新競爭
+     */
+    public void abandon(Execution execution) {
+        release(execution, null);
+    }
+
+    /**
+     * 清除過期的本機項目與資料表記錄
+     */
+    @Scheduled(fixedDelayString = "${idempotency.eviction-interval:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        local.values().removeIf(response -> response.isExpired(now));
+        int deleted = repository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Evicted {} expired idempotency records", deleted);
+        }
+    }
+
+    int localSize() {
+        return local.size();
+    }
+
+    private StoredResponse lookupLocal(String key) {
+        StoredResponse cached = local.get(key);
+        if (cached != null && cached.isExpired(LocalDateTime.now(clock))) {
+            local.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    private Optional<StoredResponse> lookupDatabase(String key) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return repository.findById(key)
+                .map(record -> new StoredResponse(record.getRequestFingerprint(), record.getResponseStatus(),
+                        record.getContentType(), record.getResponseBody(), record.getExpiresAt()))
+                .filter(response -> !response.isExpired(now));
+    }
+
+    private void cacheLocally(String key, StoredResponse response) {
+        if (local.size() >= maxLocalEntries) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            local.values().removeIf(cached -> cached.isExpired(now));
+            if (local.size() >= maxLocalEntries) {
+                return;
+            }
+        }
+        local.put(key, response);
+    }
+
+    private void release(Execution execution, StoredResponse response) {
+        inFlight.remove(execution.key, execution);
+        execution.result.complete(response);
+    }
+
+    private static Outcome replay(StoredResponse response, String fingerprint, Source source) {
+        if (!response.fingerprint().equals(fingerprint)) {
+            return new Outcome.Mismatch();
+        }
+        return new Outcome.Replay(response, source);
+    }
+
+    /**
+     * 進行中的第一次執行
+     */
+    public static final class Execution {
+
+        private final String key;
+        private final String fingerprint;
+        // 第一個請求未保存回應時以 null 完成
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        private Execution(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * 回放的回應來源
+     */
+    public enum Source {
+        LOCAL, DATABASE, WAITED
+    }
+
+    /**
+     * begin 的結果
+     */
+    public sealed interface Outcome {
+
+        /**
+         * 取得執行權：執行請求後呼叫 complete 或 abandon
+         */
+        record Execute(Execution execution) implements Outcome {
+        }
+
+        /**
+         * 已有保存的回應
+         */
+        record Replay(StoredResponse response, Source source) implements Outcome {
+        }
+
+        /**
+         * 同一 key 搭配了不同的請求內容
+         */
+        record Mismatch() implements Outcome {
+        }
+
+        /**
+         * 等待第一個請求逾時
+         */
+        record InProgress() implements Outcome {
+        }
+    }
+}
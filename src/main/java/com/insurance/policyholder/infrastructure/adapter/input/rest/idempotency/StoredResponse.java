@@ -0,0 +1,17 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency;
+
+import java.time.LocalDateTime;
+
+/**
+ * 第一次執行時保存的回應
+ *
+ * @param fingerprint 請求指紋（方法、路徑與內容的 SHA-256），同一 key 搭配不同請求時拒絕回放
+ * @param expiresAt   過期時間，之後同一 key 視為新的請求
+ */
+public record StoredResponse(String fingerprint, int status, String contentType, byte[] body,
+                             LocalDateTime expiresAt) {
+
+    boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
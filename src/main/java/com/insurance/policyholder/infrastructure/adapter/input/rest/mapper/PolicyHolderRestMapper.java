@@ -5,13 +5,17 @@ import com.insurance.policyholder.application.command.CreatePolicyHolderCommand;
 import com.insurance.policyholder.application.command.UpdatePolicyHolderCommand;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
 import com.insurance.policyholder.application.readmodel.PolicyReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.AddressResponse;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderListItemResponse;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderResponse;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyResponse;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicySummaryResponse;
 import org.springframework.stereotype.Component;
 
 /**
@@ -53,6 +57,41 @@ public class PolicyHolderRestMapper {
         );
     }
 
+    /**
+     * 將更新保戶請求轉換為以版本號為條件的命令（expectedVersion 為 null 時不檢查版本）
+     */
+    public UpdatePolicyHolderCommand toUpdateCommand(String policyHolderId, UpdatePolicyHolderRequest request,
+                                                     Long expectedVersion) {
+        return new UpdatePolicyHolderCommand(
+                policyHolderId,
+                request.getMobilePhone(),
+                request.getEmail(),
+                request.getAddress().getZipCode(),
+                request.getAddress().getCity(),
+                request.getAddress().getDistrict(),
+                request.getAddress().getStreet(),
+                expectedVersion
+        );
+    }
+
+    /**
+     * 將部分更新保戶請求轉換為命令
+     */
+    public UpdatePolicyHolderCommand toPatchCommand(String policyHolderId, PatchPolicyHolderRequest request,
+                                                    long expectedVersion) {
+        AddressRequest address = request.getAddress();
+        return UpdatePolicyHolderCommand.patch(
+                policyHolderId,
+                request.getMobilePhone(),
+                request.getEmail(),
+                address == null ? null : address.getZipCode(),
+                address == null ? null : address.getCity(),
+                address == null ? null : address.getDistrict(),
+                address == null ? null : address.getStreet(),
+                expectedVersion
+        );
+    }
+
     /**
      * 將 ReadModel 轉換為回應
      */
@@ -89,7 +128,17 @@ public class PolicyHolderRestMapper {
                 readModel.getGender(),
                 readModel.getBirthDate(),
                 readModel.getMobilePhone(),
-                readModel.getStatus()
+                readModel.getStatus(),
+                toPolicySummaryResponse(readModel.getPolicySummary())
+        );
+    }
+
+    private PolicySummaryResponse toPolicySummaryResponse(PolicySummaryReadModel summary) {
+        return new PolicySummaryResponse(
+                summary.getActivePolicies(),
+                summary.getActivePoliciesByType(),
+                summary.getTotalPremiumMinor(),
+                summary.getTotalSumInsuredMinor()
         );
     }
 
@@ -0,0 +1,48 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * 部分更新保戶請求 DTO
+ * 只更新有提供的欄位；email 為空字串表示清除，地址須整組提供
+ */
+public class PatchPolicyHolderRequest {
+
+    @Pattern(regexp = "^09\\d{8}$", message = "Mobile phone must be a valid Taiwan mobile number (09XXXXXXXX)")
+    private String mobilePhone;
+
+    @Email(message = "Email must be a valid email address")
+    private String email;
+
+    @Valid
+    private AddressRequest address;
+
+    public PatchPolicyHolderRequest() {
+    }
+
+    public String getMobilePhone() {
+        return mobilePhone;
+    }
+
+    public void setMobilePhone(String mobilePhone) {
+        this.mobilePhone = mobilePhone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public AddressRequest getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressRequest address) {
+        this.address = address;
+    }
+}
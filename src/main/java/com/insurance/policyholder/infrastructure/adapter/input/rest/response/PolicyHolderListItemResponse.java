@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 /**
  * 保戶列表項目回應 DTO
+ * 含有效保單摘要（policySummary）
  */
 public class PolicyHolderListItemResponse {
 
@@ -14,6 +15,7 @@ public class PolicyHolderListItemResponse {
     private LocalDate birthDate;
     private String mobilePhone;
     private String status;
+    private PolicySummaryResponse policySummary;
 
     public PolicyHolderListItemResponse() {
     }
@@ -26,6 +28,18 @@ public class PolicyHolderListItemResponse {
             LocalDate birthDate,
             String mobilePhone,
             String status) {
+        this(id, maskedNationalId, name, gender, birthDate, mobilePhone, status, null);
+    }
+
+    public PolicyHolderListItemResponse(
+            String id,
+            String maskedNationalId,
+            String name,
+            String gender,
+            LocalDate birthDate,
+            String mobilePhone,
+            String status,
+            PolicySummaryResponse policySummary) {
         this.id = id;
         this.maskedNationalId = maskedNationalId;
         this.name = name;
@@ -33,6 +47,7 @@ public class PolicyHolderListItemResponse {
         this.birthDate = birthDate;
         this.mobilePhone = mobilePhone;
         this.status = status;
+        this.policySummary = policySummary;
     }
 
     public String getId() {
@@ -90,4 +105,12 @@ public class PolicyHolderListItemResponse {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public PolicySummaryResponse getPolicySummary() {
+        return policySummary;
+    }
+
+    public void setPolicySummary(PolicySummaryResponse policySummary) {
+        this.policySummary = policySummary;
+    }
 }
@@ -0,0 +1,61 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.response;
+
+import java.util.Map;
+
+/**
+ * 有效保單摘要回應 DTO
+ * 金額以幣別的最小單位表示（新台幣為 1/100 元）
+ */
+public class PolicySummaryResponse {
+
+    private int activePolicies;
+    private Map<String, Integer> activePoliciesByType;
+    private long totalPremiumMinor;
+    private long totalSumInsuredMinor;
+
+    public PolicySummaryResponse() {
+    }
+
+    public PolicySummaryResponse(
+            int activePolicies,
+            Map<String, Integer> activePoliciesByType,
+            long totalPremiumMinor,
+            long totalSumInsuredMinor) {
+        this.activePolicies = activePolicies;
+        this.activePoliciesByType = activePoliciesByType;
+        this.totalPremiumMinor = totalPremiumMinor;
+        this.totalSumInsuredMinor = totalSumInsuredMinor;
+    }
+
+    public int getActivePolicies() {
+        return activePolicies;
+    }
+
+    public void setActivePolicies(int activePolicies) {
+        this.activePolicies = activePolicies;
+    }
+
+    public Map<String, Integer> getActivePoliciesByType() {
+        return activePoliciesByType;
+    }
+
+    public void setActivePoliciesByType(Map<String, Integer> activePoliciesByType) {
+        this.activePoliciesByType = activePoliciesByType;
+    }
+
+    public long getTotalPremiumMinor() {
+        return totalPremiumMinor;
+    }
+
+    public void setTotalPremiumMinor(long totalPremiumMinor) {
+        this.totalPremiumMinor = totalPremiumMinor;
+    }
+
+    public long getTotalSumInsuredMinor() {
+        return totalSumInsuredMinor;
+    }
+
+    public void setTotalSumInsuredMinor(long totalSumInsuredMinor) {
+        this.totalSumInsuredMinor = totalSumInsuredMinor;
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.routing;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReplicaLagGuard;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 為每個請求設定 ReplicaLagGuard 的判定
+ *
+ * 用戶端以 clientHeader 標頭（未提供時以來源位址）識別；GET/HEAD/OPTIONS 以外的請求視為寫入
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReplicaLagGuard lagGuard;
+    private final String clientHeader;
+
+    public ReadYourWritesFilter(ReplicaLagGuard lagGuard, String clientHeader) {
+        this.lagGuard = lagGuard;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientKey = clientKey(request);
+        boolean write = isWrite(request.getMethod());
+        lagGuard.begin(clientKey, write);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            lagGuard.end(clientKey, write);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String header = request.getHeader(clientHeader);
+        return header == null || header.isBlank() ? "addr:" + request.getRemoteAddr() : "id:" + header;
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
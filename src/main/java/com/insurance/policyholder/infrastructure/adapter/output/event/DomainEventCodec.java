@@ -0,0 +1,168 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.infrastructure.adapter.output.event.upcast.EventUpcasterChain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 領域事件序列化器
+ * 負責領域事件與 JSON payload 之間的轉換，供各 Event Store 實作共用
+ *
+ * 領域事件不依賴 Jackson，反序列化所需的建構子對應透過 Mix-in 定義於此
+ *
+ * 有升級器的事件類型寫入時會在 payload 記錄目前版本，讀取舊版 payload 時經 EventUpcasterChain 升級後再反序列化
+ */
+public class DomainEventCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventCodec.class);
+
+    private final ObjectMapper objectMapper;
+    private final EventUpcasterChain upcasterChain;
+
+    public DomainEventCodec() {
+        this(EventUpcasterChain.defaults());
+    }
+
+    public DomainEventCodec(EventUpcasterChain upcasterChain) {
+        this.upcasterChain = upcasterChain;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.objectMapper.addMixIn(PolicyHolderCreated.class, PolicyHolderCreatedMixin.class);
+        this.objectMapper.addMixIn(PolicyHolderUpdated.class, PolicyHolderUpdatedMixin.class);
+        this.objectMapper.addMixIn(PolicyHolderDeleted.class, PolicyHolderDeletedMixin.class);
+        this.objectMapper.addMixIn(PolicyAdded.class, PolicyAddedMixin.class);
+    }
+
+    /**
+     * 序列化領域事件為 JSON
+     */
+    public String encode(DomainEvent event) {
+        try {
+            String eventType = event.getClass().getName();
+            if (!upcasterChain.hasUpcasters(eventType)) {
+                return objectMapper.writeValueAsString(event);
+            }
+            ObjectNode payload = objectMapper.valueToTree(event);
+            payload.put(EventUpcasterChain.SCHEMA_VERSION_FIELD, upcasterChain.currentVersion(eventType));
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize domain event", e);
+            throw new RuntimeException("Failed to serialize domain event", e);
+        }
+    }
+
+    /**
+     * 將 JSON payload 反序列化為領域事件
+     *
+     * @param eventType 事件類別完整名稱
+     * @param payload   JSON payload
+     */
+    public DomainEvent decode(String eventType, String payload) {
+        try {
+            Class<?> eventClass = Class.forName(eventType);
+            if (!upcasterChain.hasUpcasters(eventType)) {
+                return (DomainEvent) objectMapper.readValue(payload, eventClass);
+            }
+            JsonNode tree = objectMapper.readTree(payload);
+            if (!(tree instanceof ObjectNode node)) {
+                throw new IllegalArgumentException("Payload of " + eventType + " is not a JSON object");
+            }
+            return (DomainEvent) objectMapper.treeToValue(upcasterChain.upcast(eventType, node), eventClass);
+        } catch (ClassNotFoundException | JsonProcessingException | IllegalArgumentException e) {
+            log.error("Failed to deserialize domain event: {}", eventType, e);
+            throw new RuntimeException("Failed to deserialize domain event", e);
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class PolicyHolderCreatedMixin {
+        @JsonCreator
+        PolicyHolderCreatedMixin(
+                @JsonProperty("eventId") String eventId,
+                @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                @JsonProperty("aggregateId") String policyHolderId,
+                @JsonProperty("nationalId") String nationalId,
+                @JsonProperty("name") String name,
+                @JsonProperty("gender") String gender,
+                @JsonProperty("birthDate") LocalDate birthDate,
+                @JsonProperty("mobilePhone") String mobilePhone,
+                @JsonProperty("email") String email,
+                @JsonProperty("fullAddress") String fullAddress,
+                @JsonProperty("zipCode") String zipCode,
+                @JsonProperty("city") String city,
+                @JsonProperty("district") String district,
+                @JsonProperty("street") String street) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class PolicyHolderUpdatedMixin {
+        @JsonCreator
+        PolicyHolderUpdatedMixin(
+                @JsonProperty("eventId") String eventId,
+                @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                @JsonProperty("aggregateId") String policyHolderId,
+                @JsonProperty("mobilePhone") String mobilePhone,
+                @JsonProperty("email") String email,
+                @JsonProperty("zipCode") String zipCode,
+                @JsonProperty("city") String city,
+                @JsonProperty("district") String district,
+                @JsonProperty("street") String street,
+                @JsonProperty("version") Long version) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class PolicyHolderDeletedMixin {
+        @JsonCreator
+        PolicyHolderDeletedMixin(
+                @JsonProperty("eventId") String eventId,
+                @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                @JsonProperty("aggregateId") String policyHolderId,
+                @JsonProperty("nationalId") String nationalId,
+                @JsonProperty("name") String name,
+                @JsonProperty("version") Long version) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class PolicyAddedMixin {
+        @JsonCreator
+        PolicyAddedMixin(
+                @JsonProperty("eventId") String eventId,
+                @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                @JsonProperty("aggregateId") String policyHolderId,
+                @JsonProperty("policyId") String policyId,
+                @JsonProperty("policyType") String policyType,
+                @JsonProperty("premium") BigDecimal premium,
+                @JsonProperty("sumInsured") BigDecimal sumInsured,
+                @JsonProperty("startDate") LocalDate startDate,
+                @JsonProperty("endDate") LocalDate endDate,
+                @JsonProperty("status") String status,
+                @JsonProperty("version") Long version) {
+        }
+    }
+}
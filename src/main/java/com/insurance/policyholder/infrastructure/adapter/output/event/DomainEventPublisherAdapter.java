@@ -3,17 +3,24 @@ package com.insurance.policyholder.infrastructure.adapter.output.event;
 import com.insurance.policyholder.application.port.output.DomainEventPublisher;
 import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.infrastructure.diagnostics.EventDispatchEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
 /**
  * 領域事件發布器適配器
  * 實作 Application Layer 的 DomainEventPublisher Port
- * 使用 Spring ApplicationEventPublisher 發布事件
+ * 使用 Spring ApplicationEventPublisher 發布事件，每次發布會發出 JFR 事件（EventDispatchEvent）
+ *
+ * 事件立即以命令載入聚合根時的事件版本附加到 Event Store（與命令同一交易），載入後已有其他命令附加時拋出
+ * ConcurrencyConflictException；在交易中時延後到提交後才發布到 Spring Event Bus：
+ * 因衝突回滾並重試的命令不會讓監聽者收到重複事件
  */
 @Component
 public class DomainEventPublisherAdapter implements DomainEventPublisher {
@@ -31,34 +38,57 @@ public class DomainEventPublisherAdapter implements DomainEventPublisher {
     }
 
     @Override
-    public void publish(DomainEvent event) {
-        // 先儲存到 Event Store
-        eventStore.save(event);
+    public void publish(long expectedVersion, DomainEvent event) {
+        // 先附加到 Event Store
+        eventStore.append(event.getAggregateId(), expectedVersion, List.of(event));
 
         // 再發布到 Spring Event Bus
-        applicationEventPublisher.publishEvent(event);
+        dispatchAfterCommit(List.of(event));
         log.info("Published domain event: {} for aggregate: {}",
                 event.getClass().getSimpleName(),
                 event.getAggregateId());
     }
 
     @Override
-    public void publishAll(List<DomainEvent> events) {
+    public void publishAll(long expectedVersion, List<DomainEvent> events) {
         if (events == null || events.isEmpty()) {
             return;
         }
 
-        // 批次儲存到 Event Store
-        eventStore.saveAll(events);
+        // 批次附加到 Event Store
+        eventStore.append(events.get(0).getAggregateId(), expectedVersion, events);
 
         // 逐一發布到 Spring Event Bus
-        events.forEach(event -> {
-            applicationEventPublisher.publishEvent(event);
-            log.info("Published domain event: {} for aggregate: {}",
-                    event.getClass().getSimpleName(),
-                    event.getAggregateId());
-        });
+        dispatchAfterCommit(List.copyOf(events));
+        events.forEach(event -> log.info("Published domain event: {} for aggregate: {}",
+                event.getClass().getSimpleName(),
+                event.getAggregateId()));
 
         log.info("Published {} domain events", events.size());
     }
+
+    private void dispatchAfterCommit(List<DomainEvent> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::dispatch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(DomainEventPublisherAdapter.this::dispatch);
+            }
+        });
+    }
+
+    private void dispatch(DomainEvent event) {
+        EventDispatchEvent dispatch = new EventDispatchEvent();
+        dispatch.begin();
+        applicationEventPublisher.publishEvent(event);
+        dispatch.end();
+        if (dispatch.shouldCommit()) {
+            dispatch.eventType = event.getClass().getSimpleName();
+            dispatch.aggregateId = event.getAggregateId();
+            dispatch.commit();
+        }
+    }
 }
@@ -1,94 +1,289 @@
 package com.insurance.policyholder.infrastructure.adapter.output.event;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
 import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
 import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.ArchivedEvent;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.EventArchive;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.DomainEventJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventHeader;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
+import com.insurance.policyholder.infrastructure.diagnostics.EventSerializationEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * 事件儲存庫適配器
  * 實作 Application Layer 的 EventStore Port
+ *
+ * 預設的關聯式資料庫實作；啟用 event-log profile 時改由 MappedLogEventStoreAdapter 取代
+ *
+ * 已被保留工作移出 domain_events 的事件存放於 EventArchive，查詢時先讀封存再接上資料表，
+ * 並以事件 ID 去重（封存後刪除資料表前中斷時兩邊可能同時存在）
+ *
+ * 附加成功後在同一個交易中發布 EventsAppended，讓讀取模型的投影與事件一同提交
  */
 @Component
+@Profile("!event-log")
 @Transactional
 public class EventStoreAdapter implements EventStore {
 
     private static final Logger log = LoggerFactory.getLogger(EventStoreAdapter.class);
 
     private final DomainEventJpaRepository jpaRepository;
-    private final ObjectMapper objectMapper;
+    private final EventArchive archive;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final DomainEventCodec codec;
 
-    public EventStoreAdapter(DomainEventJpaRepository jpaRepository) {
+    public EventStoreAdapter(
+            DomainEventJpaRepository jpaRepository,
+            EventArchive archive,
+            ApplicationEventPublisher applicationEventPublisher) {
         this.jpaRepository = jpaRepository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.archive = archive;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.codec = new DomainEventCodec();
     }
 
+    /**
+     * 先比對目前序號，再由 (aggregate_id, sequence_number) 唯一鍵擋下並行寫入；
+     * 立即 flush 讓衝突在此處轉為 ConcurrencyConflictException，而非延後到交易提交
+     *
+     * expectedVersion 即為同一交易先前由 currentVersion 讀到的版本時不再查詢：
+     * 版本只會遞增，之後其他交易附加的事件必定佔用 expectedVersion + 1，由唯一鍵擋下
+     */
     @Override
-    public void save(DomainEvent event) {
-        DomainEventJpaEntity entity = toEntity(event);
-        jpaRepository.save(entity);
-        log.debug("Saved domain event: {} for aggregate: {}", event.getClass().getSimpleName(), event.getAggregateId());
+    public void append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        Map<String, Long> versionsRead = versionsReadInTransaction();
+        Long versionRead = versionsRead == null ? null : versionsRead.remove(aggregateId);
+        if (versionRead == null || versionRead != expectedVersion) {
+            long actualVersion = jpaRepository.findCurrentVersion(aggregateId);
+            if (actualVersion != expectedVersion) {
+                throw ConcurrencyConflictException.versionMismatch(aggregateId, expectedVersion, actualVersion);
+            }
+        }
+        EventSerializationEvent serialization = new EventSerializationEvent();
+        serialization.begin();
+        List<DomainEventJpaEntity> entities = new ArrayList<>(events.size());
+        long sequence = expectedVersion;
+        for (DomainEvent event : events) {
+            if (!event.getAggregateId().equals(aggregateId)) {
+                throw new IllegalArgumentException("Event " + event.getEventId() + " does not belong to aggregate " + aggregateId);
+            }
+            entities.add(toEntity(event, ++sequence));
+        }
+        serialization.end();
+        if (serialization.shouldCommit()) {
+            serialization.aggregateId = aggregateId;
+            serialization.eventCount = entities.size();
+            serialization.payloadChars = entities.stream().mapToLong(entity -> entity.getPayload().length()).sum();
+            serialization.commit();
+        }
+        try {
+            jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new ConcurrencyConflictException(aggregateId,
+                    "Concurrent append to aggregate " + aggregateId + " at version " + expectedVersion, e);
+        }
+        applicationEventPublisher.publishEvent(new EventsAppended(aggregateId, expectedVersion + 1, List.copyOf(events)));
+        log.debug("Saved {} domain event(s) for aggregate {} after version {}", events.size(), aggregateId, expectedVersion);
     }
 
     @Override
-    public void saveAll(List<DomainEvent> events) {
-        List<DomainEventJpaEntity> entities = events.stream()
-                .map(this::toEntity)
-                .collect(Collectors.toList());
-        jpaRepository.saveAll(entities);
-        log.debug("Saved {} domain events", events.size());
+    @Transactional(readOnly = true)
+    public long currentVersion(String aggregateId) {
+        // 整個事件序列都已封存時，版本取自保留工作記錄的高水位，不讀取封存檔
+        long version = jpaRepository.findCurrentVersion(aggregateId);
+        Map<String, Long> versionsRead = versionsReadInTransaction();
+        if (versionsRead != null) {
+            versionsRead.put(aggregateId, version);
+        }
+        return version;
+    }
+
+    /**
+     * 目前交易中由 currentVersion 讀到的版本（交易結束即丟棄）；不在交易中時回傳 null
+     * 附加後即移除該聚合根的項目，交易回滾不會留下未提交的版本
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> versionsReadInTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Long> versions = (Map<String, Long>) TransactionSynchronizationManager.getResource(this);
+        if (versions == null) {
+            Map<String, Long> bound = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EventStoreAdapter.this);
+                }
+            });
+            versions = bound;
+        }
+        return versions;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DomainEvent> findByAggregateId(String aggregateId) {
-        return jpaRepository.findByAggregateIdOrderByOccurredOnAsc(aggregateId)
-                .stream()
-                .map(this::toDomainEvent)
-                .collect(Collectors.toList());
+        List<ArchivedEvent> archived = archive.isEmpty() ? List.of() : archive.findByAggregateId(aggregateId);
+        return merge(archived, jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(aggregateId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DomainEvent> findByAggregateIdAfter(String aggregateId, String afterEventId) {
+        Optional<DomainEventJpaEntity> anchor = jpaRepository.findById(afterEventId)
+                .filter(entity -> entity.getAggregateId().equals(aggregateId));
+        if (anchor.isPresent()) {
+            // 封存的是每個聚合根的前段，錨點仍在資料表時之後的事件也都在資料表
+            return jpaRepository.findByAggregateIdAfter(aggregateId, anchor.get().getSequenceNumber())
+                    .stream()
+                    .map(this::toDomainEvent)
+                    .collect(Collectors.toList());
+        }
+
+        List<ArchivedEvent> archived = archive.isEmpty() ? List.of() : archive.findByAggregateId(aggregateId);
+        int anchorIndex = -1;
+        for (int i = 0; i < archived.size(); i++) {
+            if (archived.get(i).eventId().equals(afterEventId)) {
+                anchorIndex = i;
+                break;
+            }
+        }
+        if (anchorIndex < 0) {
+            throw new IllegalArgumentException("Event " + afterEventId + " not found for aggregate " + aggregateId);
+        }
+        return merge(archived.subList(anchorIndex + 1, archived.size()),
+                jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(aggregateId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoredEvent> findEnvelopesByAggregateId(String aggregateId) {
+        List<ArchivedEvent> archived = archive.isEmpty() ? List.of() : archive.findByAggregateId(aggregateId);
+        List<StoredEvent> envelopes = new ArrayList<>(archived.size());
+        Set<String> archivedIds = new HashSet<>();
+        for (ArchivedEvent event : archived) {
+            archivedIds.add(event.eventId());
+            envelopes.add(toStoredEvent(event));
+        }
+        PayloadBatch payloads = new PayloadBatch(aggregateId);
+        for (DomainEventHeader header : jpaRepository.findHeadersByAggregateId(aggregateId)) {
+            if (!archivedIds.contains(header.eventId())) {
+                envelopes.add(new StoredEvent(header.globalPosition(), header.sequenceNumber(), header.eventId(),
+                        header.aggregateId(), header.aggregateType(), header.eventType(), header.occurredOn(),
+                        () -> payloads.load(header.eventId())));
+            }
+        }
+        return envelopes;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DomainEvent> findByAggregateType(String aggregateType) {
-        return jpaRepository.findByAggregateTypeOrderByOccurredOnAsc(aggregateType)
-                .stream()
-                .map(this::toDomainEvent)
-                .collect(Collectors.toList());
+        List<DomainEvent> events = merge(scanArchive(event -> event.aggregateType().equals(aggregateType)),
+                jpaRepository.findByAggregateTypeOrderByOccurredOnAsc(aggregateType));
+        events.sort(Comparator.comparing(DomainEvent::getOccurredOn));
+        return events;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DomainEvent> findByEventType(String eventType) {
-        return jpaRepository.findByEventTypeOrderByOccurredOnAsc(eventType)
+        List<DomainEvent> events = merge(scanArchive(event -> event.eventType().equals(eventType)),
+                jpaRepository.findByEventTypeOrderByOccurredOnAsc(eventType));
+        events.sort(Comparator.comparing(DomainEvent::getOccurredOn));
+        return events;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoredEvent> readForward(long afterPosition, int limit) {
+        List<StoredEvent> hot = jpaRepository.findByGlobalPositionAfter(afterPosition, PageRequest.of(0, limit))
                 .stream()
-                .map(this::toDomainEvent)
+                .map(this::toStoredEvent)
                 .collect(Collectors.toList());
+        if (archive.isEmpty() || afterPosition >= archive.maxPosition()) {
+            return hot;
+        }
+
+        // 兩邊皆依位置排序，合併後取前 limit 筆
+        List<ArchivedEvent> cold = archive.readForward(afterPosition, limit);
+        List<StoredEvent> merged = new ArrayList<>(Math.min(limit, hot.size() + cold.size()));
+        int h = 0;
+        int c = 0;
+        long lastPosition = afterPosition;
+        while (merged.size() < limit && (h < hot.size() || c < cold.size())) {
+            boolean takeCold = h >= hot.size()
+                    || (c < cold.size() && cold.get(c).position() <= hot.get(h).getPosition());
+            StoredEvent next = takeCold ? toStoredEvent(cold.get(c++)) : hot.get(h++);
+            if (next.getPosition() > lastPosition) {
+                merged.add(next);
+                lastPosition = next.getPosition();
+            }
+        }
+        return merged;
     }
 
-    private DomainEventJpaEntity toEntity(DomainEvent event) {
-        String payload;
-        try {
-            payload = objectMapper.writeValueAsString(event);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize domain event", e);
-            throw new RuntimeException("Failed to serialize domain event", e);
+    @Override
+    @Transactional(readOnly = true)
+    public long headPosition() {
+        return Math.max(jpaRepository.findMaxGlobalPosition(), archive.maxPosition());
+    }
+
+    private List<ArchivedEvent> scanArchive(Predicate<ArchivedEvent> filter) {
+        return archive.isEmpty() ? List.of() : archive.scan(filter);
+    }
+
+    /**
+     * 封存事件在前、資料表事件在後，以事件 ID 去重
+     */
+    private List<DomainEvent> merge(List<ArchivedEvent> archived, List<DomainEventJpaEntity> entities) {
+        List<DomainEvent> events = new ArrayList<>(archived.size() + entities.size());
+        Set<String> archivedIds = new HashSet<>();
+        for (ArchivedEvent event : archived) {
+            archivedIds.add(event.eventId());
+            events.add(codec.decode(event.eventType(), event.payload()));
         }
+        for (DomainEventJpaEntity entity : entities) {
+            if (!archivedIds.contains(entity.getEventId())) {
+                events.add(toDomainEvent(entity));
+            }
+        }
+        return events;
+    }
+
+    private DomainEventJpaEntity toEntity(DomainEvent event, long sequenceNumber) {
+        String payload = codec.encode(event);
 
         return new DomainEventJpaEntity(
                 event.getEventId(),
                 event.getAggregateId(),
+                sequenceNumber,
                 event.getAggregateType(),
                 event.getClass().getName(),
                 payload,
@@ -96,13 +291,50 @@ public class EventStoreAdapter implements EventStore {
         );
     }
 
+    private StoredEvent toStoredEvent(ArchivedEvent event) {
+        return new StoredEvent(event.position(), event.sequence(), event.eventId(), event.aggregateId(),
+                event.aggregateType(), event.eventType(), event.occurredOn(), () -> codec.decode(event.eventType(), event.payload()));
+    }
+
+    private StoredEvent toStoredEvent(DomainEventJpaEntity entity) {
+        String eventType = entity.getEventType();
+        String payload = entity.getPayload();
+        return new StoredEvent(entity.getGlobalPosition(), entity.getSequenceNumber(), entity.getEventId(),
+                entity.getAggregateId(), entity.getAggregateType(), eventType, entity.getOccurredOn(),
+                () -> codec.decode(eventType, payload));
+    }
+
     private DomainEvent toDomainEvent(DomainEventJpaEntity entity) {
-        try {
-            Class<?> eventClass = Class.forName(entity.getEventType());
-            return (DomainEvent) objectMapper.readValue(entity.getPayload(), eventClass);
-        } catch (ClassNotFoundException | JsonProcessingException e) {
-            log.error("Failed to deserialize domain event: {}", entity.getEventType(), e);
-            throw new RuntimeException("Failed to deserialize domain event", e);
+        return codec.decode(entity.getEventType(), entity.getPayload());
+    }
+
+    /**
+     * 延遲載入標頭信封的 payload
+     * 同一次查詢的信封共用一批：第一次取用時以一次查詢讀出該聚合根在資料表中的所有事件，
+     * 避免逐一取用時每個事件各查詢一次
+     */
+    private final class PayloadBatch {
+
+        private final String aggregateId;
+        private Map<String, DomainEventJpaEntity> entities;
+
+        private PayloadBatch(String aggregateId) {
+            this.aggregateId = aggregateId;
+        }
+
+        synchronized DomainEvent load(String eventId) {
+            if (entities == null) {
+                entities = new HashMap<>();
+                for (DomainEventJpaEntity entity : jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(aggregateId)) {
+                    entities.put(entity.getEventId(), entity);
+                }
+            }
+            // 每個信封只解碼一次，解碼後即可釋放
+            DomainEventJpaEntity entity = entities.remove(eventId);
+            if (entity == null) {
+                throw new IllegalStateException("Event " + eventId + " no longer exists");
+            }
+            return toDomainEvent(entity);
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event;
+
+import com.insurance.policyholder.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 事件已附加至 Event Store 的通知
+ * 在 append 的交易中、flush 之後同步發布，監聽者的寫入與事件一同提交或回滾；
+ * 第 i 個事件（由 0 起算）的聚合根序號為 firstSequence + i
+ *
+ * @param aggregateId   聚合根 ID
+ * @param firstSequence 第一個事件的聚合根序號
+ * @param events        依序號排序的事件
+ */
+public record EventsAppended(String aggregateId, long firstSequence, List<DomainEvent> events) {
+}
@@ -0,0 +1,150 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event;
+
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.infrastructure.adapter.output.event.log.EventLog;
+import com.insurance.policyholder.infrastructure.adapter.output.event.log.LogRecord;
+import com.insurance.policyholder.infrastructure.diagnostics.EventSerializationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 以 memory-mapped 附加式日誌實作的事件儲存庫
+ * 實作 Application Layer 的 EventStore Port
+ *
+ * 透過 event-log profile 啟用（見 EventLogConfig），取代以 domain_events 資料表為基礎的 EventStoreAdapter。
+ * 事件依附加順序讀回；依聚合根查詢走聚合根索引，依類型查詢則只解碼標頭後篩選。
+ * 全域位置為 offset + 1（位置 0 代表尚無事件）；事件信封只解碼標頭，payload 於取用時才讀取。
+ * 聚合根序號即該聚合根在索引中的位置，條件式附加由日誌寫鎖保證原子性
+ *
+ * 注意：日誌寫入不參與資料庫交易；日誌檔的生命週期由 EventLog bean 管理
+ */
+public class MappedLogEventStoreAdapter implements EventStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedLogEventStoreAdapter.class);
+
+    private final EventLog eventLog;
+    private final DomainEventCodec codec;
+
+    public MappedLogEventStoreAdapter(EventLog eventLog) {
+        this.eventLog = eventLog;
+        this.codec = new DomainEventCodec();
+    }
+
+    @Override
+    public void append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+        EventSerializationEvent serialization = new EventSerializationEvent();
+        serialization.begin();
+        List<EventLog.PendingRecord> records = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            if (!event.getAggregateId().equals(aggregateId)) {
+                throw new IllegalArgumentException("Event " + event.getEventId() + " does not belong to aggregate " + aggregateId);
+            }
+            records.add(toPendingRecord(event));
+        }
+        serialization.end();
+        if (serialization.shouldCommit()) {
+            serialization.aggregateId = aggregateId;
+            serialization.eventCount = records.size();
+            serialization.payloadChars = records.stream().mapToLong(record -> record.payload().length()).sum();
+            serialization.commit();
+        }
+        if (!eventLog.appendIfCount(aggregateId, expectedVersion, records)) {
+            throw ConcurrencyConflictException.versionMismatch(aggregateId, expectedVersion, currentVersion(aggregateId));
+        }
+        log.debug("Appended {} domain event(s) for aggregate {} after version {}", events.size(), aggregateId, expectedVersion);
+    }
+
+    @Override
+    public long currentVersion(String aggregateId) {
+        return eventLog.aggregateCount(aggregateId);
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateId(String aggregateId) {
+        return eventLog.readAggregate(aggregateId)
+                .stream()
+                .map(this::toDomainEvent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateIdAfter(String aggregateId, String afterEventId) {
+        return eventLog.readAggregateAfter(aggregateId, afterEventId)
+                .stream()
+                .map(this::toDomainEvent)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<StoredEvent> findEnvelopesByAggregateId(String aggregateId) {
+        return eventLog.readAggregate(aggregateId, false)
+                .stream()
+                .map(header -> toStoredEvent(header, () -> toDomainEvent(eventLog.read(header.getOffset()))))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DomainEvent> findByAggregateType(String aggregateType) {
+        return scan(record -> record.getAggregateType().equals(aggregateType));
+    }
+
+    @Override
+    public List<DomainEvent> findByEventType(String eventType) {
+        return scan(record -> record.getEventType().equals(eventType));
+    }
+
+    @Override
+    public List<StoredEvent> readForward(long afterPosition, int limit) {
+        List<StoredEvent> events = new ArrayList<>(Math.min(limit, 1024));
+        eventLog.scan(afterPosition, true, limit, record ->
+                events.add(toStoredEvent(record, () -> toDomainEvent(record))));
+        return events;
+    }
+
+    @Override
+    public long headPosition() {
+        return eventLog.nextOffset();
+    }
+
+    private List<DomainEvent> scan(Predicate<LogRecord> headerFilter) {
+        List<Long> matches = new ArrayList<>();
+        eventLog.scan(0, false, record -> {
+            if (headerFilter.test(record)) {
+                matches.add(record.getOffset());
+            }
+        });
+        return matches.stream()
+                .map(eventLog::read)
+                .map(this::toDomainEvent)
+                .collect(Collectors.toList());
+    }
+
+    private EventLog.PendingRecord toPendingRecord(DomainEvent event) {
+        return new EventLog.PendingRecord(
+                event.getOccurredOn(),
+                event.getEventId(),
+                event.getAggregateId(),
+                event.getAggregateType(),
+                event.getClass().getName(),
+                codec.encode(event)
+        );
+    }
+
+    private StoredEvent toStoredEvent(LogRecord record, Supplier<DomainEvent> decoder) {
+        return new StoredEvent(record.getOffset() + 1, record.getEventId(), record.getAggregateId(),
+                record.getAggregateType(), record.getEventType(), record.getOccurredOn(), decoder);
+    }
+
+    private DomainEvent toDomainEvent(LogRecord record) {
+        return codec.decode(record.getEventType(), record.getPayload());
+    }
+}
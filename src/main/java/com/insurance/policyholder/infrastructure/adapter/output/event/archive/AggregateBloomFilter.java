@@ -0,0 +1,96 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * 聚合根 ID 的 Bloom filter
+ * 記錄在 manifest 中，讓依聚合根查詢時可略過不含該聚合根的封存檔（誤判率約 1%）
+ */
+final class AggregateBloomFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long[] bits;
+    private final int hashCount;
+
+    private AggregateBloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.hashCount = hashCount;
+    }
+
+    static AggregateBloomFilter of(Collection<String> aggregateIds) {
+        int expected = Math.max(1, aggregateIds.size());
+        long bitCount = Math.max(64, (long) Math.ceil(-expected * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+        AggregateBloomFilter filter = new AggregateBloomFilter(new long[(int) ((bitCount + 63) / 64)], hashCount);
+        aggregateIds.forEach(filter::put);
+        return filter;
+    }
+
+    /**
+     * 從 manifest 中的編碼還原（格式：hashCount:base64）
+     */
+    static AggregateBloomFilter decode(String encoded) {
+        int separator = encoded.indexOf(':');
+        byte[] bytes = Base64.getDecoder().decode(encoded.substring(separator + 1));
+        long[] bits = new long[bytes.length / Long.BYTES];
+        for (int i = 0; i < bits.length; i++) {
+            for (int b = 0; b < Long.BYTES; b++) {
+                bits[i] |= (bytes[i * Long.BYTES + b] & 0xFFL) << (b * 8);
+            }
+        }
+        return new AggregateBloomFilter(bits, Integer.parseInt(encoded.substring(0, separator)));
+    }
+
+    String encode() {
+        byte[] bytes = new byte[bits.length * Long.BYTES];
+        for (int i = 0; i < bits.length; i++) {
+            for (int b = 0; b < Long.BYTES; b++) {
+                bytes[i * Long.BYTES + b] = (byte) (bits[i] >>> (b * 8));
+            }
+        }
+        return hashCount + ":" + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private void put(String aggregateId) {
+        long bitCount = (long) bits.length * 64;
+        long hash = hash64(aggregateId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(String aggregateId) {
+        long bitCount = (long) bits.length * 64;
+        long hash = hash64(aggregateId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64 位元雜湊，再以 murmur3 finalizer 打散
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,40 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 封存目錄的 manifest（manifest.json）
+ *
+ * @param nextSequence 下一個封存檔的序號
+ * @param archives     目前有效的封存檔，依 fromPosition 排序
+ */
+public record ArchiveManifest(long nextSequence, List<Entry> archives) {
+
+    static ArchiveManifest empty() {
+        return new ArchiveManifest(1, List.of());
+    }
+
+    /**
+     * 單一封存檔的描述
+     *
+     * @param file            檔名（gzip 壓縮的 NDJSON）
+     * @param fromPosition    最小全域位置
+     * @param toPosition      最大全域位置
+     * @param minOccurredOn   最早的事件時間
+     * @param maxOccurredOn   最晚的事件時間
+     * @param eventCount      事件數
+     * @param aggregateFilter 聚合根 ID 的 Bloom filter
+     * @param createdAt       建立時間
+     */
+    public record Entry(
+            String file,
+            long fromPosition,
+            long toPosition,
+            LocalDateTime minOccurredOn,
+            LocalDateTime maxOccurredOn,
+            int eventCount,
+            String aggregateFilter,
+            LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import java.time.LocalDateTime;
+
+/**
+ * 封存檔中的一筆事件（保留 domain_events 的原始欄位、聚合根序號與全域位置）
+ */
+public record ArchivedEvent(
+        long position,
+        String eventId,
+        String aggregateId,
+        long sequence,
+        String aggregateType,
+        String eventType,
+        LocalDateTime occurredOn,
+        String payload) {
+}
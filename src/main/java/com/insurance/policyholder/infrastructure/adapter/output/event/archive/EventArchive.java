@@ -0,0 +1,334 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 事件封存庫
+ *
+ * 將自 domain_events 移出的舊事件寫成不可變的 gzip NDJSON 檔，並以 manifest.json 記錄每個檔案的
+ * 位置範圍、時間範圍與聚合根 Bloom filter。檔案先寫入暫存檔並 fsync，再以原子搬移發布；
+ * manifest 同樣以暫存檔加原子搬移替換，因此讀取端永遠看到一致的檔案集合。
+ *
+ * 同一聚合根在封存檔中的事件必定是其事件序列的前段（見 EventRetentionService），
+ * 查詢時先讀封存再接上資料表即可維持順序。
+ */
+public class EventArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchive.class);
+
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final int CACHED_ARCHIVES = 4;
+
+    private static final Comparator<ArchivedEvent> AGGREGATE_ORDER =
+            Comparator.comparingLong(ArchivedEvent::sequence).thenComparingLong(ArchivedEvent::position);
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<ArchivedEvent>> cache;
+    private final Map<String, AggregateBloomFilter> filters = new ConcurrentHashMap<>();
+    private final List<String> replacedFiles = new ArrayList<>();
+    private volatile ArchiveManifest manifest;
+
+    public EventArchive(Path directory) {
+        this.directory = directory;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.cache = new LinkedHashMap<>(CACHED_ARCHIVES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ArchivedEvent>> eldest) {
+                return size() > CACHED_ARCHIVES;
+            }
+        };
+        this.manifest = loadManifest();
+    }
+
+    private ArchiveManifest loadManifest() {
+        Path file = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(file)) {
+            return ArchiveManifest.empty();
+        }
+        try {
+            ArchiveManifest loaded = objectMapper.readValue(file.toFile(), ArchiveManifest.class);
+            log.info("Loaded event archive manifest with {} archive(s) from {}", loaded.archives().size(), directory);
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive manifest " + file, e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return manifest.archives().isEmpty();
+    }
+
+    public List<ArchiveManifest.Entry> entries() {
+        return manifest.archives();
+    }
+
+    /**
+     * 已封存事件中最大的全域位置（無封存時為 0）
+     */
+    public long maxPosition() {
+        return manifest.archives().stream()
+                .mapToLong(ArchiveManifest.Entry::toPosition)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * 寫入一個新的封存檔並更新 manifest
+     */
+    public synchronized ArchiveManifest.Entry write(List<ArchivedEvent> events) {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("Cannot archive an empty batch");
+        }
+        deleteReplacedFiles();
+        ArchiveManifest current = manifest;
+        ArchiveManifest.Entry entry = writeFile(String.format("events-%06d.ndjson.gz", current.nextSequence()), events);
+
+        List<ArchiveManifest.Entry> archives = new ArrayList<>(current.archives());
+        archives.add(entry);
+        archives.sort(Comparator.comparingLong(ArchiveManifest.Entry::fromPosition));
+        publish(new ArchiveManifest(current.nextSequence() + 1, List.copyOf(archives)));
+        log.info("Archived {} events at positions {}..{} into {}",
+                entry.eventCount(), entry.fromPosition(), entry.toPosition(), entry.file());
+        return entry;
+    }
+
+    /**
+     * 合併事件數少於 minEvents 的封存檔（依位置相鄰者合併，每個新檔至多 targetEvents 筆）
+     *
+     * @return 被合併掉的舊檔數
+     */
+    public synchronized int compact(int minEvents, int targetEvents) {
+        ArchiveManifest current = manifest;
+        List<ArchiveManifest.Entry> kept = new ArrayList<>();
+        List<List<ArchiveManifest.Entry>> groups = new ArrayList<>();
+        List<ArchiveManifest.Entry> group = new ArrayList<>();
+        int groupEvents = 0;
+        for (ArchiveManifest.Entry entry : current.archives()) {
+            if (entry.eventCount() >= minEvents) {
+                kept.add(entry);
+                continue;
+            }
+            if (!group.isEmpty() && groupEvents + entry.eventCount() > targetEvents) {
+                groups.add(group);
+                group = new ArrayList<>();
+                groupEvents = 0;
+            }
+            group.add(entry);
+            groupEvents += entry.eventCount();
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+
+        long sequence = current.nextSequence();
+        List<ArchiveManifest.Entry> replaced = new ArrayList<>();
+        for (List<ArchiveManifest.Entry> candidates : groups) {
+            if (candidates.size() < 2) {
+                kept.addAll(candidates);
+                continue;
+            }
+            List<ArchivedEvent> merged = candidates.stream()
+                    .flatMap(entry -> load(entry).stream())
+                    .collect(Collectors.toMap(ArchivedEvent::eventId, event -> event, (first, second) -> first,
+                            LinkedHashMap::new))
+                    .values().stream()
+                    .toList();
+            kept.add(writeFile(String.format("events-%06d.ndjson.gz", sequence++), merged));
+            replaced.addAll(candidates);
+        }
+        if (replaced.isEmpty()) {
+            return 0;
+        }
+
+        kept.sort(Comparator.comparingLong(ArchiveManifest.Entry::fromPosition));
+        publish(new ArchiveManifest(sequence, List.copyOf(kept)));
+        // 舊檔延後到下一次寫入或合併時才刪除，讓持有舊 manifest 的讀取仍能完成
+        deleteReplacedFiles();
+        replaced.forEach(entry -> replacedFiles.add(entry.file()));
+        log.info("Compacted {} small archive(s)", replaced.size());
+        return replaced.size();
+    }
+
+    private void deleteReplacedFiles() {
+        for (String file : replacedFiles) {
+            filters.remove(file);
+            synchronized (cache) {
+                cache.remove(file);
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(file));
+            } catch (IOException e) {
+                log.warn("Failed to delete compacted archive {}", file, e);
+            }
+        }
+        replacedFiles.clear();
+    }
+
+    /**
+     * 依聚合根查詢封存事件（依聚合根序號排序）
+     */
+    public List<ArchivedEvent> findByAggregateId(String aggregateId) {
+        return manifest.archives().stream()
+                .filter(entry -> filterOf(entry).mightContain(aggregateId))
+                .flatMap(entry -> load(entry).stream())
+                .filter(event -> event.aggregateId().equals(aggregateId))
+                .sorted(AGGREGATE_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 掃描所有封存檔（依全域位置排序）
+     */
+    public List<ArchivedEvent> scan(Predicate<ArchivedEvent> filter) {
+        return manifest.archives().stream()
+                .flatMap(entry -> load(entry).stream())
+                .filter(filter)
+                .sorted(Comparator.comparingLong(ArchivedEvent::position))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 依全域位置讀取 afterPosition 之後至多 limit 筆封存事件
+     */
+    public List<ArchivedEvent> readForward(long afterPosition, int limit) {
+        List<ArchivedEvent> collected = new ArrayList<>();
+        for (ArchiveManifest.Entry entry : manifest.archives()) {
+            if (entry.toPosition() <= afterPosition) {
+                continue;
+            }
+            if (collected.size() >= limit && entry.fromPosition() > collected.get(limit - 1).position()) {
+                // 後續檔案的位置都比已收集的第 limit 筆大
+                break;
+            }
+            for (ArchivedEvent event : load(entry)) {
+                if (event.position() > afterPosition) {
+                    collected.add(event);
+                }
+            }
+            collected.sort(Comparator.comparingLong(ArchivedEvent::position));
+            if (collected.size() > limit) {
+                collected.subList(limit, collected.size()).clear();
+            }
+        }
+        return collected;
+    }
+
+    private AggregateBloomFilter filterOf(ArchiveManifest.Entry entry) {
+        return filters.computeIfAbsent(entry.file(), file -> AggregateBloomFilter.decode(entry.aggregateFilter()));
+    }
+
+    private List<ArchivedEvent> load(ArchiveManifest.Entry entry) {
+        synchronized (cache) {
+            List<ArchivedEvent> cached = cache.get(entry.file());
+            if (cached != null) {
+                return cached;
+            }
+        }
+        List<ArchivedEvent> events = new ArrayList<>(entry.eventCount());
+        Path file = directory.resolve(entry.file());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                events.add(objectMapper.readValue(line, ArchivedEvent.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive " + file, e);
+        }
+        List<ArchivedEvent> loaded = List.copyOf(events);
+        synchronized (cache) {
+            cache.put(entry.file(), loaded);
+        }
+        return loaded;
+    }
+
+    private ArchiveManifest.Entry writeFile(String fileName, List<ArchivedEvent> events) {
+        List<ArchivedEvent> sorted = events.stream()
+                .sorted(Comparator.comparingLong(ArchivedEvent::position))
+                .toList();
+        Path target = directory.resolve(fileName);
+        Path temp = directory.resolve(fileName + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(temp);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(
+                         new GZIPOutputStream(out, 64 * 1024), StandardCharsets.UTF_8))) {
+                for (ArchivedEvent event : sorted) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.write('\n');
+                }
+            }
+            force(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            target.toFile().setReadOnly();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive " + target, e);
+        }
+
+        return new ArchiveManifest.Entry(
+                fileName,
+                sorted.get(0).position(),
+                sorted.get(sorted.size() - 1).position(),
+                sorted.stream().map(ArchivedEvent::occurredOn).min(Comparator.naturalOrder()).orElseThrow(),
+                sorted.stream().map(ArchivedEvent::occurredOn).max(Comparator.naturalOrder()).orElseThrow(),
+                sorted.size(),
+                AggregateBloomFilter.of(sorted.stream().map(ArchivedEvent::aggregateId).distinct().toList()).encode(),
+                LocalDateTime.now());
+    }
+
+    private void publish(ArchiveManifest updated) {
+        Path target = directory.resolve(MANIFEST_FILE);
+        Path temp = directory.resolve(MANIFEST_FILE + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.write(temp, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(updated));
+            force(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize archive manifest", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive manifest " + target, e);
+        }
+        this.manifest = updated;
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.DomainEventJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 事件保留與封存工作
+ *
+ * 定期將早於保留期限的事件自 domain_events 移入 EventArchive：
+ * 每批先寫出封存檔與 manifest，再於獨立交易中自資料表刪除，
+ * 中途中斷時最多留下重複資料（讀取端以事件 ID / 位置去重），不會遺失事件。
+ * 刪除的交易同時記錄每個聚合根封存到的最大序號（archived_event_versions），
+ * 讓事件已全部封存的聚合根在附加事件時不需讀取封存檔即可取得版本。
+ *
+ * requireSnapshot 為 true 時只封存位於聚合根快照錨點之前的事件；
+ * 兩種模式下封存的都是每個聚合根事件序列的前段。
+ */
+public class EventRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventRetentionService.class);
+
+    private final DomainEventJpaRepository jpaRepository;
+    private final EventArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final boolean requireSnapshot;
+    private final int eventsPerArchive;
+    private final int maxArchivesPerRun;
+    private final int compactionMinEvents;
+    private final Clock clock;
+
+    public EventRetentionService(
+            DomainEventJpaRepository jpaRepository,
+            EventArchive archive,
+            PlatformTransactionManager transactionManager,
+            Duration horizon,
+            boolean requireSnapshot,
+            int eventsPerArchive,
+            int maxArchivesPerRun,
+            int compactionMinEvents,
+            Clock clock) {
+        this.jpaRepository = jpaRepository;
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizon = horizon;
+        this.requireSnapshot = requireSnapshot;
+        this.eventsPerArchive = eventsPerArchive;
+        this.maxArchivesPerRun = maxArchivesPerRun;
+        this.compactionMinEvents = compactionMinEvents;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${eventstore.retention.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * 執行一次封存與合併
+     *
+     * @return 本次移出資料表的事件數
+     */
+    public int run() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(horizon);
+        int archived = 0;
+        for (int i = 0; i < maxArchivesPerRun; i++) {
+            List<DomainEventJpaEntity> batch = transactionTemplate.execute(status -> findArchivable(cutoff));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            archive.write(batch.stream().map(this::toArchivedEvent).collect(Collectors.toList()));
+            List<String> eventIds = batch.stream().map(DomainEventJpaEntity::getEventId).collect(Collectors.toList());
+            Map<String, Long> archivedVersions = batch.stream().collect(Collectors.toMap(
+                    DomainEventJpaEntity::getAggregateId, DomainEventJpaEntity::getSequenceNumber, Math::max));
+            transactionTemplate.executeWithoutResult(status -> {
+                archivedVersions.forEach(this::recordArchivedVersion);
+                jpaRepository.deleteAllByIdInBatch(eventIds);
+            });
+            archived += batch.size();
+            if (batch.size() < eventsPerArchive) {
+                break;
+            }
+        }
+        int compacted = archive.compact(compactionMinEvents, eventsPerArchive);
+        log.info("Event retention moved {} events older than {} to the archive ({} archive(s) compacted)",
+                archived, cutoff, compacted);
+        return archived;
+    }
+
+    private void recordArchivedVersion(String aggregateId, long sequenceNumber) {
+        if (jpaRepository.insertArchivedVersion(aggregateId, sequenceNumber) == 0) {
+            jpaRepository.raiseArchivedVersion(aggregateId, sequenceNumber);
+        }
+    }
+
+    private List<DomainEventJpaEntity> findArchivable(LocalDateTime cutoff) {
+        PageRequest page = PageRequest.of(0, eventsPerArchive);
+        return requireSnapshot
+                ? jpaRepository.findArchivableBehindSnapshot(cutoff, page)
+                : jpaRepository.findArchivable(cutoff, page);
+    }
+
+    private ArchivedEvent toArchivedEvent(DomainEventJpaEntity entity) {
+        return new ArchivedEvent(
+                entity.getGlobalPosition(),
+                entity.getEventId(),
+                entity.getAggregateId(),
+                entity.getSequenceNumber(),
+                entity.getAggregateType(),
+                entity.getEventType(),
+                entity.getOccurredOn(),
+                entity.getPayload());
+    }
+}
@@ -0,0 +1,191 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.log;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 聚合根索引檔
+ * 以附加方式記錄 (offset, 前一筆項目位置, aggregateId)，同一聚合根的項目在檔案中串成反向鏈結，
+ * 依聚合根查詢只需沿鏈結讀取該聚合根的項目
+ *
+ * 記憶體中每個聚合根只保留記錄數與最後一筆項目的位置，offset 清單留在檔案中，
+ * 記憶體用量與聚合根數成正比，不隨事件數成長
+ *
+ * 檔案格式：long offset + long 前一筆項目位置（-1 表示第一筆）+ short 長度 + aggregateId（UTF-8），重複排列
+ */
+final class AggregateIndex implements Closeable {
+
+    private static final int LINK_BYTES = Long.BYTES * 2;
+
+    private final FileChannel channel;
+    private final Map<String, Tail> tails = new HashMap<>();
+    private long fileSize;
+    private long maxIndexedOffset = -1;
+
+    private AggregateIndex(Path file) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 開啟索引檔並載入所有 offset 小於 logEndOffset 的項目
+     * 不完整的尾端項目、鏈結不一致與超出日誌範圍的項目會被截斷
+     */
+    static AggregateIndex open(Path file, long logEndOffset) throws IOException {
+        AggregateIndex index = new AggregateIndex(file);
+        index.load(logEndOffset);
+        return index;
+    }
+
+    private void load(long logEndOffset) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+        long validBytes = 0;
+        try {
+            while (true) {
+                long offset = in.readLong();
+                long previous = in.readLong();
+                int length = in.readShort();
+                if (length < 0 || offset >= logEndOffset || offset <= maxIndexedOffset) {
+                    break;
+                }
+                byte[] id = new byte[length];
+                in.readFully(id);
+                String aggregateId = new String(id, StandardCharsets.UTF_8);
+                Tail tail = tails.get(aggregateId);
+                if (previous != (tail == null ? -1 : tail.lastEntry)) {
+                    break;
+                }
+                link(aggregateId, validBytes, offset);
+                validBytes += LINK_BYTES + Short.BYTES + length;
+            }
+        } catch (EOFException e) {
+            // 不完整的尾端項目
+        }
+        channel.truncate(validBytes);
+        fileSize = validBytes;
+    }
+
+    /**
+     * 附加一批項目
+     * 整批以單次寫入完成；寫入失敗時截斷回寫入前的大小，記憶體中的狀態維持不變
+     */
+    void append(List<String> aggregateIds, List<Long> offsets) throws IOException {
+        List<byte[]> ids = new ArrayList<>(aggregateIds.size());
+        int bytes = 0;
+        for (String aggregateId : aggregateIds) {
+            byte[] id = aggregateId.getBytes(StandardCharsets.UTF_8);
+            if (id.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Aggregate ID too long: " + id.length + " bytes");
+            }
+            ids.add(id);
+            bytes += LINK_BYTES + Short.BYTES + id.length;
+        }
+
+        ByteBuffer entries = ByteBuffer.allocate(bytes);
+        Map<String, Long> lastEntries = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String aggregateId = aggregateIds.get(i);
+            Long previous = lastEntries.get(aggregateId);
+            if (previous == null) {
+                Tail tail = tails.get(aggregateId);
+                previous = tail == null ? -1 : tail.lastEntry;
+            }
+            lastEntries.put(aggregateId, fileSize + entries.position());
+            entries.putLong(offsets.get(i)).putLong(previous).putShort((short) ids.get(i).length).put(ids.get(i));
+        }
+        entries.flip();
+
+        long position = fileSize;
+        try {
+            while (entries.hasRemaining()) {
+                position += channel.write(entries, position);
+            }
+        } catch (IOException e) {
+            try {
+                channel.truncate(fileSize);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+
+        long entry = fileSize;
+        for (int i = 0; i < ids.size(); i++) {
+            link(aggregateIds.get(i), entry, offsets.get(i));
+            entry += LINK_BYTES + Short.BYTES + ids.get(i).length;
+        }
+        fileSize = position;
+    }
+
+    private void link(String aggregateId, long entry, long offset) {
+        Tail tail = tails.computeIfAbsent(aggregateId, key -> new Tail());
+        tail.count++;
+        tail.lastEntry = entry;
+        maxIndexedOffset = offset;
+    }
+
+    /**
+     * 聚合根的所有 offset（依附加順序），沿檔案中的鏈結由尾端往前讀取
+     */
+    List<Long> offsetsOf(String aggregateId) throws IOException {
+        Tail tail = tails.get(aggregateId);
+        if (tail == null) {
+            return Collections.emptyList();
+        }
+        Long[] offsets = new Long[tail.count];
+        ByteBuffer link = ByteBuffer.allocate(LINK_BYTES);
+        long entry = tail.lastEntry;
+        for (int i = tail.count - 1; i >= 0; i--) {
+            link.clear();
+            while (link.hasRemaining()) {
+                if (channel.read(link, entry + link.position()) < 0) {
+                    throw new EOFException("Aggregate index entry at " + entry + " is incomplete");
+                }
+            }
+            offsets[i] = link.getLong(0);
+            entry = link.getLong(Long.BYTES);
+        }
+        return List.of(offsets);
+    }
+
+    int countOf(String aggregateId) {
+        Tail tail = tails.get(aggregateId);
+        return tail == null ? 0 : tail.count;
+    }
+
+    long getMaxIndexedOffset() {
+        return maxIndexedOffset;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * 聚合根的記錄數與最後一筆項目在檔案中的位置
+     */
+    private static final class Tail {
+        private int count;
+        private long lastEntry;
+    }
+}
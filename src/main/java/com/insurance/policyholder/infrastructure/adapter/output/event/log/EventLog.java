@@ -0,0 +1,389 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.log;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 分段的附加式事件日誌
+ *
+ * 由多個固定大小的 LogSegment 組成，寫滿即滾動到新區段；
+ * 另維護一份跨區段的聚合根索引（aggregates-v2.idx）
+ *
+ * 寫入以寫鎖序列化，讀取可並行。一批記錄先全部編碼並檢查後才寫入，
+ * 寫入中途失敗時將區段與聚合根索引回復到寫入前的位置，整批不會只留下前段
+ */
+public class EventLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLog.class);
+
+    private static final String AGGREGATE_INDEX_FILE = "aggregates-v2.idx";
+
+    /**
+     * 舊格式的聚合根索引（記憶體中保存每個聚合根的所有 offset），開啟時刪除並由日誌重建
+     */
+    private static final String LEGACY_AGGREGATE_INDEX_FILE = "aggregates.idx";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int indexInterval;
+    private final boolean forceOnAppend;
+    private final TreeMap<Long, LogSegment> segments = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AggregateIndex aggregateIndex;
+    private LogSegment activeSegment;
+
+    /**
+     * @param directory     日誌目錄
+     * @param segmentBytes  每個區段的檔案大小
+     * @param indexInterval 稀疏索引間隔（每幾筆記錄建立一個索引點）
+     * @param forceOnAppend 每次附加後是否強制寫回磁碟
+     */
+    public EventLog(Path directory, int segmentBytes, int indexInterval, boolean forceOnAppend) {
+        if (segmentBytes <= LogRecord.FRAME_HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentBytes);
+        }
+        if (indexInterval < 1) {
+            throw new IllegalArgumentException("Index interval must be positive");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.indexInterval = indexInterval;
+        this.forceOnAppend = forceOnAppend;
+        try {
+            Files.createDirectories(directory);
+            openSegments();
+            if (Files.deleteIfExists(directory.resolve(LEGACY_AGGREGATE_INDEX_FILE))) {
+                log.info("Replacing legacy aggregate index in {}", directory);
+            }
+            this.aggregateIndex = AggregateIndex.open(directory.resolve(AGGREGATE_INDEX_FILE), nextOffset());
+            reindexAggregates();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event log at " + directory, e);
+        }
+        log.info("Opened event log at {} with {} segment(s), next offset {}", directory, segments.size(), nextOffset());
+    }
+
+    private void openSegments() throws IOException {
+        List<Long> baseOffsets;
+        try (Stream<Path> files = Files.list(directory)) {
+            baseOffsets = files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".log"))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - ".log".length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        long expectedBase = 0;
+        for (long baseOffset : baseOffsets) {
+            if (baseOffset != expectedBase) {
+                // 前一區段在復原時被截斷，之後的區段已不連續
+                log.warn("Discarding orphan segment {} (expected base offset {})", baseOffset, expectedBase);
+                Files.deleteIfExists(directory.resolve(LogSegment.fileName(baseOffset, ".log")));
+                Files.deleteIfExists(directory.resolve(LogSegment.fileName(baseOffset, ".idx")));
+                continue;
+            }
+            LogSegment segment = LogSegment.open(directory, baseOffset, segmentBytes, indexInterval);
+            segments.put(baseOffset, segment);
+            expectedBase = segment.getNextOffset();
+        }
+
+        if (segments.isEmpty()) {
+            segments.put(0L, LogSegment.open(directory, 0L, segmentBytes, indexInterval));
+        }
+        activeSegment = segments.lastEntry().getValue();
+    }
+
+    /**
+     * 補齊聚合根索引中缺少的尾端項目（寫入日誌後、寫入索引前中斷的情況）
+     */
+    private void reindexAggregates() throws IOException {
+        long from = aggregateIndex.getMaxIndexedOffset() + 1;
+        List<String> aggregateIds = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        forEachSegment(from, false, Long.MAX_VALUE, record -> {
+            aggregateIds.add(record.getAggregateId());
+            offsets.add(record.getOffset());
+        });
+        if (!offsets.isEmpty()) {
+            aggregateIndex.append(aggregateIds, offsets);
+            log.info("Rebuilt {} aggregate index entries", offsets.size());
+        }
+    }
+
+    /**
+     * 附加多筆記錄（同一批次在同一把寫鎖內完成）
+     *
+     * @return 每筆記錄被指派的 offset
+     */
+    public List<Long> append(List<PendingRecord> records) {
+        lock.writeLock().lock();
+        try {
+            return appendLocked(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to event log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 條件式附加：僅在聚合根目前的記錄數等於 expectedCount 時寫入
+     * 比對與寫入在同一把寫鎖內完成
+     *
+     * @return 記錄數不符時回傳 false，且不寫入任何記錄
+     */
+    public boolean appendIfCount(String aggregateId, long expectedCount, List<PendingRecord> records) {
+        lock.writeLock().lock();
+        try {
+            if (aggregateIndex.countOf(aggregateId) != expectedCount) {
+                return false;
+            }
+            appendLocked(records);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to event log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Long> appendLocked(List<PendingRecord> records) throws IOException {
+        // 先編碼並檢查整批，任何一筆不合法時不寫入任何記錄
+        long firstOffset = activeSegment.getNextOffset();
+        List<byte[]> frames = new ArrayList<>(records.size());
+        List<String> aggregateIds = new ArrayList<>(records.size());
+        List<Long> offsets = new ArrayList<>(records.size());
+        for (PendingRecord pending : records) {
+            long offset = firstOffset + offsets.size();
+            byte[] frame = pending.toRecord(offset).toFrame();
+            if (frame.length > segmentBytes) {
+                throw new IllegalArgumentException("Record of " + frame.length
+                        + " bytes exceeds segment size " + segmentBytes);
+            }
+            frames.add(frame);
+            aggregateIds.add(pending.aggregateId());
+            offsets.add(offset);
+        }
+
+        LogSegment startSegment = activeSegment;
+        int startPosition = startSegment.getWritePosition();
+        try {
+            for (int i = 0; i < frames.size(); i++) {
+                if (!activeSegment.append(frames.get(i), offsets.get(i))) {
+                    roll();
+                    activeSegment.append(frames.get(i), offsets.get(i));
+                }
+            }
+            aggregateIndex.append(aggregateIds, offsets);
+        } catch (IOException | RuntimeException e) {
+            rollBack(startSegment, startPosition, firstOffset, e);
+            throw e;
+        }
+        if (forceOnAppend) {
+            activeSegment.force();
+            aggregateIndex.force();
+        }
+        return offsets;
+    }
+
+    /**
+     * 將寫入中途失敗的批次回復到寫入前的位置：移除批次中滾動出的區段，並截斷起始區段
+     */
+    private void rollBack(LogSegment startSegment, int startPosition, long firstOffset, Exception failure) {
+        try {
+            for (LogSegment rolled : new ArrayList<>(segments.tailMap(startSegment.getBaseOffset(), false).values())) {
+                segments.remove(rolled.getBaseOffset());
+                rolled.delete();
+            }
+            startSegment.truncateTo(startPosition, firstOffset);
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+        activeSegment = startSegment;
+    }
+
+    /**
+     * 聚合根目前的記錄數
+     */
+    public int aggregateCount(String aggregateId) {
+        lock.readLock().lock();
+        try {
+            return aggregateIndex.countOf(aggregateId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        activeSegment.force();
+        long baseOffset = activeSegment.getNextOffset();
+        activeSegment = LogSegment.open(directory, baseOffset, segmentBytes, indexInterval);
+        segments.put(baseOffset, activeSegment);
+        log.debug("Rolled event log to new segment {}", baseOffset);
+    }
+
+    /**
+     * 讀取聚合根的所有記錄（依附加順序）
+     */
+    public List<LogRecord> readAggregate(String aggregateId) {
+        return readAggregate(aggregateId, true);
+    }
+
+    /**
+     * 讀取聚合根的所有記錄（依附加順序）
+     *
+     * @param decodePayload 為 false 時只解碼標頭
+     */
+    public List<LogRecord> readAggregate(String aggregateId, boolean decodePayload) {
+        lock.readLock().lock();
+        try {
+            List<Long> offsets = aggregateIndex.offsetsOf(aggregateId);
+            List<LogRecord> records = new ArrayList<>(offsets.size());
+            for (long offset : offsets) {
+                records.add(segments.floorEntry(offset).getValue().read(offset, decodePayload));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read aggregate index", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 讀取聚合根在指定事件之後的記錄（依附加順序）
+     * 由尾端往前只解碼標頭尋找該事件，讀取量與尾端長度成正比
+     *
+     * @throws IllegalArgumentException 該聚合根沒有指定的事件時
+     */
+    public List<LogRecord> readAggregateAfter(String aggregateId, String afterEventId) {
+        lock.readLock().lock();
+        try {
+            List<Long> offsets = aggregateIndex.offsetsOf(aggregateId);
+            int start = offsets.size();
+            while (start > 0) {
+                long offset = offsets.get(start - 1);
+                LogRecord header = segments.floorEntry(offset).getValue().read(offset, false);
+                if (header.getEventId().equals(afterEventId)) {
+                    break;
+                }
+                start--;
+            }
+            if (start == 0) {
+                throw new IllegalArgumentException("Event " + afterEventId + " not found for aggregate " + aggregateId);
+            }
+            List<LogRecord> records = new ArrayList<>(offsets.size() - start);
+            for (long offset : offsets.subList(start, offsets.size())) {
+                records.add(segments.floorEntry(offset).getValue().read(offset, true));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read aggregate index", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 讀取指定 offset 的記錄
+     */
+    public LogRecord read(long offset) {
+        lock.readLock().lock();
+        try {
+            Map.Entry<Long, LogSegment> entry = segments.floorEntry(offset);
+            if (entry == null || offset >= nextOffset()) {
+                throw new IllegalArgumentException("Offset out of range: " + offset);
+            }
+            return entry.getValue().read(offset, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 依序走訪 fromOffset 之後的記錄
+     *
+     * @param decodePayload 為 false 時只解碼標頭，適用於以事件類型或聚合根類型篩選的掃描
+     */
+    public void scan(long fromOffset, boolean decodePayload, Consumer<LogRecord> visitor) {
+        scan(fromOffset, decodePayload, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * 依序走訪 fromOffset 之後的記錄，至多 maxRecords 筆
+     */
+    public void scan(long fromOffset, boolean decodePayload, long maxRecords, Consumer<LogRecord> visitor) {
+        lock.readLock().lock();
+        try {
+            forEachSegment(fromOffset, decodePayload, maxRecords, visitor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void forEachSegment(long fromOffset, boolean decodePayload, long maxRecords, Consumer<LogRecord> visitor) {
+        Long startKey = segments.floorKey(fromOffset);
+        Map<Long, LogSegment> tail = startKey == null ? segments : segments.tailMap(startKey, true);
+        long remaining = maxRecords;
+        for (LogSegment segment : tail.values()) {
+            if (remaining <= 0) {
+                break;
+            }
+            remaining -= segment.forEach(fromOffset, decodePayload, remaining, visitor);
+        }
+    }
+
+    public long nextOffset() {
+        return activeSegment.getNextOffset();
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (LogSegment segment : segments.values()) {
+                segment.close();
+            }
+            aggregateIndex.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 待寫入的記錄（offset 於附加時指派）
+     */
+    public record PendingRecord(LocalDateTime occurredOn, String eventId, String aggregateId,
+                                String aggregateType, String eventType, String payload) {
+
+        LogRecord toRecord(long offset) {
+            return new LogRecord(offset, occurredOn, eventId, aggregateId, aggregateType, eventType, payload);
+        }
+    }
+}
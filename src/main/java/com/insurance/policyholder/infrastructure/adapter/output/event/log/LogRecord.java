@@ -0,0 +1,159 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * 事件日誌記錄
+ *
+ * 磁碟格式（Big Endian）：
+ * <pre>
+ * int    length        body 長度
+ * int    crc           body 的 CRC32C
+ * body:
+ *   long   offset      全域遞增位移
+ *   long   epochSecond occurredOn（UTC 秒）
+ *   int    nano        occurredOn（奈秒）
+ *   short+bytes        eventId / aggregateId / aggregateType / eventType
+ *   int+bytes          payload（UTF-8 JSON）
+ * </pre>
+ * length 為 0 代表區段尚未寫入的區域（預先配置的檔案內容為 0）
+ */
+public final class LogRecord {
+
+    public static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+
+    private final long offset;
+    private final LocalDateTime occurredOn;
+    private final String eventId;
+    private final String aggregateId;
+    private final String aggregateType;
+    private final String eventType;
+    private final String payload;
+
+    public LogRecord(long offset, LocalDateTime occurredOn, String eventId, String aggregateId,
+                     String aggregateType, String eventType, String payload) {
+        this.offset = offset;
+        this.occurredOn = occurredOn;
+        this.eventId = eventId;
+        this.aggregateId = aggregateId;
+        this.aggregateType = aggregateType;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    /**
+     * 編碼為完整的記錄框（含長度與 CRC）
+     */
+    public byte[] toFrame() {
+        byte[] eventIdBytes = eventId.getBytes(StandardCharsets.UTF_8);
+        byte[] aggregateIdBytes = aggregateId.getBytes(StandardCharsets.UTF_8);
+        byte[] aggregateTypeBytes = aggregateType.getBytes(StandardCharsets.UTF_8);
+        byte[] eventTypeBytes = eventType.getBytes(StandardCharsets.UTF_8);
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        int bodyLength = Long.BYTES * 2 + Integer.BYTES
+                + Short.BYTES * 4
+                + eventIdBytes.length + aggregateIdBytes.length + aggregateTypeBytes.length + eventTypeBytes.length
+                + Integer.BYTES + payloadBytes.length;
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + bodyLength);
+        frame.putInt(bodyLength);
+        frame.putInt(0); // CRC 佔位，body 寫完後回填
+        frame.putLong(offset);
+        frame.putLong(occurredOn.toEpochSecond(ZoneOffset.UTC));
+        frame.putInt(occurredOn.getNano());
+        putShortString(frame, eventIdBytes);
+        putShortString(frame, aggregateIdBytes);
+        putShortString(frame, aggregateTypeBytes);
+        putShortString(frame, eventTypeBytes);
+        frame.putInt(payloadBytes.length);
+        frame.put(payloadBytes);
+
+        byte[] bytes = frame.array();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, FRAME_HEADER_BYTES, bodyLength);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, (int) crc.getValue());
+        return bytes;
+    }
+
+    /**
+     * 從 body 解碼記錄
+     *
+     * @param body          僅包含 body 的 buffer（position 指向 body 起點）
+     * @param decodePayload 為 false 時略過 payload，只解碼標頭欄位
+     */
+    public static LogRecord fromBody(ByteBuffer body, boolean decodePayload) {
+        long offset = body.getLong();
+        long epochSecond = body.getLong();
+        int nano = body.getInt();
+        String eventId = getShortString(body);
+        String aggregateId = getShortString(body);
+        String aggregateType = getShortString(body);
+        String eventType = getShortString(body);
+        String payload = null;
+        if (decodePayload) {
+            byte[] payloadBytes = new byte[body.getInt()];
+            body.get(payloadBytes);
+            payload = new String(payloadBytes, StandardCharsets.UTF_8);
+        }
+        return new LogRecord(offset, LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC),
+                eventId, aggregateId, aggregateType, eventType, payload);
+    }
+
+    /**
+     * 驗證 body 的 CRC
+     */
+    static boolean checksumMatches(ByteBuffer buffer, int bodyPosition, int bodyLength, int expectedCrc) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer body = buffer.duplicate();
+        body.limit(bodyPosition + bodyLength).position(bodyPosition);
+        crc.update(body);
+        return (int) crc.getValue() == expectedCrc;
+    }
+
+    private static void putShortString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Header field too long: " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getShortString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
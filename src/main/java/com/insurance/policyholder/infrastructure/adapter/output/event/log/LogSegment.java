@@ -0,0 +1,318 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.log;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 事件日誌區段
+ * 預先配置固定大小的檔案並以 memory-mapped 方式寫入
+ *
+ * 每個區段附帶一份稀疏位移索引（.idx），每 indexInterval 筆記錄保存一組 (offset, position)，
+ * 讀取指定 offset 時先以二分搜尋找到最近的索引點，再向後掃描至多 indexInterval 筆
+ */
+final class LogSegment implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LogSegment.class);
+
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final long baseOffset;
+    private final Path logFile;
+    private final int capacity;
+    private final int indexInterval;
+    private final FileChannel logChannel;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer buffer;
+
+    private long[] indexOffsets = new long[16];
+    private int[] indexPositions = new int[16];
+    private int indexSize;
+    private int recordsSinceIndex;
+
+    private volatile int writePosition;
+    private volatile long nextOffset;
+
+    private LogSegment(Path directory, long baseOffset, int capacity, int indexInterval) throws IOException {
+        this.baseOffset = baseOffset;
+        this.capacity = capacity;
+        this.indexInterval = indexInterval;
+        this.logFile = directory.resolve(fileName(baseOffset, ".log"));
+        this.logChannel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(directory.resolve(fileName(baseOffset, ".idx")),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = logChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.nextOffset = baseOffset;
+    }
+
+    /**
+     * 開啟（或建立）區段並執行復原
+     */
+    static LogSegment open(Path directory, long baseOffset, int capacity, int indexInterval) throws IOException {
+        LogSegment segment = new LogSegment(directory, baseOffset, capacity, indexInterval);
+        segment.recover();
+        return segment;
+    }
+
+    static String fileName(long baseOffset, String suffix) {
+        return String.format("%020d%s", baseOffset, suffix);
+    }
+
+    /**
+     * 復原區段狀態
+     * 從最後一個有效的稀疏索引點開始向後掃描，遇到不完整或 CRC 不符的記錄即視為寫入中斷，
+     * 將其後的區域清為 0（截斷）
+     */
+    private void recover() throws IOException {
+        loadIndex();
+
+        int position = 0;
+        long expectedOffset = baseOffset;
+        boolean resumedFromIndex = false;
+        while (indexSize > 0) {
+            int candidate = indexPositions[indexSize - 1];
+            if (isValidFrame(candidate, indexOffsets[indexSize - 1])) {
+                position = candidate;
+                expectedOffset = indexOffsets[indexSize - 1];
+                resumedFromIndex = true;
+                break;
+            }
+            indexSize--;
+        }
+        indexChannel.truncate((long) indexSize * INDEX_ENTRY_BYTES);
+
+        recordsSinceIndex = 0;
+        boolean first = true;
+        while (position + LogRecord.FRAME_HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (!isValidFrame(position, expectedOffset)) {
+                truncateFrom(position);
+                break;
+            }
+            if (!(first && resumedFromIndex)) {
+                maybeIndex(expectedOffset, position);
+            } else {
+                recordsSinceIndex = (recordsSinceIndex + 1) % indexInterval;
+            }
+            first = false;
+            position += LogRecord.FRAME_HEADER_BYTES + length;
+            expectedOffset++;
+        }
+
+        this.writePosition = position;
+        this.nextOffset = expectedOffset;
+    }
+
+    private void loadIndex() throws IOException {
+        long size = indexChannel.size();
+        int entries = (int) (size / INDEX_ENTRY_BYTES);
+        ByteBuffer bytes = ByteBuffer.allocate(entries * INDEX_ENTRY_BYTES);
+        indexChannel.read(bytes, 0);
+        bytes.flip();
+        for (int i = 0; i < entries; i++) {
+            addIndexEntry(bytes.getLong(), bytes.getInt());
+        }
+    }
+
+    private boolean isValidFrame(int position, long expectedOffset) {
+        if (position < 0 || position + LogRecord.FRAME_HEADER_BYTES > capacity) {
+            return false;
+        }
+        int length = buffer.getInt(position);
+        int bodyPosition = position + LogRecord.FRAME_HEADER_BYTES;
+        if (length < Long.BYTES || bodyPosition + length > capacity) {
+            return false;
+        }
+        int crc = buffer.getInt(position + Integer.BYTES);
+        return LogRecord.checksumMatches(buffer, bodyPosition, length, crc)
+                && buffer.getLong(bodyPosition) == expectedOffset;
+    }
+
+    private void truncateFrom(int position) {
+        log.warn("Truncating torn write in segment {} at position {}", logFile.getFileName(), position);
+        zero(position, capacity);
+        buffer.force();
+    }
+
+    /**
+     * 捨棄 position 之後寫入的記錄（回復寫入中途失敗的批次）
+     *
+     * @param position 保留的寫入位置
+     * @param offset   position 處的下一個 offset
+     */
+    void truncateTo(int position, long offset) throws IOException {
+        log.warn("Rolling back segment {} to offset {}", logFile.getFileName(), offset);
+        zero(position, writePosition);
+        while (indexSize > 0 && indexOffsets[indexSize - 1] >= offset) {
+            indexSize--;
+        }
+        indexChannel.truncate((long) indexSize * INDEX_ENTRY_BYTES);
+        recordsSinceIndex = (int) ((offset - baseOffset) % indexInterval);
+        writePosition = position;
+        nextOffset = offset;
+    }
+
+    private void zero(int from, int to) {
+        byte[] zeros = new byte[8192];
+        ByteBuffer target = buffer.duplicate();
+        target.limit(to).position(from);
+        while (target.hasRemaining()) {
+            target.put(zeros, 0, Math.min(zeros.length, target.remaining()));
+        }
+    }
+
+    /**
+     * 附加一筆記錄框
+     * 先寫入 CRC 與 body，最後才寫入長度欄位，使中斷的寫入在復原時表現為未寫入或 CRC 不符
+     *
+     * @return 區段空間不足時回傳 false
+     */
+    boolean append(byte[] frame, long offset) throws IOException {
+        int position = writePosition;
+        if (position + frame.length > capacity) {
+            return false;
+        }
+        ByteBuffer target = buffer.duplicate();
+        target.position(position + Integer.BYTES);
+        target.put(frame, Integer.BYTES, frame.length - Integer.BYTES);
+        buffer.putInt(position, ByteBuffer.wrap(frame).getInt(0));
+
+        maybeIndex(offset, position);
+        writePosition = position + frame.length;
+        nextOffset = offset + 1;
+        return true;
+    }
+
+    private void maybeIndex(long offset, int position) throws IOException {
+        if (recordsSinceIndex == 0) {
+            addIndexEntry(offset, position);
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES).putLong(offset).putInt(position).flip();
+            indexChannel.write(entry, (long) (indexSize - 1) * INDEX_ENTRY_BYTES);
+        }
+        recordsSinceIndex = (recordsSinceIndex + 1) % indexInterval;
+    }
+
+    private void addIndexEntry(long offset, int position) {
+        if (indexSize == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+        }
+        indexOffsets[indexSize] = offset;
+        indexPositions[indexSize] = position;
+        indexSize++;
+    }
+
+    /**
+     * 讀取指定 offset 的記錄
+     */
+    LogRecord read(long offset, boolean decodePayload) {
+        if (offset < baseOffset || offset >= nextOffset) {
+            throw new IllegalArgumentException("Offset " + offset + " not in segment " + baseOffset);
+        }
+        int slot = Arrays.binarySearch(indexOffsets, 0, indexSize, offset);
+        if (slot < 0) {
+            slot = -slot - 2;
+        }
+        int position = indexPositions[slot];
+        long current = indexOffsets[slot];
+        while (current < offset) {
+            position += LogRecord.FRAME_HEADER_BYTES + buffer.getInt(position);
+            current++;
+        }
+        return readAt(position, decodePayload);
+    }
+
+    /**
+     * 依序走訪 fromOffset 之後的記錄，至多 maxRecords 筆
+     *
+     * @return 實際走訪的筆數
+     */
+    long forEach(long fromOffset, boolean decodePayload, long maxRecords, Consumer<LogRecord> visitor) {
+        if (fromOffset >= nextOffset || maxRecords <= 0) {
+            return 0;
+        }
+        long start = Math.max(fromOffset, baseOffset);
+        int slot = Arrays.binarySearch(indexOffsets, 0, indexSize, start);
+        if (slot < 0) {
+            slot = -slot - 2;
+        }
+        int position = indexPositions[slot];
+        long current = indexOffsets[slot];
+        int end = writePosition;
+        long visited = 0;
+        while (position < end && visited < maxRecords) {
+            int length = buffer.getInt(position);
+            if (current >= start) {
+                visitor.accept(readAt(position, decodePayload));
+                visited++;
+            }
+            position += LogRecord.FRAME_HEADER_BYTES + length;
+            current++;
+        }
+        return visited;
+    }
+
+    private LogRecord readAt(int position, boolean decodePayload) {
+        int length = buffer.getInt(position);
+        ByteBuffer body = buffer.duplicate();
+        body.limit(position + LogRecord.FRAME_HEADER_BYTES + length)
+                .position(position + LogRecord.FRAME_HEADER_BYTES);
+        return LogRecord.fromBody(body, decodePayload);
+    }
+
+    void force() throws IOException {
+        buffer.force();
+        indexChannel.force(false);
+    }
+
+    long getBaseOffset() {
+        return baseOffset;
+    }
+
+    long getNextOffset() {
+        return nextOffset;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    Path getLogFile() {
+        return logFile;
+    }
+
+    /**
+     * 關閉並刪除區段檔案（移除回復中的批次滾動出的區段）
+     */
+    void delete() throws IOException {
+        indexChannel.close();
+        logChannel.close();
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(logFile.resolveSibling(fileName(baseOffset, ".idx")));
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        indexChannel.close();
+        logChannel.close();
+    }
+}
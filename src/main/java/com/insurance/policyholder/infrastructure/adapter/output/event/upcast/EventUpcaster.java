@@ -0,0 +1,25 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.upcast;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 事件 payload 升級器
+ * 將某事件類型第 fromVersion 版的 payload 轉換為第 fromVersion + 1 版，讀取時套用，不改寫已儲存的資料
+ */
+public interface EventUpcaster {
+
+    /**
+     * 事件類別完整名稱
+     */
+    String eventType();
+
+    /**
+     * 輸入 payload 的版本
+     */
+    int fromVersion();
+
+    /**
+     * 轉換 payload（可直接修改傳入的節點）
+     */
+    ObjectNode upcast(ObjectNode payload);
+}
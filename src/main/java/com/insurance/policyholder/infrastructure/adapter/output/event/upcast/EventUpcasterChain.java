@@ -0,0 +1,82 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.upcast;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 事件升級鏈
+ *
+ * 每個事件類型的升級器必須從第 1 版起連續排列；目前版本 = 升級器數 + 1。
+ * payload 以 SCHEMA_VERSION_FIELD 記錄寫入時的版本，缺少時視為第 1 版。
+ * 沒有升級器的事件類型不需要處理，解碼時可直接反序列化。
+ */
+public final class EventUpcasterChain {
+
+    public static final String SCHEMA_VERSION_FIELD = "_schemaVersion";
+
+    private final Map<String, List<EventUpcaster>> upcastersByType = new HashMap<>();
+
+    public EventUpcasterChain(List<EventUpcaster> upcasters) {
+        Map<String, List<EventUpcaster>> grouped = new HashMap<>();
+        for (EventUpcaster upcaster : upcasters) {
+            grouped.computeIfAbsent(upcaster.eventType(), key -> new ArrayList<>()).add(upcaster);
+        }
+        grouped.forEach((eventType, list) -> {
+            list.sort(Comparator.comparingInt(EventUpcaster::fromVersion));
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i).fromVersion() != i + 1) {
+                    throw new IllegalArgumentException("Upcasters for " + eventType
+                            + " must start at version 1 and be contiguous");
+                }
+            }
+            upcastersByType.put(eventType, List.copyOf(list));
+        });
+    }
+
+    /**
+     * 目前專案內建的升級鏈
+     */
+    public static EventUpcasterChain defaults() {
+        return new EventUpcasterChain(List.of(
+                new PolicyHolderCreatedAddressUpcaster(),
+                new PolicyHolderUpdatedVersionUpcaster()));
+    }
+
+    public boolean hasUpcasters(String eventType) {
+        return upcastersByType.containsKey(eventType);
+    }
+
+    /**
+     * 事件類型的目前版本
+     */
+    public int currentVersion(String eventType) {
+        return upcastersByType.getOrDefault(eventType, List.of()).size() + 1;
+    }
+
+    /**
+     * 將 payload 升級至目前版本
+     *
+     * @throws IllegalArgumentException payload 版本比目前版本新時
+     */
+    public ObjectNode upcast(String eventType, ObjectNode payload) {
+        List<EventUpcaster> upcasters = upcastersByType.getOrDefault(eventType, List.of());
+        JsonNode versionNode = payload.get(SCHEMA_VERSION_FIELD);
+        int version = versionNode == null ? 1 : versionNode.asInt(1);
+        if (version > upcasters.size() + 1) {
+            throw new IllegalArgumentException("Payload version " + version + " of " + eventType
+                    + " is newer than supported version " + (upcasters.size() + 1));
+        }
+        ObjectNode current = payload;
+        for (int i = version - 1; i < upcasters.size(); i++) {
+            current = upcasters.get(i).upcast(current);
+        }
+        current.put(SCHEMA_VERSION_FIELD, upcasters.size() + 1);
+        return current;
+    }
+}
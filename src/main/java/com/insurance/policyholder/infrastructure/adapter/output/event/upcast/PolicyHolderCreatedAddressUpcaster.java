@@ -0,0 +1,54 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.upcast;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PolicyHolderCreated v1 → v2
+ *
+ * v1 只記錄 fullAddress（格式為「郵遞區號 縣市區里街道」）；v2 另外記錄 zipCode、city、district、street，
+ * 供事件重播重建地址。此升級器由 fullAddress 拆出各欄位；已含各欄位的 payload 不變。
+ * 無法辨識縣市與鄉鎮區時，各欄位維持空值。
+ */
+public class PolicyHolderCreatedAddressUpcaster implements EventUpcaster {
+
+    private static final Pattern FULL_ADDRESS =
+            Pattern.compile("^(\\S+)\\s+(.+?[市縣])(.+?[區鄉鎮市])(.+)$");
+
+    @Override
+    public String eventType() {
+        return PolicyHolderCreated.class.getName();
+    }
+
+    @Override
+    public int fromVersion() {
+        return 1;
+    }
+
+    @Override
+    public ObjectNode upcast(ObjectNode payload) {
+        if (hasText(payload.get("zipCode"))) {
+            return payload;
+        }
+        JsonNode fullAddress = payload.get("fullAddress");
+        if (!hasText(fullAddress)) {
+            return payload;
+        }
+        Matcher matcher = FULL_ADDRESS.matcher(fullAddress.asText());
+        if (matcher.matches()) {
+            payload.put("zipCode", matcher.group(1));
+            payload.put("city", matcher.group(2));
+            payload.put("district", matcher.group(3));
+            payload.put("street", matcher.group(4));
+        }
+        return payload;
+    }
+
+    private static boolean hasText(JsonNode node) {
+        return node != null && !node.isNull() && !node.asText().isBlank();
+    }
+}
@@ -0,0 +1,29 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.upcast;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+
+/**
+ * PolicyHolderUpdated v1 → v2
+ *
+ * v1 的 version 視產生路徑而定，可能是儲存前或儲存後的版本號；v2 一律為保戶儲存後的版本號。
+ * 此升級器將 v1 的 version 清為空值，讀取端視為未知、沿用既有的版本號。
+ */
+public class PolicyHolderUpdatedVersionUpcaster implements EventUpcaster {
+
+    @Override
+    public String eventType() {
+        return PolicyHolderUpdated.class.getName();
+    }
+
+    @Override
+    public int fromVersion() {
+        return 1;
+    }
+
+    @Override
+    public ObjectNode upcast(ObjectNode payload) {
+        payload.putNull("version");
+        return payload;
+    }
+}
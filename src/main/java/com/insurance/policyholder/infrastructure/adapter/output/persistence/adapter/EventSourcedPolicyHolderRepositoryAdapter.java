@@ -0,0 +1,205 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
+
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.AggregateSnapshotJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderSnapshotMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.AggregateSnapshotJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyStateRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 事件溯源保戶儲存庫適配器
+ * 透過 event-sourced profile 啟用，取代 PolicyHolderRepositoryAdapter 的 findById
+ *
+ * 載入時讀取最新快照再重播其後的事件；重播的事件數達到快照間隔時寫入新快照，
+ * 因此單次載入的事件數不會隨歷史長度成長。快照只在可寫入的交易中（命令的載入路徑）寫入，
+ * 唯讀交易的查詢只重播不寫入，由下一次命令補上快照。
+ * 保單的狀態與版本號沒有事件，以目前的資料表為準：重播後只保留仍在 policies 的保單（已封存的保單不載入），
+ * 並帶入資料列的狀態與版本號，儲存時不會把封存的保單寫回目前的資料表。
+ * 寫入（含以版本號為條件的更新）、依身分證字號查詢仍委派給 JPA（查詢端與唯一性檢查依賴 policy_holders 資料表）
+ */
+@Repository
+@Primary
+@Profile("event-sourced")
+@Transactional
+public class EventSourcedPolicyHolderRepositoryAdapter implements PolicyHolderRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSourcedPolicyHolderRepositoryAdapter.class);
+
+    private static final String AGGREGATE_TYPE = "PolicyHolder";
+
+    private final PolicyHolderRepositoryAdapter delegate;
+    private final PolicyHolderJpaRepository jpaRepository;
+    private final EventStore eventStore;
+    private final AggregateSnapshotJpaRepository snapshotRepository;
+    private final PolicyHolderSnapshotMapper snapshotMapper;
+    private final PolicyMapper policyMapper;
+    private final PolicyHolderArchive archive;
+    private final int snapshotInterval;
+
+    public EventSourcedPolicyHolderRepositoryAdapter(
+            PolicyHolderRepositoryAdapter delegate,
+            PolicyHolderJpaRepository jpaRepository,
+            EventStore eventStore,
+            AggregateSnapshotJpaRepository snapshotRepository,
+            PolicyHolderSnapshotMapper snapshotMapper,
+            PolicyMapper policyMapper,
+            PolicyHolderArchive archive,
+            @Value("${eventstore.snapshot.interval:50}") int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.delegate = delegate;
+        this.jpaRepository = jpaRepository;
+        this.eventStore = eventStore;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotMapper = snapshotMapper;
+        this.policyMapper = policyMapper;
+        this.archive = archive;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public PolicyHolder save(PolicyHolder policyHolder) {
+        return delegate.save(policyHolder);
+    }
+
+    @Override
+    public Optional<PolicyHolder> updateIfVersion(PolicyHolderId id, long expectedVersion, ContactAddressChange change) {
+        return delegate.updateIfVersion(id, expectedVersion, change);
+    }
+
+    @Override
+    public Optional<PolicyHolder> findById(PolicyHolderId id) {
+        // 先取版本號再讀事件：並行更新只會使之後的儲存發生樂觀鎖衝突，不會遺失更新
+        List<PolicyStateRow> states = jpaRepository.findPolicyStates(id.getValue());
+        if (states.isEmpty()) {
+            return Optional.empty();
+        }
+        Long version = states.get(0).policyHolderVersion();
+
+        Optional<AggregateSnapshotJpaEntity> snapshot = snapshotRepository.findById(id.getValue());
+        if (snapshot.isPresent()) {
+            try {
+                List<DomainEvent> tail = eventStore.findByAggregateIdAfter(id.getValue(), snapshot.get().getLastEventId());
+                PolicyHolder policyHolder = snapshotMapper.toDomain(snapshot.get().getPayload(), version);
+                policyHolder.replay(tail);
+                maybeSnapshot(policyHolder, tail, snapshot.get().getEventCount() + tail.size());
+                return Optional.of(withCurrentPolicies(policyHolder, states));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring stale snapshot for {}: {}", id.getValue(), e.getMessage());
+            }
+        }
+
+        List<DomainEvent> history = eventStore.findByAggregateId(id.getValue());
+        if (history.isEmpty() || !(history.get(0) instanceof PolicyHolderCreated)) {
+            // 啟用事件溯源前建立的保戶沒有完整事件流
+            return delegate.findById(id);
+        }
+        PolicyHolder policyHolder = PolicyHolder.fromHistory(history, version);
+        maybeSnapshot(policyHolder, history, history.size());
+        return Optional.of(withCurrentPolicies(policyHolder, states));
+    }
+
+    /**
+     * 只保留目前資料表中的保單，並帶入資料列的狀態與版本號（快照仍只記錄事件重播的狀態）
+     */
+    private PolicyHolder withCurrentPolicies(PolicyHolder replayed, List<PolicyStateRow> states) {
+        Map<String, PolicyStateRow> current = new HashMap<>();
+        for (PolicyStateRow state : states) {
+            if (state.policyId() != null) {
+                current.put(state.policyId(), state);
+            }
+        }
+        PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                replayed.getId(),
+                replayed.getNationalId(),
+                replayed.getPersonalInfo(),
+                replayed.getContactInfo(),
+                replayed.getAddress(),
+                replayed.getStatus(),
+                replayed.getVersion()
+        );
+        for (Policy policy : replayed.getPolicies()) {
+            PolicyStateRow state = current.get(policy.getId().getValue());
+            if (state != null) {
+                policyHolder.addReconstitutedPolicy(
+                        policyMapper.withState(policy, state.policyStatus(), state.policyVersion()));
+            }
+        }
+        return policyHolder;
+    }
+
+    private void maybeSnapshot(PolicyHolder policyHolder, List<DomainEvent> replayed, int eventCount) {
+        if (replayed.size() < snapshotInterval || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        DomainEvent lastEvent = replayed.get(replayed.size() - 1);
+        snapshotRepository.save(new AggregateSnapshotJpaEntity(
+                policyHolder.getId().getValue(),
+                AGGREGATE_TYPE,
+                lastEvent.getEventId(),
+                eventCount,
+                snapshotMapper.toPayload(policyHolder),
+                LocalDateTime.now()
+        ));
+        log.debug("Took snapshot of {} at event {} ({} events)", policyHolder.getId().getValue(),
+                lastEvent.getEventId(), eventCount);
+    }
+
+    /**
+     * 保戶已封存時由 JPA 適配器查詢封存表；封存的保單加在重建後的聚合根上
+     */
+    @Override
+    public Optional<PolicyHolder> findIncludingArchived(PolicyHolderId id, boolean includeArchivedPolicies) {
+        Optional<PolicyHolder> policyHolder = findById(id);
+        if (policyHolder.isEmpty()) {
+            return delegate.findIncludingArchived(id, includeArchivedPolicies);
+        }
+        if (includeArchivedPolicies) {
+            archive.findPolicies(id.getValue()).forEach(policy ->
+                    policyHolder.get().addReconstitutedPolicy(policyMapper.toDomain(policy)));
+        }
+        return policyHolder;
+    }
+
+    @Override
+    public Optional<PolicyHolder> findByNationalId(NationalId nationalId) {
+        return delegate.findByNationalId(nationalId);
+    }
+
+    @Override
+    public boolean existsByNationalId(NationalId nationalId) {
+        return delegate.existsByNationalId(nationalId);
+    }
+
+    @Override
+    public void deleteById(PolicyHolderId id) {
+        delegate.deleteById(id);
+        snapshotRepository.deleteById(id.getValue());
+    }
+}
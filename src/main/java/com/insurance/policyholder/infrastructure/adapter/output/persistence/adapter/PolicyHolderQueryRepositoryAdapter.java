@@ -2,17 +2,25 @@ package com.insurance.policyholder.infrastructure.adapter.output.persistence.ada
 
 import com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
 import com.insurance.policyholder.domain.model.valueobject.NationalId;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyVersionRow;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,26 +28,60 @@ import java.util.stream.Collectors;
  * 保戶查詢儲存庫適配器
  * 實作 Application Layer 的 PolicyHolderQueryRepository Port
  * 用於 CQRS 的 Query 端
+ *
+ * 有效保單摘要讀取保戶資料列上的反正規化欄位，不載入保單
+ * 依編號、身分證字號與版本號的查詢在目前的資料表查無時改查封存表；姓名搜尋、狀態查詢與計數只涵蓋目前的資料表
  */
 @Repository
 @Transactional(readOnly = true)
 public class PolicyHolderQueryRepositoryAdapter implements PolicyHolderQueryRepository<PolicyHolderReadModel> {
 
     private final PolicyHolderJpaRepository jpaRepository;
+    private final PolicyHolderArchive archive;
+    private final PolicyHolderMapper mapper;
 
-    public PolicyHolderQueryRepositoryAdapter(PolicyHolderJpaRepository jpaRepository) {
+    public PolicyHolderQueryRepositoryAdapter(
+            PolicyHolderJpaRepository jpaRepository,
+            PolicyHolderArchive archive,
+            PolicyHolderMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.archive = archive;
+        this.mapper = mapper;
     }
 
     @Override
     public Optional<PolicyHolderReadModel> findById(PolicyHolderId id) {
         return jpaRepository.findById(id.getValue())
+                .or(() -> archive.findById(id.getValue(), false))
                 .map(this::toReadModel);
     }
 
+    @Override
+    public Optional<PolicyHolderVersionReadModel> findVersionById(PolicyHolderId id, boolean includePolicies) {
+        if (!includePolicies) {
+            return jpaRepository.findVersionById(id.getValue())
+                    .or(() -> archive.findVersionById(id.getValue()))
+                    .map(version -> new PolicyHolderVersionReadModel(id.getValue(), version, Collections.emptyMap()));
+        }
+        List<PolicyVersionRow> rows = jpaRepository.findVersionsWithPolicies(id.getValue());
+        if (rows.isEmpty()) {
+            return archive.findVersionById(id.getValue())
+                    .map(version -> new PolicyHolderVersionReadModel(
+                            id.getValue(), version, archive.findPolicyVersions(id.getValue())));
+        }
+        Map<String, Long> policyVersions = new LinkedHashMap<>();
+        for (PolicyVersionRow row : rows) {
+            if (row.policyId() != null) {
+                policyVersions.put(row.policyId(), row.policyVersion());
+            }
+        }
+        return Optional.of(new PolicyHolderVersionReadModel(id.getValue(), rows.get(0).policyHolderVersion(), policyVersions));
+    }
+
     @Override
     public Optional<PolicyHolderReadModel> findByNationalId(NationalId nationalId) {
         return jpaRepository.findByNationalId(nationalId.getValue())
+                .or(() -> archive.findByNationalId(nationalId.getValue()))
                 .map(this::toReadModel);
     }
 
@@ -89,7 +131,8 @@ public class PolicyHolderQueryRepositoryAdapter implements PolicyHolderQueryRepo
                 entity.getStatus().name(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
-                entity.getVersion()
+                entity.getVersion(),
+                PolicySummaryReadModel.from(mapper.toPolicySummary(entity.getPolicySummary()))
         );
     }
 
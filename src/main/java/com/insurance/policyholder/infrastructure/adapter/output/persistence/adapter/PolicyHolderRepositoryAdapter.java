@@ -1,20 +1,32 @@
 package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
 
+import com.insurance.policyholder.application.exception.StaleVersionException;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
 import com.insurance.policyholder.domain.model.valueobject.NationalId;
 import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.diagnostics.AggregateLoadEvent;
+import com.insurance.policyholder.infrastructure.diagnostics.AggregateSaveEvent;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * 保戶儲存庫適配器
  * 實作 Application Layer 的 PolicyHolderRepository Port
+ *
+ * 聚合根的載入與儲存會發出 JFR 事件（AggregateLoadEvent / AggregateSaveEvent）
+ * 儲存時立即 flush，讓 @Version 衝突在 save 時拋出，而非在領域事件發布之後的交易提交時
+ * 以版本號為條件的更新不經過實體，更新敘述本身即比對版本號；未更新任何資料列時才另查版本號區分不存在與版本不符
+ * 命令端只讀寫目前的資料表（已封存的保戶不可修改）；身分證字號的存在檢查涵蓋封存表，封存後仍不可重複建立
  */
 @Repository
 @Transactional
@@ -22,41 +34,110 @@ public class PolicyHolderRepositoryAdapter implements PolicyHolderRepository {
 
     private final PolicyHolderJpaRepository jpaRepository;
     private final PolicyHolderMapper mapper;
+    private final PolicyMapper policyMapper;
+    private final PolicyHolderArchive archive;
 
-    public PolicyHolderRepositoryAdapter(PolicyHolderJpaRepository jpaRepository, PolicyHolderMapper mapper) {
+    public PolicyHolderRepositoryAdapter(
+            PolicyHolderJpaRepository jpaRepository,
+            PolicyHolderMapper mapper,
+            PolicyMapper policyMapper,
+            PolicyHolderArchive archive) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.policyMapper = policyMapper;
+        this.archive = archive;
     }
 
     @Override
     public PolicyHolder save(PolicyHolder policyHolder) {
+        AggregateSaveEvent event = new AggregateSaveEvent();
+        event.begin();
         PolicyHolderJpaEntity entity = mapper.toEntity(policyHolder);
-        PolicyHolderJpaEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        PolicyHolderJpaEntity savedEntity = jpaRepository.saveAndFlush(entity);
+        PolicyHolder saved = mapper.toDomain(savedEntity);
+        event.end();
+        if (event.shouldCommit()) {
+            event.policyHolderId = saved.getId().getValue();
+            event.policyCount = saved.getPolicies().size();
+            event.rowCount = 1 + event.policyCount;
+            event.commit();
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<PolicyHolder> updateIfVersion(PolicyHolderId id, long expectedVersion, ContactAddressChange change) {
+        Optional<PolicyHolder> updated = jpaRepository
+                .updateIfVersion(id.getValue(), expectedVersion, change, LocalDateTime.now())
+                .map(mapper::toDomainWithoutPolicies);
+        if (updated.isEmpty()) {
+            Optional<Long> actualVersion = jpaRepository.findVersionById(id.getValue());
+            if (actualVersion.isPresent()) {
+                throw new StaleVersionException(id.getValue(), expectedVersion, actualVersion.get());
+            }
+        }
+        return updated;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<PolicyHolder> findById(PolicyHolderId id) {
-        return jpaRepository.findById(id.getValue())
+        AggregateLoadEvent event = new AggregateLoadEvent();
+        event.begin();
+        Optional<PolicyHolder> policyHolder = jpaRepository.findById(id.getValue())
                 .map(mapper::toDomain);
+        commitLoad(event, "id", policyHolder);
+        return policyHolder;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PolicyHolder> findIncludingArchived(PolicyHolderId id, boolean includeArchivedPolicies) {
+        Optional<PolicyHolder> policyHolder = jpaRepository.findById(id.getValue()).map(mapper::toDomain);
+        if (policyHolder.isEmpty()) {
+            return archive.findById(id.getValue(), true).map(mapper::toDomain);
+        }
+        if (includeArchivedPolicies) {
+            // 封存的保單加在重建後的聚合根上，不放入受管理的實體，避免 flush 時寫回目前的資料表
+            archive.findPolicies(id.getValue()).forEach(policy ->
+                    policyHolder.get().addReconstitutedPolicy(policyMapper.toDomain(policy)));
+        }
+        return policyHolder;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<PolicyHolder> findByNationalId(NationalId nationalId) {
-        return jpaRepository.findByNationalId(nationalId.getValue())
+        AggregateLoadEvent event = new AggregateLoadEvent();
+        event.begin();
+        Optional<PolicyHolder> policyHolder = jpaRepository.findByNationalId(nationalId.getValue())
                 .map(mapper::toDomain);
+        commitLoad(event, "nationalId", policyHolder);
+        return policyHolder;
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByNationalId(NationalId nationalId) {
-        return jpaRepository.existsByNationalId(nationalId.getValue());
+        return jpaRepository.existsByNationalIdIncludingArchive(nationalId.getValue());
     }
 
     @Override
     public void deleteById(PolicyHolderId id) {
         jpaRepository.deleteById(id.getValue());
     }
+
+    private void commitLoad(AggregateLoadEvent event, String lookup, Optional<PolicyHolder> policyHolder) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.lookup = lookup;
+            event.found = policyHolder.isPresent();
+            policyHolder.ifPresent(loaded -> {
+                event.policyHolderId = loaded.getId().getValue();
+                event.policyCount = loaded.getPolicies().size();
+                event.rowCount = 1 + event.policyCount;
+            });
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
+
+import com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository;
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.domain.model.valueobject.PolicySummary;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 保戶檢視表查詢儲存庫適配器
+ * 實作 Application Layer 的 PolicyHolderQueryRepository Port，CQRS 的 Query 端讀取 policyholder_view
+ *
+ * 檢視表由 PolicyHolderViewProjection 依領域事件維護，查詢不讀取寫入端的資料表，不會與命令的鎖互相等待。
+ * 檢視表查無的保戶（已封存）與含保單版本號的查詢交由寫入端的 PolicyHolderQueryRepositoryAdapter；
+ * 檢視表重建時寫入影子表，重建期間仍讀取原檢視表
+ */
+@Repository
+@Primary
+@Profile("!event-log & !sharded")
+@Transactional(readOnly = true)
+public class PolicyHolderViewQueryRepositoryAdapter implements PolicyHolderQueryRepository<PolicyHolderReadModel> {
+
+    private static final String VIEW_COLUMNS = "id, national_id, masked_national_id, name, gender, birth_date, "
+            + "mobile_phone, email, zip_code, city, district, street, status, version, created_at, updated_at, "
+            + "active_policy_count, life_policy_count, health_policy_count, accident_policy_count, travel_policy_count, "
+            + "property_policy_count, auto_policy_count, safety_policy_count, total_premium_minor, total_sum_insured_minor";
+
+    private static final String PAGE = " ORDER BY id OFFSET :offset ROWS FETCH NEXT :size ROWS ONLY";
+
+    private static final RowMapper<PolicyHolderReadModel> VIEW_ROW = (rs, rowNum) -> {
+        Map<PolicyType, Integer> counts = new EnumMap<>(PolicyType.class);
+        for (PolicyType type : PolicyType.values()) {
+            counts.put(type, rs.getInt(type.name().toLowerCase(Locale.ROOT) + "_policy_count"));
+        }
+        PolicySummary summary = PolicySummary.reconstitute(counts,
+                rs.getLong("total_premium_minor"), rs.getLong("total_sum_insured_minor"));
+        return new PolicyHolderReadModel(
+                rs.getString("id"),
+                rs.getString("national_id"),
+                rs.getString("name"),
+                rs.getString("gender"),
+                rs.getObject("birth_date", LocalDate.class),
+                rs.getString("mobile_phone"),
+                rs.getString("email"),
+                rs.getString("zip_code"),
+                rs.getString("city"),
+                rs.getString("district"),
+                rs.getString("street"),
+                rs.getString("status"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("version", Long.class),
+                PolicySummaryReadModel.from(summary),
+                rs.getString("masked_national_id"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final PolicyHolderQueryRepositoryAdapter writeSide;
+
+    public PolicyHolderViewQueryRepositoryAdapter(
+            DataSource dataSource,
+            PolicyHolderQueryRepositoryAdapter writeSide) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.writeSide = writeSide;
+    }
+
+    @Override
+    public Optional<PolicyHolderReadModel> findById(PolicyHolderId id) {
+        return first(jdbc.query("SELECT " + VIEW_COLUMNS + " FROM policyholder_view WHERE id = :id",
+                Map.of("id", id.getValue()), VIEW_ROW))
+                .or(() -> writeSide.findById(id));
+    }
+
+    @Override
+    public Optional<PolicyHolderVersionReadModel> findVersionById(PolicyHolderId id, boolean includePolicies) {
+        if (includePolicies) {
+            return writeSide.findVersionById(id, includePolicies);
+        }
+        return first(jdbc.queryForList("SELECT version FROM policyholder_view WHERE id = :id",
+                Map.of("id", id.getValue()), Long.class))
+                .map(version -> new PolicyHolderVersionReadModel(id.getValue(), version, Collections.emptyMap()))
+                .or(() -> writeSide.findVersionById(id, false));
+    }
+
+    @Override
+    public Optional<PolicyHolderReadModel> findByNationalId(NationalId nationalId) {
+        return first(jdbc.query("SELECT " + VIEW_COLUMNS + " FROM policyholder_view WHERE national_id = :nationalId",
+                Map.of("nationalId", nationalId.getValue()), VIEW_ROW))
+                .or(() -> writeSide.findByNationalId(nationalId));
+    }
+
+    /**
+     * 前置萬用字元無法以索引定位：先掃描只含姓名與編號的 idx_view_name 比對出保戶編號，再依主鍵取回整列
+     */
+    @Override
+    public List<PolicyHolderReadModel> searchByName(String name, int page, int size) {
+        return jdbc.query("SELECT " + VIEW_COLUMNS + " FROM policyholder_view WHERE id IN "
+                        + "(SELECT n.id FROM policyholder_view n WHERE n.name LIKE :pattern)" + PAGE,
+                page(page, size).addValue("pattern", "%" + name + "%"), VIEW_ROW);
+    }
+
+    @Override
+    public List<PolicyHolderReadModel> findByStatus(PolicyHolderStatus status, int page, int size) {
+        return jdbc.query("SELECT " + VIEW_COLUMNS + " FROM policyholder_view WHERE status = :status" + PAGE,
+                page(page, size).addValue("status", status.name()), VIEW_ROW);
+    }
+
+    @Override
+    public long countByName(String name) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM policyholder_view WHERE name LIKE :pattern",
+                Map.of("pattern", "%" + name + "%"), Long.class);
+    }
+
+    @Override
+    public long countByStatus(PolicyHolderStatus status) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM policyholder_view WHERE status = :status",
+                Map.of("status", status.name()), Long.class);
+    }
+
+    private static MapSqlParameterSource page(int page, int size) {
+        return new MapSqlParameterSource("offset", (long) page * size).addValue("size", size);
+    }
+
+    private static <T> Optional<T> first(List<T> rows) {
+        return rows.stream().findFirst();
+    }
+}
@@ -0,0 +1,154 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
+
+import com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository;
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
+import com.insurance.policyholder.application.readmodel.PolicySummaryReadModel;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.NationalIdDirectoryJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyVersionRow;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.PolicyHolderShardStore;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ScatterGather;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardRouter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 分片保戶查詢儲存庫適配器
+ * 透過 sharded profile 啟用，取代 PolicyHolderQueryRepositoryAdapter
+ *
+ * 依保戶編號的查詢只讀取所在分片；姓名搜尋、狀態查詢與計數同時查詢所有分片（ScatterGather），
+ * 分頁結果依保戶編號合併排序
+ */
+@Repository
+@Primary
+@Profile("sharded")
+@Transactional(readOnly = true)
+public class ShardedPolicyHolderQueryRepositoryAdapter implements PolicyHolderQueryRepository<PolicyHolderReadModel> {
+
+    private static final Comparator<PolicyHolderJpaEntity> BY_ID = Comparator.comparing(PolicyHolderJpaEntity::getId);
+
+    private final PolicyHolderShardStore store;
+    private final ShardRouter router;
+    private final ScatterGather scatterGather;
+    private final NationalIdDirectoryJpaRepository directory;
+    private final PolicyHolderMapper mapper;
+
+    public ShardedPolicyHolderQueryRepositoryAdapter(PolicyHolderShardStore store, ShardRouter router,
+                                                     ScatterGather scatterGather,
+                                                     NationalIdDirectoryJpaRepository directory,
+                                                     PolicyHolderMapper mapper) {
+        this.store = store;
+        this.router = router;
+        this.scatterGather = scatterGather;
+        this.directory = directory;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<PolicyHolderReadModel> findById(PolicyHolderId id) {
+        return store.findById(router.shardOf(id), id.getValue(), false)
+                .map(this::toReadModel);
+    }
+
+    @Override
+    public Optional<PolicyHolderVersionReadModel> findVersionById(PolicyHolderId id, boolean includePolicies) {
+        int shard = router.shardOf(id);
+        if (!includePolicies) {
+            return store.findVersionById(shard, id.getValue())
+                    .map(version -> new PolicyHolderVersionReadModel(id.getValue(), version, Collections.emptyMap()));
+        }
+        List<PolicyVersionRow> rows = store.findVersionsWithPolicies(shard, id.getValue());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Long> policyVersions = new LinkedHashMap<>();
+        for (PolicyVersionRow row : rows) {
+            if (row.policyId() != null) {
+                policyVersions.put(row.policyId(), row.policyVersion());
+            }
+        }
+        return Optional.of(new PolicyHolderVersionReadModel(id.getValue(), rows.get(0).policyHolderVersion(), policyVersions));
+    }
+
+    @Override
+    public Optional<PolicyHolderReadModel> findByNationalId(NationalId nationalId) {
+        return directory.findById(nationalId.getValue())
+                .flatMap(entry -> store.findById(entry.getShard(), entry.getPolicyHolderId(), false))
+                .map(this::toReadModel);
+    }
+
+    @Override
+    public List<PolicyHolderReadModel> searchByName(String name, int page, int size) {
+        int limit = (page + 1) * size;
+        List<List<PolicyHolderJpaEntity>> perShard =
+                scatterGather.gather("search", shard -> store.findByNameContaining(shard, name, limit));
+        return ScatterGather.mergeSorted(perShard, BY_ID, page * size, size).stream()
+                .map(this::toReadModel)
+                .toList();
+    }
+
+    @Override
+    public List<PolicyHolderReadModel> findByStatus(PolicyHolderStatus status, int page, int size) {
+        int limit = (page + 1) * size;
+        PolicyHolderJpaEntity.Status jpaStatus = mapStatusToJpa(status);
+        List<List<PolicyHolderJpaEntity>> perShard =
+                scatterGather.gather("status", shard -> store.findByStatus(shard, jpaStatus, limit));
+        return ScatterGather.mergeSorted(perShard, BY_ID, page * size, size).stream()
+                .map(this::toReadModel)
+                .toList();
+    }
+
+    @Override
+    public long countByName(String name) {
+        return scatterGather.sum("count", shard -> store.countByNameContaining(shard, name));
+    }
+
+    @Override
+    public long countByStatus(PolicyHolderStatus status) {
+        PolicyHolderJpaEntity.Status jpaStatus = mapStatusToJpa(status);
+        return scatterGather.sum("count", shard -> store.countByStatus(shard, jpaStatus));
+    }
+
+    private PolicyHolderReadModel toReadModel(PolicyHolderJpaEntity entity) {
+        return new PolicyHolderReadModel(
+                entity.getId(),
+                entity.getNationalId(),
+                entity.getName(),
+                entity.getGender().name(),
+                entity.getBirthDate(),
+                entity.getMobilePhone(),
+                entity.getEmail(),
+                entity.getZipCode(),
+                entity.getCity(),
+                entity.getDistrict(),
+                entity.getStreet(),
+                entity.getStatus().name(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                entity.getVersion(),
+                PolicySummaryReadModel.from(mapper.toPolicySummary(entity.getPolicySummary()))
+        );
+    }
+
+    private PolicyHolderJpaEntity.Status mapStatusToJpa(PolicyHolderStatus status) {
+        return switch (status) {
+            case ACTIVE -> PolicyHolderJpaEntity.Status.ACTIVE;
+            case INACTIVE -> PolicyHolderJpaEntity.Status.INACTIVE;
+            case SUSPENDED -> PolicyHolderJpaEntity.Status.SUSPENDED;
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
+
+import com.insurance.policyholder.application.exception.StaleVersionException;
+import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.NationalIdDirectoryJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.PolicyHolderShardStore;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardRouter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 分片保戶儲存庫適配器
+ * 透過 sharded profile 啟用，取代 PolicyHolderRepositoryAdapter
+ *
+ * 保戶與其保單依保戶編號的雜湊存放在同一個分片；身分證字號目錄（national_id_directory）保存在主資料庫，
+ * 分片上還沒有的保戶視為新增：先寫入目錄（主鍵衝突即身分證字號重複）再寫入分片；
+ * 依身分證字號查詢時先查目錄再到對應分片讀取
+ */
+@Repository
+@Primary
+@Profile("sharded")
+@Transactional
+public class ShardedPolicyHolderRepositoryAdapter implements PolicyHolderRepository {
+
+    private final PolicyHolderShardStore store;
+    private final ShardRouter router;
+    private final NationalIdDirectoryJpaRepository directory;
+    private final PolicyHolderMapper mapper;
+
+    public ShardedPolicyHolderRepositoryAdapter(PolicyHolderShardStore store, ShardRouter router,
+                                                NationalIdDirectoryJpaRepository directory, PolicyHolderMapper mapper) {
+        this.store = store;
+        this.router = router;
+        this.directory = directory;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public PolicyHolder save(PolicyHolder policyHolder) {
+        int shard = router.shardOf(policyHolder.getId());
+        PolicyHolderJpaEntity entity = mapper.toEntity(policyHolder);
+        Optional<PolicyHolderJpaEntity> stored = store.findById(shard, entity.getId(), true);
+        if (stored.isPresent()) {
+            return mapper.toDomain(store.update(shard, stored.get(), entity, LocalDateTime.now()));
+        }
+        if (entity.getVersion() != null && entity.getVersion() > 0) {
+            throw new OptimisticLockingFailureException("PolicyHolder " + entity.getId() + " was deleted concurrently");
+        }
+        directory.insert(entity.getNationalId(), entity.getId(), shard);
+        return mapper.toDomain(store.insert(shard, entity, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<PolicyHolder> updateIfVersion(PolicyHolderId id, long expectedVersion, ContactAddressChange change) {
+        int shard = router.shardOf(id);
+        Optional<PolicyHolder> updated = store
+                .updateIfVersion(shard, id.getValue(), expectedVersion, change, LocalDateTime.now())
+                .map(mapper::toDomainWithoutPolicies);
+        if (updated.isEmpty()) {
+            Optional<Long> actualVersion = store.findVersionById(shard, id.getValue());
+            if (actualVersion.isPresent()) {
+                throw new StaleVersionException(id.getValue(), expectedVersion, actualVersion.get());
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PolicyHolder> findById(PolicyHolderId id) {
+        return store.findById(router.shardOf(id), id.getValue(), true)
+                .map(mapper::toDomain);
+    }
+
+    /**
+     * 不支援封存，等同 findById
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PolicyHolder> findIncludingArchived(PolicyHolderId id, boolean includeArchivedPolicies) {
+        return findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PolicyHolder> findByNationalId(NationalId nationalId) {
+        return directory.findById(nationalId.getValue())
+                .flatMap(entry -> store.findById(entry.getShard(), entry.getPolicyHolderId(), true))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByNationalId(NationalId nationalId) {
+        return directory.existsById(nationalId.getValue());
+    }
+
+    @Override
+    public void deleteById(PolicyHolderId id) {
+        store.deleteById(router.shardOf(id), id.getValue());
+        directory.deleteByPolicyHolderId(id.getValue());
+    }
+}
@@ -0,0 +1,131 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 保戶冷資料封存工作
+ *
+ * 定期將最後異動早於 horizon 的停用保戶（連同保單）與 LAPSED / TERMINATED 保單移入封存表，
+ * 縮小目前資料表的掃描、計數與索引。每批在獨立的交易中鎖定、複製並刪除，
+ * 中途中斷時已提交的批次保留在封存表，其餘仍在目前的資料表，不會遺失或重複
+ *
+ * - policyholder.archive.moved   移入封存表的資料列數（依 table）
+ * - policyholder.archive.batch   每批搬移的耗時（依 table）
+ */
+public class PolicyHolderArchivalService {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyHolderArchivalService.class);
+
+    private final PolicyHolderArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Clock clock;
+    private final Counter holdersMoved;
+    private final Counter policiesMoved;
+    private final Timer holderBatches;
+    private final Timer policyBatches;
+
+    public PolicyHolderArchivalService(
+            PolicyHolderArchive archive,
+            PlatformTransactionManager transactionManager,
+            Duration horizon,
+            int batchSize,
+            int maxBatchesPerRun,
+            Clock clock,
+            MeterRegistry registry) {
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.clock = clock;
+        this.holdersMoved = moved(registry, PolicyHolderArchive.HOLDERS);
+        this.policiesMoved = moved(registry, PolicyHolderArchive.POLICIES);
+        this.holderBatches = batch(registry, PolicyHolderArchive.HOLDERS);
+        this.policyBatches = batch(registry, PolicyHolderArchive.POLICIES);
+    }
+
+    private static Counter moved(MeterRegistry registry, String table) {
+        return Counter.builder("policyholder.archive.moved")
+                .description("Rows moved from the hot table to the archive")
+                .tag("table", table)
+                .register(registry);
+    }
+
+    private static Timer batch(MeterRegistry registry, String table) {
+        return Timer.builder("policyholder.archive.batch")
+                .description("Time taken to move one archival batch")
+                .tag("table", table)
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${persistence.archive.cron:0 0 4 * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * 執行一次封存：先搬移停用的保戶，再搬移其餘已結束的保單
+     *
+     * @return 本次移入封存表的保戶數與保單數
+     */
+    public Result run() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(horizon);
+        int holders = 0;
+        int policies = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int[] moved = holderBatches.record(() -> transactionTemplate.execute(status -> {
+                List<String> ids = archive.lockInactiveHolders(cutoff, batchSize);
+                return ids.isEmpty() ? new int[]{0, 0} : new int[]{ids.size(), archive.archiveHolders(ids, now)};
+            }));
+            holders += moved[0];
+            policies += moved[1];
+            holdersMoved.increment(moved[0]);
+            policiesMoved.increment(moved[1]);
+            if (moved[0] < batchSize) {
+                break;
+            }
+        }
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = policyBatches.record(() -> transactionTemplate.execute(status -> {
+                List<String> ids = archive.lockClosedPolicies(cutoff, batchSize);
+                if (!ids.isEmpty()) {
+                    archive.archivePolicies(ids, now);
+                }
+                return ids.size();
+            }));
+            policies += moved;
+            policiesMoved.increment(moved);
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        log.info("Archived {} inactive policy holder(s) and {} closed polic(ies) last changed before {}",
+                holders, policies, cutoff);
+        return new Result(holders, policies);
+    }
+
+    /**
+     * 一次封存的結果
+     *
+     * @param policyHolders 移入封存表的保戶數
+     * @param policies      移入封存表的保單數（含隨停用保戶移動的保單）
+     */
+    public record Result(int policyHolders, int policies) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.archive;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_ROW;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_ROW;
+
+/**
+ * 保戶與保單的封存資料表（policy_holders_archive / policies_archive）
+ *
+ * 搬移以 INSERT ... SELECT 複製到封存表後刪除原資料列，須在呼叫端的交易中執行；
+ * 候選資料列以 FOR UPDATE 鎖定，並行的命令在封存交易提交後才能寫入，寫入時因版本號不符而重新載入。
+ * 封存保單時遞增其保戶的版本號，已載入舊聚合根的命令與 ETag 都會失效。
+ * 這兩種異動沒有領域事件，讀取端的 policyholder_view 在同一個交易中同步（移除已封存的保戶、更新版本號）。
+ * 讀取路徑只在目前的資料表查無資料、或呼叫端要求歷史資料時才查詢封存表
+ *
+ * - policyholder.archive.hot.rows   目前資料表的資料列數（依 table）
+ * - policyholder.archive.rows       封存資料表的資料列數（依 table）
+ * - policyholder.archive.lookups    讀取路徑查詢封存的次數（依 result：hit / miss）
+ */
+public class PolicyHolderArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyHolderArchive.class);
+
+    static final String HOLDERS = "policy_holders";
+    static final String POLICIES = "policies";
+    private static final String VIEW = "policyholder_view";
+    private static final String HOLDERS_ARCHIVE = "policy_holders_archive";
+    private static final String POLICIES_ARCHIVE = "policies_archive";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PolicyHolderArchive(DataSource dataSource, MeterRegistry registry) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        // H2 的 COUNT(*) 為常數時間；其他資料庫應改用統計資訊的估計值
+        for (String table : List.of(HOLDERS, POLICIES)) {
+            Gauge.builder("policyholder.archive.hot.rows", this, archive -> archive.count(table))
+                    .description("Rows in the hot table")
+                    .tag("table", table)
+                    .register(registry);
+            Gauge.builder("policyholder.archive.rows", this, archive -> archive.count(table + "_archive"))
+                    .description("Rows in the archive table")
+                    .tag("table", table)
+                    .register(registry);
+        }
+        this.hits = lookups(registry, "hit");
+        this.misses = lookups(registry, "miss");
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("policyholder.archive.lookups")
+                .description("Archive lookups made by read paths")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 查詢已封存的保戶（withPolicies 為 true 時一併載入封存的保單，依保單編號排序）
+     */
+    public Optional<PolicyHolderJpaEntity> findById(String id, boolean withPolicies) {
+        Optional<PolicyHolderJpaEntity> holder = jdbc.query(
+                "SELECT " + HOLDER_COLUMNS + " FROM " + HOLDERS_ARCHIVE + " WHERE id = :id",
+                Map.of("id", id), HOLDER_ROW).stream().findFirst();
+        if (withPolicies) {
+            holder.ifPresent(entity -> findPolicies(entity.getId()).forEach(entity::addPolicy));
+        }
+        return recordLookup(holder);
+    }
+
+    /**
+     * 依身分證字號查詢已封存的保戶（不含保單）
+     */
+    public Optional<PolicyHolderJpaEntity> findByNationalId(String nationalId) {
+        return recordLookup(jdbc.query(
+                "SELECT " + HOLDER_COLUMNS + " FROM " + HOLDERS_ARCHIVE + " WHERE national_id = :nationalId",
+                Map.of("nationalId", nationalId), HOLDER_ROW).stream().findFirst());
+    }
+
+    /**
+     * 已封存保戶的版本號
+     */
+    public Optional<Long> findVersionById(String id) {
+        return recordLookup(jdbc.queryForList("SELECT version FROM " + HOLDERS_ARCHIVE + " WHERE id = :id",
+                Map.of("id", id), Long.class).stream().findFirst());
+    }
+
+    /**
+     * 保戶已封存的保單（保戶本身可能仍在目前的資料表），依保單編號排序
+     */
+    public List<PolicyJpaEntity> findPolicies(String policyHolderId) {
+        return jdbc.query("SELECT " + POLICY_COLUMNS + " FROM " + POLICIES_ARCHIVE
+                + " WHERE policy_holder_id = :id ORDER BY id", Map.of("id", policyHolderId), POLICY_ROW);
+    }
+
+    /**
+     * 保戶已封存保單的版本號（依保單編號排序）
+     */
+    public Map<String, Long> findPolicyVersions(String policyHolderId) {
+        Map<String, Long> versions = new LinkedHashMap<>();
+        jdbc.query("SELECT id, version FROM " + POLICIES_ARCHIVE + " WHERE policy_holder_id = :id ORDER BY id",
+                Map.of("id", policyHolderId), row -> {
+                    versions.put(row.getString("id"), row.getLong("version"));
+                });
+        return versions;
+    }
+
+    /**
+     * 鎖定並回傳最後異動早於 cutoff 的停用保戶編號（依編號排序）
+     */
+    public List<String> lockInactiveHolders(LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("SELECT id FROM " + HOLDERS + " WHERE status = 'INACTIVE' AND updated_at < :cutoff "
+                        + "ORDER BY id FETCH FIRST :limit ROWS ONLY FOR UPDATE",
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", limit), String.class);
+    }
+
+    /**
+     * 將保戶連同所有保單移入封存表
+     *
+     * @return 移動的保單數
+     */
+    public int archiveHolders(List<String> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids).addValue("archivedAt", archivedAt);
+        int policies = jdbc.update("INSERT INTO " + POLICIES_ARCHIVE + " (" + POLICY_COLUMNS + ", archived_at) "
+                + "SELECT " + POLICY_COLUMNS + ", :archivedAt FROM " + POLICIES
+                + " WHERE policy_holder_id IN (:ids)", parameters);
+        jdbc.update("INSERT INTO " + HOLDERS_ARCHIVE + " (" + HOLDER_COLUMNS + ", archived_at) "
+                + "SELECT " + HOLDER_COLUMNS + ", :archivedAt FROM " + HOLDERS + " WHERE id IN (:ids)", parameters);
+        jdbc.update("DELETE FROM " + POLICIES + " WHERE policy_holder_id IN (:ids)", parameters);
+        jdbc.update("DELETE FROM " + HOLDERS + " WHERE id IN (:ids)", parameters);
+        jdbc.update("DELETE FROM " + VIEW + " WHERE id IN (:ids)", parameters);
+        return policies;
+    }
+
+    /**
+     * 鎖定並回傳最後異動早於 cutoff 的 LAPSED / TERMINATED 保單編號（依編號排序）
+     */
+    public List<String> lockClosedPolicies(LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList("SELECT id FROM " + POLICIES + " WHERE status IN ('LAPSED', 'TERMINATED') "
+                        + "AND updated_at < :cutoff ORDER BY id FETCH FIRST :limit ROWS ONLY FOR UPDATE",
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", limit), String.class);
+    }
+
+    /**
+     * 將保單移入封存表，並遞增其保戶的版本號
+     */
+    public void archivePolicies(List<String> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids).addValue("archivedAt", archivedAt);
+        jdbc.update("UPDATE " + HOLDERS + " SET version = version + 1 WHERE id IN "
+                + "(SELECT policy_holder_id FROM " + POLICIES + " WHERE id IN (:ids))", parameters);
+        jdbc.update("UPDATE " + VIEW + " v SET version = (SELECT h.version FROM " + HOLDERS + " h WHERE h.id = v.id) "
+                + "WHERE v.id IN (SELECT policy_holder_id FROM " + POLICIES + " WHERE id IN (:ids))", parameters);
+        jdbc.update("INSERT INTO " + POLICIES_ARCHIVE + " (" + POLICY_COLUMNS + ", archived_at) "
+                + "SELECT " + POLICY_COLUMNS + ", :archivedAt FROM " + POLICIES + " WHERE id IN (:ids)", parameters);
+        jdbc.update("DELETE FROM " + POLICIES + " WHERE id IN (:ids)", parameters);
+    }
+
+    private <T> Optional<T> recordLookup(Optional<T> result) {
+        (result.isPresent() ? hits : misses).increment();
+        return result;
+    }
+
+    private double count(String table) {
+        try {
+            Long rows = jdbc.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            return rows == null ? Double.NaN : rows;
+        } catch (DataAccessException e) {
+            log.debug("Could not count rows of {}", table, e);
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 聚合根快照 JPA 實體
+ * 每個聚合根保留最新一份快照，載入時只需重播 lastEventId 之後的事件
+ */
+@Entity
+@Table(name = "aggregate_snapshots")
+public class AggregateSnapshotJpaEntity {
+
+    @Id
+    @Column(name = "aggregate_id", length = 50)
+    private String aggregateId;
+
+    @Column(name = "aggregate_type", length = 50, nullable = false)
+    private String aggregateType;
+
+    @Column(name = "last_event_id", length = 36, nullable = false)
+    private String lastEventId;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    // Default constructor for JPA
+    protected AggregateSnapshotJpaEntity() {
+    }
+
+    public AggregateSnapshotJpaEntity(String aggregateId, String aggregateType, String lastEventId,
+                                      int eventCount, String payload, LocalDateTime takenAt) {
+        this.aggregateId = aggregateId;
+        this.aggregateType = aggregateType;
+        this.lastEventId = lastEventId;
+        this.eventCount = eventCount;
+        this.payload = payload;
+        this.takenAt = takenAt;
+    }
+
+    // Getters
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+}
@@ -12,10 +12,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "domain_events", indexes = {
-        @Index(name = "idx_aggregate_id", columnList = "aggregateId"),
-        @Index(name = "idx_aggregate_type", columnList = "aggregateType"),
-        @Index(name = "idx_event_type", columnList = "eventType"),
-        @Index(name = "idx_occurred_on", columnList = "occurredOn")
+        @Index(name = "uk_aggregate_sequence", columnList = "aggregateId, sequenceNumber", unique = true),
+        @Index(name = "idx_aggregate_type", columnList = "aggregateType, occurredOn"),
+        @Index(name = "idx_event_type", columnList = "eventType, occurredOn"),
+        @Index(name = "idx_aggregate_event_type", columnList = "aggregateId, eventType, occurredOn"),
+        @Index(name = "idx_occurred_on", columnList = "occurredOn"),
+        @Index(name = "idx_global_position", columnList = "globalPosition", unique = true)
 })
 @EntityListeners(AuditingEntityListener.class)
 public class DomainEventJpaEntity {
@@ -27,6 +29,12 @@ public class DomainEventJpaEntity {
     @Column(name = "aggregate_id", length = 50, nullable = false)
     private String aggregateId;
 
+    /**
+     * 聚合根內的事件序號（由 1 開始連續遞增），與 aggregate_id 組成唯一鍵以偵測並行寫入
+     */
+    @Column(name = "sequence_number", nullable = false)
+    private long sequenceNumber;
+
     @Column(name = "aggregate_type", length = 50, nullable = false)
     private String aggregateType;
 
@@ -39,6 +47,13 @@ public class DomainEventJpaEntity {
     @Column(name = "occurred_on", nullable = false)
     private LocalDateTime occurredOn;
 
+    /**
+     * 全域位置，由資料庫於寫入時遞增產生，供重播引擎依序讀取
+     */
+    @Column(name = "global_position", insertable = false, updatable = false,
+            columnDefinition = "BIGINT AUTO_INCREMENT")
+    private Long globalPosition;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -58,6 +73,12 @@ public class DomainEventJpaEntity {
         this.occurredOn = occurredOn;
     }
 
+    public DomainEventJpaEntity(String eventId, String aggregateId, long sequenceNumber, String aggregateType,
+                                String eventType, String payload, LocalDateTime occurredOn) {
+        this(eventId, aggregateId, aggregateType, eventType, payload, occurredOn);
+        this.sequenceNumber = sequenceNumber;
+    }
+
     // Getters and Setters
     public String getEventId() {
         return eventId;
@@ -75,6 +96,14 @@ public class DomainEventJpaEntity {
         this.aggregateId = aggregateId;
     }
 
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
     public String getAggregateType() {
         return aggregateType;
     }
@@ -107,6 +136,10 @@ public class DomainEventJpaEntity {
         this.occurredOn = occurredOn;
     }
 
+    public Long getGlobalPosition() {
+        return globalPosition;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,84 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等記錄 JPA 實體
+ * 保存 Idempotency-Key 對應的請求指紋與第一次執行的回應，供重送的請求直接回放
+ */
+@Entity
+@Table(name = "idempotency_records", indexes = {
+        @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecordJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    @Column(name = "request_fingerprint", nullable = false, length = 64)
+    private String requestFingerprint;
+
+    @Column(name = "response_status", nullable = false)
+    private int responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Default constructor for JPA
+    protected IdempotencyRecordJpaEntity() {
+    }
+
+    public IdempotencyRecordJpaEntity(String idempotencyKey, String requestFingerprint, int responseStatus,
+                                      String contentType, byte[] responseBody,
+                                      LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+        this.responseStatus = responseStatus;
+        this.contentType = contentType;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestFingerprint() {
+        return requestFingerprint;
+    }
+
+    public int getResponseStatus() {
+        return responseStatus;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 身分證字號目錄 JPA 實體
+ * 分片模式（sharded profile）下記錄每個身分證字號對應的保戶編號與所在分片，
+ * 保存在主資料庫，同時作為身分證字號全域唯一的約束
+ */
+@Entity
+@Table(name = "national_id_directory", indexes = {
+        @Index(name = "idx_directory_policy_holder_id", columnList = "policy_holder_id", unique = true)
+})
+public class NationalIdDirectoryJpaEntity {
+
+    @Id
+    @Column(name = "national_id", length = 10)
+    private String nationalId;
+
+    @Column(name = "policy_holder_id", length = 13, nullable = false)
+    private String policyHolderId;
+
+    @Column(name = "shard", nullable = false)
+    private int shard;
+
+    // Default constructor for JPA
+    protected NationalIdDirectoryJpaEntity() {
+    }
+
+    public NationalIdDirectoryJpaEntity(String nationalId, String policyHolderId, int shard) {
+        this.nationalId = nationalId;
+        this.policyHolderId = policyHolderId;
+        this.shard = shard;
+    }
+
+    // Getters
+    public String getNationalId() {
+        return nationalId;
+    }
+
+    public String getPolicyHolderId() {
+        return policyHolderId;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+}
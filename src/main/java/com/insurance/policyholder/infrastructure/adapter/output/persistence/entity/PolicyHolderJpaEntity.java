@@ -16,9 +16,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "policy_holders", indexes = {
-        @Index(name = "idx_national_id", columnList = "nationalId", unique = true),
-        @Index(name = "idx_name", columnList = "name"),
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_name", columnList = "name, id"),
+        @Index(name = "idx_status", columnList = "status, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class PolicyHolderJpaEntity {
@@ -74,6 +73,9 @@ public class PolicyHolderJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Embedded
+    private PolicySummaryEmbeddable policySummary = new PolicySummaryEmbeddable();
+
     @OneToMany(mappedBy = "policyHolder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PolicyJpaEntity> policies = new ArrayList<>();
 
@@ -211,6 +213,14 @@ public class PolicyHolderJpaEntity {
         this.updatedAt = updatedAt;
     }
 
+    public PolicySummaryEmbeddable getPolicySummary() {
+        return policySummary;
+    }
+
+    public void setPolicySummary(PolicySummaryEmbeddable policySummary) {
+        this.policySummary = policySummary;
+    }
+
     public List<PolicyJpaEntity> getPolicies() {
         return policies;
     }
@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "policies", indexes = {
-        @Index(name = "idx_policy_holder_id", columnList = "policy_holder_id"),
+        @Index(name = "idx_policy_holder_id", columnList = "policy_holder_id, id, version"),
+        @Index(name = "idx_policy_holder_type", columnList = "policy_holder_id, policyType"),
+        @Index(name = "idx_policy_holder_status", columnList = "policy_holder_id, status"),
         @Index(name = "idx_policy_type", columnList = "policyType"),
         @Index(name = "idx_policy_status", columnList = "status")
 })
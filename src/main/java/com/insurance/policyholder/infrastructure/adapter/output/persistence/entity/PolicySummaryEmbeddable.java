@@ -0,0 +1,138 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Objects;
+
+/**
+ * 保戶有效保單摘要的反正規化欄位（policy_holders 上）
+ * 與保戶同一個資料列、同一個交易寫入，列表查詢不需載入保單；金額以幣別的最小單位儲存
+ */
+@Embeddable
+public class PolicySummaryEmbeddable {
+
+    @Column(name = "active_policy_count", nullable = false)
+    private int activePolicyCount;
+
+    @Column(name = "life_policy_count", nullable = false)
+    private int lifePolicyCount;
+
+    @Column(name = "health_policy_count", nullable = false)
+    private int healthPolicyCount;
+
+    @Column(name = "accident_policy_count", nullable = false)
+    private int accidentPolicyCount;
+
+    @Column(name = "travel_policy_count", nullable = false)
+    private int travelPolicyCount;
+
+    @Column(name = "property_policy_count", nullable = false)
+    private int propertyPolicyCount;
+
+    @Column(name = "auto_policy_count", nullable = false)
+    private int autoPolicyCount;
+
+    @Column(name = "safety_policy_count", nullable = false)
+    private int safetyPolicyCount;
+
+    @Column(name = "total_premium_minor", nullable = false)
+    private long totalPremiumMinor;
+
+    @Column(name = "total_sum_insured_minor", nullable = false)
+    private long totalSumInsuredMinor;
+
+    public PolicySummaryEmbeddable() {
+    }
+
+    public int getActivePolicyCount() {
+        return activePolicyCount;
+    }
+
+    public void setActivePolicyCount(int activePolicyCount) {
+        this.activePolicyCount = activePolicyCount;
+    }
+
+    /**
+     * 保單類型的有效保單數
+     */
+    public int getPolicyCount(PolicyJpaEntity.PolicyType policyType) {
+        return switch (policyType) {
+            case LIFE -> lifePolicyCount;
+            case HEALTH -> healthPolicyCount;
+            case ACCIDENT -> accidentPolicyCount;
+            case TRAVEL -> travelPolicyCount;
+            case PROPERTY -> propertyPolicyCount;
+            case AUTO -> autoPolicyCount;
+            case SAFETY -> safetyPolicyCount;
+        };
+    }
+
+    public void setPolicyCount(PolicyJpaEntity.PolicyType policyType, int count) {
+        switch (policyType) {
+            case LIFE -> lifePolicyCount = count;
+            case HEALTH -> healthPolicyCount = count;
+            case ACCIDENT -> accidentPolicyCount = count;
+            case TRAVEL -> travelPolicyCount = count;
+            case PROPERTY -> propertyPolicyCount = count;
+            case AUTO -> autoPolicyCount = count;
+            case SAFETY -> safetyPolicyCount = count;
+        }
+    }
+
+    public long getTotalPremiumMinor() {
+        return totalPremiumMinor;
+    }
+
+    public void setTotalPremiumMinor(long totalPremiumMinor) {
+        this.totalPremiumMinor = totalPremiumMinor;
+    }
+
+    public long getTotalSumInsuredMinor() {
+        return totalSumInsuredMinor;
+    }
+
+    public void setTotalSumInsuredMinor(long totalSumInsuredMinor) {
+        this.totalSumInsuredMinor = totalSumInsuredMinor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PolicySummaryEmbeddable that = (PolicySummaryEmbeddable) o;
+        return activePolicyCount == that.activePolicyCount &&
+                lifePolicyCount == that.lifePolicyCount &&
+                healthPolicyCount == that.healthPolicyCount &&
+                accidentPolicyCount == that.accidentPolicyCount &&
+                travelPolicyCount == that.travelPolicyCount &&
+                propertyPolicyCount == that.propertyPolicyCount &&
+                autoPolicyCount == that.autoPolicyCount &&
+                safetyPolicyCount == that.safetyPolicyCount &&
+                totalPremiumMinor == that.totalPremiumMinor &&
+                totalSumInsuredMinor == that.totalSumInsuredMinor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(activePolicyCount, lifePolicyCount, healthPolicyCount, accidentPolicyCount,
+                travelPolicyCount, propertyPolicyCount, autoPolicyCount, safetyPolicyCount,
+                totalPremiumMinor, totalSumInsuredMinor);
+    }
+
+    @Override
+    public String toString() {
+        return "PolicySummaryEmbeddable{" +
+                "activePolicyCount=" + activePolicyCount +
+                ", lifePolicyCount=" + lifePolicyCount +
+                ", healthPolicyCount=" + healthPolicyCount +
+                ", accidentPolicyCount=" + accidentPolicyCount +
+                ", travelPolicyCount=" + travelPolicyCount +
+                ", propertyPolicyCount=" + propertyPolicyCount +
+                ", autoPolicyCount=" + autoPolicyCount +
+                ", safetyPolicyCount=" + safetyPolicyCount +
+                ", totalPremiumMinor=" + totalPremiumMinor +
+                ", totalSumInsuredMinor=" + totalSumInsuredMinor +
+                '}';
+    }
+}
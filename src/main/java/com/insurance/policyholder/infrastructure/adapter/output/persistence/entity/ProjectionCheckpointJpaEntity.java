@@ -0,0 +1,47 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 投影檢查點 JPA 實體
+ * 記錄每個投影已完整處理到的 Event Store 全域位置
+ */
+@Entity
+@Table(name = "projection_checkpoints")
+public class ProjectionCheckpointJpaEntity {
+
+    @Id
+    @Column(name = "projection_name", length = 100)
+    private String projectionName;
+
+    @Column(name = "position", nullable = false)
+    private long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor for JPA
+    protected ProjectionCheckpointJpaEntity() {
+    }
+
+    public ProjectionCheckpointJpaEntity(String projectionName, long position, LocalDateTime updatedAt) {
+        this.projectionName = projectionName;
+        this.position = position;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public String getProjectionName() {
+        return projectionName;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
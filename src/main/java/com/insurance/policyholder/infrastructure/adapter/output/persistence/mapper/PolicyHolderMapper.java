@@ -3,10 +3,15 @@ package com.insurance.policyholder.infrastructure.adapter.output.persistence.map
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicySummaryEmbeddable;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -15,6 +20,8 @@ import java.util.stream.Collectors;
 @Component
 public class PolicyHolderMapper {
 
+    private static final PolicyType[] POLICY_TYPES = PolicyType.values();
+
     private final PolicyMapper policyMapper;
 
     public PolicyHolderMapper(PolicyMapper policyMapper) {
@@ -29,6 +36,30 @@ public class PolicyHolderMapper {
             return null;
         }
 
+        PolicyHolder policyHolder = reconstitute(entity, null);
+
+        // 轉換保單
+        if (entity.getPolicies() != null && !entity.getPolicies().isEmpty()) {
+            entity.getPolicies().forEach(policyEntity -> {
+                policyHolder.addReconstitutedPolicy(policyMapper.toDomain(policyEntity));
+            });
+        }
+
+        return policyHolder;
+    }
+
+    /**
+     * 未載入保單的 JPA 實體轉換為領域模型
+     * 不讀取保單，有效保單摘要取自實體的摘要欄位
+     */
+    public PolicyHolder toDomainWithoutPolicies(PolicyHolderJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return reconstitute(entity, toPolicySummary(entity.getPolicySummary()));
+    }
+
+    private PolicyHolder reconstitute(PolicyHolderJpaEntity entity, PolicySummary policySummary) {
         PolicyHolderId id = PolicyHolderId.of(entity.getId());
         NationalId nationalId = NationalId.of(entity.getNationalId());
 
@@ -53,24 +84,12 @@ public class PolicyHolderMapper {
         PolicyHolderStatus status = mapStatusToDomain(entity.getStatus());
 
         // 使用重建方法（不會產生新事件）
-        PolicyHolder policyHolder = PolicyHolder.reconstitute(
-                id,
-                nationalId,
-                personalInfo,
-                contactInfo,
-                address,
-                status,
-                entity.getVersion()
-        );
-
-        // 轉換保單
-        if (entity.getPolicies() != null && !entity.getPolicies().isEmpty()) {
-            entity.getPolicies().forEach(policyEntity -> {
-                policyHolder.addReconstitutedPolicy(policyMapper.toDomain(policyEntity));
-            });
+        if (policySummary == null) {
+            return PolicyHolder.reconstitute(id, nationalId, personalInfo, contactInfo, address, status,
+                    entity.getVersion());
         }
-
-        return policyHolder;
+        return PolicyHolder.reconstitute(id, nationalId, personalInfo, contactInfo, address, status,
+                entity.getVersion(), policySummary);
     }
 
     /**
@@ -95,6 +114,7 @@ public class PolicyHolderMapper {
         entity.setStreet(domain.getAddress().getStreet());
         entity.setStatus(mapStatusToEntity(domain.getStatus()));
         entity.setVersion(domain.getVersion());
+        writePolicySummary(domain.getPolicySummary(), entity);
 
         // 轉換保單
         if (domain.getPolicies() != null && !domain.getPolicies().isEmpty()) {
@@ -124,6 +144,46 @@ public class PolicyHolderMapper {
         entity.setDistrict(domain.getAddress().getDistrict());
         entity.setStreet(domain.getAddress().getStreet());
         entity.setStatus(mapStatusToEntity(domain.getStatus()));
+        writePolicySummary(domain.getPolicySummary(), entity);
+    }
+
+    /**
+     * 有效保單摘要欄位轉換為領域值物件
+     */
+    public PolicySummary toPolicySummary(PolicySummaryEmbeddable embeddable) {
+        Map<PolicyType, Integer> byType = new EnumMap<>(PolicyType.class);
+        for (PolicyJpaEntity.PolicyType type : PolicyJpaEntity.PolicyType.values()) {
+            byType.put(PolicyMapper.mapPolicyTypeToDomain(type), embeddable.getPolicyCount(type));
+        }
+        return PolicySummary.reconstitute(byType, embeddable.getTotalPremiumMinor(), embeddable.getTotalSumInsuredMinor());
+    }
+
+    /**
+     * 有效保單摘要轉換為保戶資料列上的欄位
+     */
+    public PolicySummaryEmbeddable toPolicySummaryEntity(PolicySummary summary) {
+        PolicySummaryEmbeddable embeddable = new PolicySummaryEmbeddable();
+        copyPolicySummary(summary, embeddable);
+        return embeddable;
+    }
+
+    /**
+     * 寫入實體既有的摘要欄位，不另外配置物件
+     */
+    private void writePolicySummary(PolicySummary summary, PolicyHolderJpaEntity entity) {
+        if (entity.getPolicySummary() == null) {
+            entity.setPolicySummary(new PolicySummaryEmbeddable());
+        }
+        copyPolicySummary(summary, entity.getPolicySummary());
+    }
+
+    private void copyPolicySummary(PolicySummary summary, PolicySummaryEmbeddable embeddable) {
+        embeddable.setActivePolicyCount(summary.getActivePolicies());
+        for (PolicyType type : POLICY_TYPES) {
+            embeddable.setPolicyCount(PolicyMapper.mapPolicyTypeToEntity(type), summary.getActivePolicies(type));
+        }
+        embeddable.setTotalPremiumMinor(summary.getTotalPremiumMinor());
+        embeddable.setTotalSumInsuredMinor(summary.getTotalSumInsuredMinor());
     }
 
     private Gender mapGenderToDomain(PolicyHolderJpaEntity.Gender gender) {
@@ -0,0 +1,114 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.*;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 保戶快照轉換器
+ * 保戶狀態與快照 JSON payload 之間的轉換（版本號不寫入快照，載入時由寫入端提供）
+ */
+@Component
+public class PolicyHolderSnapshotMapper {
+
+    private final ObjectMapper objectMapper;
+
+    public PolicyHolderSnapshotMapper() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 領域模型轉換為快照 payload
+     */
+    public String toPayload(PolicyHolder policyHolder) {
+        PolicyHolderState state = new PolicyHolderState(
+                policyHolder.getId().getValue(),
+                policyHolder.getNationalId().getValue(),
+                policyHolder.getPersonalInfo().getName(),
+                policyHolder.getPersonalInfo().getGender().name(),
+                policyHolder.getPersonalInfo().getBirthDate(),
+                policyHolder.getContactInfo().getMobilePhone(),
+                policyHolder.getContactInfo().getEmail(),
+                policyHolder.getAddress().getZipCode(),
+                policyHolder.getAddress().getCity(),
+                policyHolder.getAddress().getDistrict(),
+                policyHolder.getAddress().getStreet(),
+                policyHolder.getStatus().name(),
+                policyHolder.getPolicies().stream()
+                        .map(policy -> new PolicyState(
+                                policy.getId().getValue(),
+                                policy.getPolicyType().name(),
+                                policy.getPremium().getAmount(),
+                                policy.getSumInsured().getAmount(),
+                                policy.getStartDate(),
+                                policy.getEndDate(),
+                                policy.getStatus().name()))
+                        .collect(Collectors.toList())
+        );
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize policyholder snapshot", e);
+        }
+    }
+
+    /**
+     * 快照 payload 轉換為領域模型
+     *
+     * @param version 寫入端目前的版本號
+     */
+    public PolicyHolder toDomain(String payload, Long version) {
+        PolicyHolderState state;
+        try {
+            state = objectMapper.readValue(payload, PolicyHolderState.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize policyholder snapshot", e);
+        }
+
+        PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                PolicyHolderId.of(state.id()),
+                NationalId.of(state.nationalId()),
+                PersonalInfo.of(state.name(), Gender.valueOf(state.gender()), state.birthDate()),
+                ContactInfo.of(state.mobilePhone(), state.email()),
+                Address.of(state.zipCode(), state.city(), state.district(), state.street()),
+                PolicyHolderStatus.valueOf(state.status()),
+                version
+        );
+        state.policies().forEach(policy -> policyHolder.addReconstitutedPolicy(Policy.reconstitute(
+                PolicyId.of(policy.id()),
+                PolicyType.valueOf(policy.policyType()),
+                Money.of(policy.premium()),
+                Money.of(policy.sumInsured()),
+                policy.startDate(),
+                policy.endDate(),
+                PolicyStatus.valueOf(policy.status()),
+                0L
+        )));
+        return policyHolder;
+    }
+
+    record PolicyHolderState(String id, String nationalId, String name, String gender, LocalDate birthDate,
+                             String mobilePhone, String email, String zipCode, String city, String district,
+                             String street, String status, List<PolicyState> policies) {
+    }
+
+    record PolicyState(String id, String policyType, BigDecimal premium, BigDecimal sumInsured,
+                       LocalDate startDate, LocalDate endDate, String status) {
+    }
+}
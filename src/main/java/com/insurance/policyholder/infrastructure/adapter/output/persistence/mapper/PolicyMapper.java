@@ -52,6 +52,22 @@ public class PolicyMapper {
         );
     }
 
+    /**
+     * 以資料列的狀態與版本號重建保單（其餘欄位沿用 policy）
+     */
+    public Policy withState(Policy policy, PolicyJpaEntity.PolicyStatus status, Long version) {
+        return Policy.reconstitute(
+                policy.getId(),
+                policy.getPolicyType(),
+                policy.getPremium(),
+                policy.getSumInsured(),
+                policy.getStartDate(),
+                policy.getEndDate(),
+                mapPolicyStatusToDomain(status),
+                version
+        );
+    }
+
     /**
      * 領域模型轉換為 JPA 實體
      */
@@ -94,7 +110,7 @@ public class PolicyMapper {
         entity.setStatus(mapPolicyStatusToEntity(domain.getStatus()));
     }
 
-    private PolicyType mapPolicyTypeToDomain(PolicyJpaEntity.PolicyType type) {
+    static PolicyType mapPolicyTypeToDomain(PolicyJpaEntity.PolicyType type) {
         return switch (type) {
             case LIFE -> PolicyType.LIFE;
             case HEALTH -> PolicyType.HEALTH;
@@ -106,7 +122,7 @@ public class PolicyMapper {
         };
     }
 
-    private PolicyJpaEntity.PolicyType mapPolicyTypeToEntity(PolicyType type) {
+    static PolicyJpaEntity.PolicyType mapPolicyTypeToEntity(PolicyType type) {
         return switch (type) {
             case LIFE -> PolicyJpaEntity.PolicyType.LIFE;
             case HEALTH -> PolicyJpaEntity.PolicyType.HEALTH;
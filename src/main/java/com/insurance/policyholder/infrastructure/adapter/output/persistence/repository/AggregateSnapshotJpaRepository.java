@@ -0,0 +1,13 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.AggregateSnapshotJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 聚合根快照 JPA 儲存庫
+ * Spring Data JPA 介面
+ */
+@Repository
+public interface AggregateSnapshotJpaRepository extends JpaRepository<AggregateSnapshotJpaEntity, String> {
+}
@@ -0,0 +1,16 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 領域事件標頭投影（不含 payload 欄位）
+ */
+public record DomainEventHeader(
+        Long globalPosition,
+        Long sequenceNumber,
+        String eventId,
+        String aggregateId,
+        String aggregateType,
+        String eventType,
+        LocalDateTime occurredOn) {
+}
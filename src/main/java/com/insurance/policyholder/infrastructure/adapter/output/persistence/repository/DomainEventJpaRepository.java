@@ -1,7 +1,9 @@
 package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
 
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.DomainEventJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,10 +19,55 @@ import java.util.List;
 public interface DomainEventJpaRepository extends JpaRepository<DomainEventJpaEntity, String> {
 
     /**
-     * 根據聚合根 ID 查詢事件（按時間排序）
+     * 根據聚合根 ID 查詢事件（依聚合根序號排序，走 (aggregate_id, sequence_number) 唯一索引的範圍掃描）
      */
-    @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.aggregateId = :aggregateId ORDER BY e.occurredOn ASC")
-    List<DomainEventJpaEntity> findByAggregateIdOrderByOccurredOnAsc(@Param("aggregateId") String aggregateId);
+    @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.aggregateId = :aggregateId ORDER BY e.sequenceNumber ASC")
+    List<DomainEventJpaEntity> findByAggregateIdOrderBySequenceNumberAsc(@Param("aggregateId") String aggregateId);
+
+    /**
+     * 根據聚合根 ID 查詢事件標頭（不讀取 payload，依聚合根序號排序）
+     */
+    @Query("SELECT new com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventHeader(" +
+            "e.globalPosition, e.sequenceNumber, e.eventId, e.aggregateId, e.aggregateType, e.eventType, e.occurredOn) " +
+            "FROM DomainEventJpaEntity e WHERE e.aggregateId = :aggregateId ORDER BY e.sequenceNumber ASC")
+    List<DomainEventHeader> findHeadersByAggregateId(@Param("aggregateId") String aggregateId);
+
+    /**
+     * 根據聚合根 ID 查詢指定序號之後的事件
+     */
+    @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.aggregateId = :aggregateId " +
+            "AND e.sequenceNumber > :sequenceNumber ORDER BY e.sequenceNumber ASC")
+    List<DomainEventJpaEntity> findByAggregateIdAfter(
+            @Param("aggregateId") String aggregateId,
+            @Param("sequenceNumber") long sequenceNumber);
+
+    /**
+     * 聚合根目前的版本：資料表中的最大序號；事件已全部封存時取 archived_event_versions 記錄的高水位，都沒有時為 0
+     */
+    @Query(value = "SELECT COALESCE("
+            + "(SELECT MAX(e.sequence_number) FROM domain_events e WHERE e.aggregate_id = :aggregateId), "
+            + "(SELECT v.sequence_number FROM archived_event_versions v WHERE v.aggregate_id = :aggregateId), 0)",
+            nativeQuery = true)
+    long findCurrentVersion(@Param("aggregateId") String aggregateId);
+
+    /**
+     * 提高聚合根已封存的版本高水位（尚無記錄或記錄已不低於此值時不更新）
+     */
+    @Modifying
+    @Query(value = "UPDATE archived_event_versions SET sequence_number = :sequenceNumber "
+            + "WHERE aggregate_id = :aggregateId AND sequence_number < :sequenceNumber", nativeQuery = true)
+    int raiseArchivedVersion(@Param("aggregateId") String aggregateId,
+                             @Param("sequenceNumber") long sequenceNumber);
+
+    /**
+     * 新增聚合根已封存的版本高水位（已有記錄時不新增）
+     */
+    @Modifying
+    @Query(value = "INSERT INTO archived_event_versions (aggregate_id, sequence_number) "
+            + "SELECT :aggregateId, :sequenceNumber WHERE NOT EXISTS "
+            + "(SELECT 1 FROM archived_event_versions v WHERE v.aggregate_id = :aggregateId)", nativeQuery = true)
+    int insertArchivedVersion(@Param("aggregateId") String aggregateId,
+                              @Param("sequenceNumber") long sequenceNumber);
 
     /**
      * 根據聚合根類型查詢事件（按時間排序）
@@ -34,6 +81,34 @@ public interface DomainEventJpaRepository extends JpaRepository<DomainEventJpaEn
     @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.eventType = :eventType ORDER BY e.occurredOn ASC")
     List<DomainEventJpaEntity> findByEventTypeOrderByOccurredOnAsc(@Param("eventType") String eventType);
 
+    /**
+     * 依全域位置順序讀取事件（以 Pageable 限制筆數）
+     */
+    @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.globalPosition > :position ORDER BY e.globalPosition ASC")
+    List<DomainEventJpaEntity> findByGlobalPositionAfter(@Param("position") long position, Pageable pageable);
+
+    /**
+     * 可封存的事件：早於 horizon，且位於該聚合根快照錨點之前（依全域位置排序）
+     * 錨點事件本身保留在資料表，使「快照 + 錨點之後的事件」的載入路徑不需讀取封存
+     */
+    @Query("SELECT e FROM DomainEventJpaEntity e, AggregateSnapshotJpaEntity s, DomainEventJpaEntity a " +
+            "WHERE s.aggregateId = e.aggregateId AND a.eventId = s.lastEventId AND e.occurredOn < :horizon " +
+            "AND e.sequenceNumber < a.sequenceNumber " +
+            "ORDER BY e.globalPosition ASC")
+    List<DomainEventJpaEntity> findArchivableBehindSnapshot(@Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    /**
+     * 可封存的事件：早於 horizon（依全域位置排序）
+     */
+    @Query("SELECT e FROM DomainEventJpaEntity e WHERE e.occurredOn < :horizon ORDER BY e.globalPosition ASC")
+    List<DomainEventJpaEntity> findArchivable(@Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    /**
+     * 目前最大的全域位置
+     */
+    @Query("SELECT COALESCE(MAX(e.globalPosition), 0) FROM DomainEventJpaEntity e")
+    long findMaxGlobalPosition();
+
     /**
      * 根據時間範圍查詢事件
      */
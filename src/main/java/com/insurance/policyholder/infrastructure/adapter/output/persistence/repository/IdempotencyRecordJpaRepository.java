@@ -0,0 +1,29 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.IdempotencyRecordJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等記錄 JPA 儲存庫
+ * Spring Data JPA 介面
+ */
+@Repository
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecordJpaEntity, String> {
+
+    /**
+     * 刪除已過期的記錄
+     *
+     * @return 刪除筆數
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecordJpaEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.NationalIdDirectoryJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 身分證字號目錄 JPA 儲存庫
+ * Spring Data JPA 介面
+ */
+@Repository
+public interface NationalIdDirectoryJpaRepository extends JpaRepository<NationalIdDirectoryJpaEntity, String> {
+
+    /**
+     * 直接新增目錄項目（不先查詢），身分證字號重複時立即違反主鍵約束
+     */
+    @Modifying
+    @Query(value = "INSERT INTO national_id_directory (national_id, policy_holder_id, shard) "
+            + "VALUES (:nationalId, :policyHolderId, :shard)", nativeQuery = true)
+    void insert(@Param("nationalId") String nationalId,
+                @Param("policyHolderId") String policyHolderId,
+                @Param("shard") int shard);
+
+    /**
+     * 刪除保戶的目錄項目
+     */
+    @Modifying
+    @Query("DELETE FROM NationalIdDirectoryJpaEntity d WHERE d.policyHolderId = :policyHolderId")
+    int deleteByPolicyHolderId(@Param("policyHolderId") String policyHolderId);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,22 +16,56 @@ import java.util.Optional;
  * Spring Data JPA 介面
  */
 @Repository
-public interface PolicyHolderJpaRepository extends JpaRepository<PolicyHolderJpaEntity, String> {
+public interface PolicyHolderJpaRepository extends JpaRepository<PolicyHolderJpaEntity, String>,
+        PolicyHolderJpaRepositoryCustom {
 
     /**
      * 根據身分證字號查詢
      */
     Optional<PolicyHolderJpaEntity> findByNationalId(String nationalId);
 
+    /**
+     * 只查詢版本號（不載入保戶與保單）
+     */
+    @Query("SELECT p.version FROM PolicyHolderJpaEntity p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    /**
+     * 查詢保戶與各保單的版本號（不載入實體），保戶不存在時回傳空列表
+     */
+    @Query("SELECT new com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyVersionRow(" +
+            "p.version, pol.id, pol.version) " +
+            "FROM PolicyHolderJpaEntity p LEFT JOIN p.policies pol WHERE p.id = :id ORDER BY pol.id")
+    List<PolicyVersionRow> findVersionsWithPolicies(@Param("id") String id);
+
+    /**
+     * 查詢保戶版本號與目前資料表中各保單的狀態、版本號（不載入實體），保戶不存在時回傳空列表
+     */
+    @Query("SELECT new com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyStateRow(" +
+            "p.version, pol.id, pol.status, pol.version) " +
+            "FROM PolicyHolderJpaEntity p LEFT JOIN p.policies pol WHERE p.id = :id ORDER BY pol.id")
+    List<PolicyStateRow> findPolicyStates(@Param("id") String id);
+
     /**
      * 檢查身分證字號是否已存在
      */
     boolean existsByNationalId(String nationalId);
 
+    /**
+     * 檢查身分證字號是否已存在於目前或封存的資料表（單一查詢）
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM policy_holders WHERE national_id = :nationalId) " +
+            "OR EXISTS (SELECT 1 FROM policy_holders_archive WHERE national_id = :nationalId)", nativeQuery = true)
+    boolean existsByNationalIdIncludingArchive(@Param("nationalId") String nationalId);
+
     /**
      * 根據姓名模糊搜尋
+     * 前置萬用字元無法以索引定位：先掃描只含姓名與編號的 idx_name 比對出保戶編號，再依主鍵取回整列（deferred join），
+     * 避免逐列讀取整個資料表
      */
-    @Query("SELECT p FROM PolicyHolderJpaEntity p WHERE p.name LIKE %:name%")
+    @Query(value = "SELECT p FROM PolicyHolderJpaEntity p WHERE p.id IN " +
+            "(SELECT n.id FROM PolicyHolderJpaEntity n WHERE n.name LIKE %:name%)",
+            countQuery = "SELECT COUNT(p) FROM PolicyHolderJpaEntity p WHERE p.name LIKE %:name%")
     Page<PolicyHolderJpaEntity> findByNameContaining(@Param("name") String name, Pageable pageable);
 
     /**
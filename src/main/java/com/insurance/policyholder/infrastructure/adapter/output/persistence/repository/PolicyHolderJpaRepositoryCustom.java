@@ -0,0 +1,21 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 保戶 JPA 儲存庫的自訂查詢（Spring Data fragment）
+ */
+public interface PolicyHolderJpaRepositoryCustom {
+
+    /**
+     * 以版本號為條件更新聯絡資訊與地址，並回傳更新後的資料列
+     *
+     * @return 以 JDBC 讀回、不含保單但含有效保單摘要欄位的實體（不受持久化內容管理）；保戶不存在或版本號不符時為空
+     */
+    Optional<PolicyHolderJpaEntity> updateIfVersion(String id, long expectedVersion,
+                                                    ContactAddressChange change, LocalDateTime updatedAt);
+}
@@ -0,0 +1,63 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_ROW;
+
+/**
+ * PolicyHolderJpaRepositoryCustom 實作
+ *
+ * 以標準 SQL 的 UPDATE ... WHERE id = ? AND version = ? 完成條件式更新，只寫入有變更的欄位；
+ * 依更新筆數判斷版本號是否相符，相符時重新讀取資料列（與分片模式的 PolicyHolderShardStore 相同）
+ */
+public class PolicyHolderJpaRepositoryCustomImpl implements PolicyHolderJpaRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PolicyHolderJpaRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public Optional<PolicyHolderJpaEntity> updateIfVersion(String id, long expectedVersion,
+                                                           ContactAddressChange change, LocalDateTime updatedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        if (change.hasMobilePhone()) {
+            parameters.addValue("mobile_phone", change.getMobilePhone());
+        }
+        if (change.hasEmail()) {
+            parameters.addValue("email", change.getEmail());
+        }
+        if (change.hasAddress()) {
+            parameters.addValue("zip_code", change.getAddress().getZipCode());
+            parameters.addValue("city", change.getAddress().getCity());
+            parameters.addValue("district", change.getAddress().getDistrict());
+            parameters.addValue("street", change.getAddress().getStreet());
+        }
+        String assignments = parameters.getValues().keySet().stream()
+                .map(column -> column + " = :" + column)
+                .collect(Collectors.joining(", "));
+        parameters.addValue("updated_at", updatedAt)
+                .addValue("id", id)
+                .addValue("expected_version", expectedVersion);
+
+        int updated = jdbc.update("UPDATE policy_holders SET " + assignments
+                + ", version = version + 1, updated_at = :updated_at WHERE id = :id AND version = :expected_version",
+                parameters);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jdbc.query("SELECT " + HOLDER_COLUMNS + " FROM policy_holders WHERE id = :id",
+                Map.of("id", id), HOLDER_ROW).stream().findFirst();
+    }
+}
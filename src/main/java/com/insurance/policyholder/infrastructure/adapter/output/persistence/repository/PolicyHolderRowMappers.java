@@ -0,0 +1,81 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicySummaryEmbeddable;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 以 JDBC 讀取 policy_holders / policies（及欄位相同的分片、封存資料表）時的欄位清單與 RowMapper
+ * 資料列對應到 JPA 實體，沿用 PolicyHolderMapper 的轉換；保單的 policyHolder 關聯不設定
+ * 保戶欄位包含有效保單摘要（V4__policy_summary）
+ */
+public final class PolicyHolderRowMappers {
+
+    public static final String HOLDER_COLUMNS = "id, national_id, name, gender, birth_date, mobile_phone, email, "
+            + "zip_code, city, district, street, status, version, created_at, updated_at, "
+            + "active_policy_count, life_policy_count, health_policy_count, accident_policy_count, "
+            + "travel_policy_count, property_policy_count, auto_policy_count, safety_policy_count, "
+            + "total_premium_minor, total_sum_insured_minor";
+    public static final String POLICY_COLUMNS = "id, policy_holder_id, policy_type, premium_amount, premium_currency, "
+            + "sum_insured, sum_insured_currency, start_date, end_date, status, version, created_at, updated_at";
+
+    public static final RowMapper<PolicyHolderJpaEntity> HOLDER_ROW = (rs, rowNum) -> {
+        PolicyHolderJpaEntity entity = new PolicyHolderJpaEntity();
+        entity.setId(rs.getString("id"));
+        entity.setNationalId(rs.getString("national_id"));
+        entity.setName(rs.getString("name"));
+        entity.setGender(PolicyHolderJpaEntity.Gender.valueOf(rs.getString("gender")));
+        entity.setBirthDate(rs.getObject("birth_date", LocalDate.class));
+        entity.setMobilePhone(rs.getString("mobile_phone"));
+        entity.setEmail(rs.getString("email"));
+        entity.setZipCode(rs.getString("zip_code"));
+        entity.setCity(rs.getString("city"));
+        entity.setDistrict(rs.getString("district"));
+        entity.setStreet(rs.getString("street"));
+        entity.setStatus(PolicyHolderJpaEntity.Status.valueOf(rs.getString("status")));
+        entity.setVersion(rs.getLong("version"));
+        entity.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        entity.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        PolicySummaryEmbeddable summary = new PolicySummaryEmbeddable();
+        summary.setActivePolicyCount(rs.getInt("active_policy_count"));
+        for (PolicyJpaEntity.PolicyType policyType : PolicyJpaEntity.PolicyType.values()) {
+            summary.setPolicyCount(policyType, rs.getInt(policyCountColumn(policyType)));
+        }
+        summary.setTotalPremiumMinor(rs.getLong("total_premium_minor"));
+        summary.setTotalSumInsuredMinor(rs.getLong("total_sum_insured_minor"));
+        entity.setPolicySummary(summary);
+        return entity;
+    };
+
+    public static final RowMapper<PolicyJpaEntity> POLICY_ROW = (rs, rowNum) -> {
+        PolicyJpaEntity entity = new PolicyJpaEntity();
+        entity.setId(rs.getString("id"));
+        entity.setPolicyType(PolicyJpaEntity.PolicyType.valueOf(rs.getString("policy_type")));
+        entity.setPremiumAmount(rs.getBigDecimal("premium_amount"));
+        entity.setPremiumCurrency(rs.getString("premium_currency"));
+        entity.setSumInsured(rs.getBigDecimal("sum_insured"));
+        entity.setSumInsuredCurrency(rs.getString("sum_insured_currency"));
+        entity.setStartDate(rs.getObject("start_date", LocalDate.class));
+        entity.setEndDate(rs.getObject("end_date", LocalDate.class));
+        entity.setStatus(PolicyJpaEntity.PolicyStatus.valueOf(rs.getString("status")));
+        entity.setVersion(rs.getLong("version"));
+        entity.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        entity.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return entity;
+    };
+
+    /**
+     * 保單類型的有效保單數欄位名稱（例如 LIFE -> life_policy_count）
+     */
+    public static String policyCountColumn(PolicyJpaEntity.PolicyType policyType) {
+        return policyType.name().toLowerCase(Locale.ROOT) + "_policy_count";
+    }
+
+    private PolicyHolderRowMappers() {
+    }
+}
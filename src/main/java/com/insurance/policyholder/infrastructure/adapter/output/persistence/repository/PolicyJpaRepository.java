@@ -19,27 +19,32 @@ public interface PolicyJpaRepository extends JpaRepository<PolicyJpaEntity, Stri
 
     /**
      * 根據保戶 ID 查詢所有保單
+     * 以 JPQL 直接比對外鍵欄位；衍生查詢會 LEFT JOIN policy_holders，H2 因而改以 policies 全表掃描驅動
      */
-    List<PolicyJpaEntity> findByPolicyHolderId(String policyHolderId);
+    @Query("SELECT p FROM PolicyJpaEntity p WHERE p.policyHolder.id = :policyHolderId")
+    List<PolicyJpaEntity> findByPolicyHolderId(@Param("policyHolderId") String policyHolderId);
 
     /**
      * 根據保戶 ID 和保單類型查詢
      */
+    @Query("SELECT p FROM PolicyJpaEntity p WHERE p.policyHolder.id = :policyHolderId AND p.policyType = :policyType")
     List<PolicyJpaEntity> findByPolicyHolderIdAndPolicyType(
-            String policyHolderId,
-            PolicyJpaEntity.PolicyType policyType);
+            @Param("policyHolderId") String policyHolderId,
+            @Param("policyType") PolicyJpaEntity.PolicyType policyType);
 
     /**
      * 根據保戶 ID 和保單狀態查詢
      */
+    @Query("SELECT p FROM PolicyJpaEntity p WHERE p.policyHolder.id = :policyHolderId AND p.status = :status")
     List<PolicyJpaEntity> findByPolicyHolderIdAndStatus(
-            String policyHolderId,
-            PolicyJpaEntity.PolicyStatus status);
+            @Param("policyHolderId") String policyHolderId,
+            @Param("status") PolicyJpaEntity.PolicyStatus status);
 
     /**
      * 根據保戶 ID 查詢（分頁）
      */
-    Page<PolicyJpaEntity> findByPolicyHolderId(String policyHolderId, Pageable pageable);
+    @Query("SELECT p FROM PolicyJpaEntity p WHERE p.policyHolder.id = :policyHolderId")
+    Page<PolicyJpaEntity> findByPolicyHolderId(@Param("policyHolderId") String policyHolderId, Pageable pageable);
 
     /**
      * 根據保單類型查詢
@@ -55,5 +60,6 @@ public interface PolicyJpaRepository extends JpaRepository<PolicyJpaEntity, Stri
     /**
      * 計算保戶的保單數量
      */
-    long countByPolicyHolderId(String policyHolderId);
+    @Query("SELECT COUNT(p) FROM PolicyJpaEntity p WHERE p.policyHolder.id = :policyHolderId")
+    long countByPolicyHolderId(@Param("policyHolderId") String policyHolderId);
 }
@@ -0,0 +1,13 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+
+/**
+ * 保戶版本號與目前資料表中各保單的狀態、版本號投影（保戶沒有保單時保單欄位為 null）
+ */
+public record PolicyStateRow(
+        Long policyHolderVersion,
+        String policyId,
+        PolicyJpaEntity.PolicyStatus policyStatus,
+        Long policyVersion) {
+}
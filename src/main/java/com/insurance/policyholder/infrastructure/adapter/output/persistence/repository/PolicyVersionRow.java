@@ -0,0 +1,10 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+/**
+ * 保戶與保單版本號投影（保戶沒有保單時 policyId 與 policyVersion 為 null）
+ */
+public record PolicyVersionRow(
+        Long policyHolderVersion,
+        String policyId,
+        Long policyVersion) {
+}
@@ -0,0 +1,13 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.repository;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.ProjectionCheckpointJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 投影檢查點 JPA 儲存庫
+ * Spring Data JPA 介面
+ */
+@Repository
+public interface ProjectionCheckpointJpaRepository extends JpaRepository<ProjectionCheckpointJpaEntity, String> {
+}
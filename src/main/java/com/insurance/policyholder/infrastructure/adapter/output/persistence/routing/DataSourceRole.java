@@ -0,0 +1,11 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+/**
+ * 連線所屬的資料庫角色
+ */
+public enum DataSourceRole {
+    /** 主庫：所有寫入與需要讀到最新資料的讀取 */
+    PRIMARY,
+    /** 唯讀副本：唯讀交易 */
+    REPLICA
+}
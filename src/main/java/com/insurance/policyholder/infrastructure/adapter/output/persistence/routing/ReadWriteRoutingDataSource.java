@@ -0,0 +1,59 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 依交易屬性選擇主庫或唯讀副本的 DataSource
+ *
+ * 唯讀交易（@Transactional(readOnly = true)）使用副本，其餘（寫入交易、交易外的存取）使用主庫；
+ * ReplicaLagGuard 判定目前請求必須讀到自己的寫入時，唯讀交易也改用主庫。
+ *
+ * 交易管理器在標記唯讀之前就會取得連線，必須以 LazyConnectionDataSourceProxy 包裝，
+ * 讓實際連線延後到第一個語句執行時才決定
+ *
+ * - policyholder.datasource.routed  依 role 計數取得的實體連線
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagGuard lagGuard;
+    private final Counter primaryRouted;
+    private final Counter replicaRouted;
+
+    public ReadWriteRoutingDataSource(ReplicatedDataSources dataSources, ReplicaLagGuard lagGuard,
+                                      MeterRegistry registry) {
+        this.lagGuard = lagGuard;
+        this.primaryRouted = routed(DataSourceRole.PRIMARY, registry);
+        this.replicaRouted = routed(DataSourceRole.REPLICA, registry);
+        setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, dataSources.getPrimary(),
+                DataSourceRole.REPLICA, dataSources.getReplica()));
+        setDefaultTargetDataSource(dataSources.getPrimary());
+        afterPropertiesSet();
+    }
+
+    private static Counter routed(DataSourceRole role, MeterRegistry registry) {
+        return Counter.builder("policyholder.datasource.routed")
+                .description("Physical connections obtained per database role")
+                .tag("role", role.name().toLowerCase())
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRole role = currentRole();
+        (role == DataSourceRole.REPLICA ? replicaRouted : primaryRouted).increment();
+        return role;
+    }
+
+    DataSourceRole currentRole() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !lagGuard.isPinnedToPrimary()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,98 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 副本延遲防護（read-your-writes）
+ *
+ * 記錄每個用戶端最後一次寫入的時間；寫入後 window 內的讀取請求固定使用主庫，
+ * 寫入請求本身也全程使用主庫。若能得知副本已複製到的時間點（replicatedThrough），
+ * 副本追上該用戶端的寫入後即提前改回副本
+ *
+ * 目前請求的判定結果以 ThreadLocal 保存，由 begin/end 於請求開始與結束時設定
+ */
+public class ReplicaLagGuard {
+
+    /** 副本進度未知 */
+    public static final long UNKNOWN = Long.MIN_VALUE;
+
+    private final Duration window;
+    private final int maxTrackedClients;
+    private final Clock clock;
+    private final LongSupplier replicatedThrough;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+
+    /**
+     * @param window            寫入後固定讀主庫的時間
+     * @param maxTrackedClients 追蹤的用戶端數超過此值時清除已過期的項目
+     * @param clock             時鐘
+     * @param replicatedThrough 副本已包含的最後寫入時間（epoch 毫秒），未知時回傳 UNKNOWN
+     */
+    public ReplicaLagGuard(Duration window, int maxTrackedClients, Clock clock, LongSupplier replicatedThrough) {
+        this.window = window;
+        this.maxTrackedClients = maxTrackedClients;
+        this.clock = clock;
+        this.replicatedThrough = replicatedThrough;
+    }
+
+    /**
+     * 請求開始：寫入請求記錄寫入時間並固定主庫，讀取請求依該用戶端最近的寫入判定
+     */
+    public void begin(String clientKey, boolean write) {
+        if (write) {
+            recordWrite(clientKey);
+            pinned.set(Boolean.TRUE);
+        } else {
+            pinned.set(mustReadPrimary(clientKey));
+        }
+    }
+
+    /**
+     * 請求結束：寫入請求以完成時間再記錄一次（回應送出前提交的交易皆已包含）
+     */
+    public void end(String clientKey, boolean write) {
+        if (write) {
+            recordWrite(clientKey);
+        }
+        pinned.remove();
+    }
+
+    /**
+     * 目前的請求是否必須使用主庫
+     */
+    public boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(pinned.get());
+    }
+
+    boolean mustReadPrimary(String clientKey) {
+        Long lastWrite = lastWrites.get(clientKey);
+        if (lastWrite == null) {
+            return false;
+        }
+        long now = clock.millis();
+        if (now - lastWrite >= window.toMillis()) {
+            lastWrites.remove(clientKey, lastWrite);
+            return false;
+        }
+        long replicated = replicatedThrough.getAsLong();
+        return replicated == UNKNOWN || replicated < lastWrite;
+    }
+
+    private void recordWrite(String clientKey) {
+        long now = clock.millis();
+        lastWrites.merge(clientKey, now, Math::max);
+        if (lastWrites.size() > maxTrackedClients) {
+            long cutoff = now - window.toMillis();
+            lastWrites.values().removeIf(written -> written <= cutoff);
+        }
+    }
+
+    int trackedClients() {
+        return lastWrites.size();
+    }
+}
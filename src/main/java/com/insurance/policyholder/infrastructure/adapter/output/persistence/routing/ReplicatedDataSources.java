@@ -0,0 +1,50 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+/**
+ * 主庫與唯讀副本的連線池
+ *
+ * 兩個連線池不註冊為 DataSource bean，只透過 ReadWriteRoutingDataSource 對外提供，
+ * 避免 SQL 診斷等 DataSource 後處理重複包裝；關閉時一併關閉兩個連線池
+ */
+public class ReplicatedDataSources implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicatedDataSources.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicatedDataSources(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source {}", dataSource, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * 以整份快照同步 H2 主庫與副本的簡易複製器（供本機驗證讀寫分離使用）
+ *
+ * 每次同步在主庫以 SNAPSHOT 隔離等級讀取所有資料表，於副本的單一交易中清空並重新寫入，
+ * 副本的讀取者只會看到同步前或同步後的完整狀態。主庫結構（SCRIPT NODATA）改變時先重建副本結構。
+ * 複製量與資料量成正比，正式環境應改用資料庫本身的複寫
+ *
+ * - policyholder.replica.sync  每次同步的耗時
+ * - policyholder.replica.lag   副本落後主庫的時間（毫秒，距上次同步的快照時間點）
+ */
+public class SnapshotReplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotReplicator.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern RESTART_WITH = Pattern.compile(" RESTART WITH -?\\d+");
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Clock clock;
+    private final Timer syncTimer;
+
+    private volatile long replicatedThrough = ReplicaLagGuard.UNKNOWN;
+    private List<String> schemaSignature = List.of();
+
+    public SnapshotReplicator(DataSource primary, DataSource replica, Clock clock, MeterRegistry registry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.clock = clock;
+        this.syncTimer = Timer.builder("policyholder.replica.sync")
+                .description("Time taken to copy a primary snapshot to the replica")
+                .register(registry);
+        Gauge.builder("policyholder.replica.lag", this, SnapshotReplicator::lagMillis)
+                .description("Milliseconds since the snapshot the replica currently serves")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    /**
+     * 將主庫目前的狀態完整複製到副本
+     */
+    @Scheduled(fixedDelayString = "${persistence.replica.replicator.interval:500}",
+            initialDelayString = "${persistence.replica.replicator.interval:500}")
+    public synchronized void replicate() {
+        long snapshotAt = clock.millis();
+        try {
+            syncTimer.recordCallable(() -> {
+                copySnapshot();
+                return null;
+            });
+            replicatedThrough = snapshotAt;
+        } catch (Exception e) {
+            log.warn("Replica synchronization failed; replica stays at snapshot {}", replicatedThrough, e);
+        }
+    }
+
+    /**
+     * 副本已包含的最後時間點（epoch 毫秒），尚未同步過時為 ReplicaLagGuard.UNKNOWN
+     */
+    public long getReplicatedThrough() {
+        return replicatedThrough;
+    }
+
+    private double lagMillis() {
+        long through = replicatedThrough;
+        return through == ReplicaLagGuard.UNKNOWN ? Double.NaN : clock.millis() - through;
+    }
+
+    private void copySnapshot() throws SQLException {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            int isolation = source.getTransactionIsolation();
+            source.setAutoCommit(false);
+            try (Statement statement = source.createStatement()) {
+                statement.execute("SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL SNAPSHOT");
+            }
+            try {
+                List<String> script = schemaScript(source);
+                List<String> signature = signatureOf(script);
+                if (!signature.equals(schemaSignature)) {
+                    rebuildSchema(target, script);
+                    schemaSignature = signature;
+                }
+                copyTables(source, target);
+            } finally {
+                source.rollback();
+                source.setTransactionIsolation(isolation);
+            }
+        }
+    }
+
+    private static List<String> schemaScript(Connection source) throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (rows.next()) {
+                String line = rows.getString(1);
+                if (!line.startsWith("--") && !line.startsWith("CREATE USER")) {
+                    script.add(line);
+                }
+            }
+        }
+        return script;
+    }
+
+    /**
+     * 比較結構用的簽章：忽略序列與 identity 欄位目前的值，資料寫入不會觸發重建
+     */
+    private static List<String> signatureOf(List<String> script) {
+        return script.stream()
+                .map(ddl -> RESTART_WITH.matcher(ddl).replaceAll(""))
+                .toList();
+    }
+
+    private static void rebuildSchema(Connection target, List<String> script) throws SQLException {
+        target.setAutoCommit(true);
+        try (Statement statement = target.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String ddl : script) {
+                statement.execute(ddl);
+            }
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+        log.info("Rebuilt replica schema from primary");
+    }
+
+    private static void copyTables(Connection source, Connection target) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rows = source.getMetaData().getTables(null, "PUBLIC", "%", new String[]{"TABLE", "BASE TABLE"})) {
+            while (rows.next()) {
+                tables.add(rows.getString("TABLE_NAME"));
+            }
+        }
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                copyTable(source, target, table);
+            }
+            target.commit();
+        } catch (SQLException | RuntimeException e) {
+            target.rollback();
+            throw e;
+        }
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = '"' + table + '"';
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quoted)) {
+            ResultSetMetaData meta = rows.getMetaData();
+            int columns = meta.getColumnCount();
+            StringJoiner names = new StringJoiner(", ", " (", ")");
+            StringJoiner values = new StringJoiner(", ", " VALUES (", ")");
+            for (int i = 1; i <= columns; i++) {
+                names.add('"' + meta.getColumnName(i) + '"');
+                values.add("?");
+            }
+            try (PreparedStatement insert = target.prepareStatement("INSERT INTO " + quoted + names + values)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, portable(rows.getObject(i)));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    /**
+     * LOB 只在來源連線有效，先讀成字串或位元組
+     */
+    private static Object portable(Object value) throws SQLException {
+        if (value instanceof Clob clob) {
+            return clob.getSubString(1, (int) clob.length());
+        }
+        if (value instanceof Blob blob) {
+            return blob.getBytes(1, (int) blob.length());
+        }
+        return value;
+    }
+}
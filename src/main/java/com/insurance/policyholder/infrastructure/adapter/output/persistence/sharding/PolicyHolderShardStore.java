@@ -0,0 +1,336 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicySummaryEmbeddable;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyVersionRow;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_ROW;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_ROW;
+
+/**
+ * 分片上的保戶與保單存取（JDBC）
+ *
+ * 每個分片有與主資料庫相同的 policy_holders / policies 資料表（db/shard 的 migration），
+ * 以 JPA 實體作為資料列的載體，沿用 PolicyHolderMapper 的轉換。
+ * update 依 JPA merge 的語意寫入整個聚合：比對版本號後只更新有變更的資料列並遞增版本號，
+ * 新的保單新增、不在聚合中的保單刪除（orphanRemoval）；保戶資料列上的有效保單摘要隨聚合一併寫入。單一分片的操作先加入目前的交易（ShardTransactions）
+ */
+public class PolicyHolderShardStore {
+
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ShardTransactions transactions;
+
+    public PolicyHolderShardStore(ShardedDataSources dataSources, ShardTransactions transactions) {
+        List<NamedParameterJdbcTemplate> templates = new ArrayList<>(dataSources.size());
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            templates.add(new NamedParameterJdbcTemplate(dataSources.get(shard)));
+        }
+        this.shards = List.copyOf(templates);
+        this.transactions = transactions;
+    }
+
+    /**
+     * 查詢保戶（withPolicies 為 true 時一併載入保單，依保單編號排序）
+     */
+    public Optional<PolicyHolderJpaEntity> findById(int shard, String id, boolean withPolicies) {
+        NamedParameterJdbcTemplate jdbc = joined(shard);
+        List<PolicyHolderJpaEntity> rows = jdbc.query(
+                "SELECT " + HOLDER_COLUMNS + " FROM policy_holders WHERE id = :id", Map.of("id", id), HOLDER_ROW);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        PolicyHolderJpaEntity holder = rows.get(0);
+        if (withPolicies) {
+            jdbc.query("SELECT " + POLICY_COLUMNS + " FROM policies WHERE policy_holder_id = :id ORDER BY id",
+                    Map.of("id", id), POLICY_ROW).forEach(holder::addPolicy);
+        }
+        return Optional.of(holder);
+    }
+
+    public Optional<Long> findVersionById(int shard, String id) {
+        return joined(shard).queryForList("SELECT version FROM policy_holders WHERE id = :id", Map.of("id", id), Long.class)
+                .stream().findFirst();
+    }
+
+    /**
+     * 查詢保戶與各保單的版本號，保戶不存在時回傳空列表
+     */
+    public List<PolicyVersionRow> findVersionsWithPolicies(int shard, String id) {
+        return joined(shard).query(
+                "SELECT h.version AS holder_version, p.id AS policy_id, p.version AS policy_version "
+                        + "FROM policy_holders h LEFT JOIN policies p ON p.policy_holder_id = h.id "
+                        + "WHERE h.id = :id ORDER BY p.id",
+                Map.of("id", id),
+                (rs, rowNum) -> new PolicyVersionRow(rs.getLong("holder_version"), rs.getString("policy_id"),
+                        (Long) rs.getObject("policy_version", Long.class)));
+    }
+
+    /**
+     * 新增保戶與其所有保單，版本號從 0 開始
+     */
+    public PolicyHolderJpaEntity insert(int shard, PolicyHolderJpaEntity entity, LocalDateTime now) {
+        NamedParameterJdbcTemplate jdbc = joined(shard);
+        entity.setVersion(0L);
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        jdbc.update("INSERT INTO policy_holders (" + HOLDER_COLUMNS + ") VALUES (:id, :nationalId, :name, :gender, "
+                + ":birthDate, :mobilePhone, :email, :zipCode, :city, :district, :street, :status, :version, "
+                + ":createdAt, :updatedAt, :activePolicyCount, :lifePolicyCount, :healthPolicyCount, "
+                + ":accidentPolicyCount, :travelPolicyCount, :propertyPolicyCount, :autoPolicyCount, "
+                + ":safetyPolicyCount, :totalPremiumMinor, :totalSumInsuredMinor)", holderParameters(entity));
+        for (PolicyJpaEntity policy : entity.getPolicies()) {
+            insertPolicy(jdbc, entity.getId(), policy, now);
+        }
+        return entity;
+    }
+
+    /**
+     * 以目前儲存的狀態（stored，含保單）為基準寫入變更，回傳寫入後的實體（含新的版本號與時間戳記）
+     *
+     * @throws OptimisticLockingFailureException 保戶或保單的版本號與資料庫不符
+     */
+    public PolicyHolderJpaEntity update(int shard, PolicyHolderJpaEntity stored, PolicyHolderJpaEntity entity,
+                                        LocalDateTime now) {
+        NamedParameterJdbcTemplate jdbc = joined(shard);
+        if (!stored.getVersion().equals(entity.getVersion())) {
+            throw stale("PolicyHolder", entity.getId(), entity.getVersion());
+        }
+        entity.setCreatedAt(stored.getCreatedAt());
+        if (sameColumns(stored, entity)) {
+            entity.setUpdatedAt(stored.getUpdatedAt());
+        } else {
+            entity.setUpdatedAt(now);
+            int updated = jdbc.update("UPDATE policy_holders SET national_id = :nationalId, name = :name, "
+                    + "gender = :gender, birth_date = :birthDate, mobile_phone = :mobilePhone, email = :email, "
+                    + "zip_code = :zipCode, city = :city, district = :district, street = :street, status = :status, "
+                    + "active_policy_count = :activePolicyCount, life_policy_count = :lifePolicyCount, "
+                    + "health_policy_count = :healthPolicyCount, accident_policy_count = :accidentPolicyCount, "
+                    + "travel_policy_count = :travelPolicyCount, property_policy_count = :propertyPolicyCount, "
+                    + "auto_policy_count = :autoPolicyCount, safety_policy_count = :safetyPolicyCount, "
+                    + "total_premium_minor = :totalPremiumMinor, total_sum_insured_minor = :totalSumInsuredMinor, "
+                    + "version = version + 1, updated_at = :updatedAt WHERE id = :id AND version = :version",
+                    holderParameters(entity));
+            if (updated == 0) {
+                throw stale("PolicyHolder", entity.getId(), entity.getVersion());
+            }
+            entity.setVersion(entity.getVersion() + 1);
+        }
+
+        Map<String, PolicyJpaEntity> existing = stored.getPolicies().stream()
+                .collect(Collectors.toMap(PolicyJpaEntity::getId, policy -> policy, (a, b) -> a, LinkedHashMap::new));
+        for (PolicyJpaEntity policy : entity.getPolicies()) {
+            PolicyJpaEntity storedPolicy = existing.remove(policy.getId());
+            if (storedPolicy == null) {
+                insertPolicy(jdbc, entity.getId(), policy, now);
+            } else if (!storedPolicy.getVersion().equals(policy.getVersion())) {
+                throw stale("Policy", policy.getId(), policy.getVersion());
+            } else {
+                updatePolicy(jdbc, storedPolicy, policy, now);
+            }
+        }
+        for (PolicyJpaEntity removed : existing.values()) {
+            jdbc.update("DELETE FROM policies WHERE id = :id", Map.of("id", removed.getId()));
+        }
+        return entity;
+    }
+
+    /**
+     * 以版本號為條件更新聯絡資訊與地址，回傳更新後的保戶（不含保單）；未更新任何資料列時為空
+     */
+    public Optional<PolicyHolderJpaEntity> updateIfVersion(int shard, String id, long expectedVersion,
+                                                           ContactAddressChange change, LocalDateTime updatedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        if (change.hasMobilePhone()) {
+            parameters.addValue("mobile_phone", change.getMobilePhone());
+        }
+        if (change.hasEmail()) {
+            parameters.addValue("email", change.getEmail());
+        }
+        if (change.hasAddress()) {
+            parameters.addValue("zip_code", change.getAddress().getZipCode());
+            parameters.addValue("city", change.getAddress().getCity());
+            parameters.addValue("district", change.getAddress().getDistrict());
+            parameters.addValue("street", change.getAddress().getStreet());
+        }
+        String assignments = parameters.getValues().keySet().stream()
+                .map(column -> column + " = :" + column)
+                .collect(Collectors.joining(", "));
+        parameters.addValue("updated_at", updatedAt)
+                .addValue("id", id)
+                .addValue("expected_version", expectedVersion);
+        int updated = joined(shard).update("UPDATE policy_holders SET " + assignments
+                + ", version = version + 1, updated_at = :updated_at WHERE id = :id AND version = :expected_version",
+                parameters);
+        return updated == 0 ? Optional.empty() : findById(shard, id, false);
+    }
+
+    public void deleteById(int shard, String id) {
+        NamedParameterJdbcTemplate jdbc = joined(shard);
+        jdbc.update("DELETE FROM policies WHERE policy_holder_id = :id", Map.of("id", id));
+        jdbc.update("DELETE FROM policy_holders WHERE id = :id", Map.of("id", id));
+    }
+
+    /**
+     * 姓名模糊搜尋，依保戶編號排序回傳前 limit 筆（跨分片合併用，不加入交易）
+     */
+    public List<PolicyHolderJpaEntity> findByNameContaining(int shard, String name, int limit) {
+        return shards.get(shard).query("SELECT " + HOLDER_COLUMNS + " FROM policy_holders "
+                        + "WHERE name LIKE :pattern ESCAPE '\\' ORDER BY id LIMIT :limit",
+                Map.of("pattern", containing(name), "limit", limit), HOLDER_ROW);
+    }
+
+    /**
+     * 依狀態查詢，依保戶編號排序回傳前 limit 筆（跨分片合併用，不加入交易）
+     */
+    public List<PolicyHolderJpaEntity> findByStatus(int shard, PolicyHolderJpaEntity.Status status, int limit) {
+        return shards.get(shard).query("SELECT " + HOLDER_COLUMNS + " FROM policy_holders "
+                        + "WHERE status = :status ORDER BY id LIMIT :limit",
+                Map.of("status", status.name(), "limit", limit), HOLDER_ROW);
+    }
+
+    public long countByNameContaining(int shard, String name) {
+        return shards.get(shard).queryForObject(
+                "SELECT COUNT(*) FROM policy_holders WHERE name LIKE :pattern ESCAPE '\\'",
+                Map.of("pattern", containing(name)), Long.class);
+    }
+
+    public long countByStatus(int shard, PolicyHolderJpaEntity.Status status) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM policy_holders WHERE status = :status",
+                Map.of("status", status.name()), Long.class);
+    }
+
+    private NamedParameterJdbcTemplate joined(int shard) {
+        transactions.join(shard);
+        return shards.get(shard);
+    }
+
+    private static void insertPolicy(NamedParameterJdbcTemplate jdbc, String policyHolderId, PolicyJpaEntity policy,
+                                     LocalDateTime now) {
+        policy.setVersion(0L);
+        policy.setCreatedAt(now);
+        policy.setUpdatedAt(now);
+        jdbc.update("INSERT INTO policies (" + POLICY_COLUMNS + ") VALUES (:id, :policyHolderId, :policyType, "
+                        + ":premiumAmount, :premiumCurrency, :sumInsured, :sumInsuredCurrency, :startDate, :endDate, "
+                        + ":status, :version, :createdAt, :updatedAt)",
+                policyParameters(policyHolderId, policy));
+    }
+
+    private static void updatePolicy(NamedParameterJdbcTemplate jdbc, PolicyJpaEntity stored, PolicyJpaEntity policy,
+                                     LocalDateTime now) {
+        policy.setCreatedAt(stored.getCreatedAt());
+        if (sameColumns(stored, policy)) {
+            policy.setUpdatedAt(stored.getUpdatedAt());
+            return;
+        }
+        policy.setUpdatedAt(now);
+        int updated = jdbc.update("UPDATE policies SET policy_type = :policyType, premium_amount = :premiumAmount, "
+                        + "premium_currency = :premiumCurrency, sum_insured = :sumInsured, "
+                        + "sum_insured_currency = :sumInsuredCurrency, start_date = :startDate, end_date = :endDate, "
+                        + "status = :status, version = version + 1, updated_at = :updatedAt "
+                        + "WHERE id = :id AND version = :version",
+                policyParameters(null, policy));
+        if (updated == 0) {
+            throw stale("Policy", policy.getId(), policy.getVersion());
+        }
+        policy.setVersion(policy.getVersion() + 1);
+    }
+
+    private static MapSqlParameterSource holderParameters(PolicyHolderJpaEntity entity) {
+        PolicySummaryEmbeddable summary = entity.getPolicySummary();
+        return new MapSqlParameterSource()
+                .addValue("id", entity.getId())
+                .addValue("nationalId", entity.getNationalId())
+                .addValue("name", entity.getName())
+                .addValue("gender", entity.getGender().name())
+                .addValue("birthDate", entity.getBirthDate())
+                .addValue("mobilePhone", entity.getMobilePhone())
+                .addValue("email", entity.getEmail())
+                .addValue("zipCode", entity.getZipCode())
+                .addValue("city", entity.getCity())
+                .addValue("district", entity.getDistrict())
+                .addValue("street", entity.getStreet())
+                .addValue("status", entity.getStatus().name())
+                .addValue("version", entity.getVersion())
+                .addValue("createdAt", entity.getCreatedAt())
+                .addValue("updatedAt", entity.getUpdatedAt())
+                .addValue("activePolicyCount", summary.getActivePolicyCount())
+                .addValue("lifePolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.LIFE))
+                .addValue("healthPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.HEALTH))
+                .addValue("accidentPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.ACCIDENT))
+                .addValue("travelPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.TRAVEL))
+                .addValue("propertyPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.PROPERTY))
+                .addValue("autoPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.AUTO))
+                .addValue("safetyPolicyCount", summary.getPolicyCount(PolicyJpaEntity.PolicyType.SAFETY))
+                .addValue("totalPremiumMinor", summary.getTotalPremiumMinor())
+                .addValue("totalSumInsuredMinor", summary.getTotalSumInsuredMinor());
+    }
+
+    private static MapSqlParameterSource policyParameters(String policyHolderId, PolicyJpaEntity policy) {
+        return new MapSqlParameterSource()
+                .addValue("id", policy.getId())
+                .addValue("policyHolderId", policyHolderId)
+                .addValue("policyType", policy.getPolicyType().name())
+                .addValue("premiumAmount", policy.getPremiumAmount())
+                .addValue("premiumCurrency", policy.getPremiumCurrency())
+                .addValue("sumInsured", policy.getSumInsured())
+                .addValue("sumInsuredCurrency", policy.getSumInsuredCurrency())
+                .addValue("startDate", policy.getStartDate())
+                .addValue("endDate", policy.getEndDate())
+                .addValue("status", policy.getStatus().name())
+                .addValue("version", policy.getVersion())
+                .addValue("createdAt", policy.getCreatedAt())
+                .addValue("updatedAt", policy.getUpdatedAt());
+    }
+
+    private static boolean sameColumns(PolicyHolderJpaEntity a, PolicyHolderJpaEntity b) {
+        return Objects.equals(a.getNationalId(), b.getNationalId())
+                && Objects.equals(a.getName(), b.getName())
+                && a.getGender() == b.getGender()
+                && Objects.equals(a.getBirthDate(), b.getBirthDate())
+                && Objects.equals(a.getMobilePhone(), b.getMobilePhone())
+                && Objects.equals(a.getEmail(), b.getEmail())
+                && Objects.equals(a.getZipCode(), b.getZipCode())
+                && Objects.equals(a.getCity(), b.getCity())
+                && Objects.equals(a.getDistrict(), b.getDistrict())
+                && Objects.equals(a.getStreet(), b.getStreet())
+                && a.getStatus() == b.getStatus()
+                && Objects.equals(a.getPolicySummary(), b.getPolicySummary());
+    }
+
+    private static boolean sameColumns(PolicyJpaEntity a, PolicyJpaEntity b) {
+        return a.getPolicyType() == b.getPolicyType()
+                && a.getPremiumAmount().compareTo(b.getPremiumAmount()) == 0
+                && Objects.equals(a.getPremiumCurrency(), b.getPremiumCurrency())
+                && a.getSumInsured().compareTo(b.getSumInsured()) == 0
+                && Objects.equals(a.getSumInsuredCurrency(), b.getSumInsuredCurrency())
+                && Objects.equals(a.getStartDate(), b.getStartDate())
+                && Objects.equals(a.getEndDate(), b.getEndDate())
+                && a.getStatus() == b.getStatus();
+    }
+
+    private static String containing(String name) {
+        String escaped = name.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static OptimisticLockingFailureException stale(String type, String id, Long expectedVersion) {
+        return new OptimisticLockingFailureException(
+                type + " " + id + " was updated or deleted concurrently (expected version " + expectedVersion + ")");
+    }
+}
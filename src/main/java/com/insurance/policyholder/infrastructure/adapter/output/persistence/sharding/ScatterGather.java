@@ -0,0 +1,132 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 跨分片查詢：同時對每個分片執行查詢，再合併結果
+ *
+ * 分頁查詢時每個分片依相同排序回傳前 (page + 1) × size 筆，合併排序後略過前 page × size 筆，
+ * 因此結果與單一資料庫相同，但越後面的分頁每個分片讀取的資料越多。
+ * 任一分片失敗或逾時時整個查詢失敗（不回傳不完整的結果）
+ *
+ * - policyholder.shard.scatter  跨分片查詢的耗時（依 operation）
+ */
+public class ScatterGather {
+
+    private final int shardCount;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final MeterRegistry registry;
+
+    /**
+     * @param shardCount 分片數
+     * @param threads    查詢執行緒數（通常為分片數 × 同時進行的跨分片查詢數）
+     * @param timeout    等待所有分片回應的上限
+     * @param registry   指標
+     */
+    public ScatterGather(int shardCount, int threads, Duration timeout, MeterRegistry registry) {
+        if (shardCount < 1 || threads < 1) {
+            throw new IllegalArgumentException("Shard count and threads must be positive");
+        }
+        this.shardCount = shardCount;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeout = timeout;
+        this.registry = registry;
+    }
+
+    /**
+     * 對每個分片執行查詢，依分片編號回傳各分片的結果
+     */
+    public <T> List<T> gather(String operation, IntFunction<T> query) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                int target = shard;
+                futures.add(CompletableFuture.supplyAsync(() -> query.apply(target), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Scatter-gather " + operation + " failed", cause);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Scatter-gather " + operation + " timed out after " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during scatter-gather " + operation, e);
+        } finally {
+            sample.stop(Timer.builder("policyholder.shard.scatter")
+                    .description("Time taken to query all shards and merge the results")
+                    .tag("operation", operation)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 對每個分片計數後加總
+     */
+    public long sum(String operation, IntFunction<Long> count) {
+        return gather(operation, count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 合併各自已排序的列表，回傳略過 offset 筆後的 limit 筆
+     */
+    public static <T> List<T> mergeSorted(List<List<T>> sortedLists, Comparator<? super T> order, int offset, int limit) {
+        record Head<T>(T value, Iterator<T> rest) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> order.compare(a.value(), b.value()));
+        for (List<T> list : sortedLists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        List<T> page = new ArrayList<>(limit);
+        int skipped = 0;
+        while (!heads.isEmpty() && page.size() < limit) {
+            Head<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(head.value());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,38 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 依保戶編號的雜湊決定所在分片
+ *
+ * 以 CRC32 打散連續的編號；同一保戶的保單與保戶放在同一分片。
+ * 分片數改變時所有保戶的位置都會改變，已有資料後分片數不可調整（不支援重新平衡）
+ */
+public class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardOf(PolicyHolderId id) {
+        return shardOf(id.getValue());
+    }
+
+    public int shardOf(String policyHolderId) {
+        CRC32 crc = new CRC32();
+        crc.update(policyHolderId.getBytes(StandardCharsets.US_ASCII));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+}
@@ -0,0 +1,111 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 讓分片的 JDBC 存取加入目前的 Spring 交易（主資料庫的 JPA 交易）
+ *
+ * 第一次存取某分片時取得連線、關閉 autocommit 並綁定到交易，之後同一交易內的 JdbcTemplate 都使用這條連線。
+ * 主交易提交前（beforeCommit）先提交分片交易，分片提交失敗時主交易回滾；主交易回滾時分片一併回滾。
+ * 這是 best-effort 1PC：分片已提交而主資料庫提交失敗時分片的變更會保留。
+ * 一個命令只寫入單一保戶，因此每個交易最多寫入一個分片
+ */
+public class ShardTransactions {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardTransactions.class);
+
+    private final ShardedDataSources dataSources;
+
+    public ShardTransactions(ShardedDataSources dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    /**
+     * 讓指定分片加入目前的交易；不在交易中時不做任何事（每個語句各自 autocommit）
+     */
+    public void join(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        DataSource dataSource = dataSources.get(shard);
+        if (TransactionSynchronizationManager.hasResource(dataSource)) {
+            return;
+        }
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to open transaction on shard " + shard, e);
+        }
+        ConnectionHolder holder = new ConnectionHolder(connection);
+        holder.setSynchronizedWithTransaction(true);
+        TransactionSynchronizationManager.bindResource(dataSource, holder);
+        TransactionSynchronizationManager.registerSynchronization(new ShardSynchronization(shard, dataSource, holder));
+    }
+
+    private static final class ShardSynchronization implements TransactionSynchronization {
+
+        private final int shard;
+        private final DataSource dataSource;
+        private final ConnectionHolder holder;
+        private boolean committed;
+
+        private ShardSynchronization(int shard, DataSource dataSource, ConnectionHolder holder) {
+            this.shard = shard;
+            this.dataSource = dataSource;
+            this.holder = holder;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                holder.getConnection().commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new TransactionSystemException("Failed to commit shard " + shard, e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+            Connection connection = holder.getConnection();
+            try {
+                if (!committed) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("Failed to roll back shard {}", shard, e);
+            } finally {
+                holder.clear();
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("Failed to release connection of shard {}", shard, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * 各分片的連線池（依分片編號排列）
+ *
+ * 分片連線池不註冊為 DataSource bean，不影響 spring.datasource 的主資料庫與其上的 JPA；
+ * 關閉時一併關閉所有連線池
+ */
+public class ShardedDataSources implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedDataSources.class);
+
+    private final List<DataSource> shards;
+
+    public ShardedDataSources(List<DataSource> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    public DataSource get(int shard) {
+        return shards.get(shard);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close shard data source {}", shard, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.summary;
+
+import com.insurance.policyholder.domain.model.valueobject.PolicySummary;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicySummaryEmbeddable;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.HOLDER_ROW;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_COLUMNS;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.POLICY_ROW;
+import static com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderRowMappers.policyCountColumn;
+
+/**
+ * 保戶有效保單摘要的對帳工作
+ *
+ * 依保戶編號分批走訪 policy_holders，以 ACTIVE 保單重算摘要（PolicySummary）並與反正規化欄位比對。
+ * 不一致的保戶以 FOR UPDATE 鎖定後重新比對，排除與並行命令交錯造成的誤判；
+ * repair 為 true 時以版本號為條件改寫摘要並遞增版本號，已載入舊聚合根的命令與 ETag 都會失效；
+ * 修正沒有領域事件，讀取端的 policyholder_view 在同一個交易中一併改寫。
+ * 已封存的保戶不再異動，不在對帳範圍內
+ *
+ * - policyholder.summary.checked      比對的保戶數
+ * - policyholder.summary.mismatches   摘要與保單不一致的保戶數
+ * - policyholder.summary.repaired     已修正的保戶數
+ */
+public class PolicySummaryReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicySummaryReconciler.class);
+
+    private static final String SUMMARY_ASSIGNMENTS = "active_policy_count = :activePolicyCount, "
+            + List.of(PolicyJpaEntity.PolicyType.values()).stream()
+                    .map(type -> policyCountColumn(type) + " = :" + type.name())
+                    .collect(Collectors.joining(", "))
+            + ", total_premium_minor = :totalPremiumMinor, total_sum_insured_minor = :totalSumInsuredMinor";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final PolicyMapper policyMapper;
+    private final PolicyHolderMapper policyHolderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean repair;
+    private final Counter checked;
+    private final Counter mismatches;
+    private final Counter repaired;
+
+    public PolicySummaryReconciler(
+            DataSource dataSource,
+            PolicyMapper policyMapper,
+            PolicyHolderMapper policyHolderMapper,
+            PlatformTransactionManager transactionManager,
+            int batchSize,
+            boolean repair,
+            MeterRegistry registry) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.policyMapper = policyMapper;
+        this.policyHolderMapper = policyHolderMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.repair = repair;
+        this.checked = Counter.builder("policyholder.summary.checked")
+                .description("Policy holders whose policy summary was reconciled")
+                .register(registry);
+        this.mismatches = Counter.builder("policyholder.summary.mismatches")
+                .description("Policy holders whose policy summary did not match their policies")
+                .register(registry);
+        this.repaired = Counter.builder("policyholder.summary.repaired")
+                .description("Policy holders whose policy summary was rewritten")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${persistence.summary.reconciliation.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * 執行一次對帳：走訪所有保戶，每批在獨立的交易中比對與修正
+     *
+     * @return 本次比對、不一致與修正的保戶數
+     */
+    public Result run() {
+        String after = "";
+        int checkedTotal = 0;
+        int mismatchTotal = 0;
+        int repairedTotal = 0;
+        while (true) {
+            String from = after;
+            Batch batch = transactionTemplate.execute(status -> reconcileBatch(from));
+            checkedTotal += batch.checked();
+            mismatchTotal += batch.mismatches();
+            repairedTotal += batch.repaired();
+            if (batch.checked() < batchSize) {
+                break;
+            }
+            after = batch.lastId();
+        }
+        log.info("Reconciled policy summaries of {} policy holder(s): {} mismatch(es), {} repaired",
+                checkedTotal, mismatchTotal, repairedTotal);
+        return new Result(checkedTotal, mismatchTotal, repairedTotal);
+    }
+
+    private Batch reconcileBatch(String after) {
+        List<PolicyHolderJpaEntity> holders = jdbc.query("SELECT " + HOLDER_COLUMNS + " FROM policy_holders "
+                        + "WHERE id > :after ORDER BY id FETCH FIRST :limit ROWS ONLY",
+                new MapSqlParameterSource("after", after).addValue("limit", batchSize), HOLDER_ROW);
+        if (holders.isEmpty()) {
+            return new Batch(0, 0, 0, after);
+        }
+        Map<String, List<PolicyJpaEntity>> policies = activePolicies(
+                holders.stream().map(PolicyHolderJpaEntity::getId).toList());
+
+        int mismatchCount = 0;
+        int repairedCount = 0;
+        for (PolicyHolderJpaEntity holder : holders) {
+            PolicySummaryEmbeddable expected = summarize(policies.getOrDefault(holder.getId(), List.of()));
+            if (expected.equals(holder.getPolicySummary())) {
+                continue;
+            }
+            // 鎖定後重新比對：掃描與讀取保單之間可能有並行命令提交
+            List<PolicyHolderJpaEntity> locked = jdbc.query(
+                    "SELECT " + HOLDER_COLUMNS + " FROM policy_holders WHERE id = :id FOR UPDATE",
+                    Map.of("id", holder.getId()), HOLDER_ROW);
+            if (locked.isEmpty()) {
+                continue;
+            }
+            PolicyHolderJpaEntity current = locked.get(0);
+            expected = summarize(activePolicies(List.of(holder.getId())).getOrDefault(holder.getId(), List.of()));
+            if (expected.equals(current.getPolicySummary())) {
+                continue;
+            }
+            mismatchCount++;
+            log.warn("Policy summary of policy holder {} does not match its policies: stored {}, expected {}",
+                    holder.getId(), current.getPolicySummary(), expected);
+            if (repair && rewrite(current.getId(), current.getVersion(), expected)) {
+                repairedCount++;
+            }
+        }
+        checked.increment(holders.size());
+        mismatches.increment(mismatchCount);
+        repaired.increment(repairedCount);
+        return new Batch(holders.size(), mismatchCount, repairedCount, holders.get(holders.size() - 1).getId());
+    }
+
+    private Map<String, List<PolicyJpaEntity>> activePolicies(List<String> policyHolderIds) {
+        Map<String, List<PolicyJpaEntity>> byHolder = new HashMap<>();
+        jdbc.query("SELECT " + POLICY_COLUMNS + " FROM policies "
+                        + "WHERE policy_holder_id IN (:ids) AND status = 'ACTIVE'",
+                Map.of("ids", policyHolderIds),
+                rs -> {
+                    byHolder.computeIfAbsent(rs.getString("policy_holder_id"), id -> new ArrayList<>())
+                            .add(POLICY_ROW.mapRow(rs, rs.getRow()));
+                });
+        return byHolder;
+    }
+
+    private PolicySummaryEmbeddable summarize(List<PolicyJpaEntity> policies) {
+        PolicySummary summary = PolicySummary.empty();
+        for (PolicyJpaEntity policy : policies) {
+            summary = summary.add(policyMapper.toDomain(policy));
+        }
+        return policyHolderMapper.toPolicySummaryEntity(summary);
+    }
+
+    private boolean rewrite(String id, long version, PolicySummaryEmbeddable summary) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("version", version)
+                .addValue("activePolicyCount", summary.getActivePolicyCount())
+                .addValue("totalPremiumMinor", summary.getTotalPremiumMinor())
+                .addValue("totalSumInsuredMinor", summary.getTotalSumInsuredMinor());
+        for (PolicyJpaEntity.PolicyType type : PolicyJpaEntity.PolicyType.values()) {
+            parameters.addValue(type.name(), summary.getPolicyCount(type));
+        }
+        if (jdbc.update("UPDATE policy_holders SET " + SUMMARY_ASSIGNMENTS
+                + ", version = version + 1 WHERE id = :id AND version = :version", parameters) != 1) {
+            return false;
+        }
+        jdbc.update("UPDATE policyholder_view SET " + SUMMARY_ASSIGNMENTS + ", version = :version + 1 WHERE id = :id",
+                parameters);
+        return true;
+    }
+
+    private record Batch(int checked, int mismatches, int repaired, String lastId) {
+    }
+
+    /**
+     * 一次對帳的結果
+     *
+     * @param checked    比對的保戶數
+     * @param mismatches 摘要與保單不一致的保戶數
+     * @param repaired   已修正的保戶數（repair 為 false 時為 0）
+     */
+    public record Result(int checked, int mismatches, int repaired) {
+    }
+}
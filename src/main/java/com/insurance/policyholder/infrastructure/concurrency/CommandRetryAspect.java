@@ -0,0 +1,116 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 命令衝突重試
+ * 針對既有保戶的命令遇到版本衝突（@Version 樂觀鎖或事件序號衝突）時，重新執行整個處理器：
+ * 每次嘗試都是新的交易，處理器會重新載入聚合根並再次套用命令
+ *
+ * 重試間隔為 full jitter 指數退避（0 ~ min(maxBackoff, initialBackoff × 2^n) 的亂數），
+ * 嘗試次數達 maxAttempts 仍衝突時拋出最後一次的例外（409）。
+ * 失敗的嘗試已整筆回滾，且領域事件在提交後才發布（見 DomainEventPublisherAdapter），重試不會產生重複事件。
+ * 呼叫端已在交易中時不重試：內層回滾後外層交易已無法提交
+ *
+ * 排序在指標切面之內、序列化切面之外，退避期間不持有保戶鎖
+ *
+ * - policyholder.command.retries          重試次數
+ * - policyholder.command.retry.exhausted  重試用盡而放棄的命令數
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class CommandRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandRetryAspect.class);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final MeterRegistry registry;
+
+    public CommandRetryAspect(int maxAttempts, Duration initialBackoff, Duration maxBackoff, MeterRegistry registry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.registry = registry;
+    }
+
+    @Around("execution(public * handle(..)) && within(com.insurance.policyholder..*) && args(command)")
+    public Object retry(ProceedingJoinPoint joinPoint, PolicyHolderCommand command) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String commandType = command.getClass().getSimpleName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException ex) {
+                if (!isRetryable(ex)) {
+                    throw ex;
+                }
+                if (attempt >= maxAttempts) {
+                    registry.counter("policyholder.command.retry.exhausted", "command", commandType).increment();
+                    log.warn("Giving up {} on policy holder {} after {} attempts: {}",
+                            commandType, command.getPolicyHolderId(), attempt, ex.getMessage());
+                    throw ex;
+                }
+                registry.counter("policyholder.command.retries", "command", commandType).increment();
+                log.debug("Retrying {} on policy holder {} (attempt {} conflicted: {})",
+                        commandType, command.getPolicyHolderId(), attempt, ex.getMessage());
+                if (!backoff(attempt)) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * 版本衝突才重試；其他例外（含等待保戶鎖逾時）直接拋出
+     */
+    static boolean isRetryable(Throwable ex) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (current instanceof ConcurrencyConflictException conflict) {
+                return conflict.isRetryable();
+            }
+            if (current instanceof OptimisticLockingFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 等待期間被中斷時回傳 false
+     */
+    private boolean backoff(int attempt) {
+        long ceiling = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return true;
+        }
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 合併熱門讀取查詢
+ * 同時到達的相同 GetPolicyHolderQuery / GetPolicyHolderPoliciesQuery（以查詢物件的值相等判定）
+ * 只執行一次，其餘呼叫者共用同一份 Read Model 或例外
+ *
+ * 排序在指標切面之內、交易切面之外：只有 leader 開啟唯讀交易與存取資料庫。
+ * 已在交易中的呼叫、以及 bypass 成立的呼叫（例如讀寫分離下必須讀主庫的請求）不合併，避免讀不到自己的寫入。
+ *
+ * 每個執行中的查詢帶有該保戶的寫入世代：針對既有保戶的命令（PolicyHolderCommand）在交易結束後遞增世代，
+ * 呼叫者只加入同一世代的查詢。命令提交後才到達的查詢不會共用提交前開始的結果，
+ * 用戶端在寫入後讀到的版本號（ETag）即為寫入後的版本。
+ * 世代只記錄本程序內的命令：其他節點的寫入、封存與摘要修正等背景工作不遞增世代，
+ * 這些寫入提交前已開始的查詢最多在執行期間（query.coalescing.timeout 內）回傳提交前的結果
+ *
+ * - policyholder.query.coalescing            依 query 與 outcome（leader/follower/timeout）計數，
+ *                                            合併比例 = follower / 全部
+ * - policyholder.query.coalescing.in.flight  目前執行中的查詢鍵數
+ * - policyholder.query.coalescing.waiting    目前等待共用結果的呼叫數
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class QueryCoalescingAspect {
+
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final SingleFlight singleFlight;
+    private final WriteEpochs epochs = new WriteEpochs(EPOCH_STRIPES);
+    private final BooleanSupplier bypass;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public QueryCoalescingAspect(Duration timeout, MeterRegistry registry) {
+        this(timeout, () -> false, registry);
+    }
+
+    public QueryCoalescingAspect(Duration timeout, BooleanSupplier bypass, MeterRegistry registry) {
+        this.bypass = bypass;
+        this.registry = registry;
+        this.singleFlight = new SingleFlight(timeout, this::record);
+        Gauge.builder("policyholder.query.coalescing.in.flight", singleFlight, SingleFlight::inFlight)
+                .description("Distinct queries currently being executed on behalf of coalesced callers")
+                .register(registry);
+        Gauge.builder("policyholder.query.coalescing.waiting", singleFlight, SingleFlight::waiting)
+                .description("Callers currently waiting for a coalesced query result")
+                .register(registry);
+    }
+
+    @Around("execution(public * handle(..)) && within(com.insurance.policyholder..*)"
+            + " && (args(com.insurance.policyholder.application.query.GetPolicyHolderQuery)"
+            + " || args(com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery))")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || bypass.getAsBoolean()) {
+            return joinPoint.proceed();
+        }
+        Object query = joinPoint.getArgs()[0];
+        return singleFlight.execute(new FlightKey(query, epochs.current(policyHolderIdOf(query))), joinPoint::proceed);
+    }
+
+    /**
+     * 命令的交易結束後遞增該保戶的寫入世代；在外層交易中執行時於外層交易結束後遞增
+     */
+    @Around("execution(public * handle(..)) && within(com.insurance.policyholder..*) && args(command)")
+    public Object advanceEpoch(ProceedingJoinPoint joinPoint, PolicyHolderCommand command) throws Throwable {
+        String policyHolderId = command.getPolicyHolderId();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        epochs.advance(policyHolderId);
+                    }
+                });
+            } else {
+                epochs.advance(policyHolderId);
+            }
+        }
+    }
+
+    private static String policyHolderIdOf(Object query) {
+        return query instanceof GetPolicyHolderQuery holderQuery
+                ? holderQuery.getPolicyHolderId()
+                : ((GetPolicyHolderPoliciesQuery) query).getPolicyHolderId();
+    }
+
+    private void record(Object flightKey, SingleFlight.Outcome outcome) {
+        String queryType = ((FlightKey) flightKey).query().getClass().getSimpleName();
+        String tag = outcome.name().toLowerCase(Locale.ROOT);
+        counters.computeIfAbsent(queryType + '|' + tag, key -> Counter.builder("policyholder.query.coalescing")
+                .description("Query executions by coalescing outcome")
+                .tag("query", queryType)
+                .tag("outcome", tag)
+                .register(registry))
+                .increment();
+    }
+
+    /**
+     * 合併的鍵：查詢與開始時的寫入世代
+     */
+    private record FlightKey(Object query, long epoch) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 合併同鍵的並行呼叫（single-flight）
+ * 第一個呼叫者（leader）實際執行，執行期間到達的同鍵呼叫者（follower）等待並共用其結果或例外
+ *
+ * 每次執行有自己的期限：超過期限的執行不再接受新的 follower，由下一個呼叫者另起一次執行；
+ * 已在等待的 follower 等到期限仍未完成時改為自行執行。執行完成即移除，結果不做快取
+ */
+public class SingleFlight {
+
+    /**
+     * 可拋出任意例外的呼叫
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    /**
+     * 呼叫者在此次合併中的角色
+     */
+    public enum Outcome {
+        /** 實際執行 */
+        LEADER,
+        /** 共用 leader 的結果 */
+        FOLLOWER,
+        /** 等待逾時後自行執行 */
+        TIMEOUT
+    }
+
+    /**
+     * 每個呼叫結束角色判定時的回呼
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onOutcome(Object key, Outcome outcome);
+    }
+
+    private final Duration timeout;
+    private final Listener listener;
+    private final ConcurrentMap<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public SingleFlight(Duration timeout, Listener listener) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+        this.listener = listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Call<T> call) throws Throwable {
+        Flight mine = new Flight(System.nanoTime() + timeout.toNanos());
+        Flight current = flights.compute(key, (k, existing) ->
+                existing != null && !existing.isExpired(System.nanoTime()) ? existing : mine);
+        if (current == mine) {
+            return lead(key, mine, call);
+        }
+        return (T) follow(key, current, call);
+    }
+
+    private <T> T lead(Object key, Flight flight, Call<T> call) throws Throwable {
+        listener.onOutcome(key, Outcome.LEADER);
+        try {
+            T result = call.call();
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.result.completeExceptionally(t);
+            throw t;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private Object follow(Object key, Flight flight, Call<?> call) throws Throwable {
+        long remaining = flight.deadline - System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            Object result = flight.result.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            listener.onOutcome(key, Outcome.FOLLOWER);
+            return result;
+        } catch (ExecutionException e) {
+            listener.onOutcome(key, Outcome.FOLLOWER);
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            listener.onOutcome(key, Outcome.TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        return call.call();
+    }
+
+    /**
+     * 目前執行中的鍵數
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    /**
+     * 目前等待 leader 結果的 follower 數
+     */
+    public int waiting() {
+        return waiting.get();
+    }
+
+    private static final class Flight {
+
+        private final long deadline;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Flight(long deadline) {
+            this.deadline = deadline;
+        }
+
+        private boolean isExpired(long now) {
+            return now - deadline >= 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 固定數量的條紋鎖
+ * 以 key 的雜湊選擇鎖，記憶體用量與 key 的數量無關；不同 key 可能共用同一把鎖（只會多等待，不會出錯）
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes 鎖的數量，向上取整為 2 的次方
+     */
+    public StripedLocks(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            // 公平鎖：同一保戶的命令依到達順序執行
+            locks[i] = new ReentrantLock(true);
+        }
+        this.mask = size - 1;
+    }
+
+    public ReentrantLock lockFor(String key) {
+        return locks[indexOf(key)];
+    }
+
+    int indexOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,42 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 固定數量的條紋寫入世代
+ * 以 key 的雜湊選擇計數器，每次寫入提交後遞增；記憶體用量與 key 的數量無關。
+ * 不同 key 可能共用同一個計數器（只會讓查詢少合併，不會讀到舊資料）
+ */
+public class WriteEpochs {
+
+    private final AtomicLongArray epochs;
+    private final int mask;
+
+    /**
+     * @param stripes 計數器的數量，向上取整為 2 的次方
+     */
+    public WriteEpochs(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.epochs = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    public long current(String key) {
+        return epochs.get(indexOf(key));
+    }
+
+    public void advance(String key) {
+        epochs.incrementAndGet(indexOf(key));
+    }
+
+    private int indexOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
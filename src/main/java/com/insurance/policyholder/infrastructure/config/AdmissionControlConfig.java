@@ -0,0 +1,47 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.admission.AdmissionControlFilter;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.admission.ConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 准入控制配置
+ * 預設啟用；以 admission.enabled=false 關閉。排在 Idempotency-Key 之前，被拒絕的請求不佔用任何資源
+ */
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            @Value("${admission.read.initial-limit:40}") int readInitial,
+            @Value("${admission.read.min-limit:8}") int readMin,
+            @Value("${admission.read.max-limit:200}") int readMax,
+            @Value("${admission.write.initial-limit:10}") int writeInitial,
+            @Value("${admission.write.min-limit:2}") int writeMin,
+            @Value("${admission.write.max-limit:50}") int writeMax,
+            @Value("${admission.tolerance:2.0}") double tolerance,
+            @Value("${admission.smoothing:0.2}") double smoothing,
+            @Value("${admission.baseline-window:500}") int baselineWindow,
+            @Value("${admission.retry-after:1s}") Duration retryAfter,
+            @Value("${admission.paths:/api/v1/policyholders/**}") List<String> paths,
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        ConcurrencyLimit read = new ConcurrencyLimit(readInitial, readMin, readMax, tolerance, smoothing, baselineWindow);
+        ConcurrencyLimit write = new ConcurrencyLimit(writeInitial, writeMin, writeMax, tolerance, smoothing, baselineWindow);
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(read, write, paths, retryAfter, objectMapper, registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+}
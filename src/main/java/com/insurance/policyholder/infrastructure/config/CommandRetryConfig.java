@@ -0,0 +1,28 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.concurrency.CommandRetryAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 命令衝突重試配置
+ * 預設啟用；以 command.retry.enabled=false 關閉後衝突直接回傳 409
+ */
+@Configuration
+@ConditionalOnProperty(name = "command.retry.enabled", havingValue = "true", matchIfMissing = true)
+public class CommandRetryConfig {
+
+    @Bean
+    public CommandRetryAspect commandRetryAspect(
+            @Value("${command.retry.max-attempts:3}") int maxAttempts,
+            @Value("${command.retry.initial-backoff:10ms}") Duration initialBackoff,
+            @Value("${command.retry.max-backoff:200ms}") Duration maxBackoff,
+            MeterRegistry registry) {
+        return new CommandRetryAspect(maxAttempts, initialBackoff, maxBackoff, registry);
+    }
+}
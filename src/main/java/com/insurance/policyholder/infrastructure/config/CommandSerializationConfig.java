@@ -0,0 +1,28 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.concurrency.CommandSerializationAspect;
+import com.insurance.policyholder.infrastructure.concurrency.StripedLocks;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 命令序列化配置
+ * 預設啟用；以 command.serialization.enabled=false 關閉後回到純樂觀鎖
+ */
+@Configuration
+@ConditionalOnProperty(name = "command.serialization.enabled", havingValue = "true", matchIfMissing = true)
+public class CommandSerializationConfig {
+
+    @Bean
+    public CommandSerializationAspect commandSerializationAspect(
+            @Value("${command.serialization.stripes:1024}") int stripes,
+            @Value("${command.serialization.lock-timeout:5s}") Duration lockTimeout,
+            MeterRegistry registry) {
+        return new CommandSerializationAspect(new StripedLocks(stripes), lockTimeout, registry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.EventArchive;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.EventRetentionService;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 事件封存配置
+ * 封存庫永遠可供查詢（目錄不存在時視為空）；保留工作需以 eventstore.retention.enabled 啟用
+ */
+@Configuration
+@Profile("!event-log")
+public class EventArchiveConfig {
+
+    @Bean
+    public EventArchive eventArchive(
+            @Value("${eventstore.retention.directory:./data/event-archive}") String directory) {
+        return new EventArchive(Path.of(directory));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "eventstore.retention.enabled", havingValue = "true")
+    public EventRetentionService eventRetentionService(
+            DomainEventJpaRepository jpaRepository,
+            EventArchive eventArchive,
+            PlatformTransactionManager transactionManager,
+            @Value("${eventstore.retention.horizon:365d}") Duration horizon,
+            @Value("${eventstore.retention.require-snapshot:true}") boolean requireSnapshot,
+            @Value("${eventstore.retention.events-per-archive:10000}") int eventsPerArchive,
+            @Value("${eventstore.retention.max-archives-per-run:10}") int maxArchivesPerRun,
+            @Value("${eventstore.retention.compaction-min-events:2000}") int compactionMinEvents) {
+        return new EventRetentionService(jpaRepository, eventArchive, transactionManager, horizon,
+                requireSnapshot, eventsPerArchive, maxArchivesPerRun, compactionMinEvents,
+                Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,34 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.event.MappedLogEventStoreAdapter;
+import com.insurance.policyholder.infrastructure.adapter.output.event.log.EventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 事件日誌配置
+ * 啟用 event-log profile 時，以 memory-mapped 附加式日誌取代 domain_events 資料表作為 Event Store
+ */
+@Configuration
+@Profile("event-log")
+public class EventLogConfig {
+
+    @Bean(destroyMethod = "close")
+    public EventLog eventLog(
+            @Value("${eventstore.log.directory:./data/event-log}") String directory,
+            @Value("${eventstore.log.segment-size:64MB}") DataSize segmentSize,
+            @Value("${eventstore.log.index-interval:64}") int indexInterval,
+            @Value("${eventstore.log.force-on-append:false}") boolean forceOnAppend) {
+        return new EventLog(Path.of(directory), Math.toIntExact(segmentSize.toBytes()), indexInterval, forceOnAppend);
+    }
+
+    @Bean
+    public MappedLogEventStoreAdapter mappedLogEventStoreAdapter(EventLog eventLog) {
+        return new MappedLogEventStoreAdapter(eventLog);
+    }
+}
@@ -0,0 +1,38 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.diagnostics.ContinuousRecording;
+import com.insurance.policyholder.infrastructure.diagnostics.FlightRecorderEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JDK Flight Recorder 配置
+ * 管理端點永遠可用；常駐環狀錄製需以 diagnostics.jfr.continuous.enabled 啟用
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(
+            @Value("${diagnostics.jfr.dump-directory:./data/jfr}") String dumpDirectory) {
+        return new FlightRecorderEndpoint(Path.of(dumpDirectory));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "diagnostics.jfr.continuous.enabled", havingValue = "true")
+    public ContinuousRecording continuousRecording(
+            @Value("${diagnostics.jfr.continuous.settings:default}") String settings,
+            @Value("${diagnostics.jfr.continuous.max-age:15m}") Duration maxAge,
+            @Value("${diagnostics.jfr.continuous.max-size:100MB}") DataSize maxSize,
+            @Value("${diagnostics.jfr.dump-directory:./data/jfr}") String dumpDirectory,
+            @Value("${diagnostics.jfr.continuous.dump-on-exit:false}") boolean dumpOnExit) {
+        return new ContinuousRecording(settings, maxAge, maxSize.toBytes(),
+                dumpOnExit ? Path.of(dumpDirectory, "continuous-on-exit.jfr") : null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency.IdempotencyFilter;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency.IdempotencyStore;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.IdempotencyRecordJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key 配置
+ * 預設啟用；可以 idempotency.enabled=false 停用
+ */
+@Configuration
+@ConditionalOnProperty(name = "idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            IdempotencyRecordJpaRepository repository,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.max-local-entries:10000}") int maxLocalEntries,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        return new IdempotencyStore(repository, ttl, maxLocalEntries, waitTimeout, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore store,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${idempotency.paths:/api/v1/policyholders,/api/v1/policyholders/*/policies}") List<String> paths) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(store, paths, objectMapper, registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,43 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchivalService;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 保戶封存配置
+ * 封存表永遠可供讀取路徑查詢（未封存任何資料時為空）；封存工作需以 persistence.archive.enabled 啟用，
+ * 只適用於保戶存放在 policy_holders 資料表的模式（sharded profile 不啟用；event-sourced 載入時以目前的保單資料列為準）
+ */
+@Configuration
+public class PolicyHolderArchiveConfig {
+
+    @Bean
+    public PolicyHolderArchive policyHolderArchive(DataSource dataSource, MeterRegistry registry) {
+        return new PolicyHolderArchive(dataSource, registry);
+    }
+
+    @Bean
+    @Profile("!sharded")
+    @ConditionalOnProperty(name = "persistence.archive.enabled", havingValue = "true")
+    public PolicyHolderArchivalService policyHolderArchivalService(
+            PolicyHolderArchive policyHolderArchive,
+            PlatformTransactionManager transactionManager,
+            @Value("${persistence.archive.horizon:90d}") Duration horizon,
+            @Value("${persistence.archive.batch-size:500}") int batchSize,
+            @Value("${persistence.archive.max-batches-per-run:20}") int maxBatchesPerRun,
+            MeterRegistry registry) {
+        return new PolicyHolderArchivalService(policyHolderArchive, transactionManager, horizon, batchSize,
+                maxBatchesPerRun, Clock.systemDefaultZone(), registry);
+    }
+}
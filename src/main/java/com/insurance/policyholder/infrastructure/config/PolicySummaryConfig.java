@@ -0,0 +1,38 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.summary.PolicySummaryReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 保戶有效保單摘要對帳配置
+ * 摘要欄位隨保戶聚合寫入；對帳工作以 persistence.summary.reconciliation.enabled 啟用，
+ * 只適用於保戶存放在主資料庫 policy_holders 資料表的模式（event-sourced 與 sharded profile 不啟用）
+ */
+@Configuration
+@Profile("!event-sourced & !sharded")
+public class PolicySummaryConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "persistence.summary.reconciliation.enabled", havingValue = "true")
+    public PolicySummaryReconciler policySummaryReconciler(
+            DataSource dataSource,
+            PolicyMapper policyMapper,
+            PolicyHolderMapper policyHolderMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${persistence.summary.reconciliation.batch-size:500}") int batchSize,
+            @Value("${persistence.summary.reconciliation.repair:true}") boolean repair,
+            MeterRegistry registry) {
+        return new PolicySummaryReconciler(dataSource, policyMapper, policyHolderMapper, transactionManager,
+                batchSize, repair, registry);
+    }
+}
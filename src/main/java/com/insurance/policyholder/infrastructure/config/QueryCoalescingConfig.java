@@ -0,0 +1,33 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReplicaLagGuard;
+import com.insurance.policyholder.infrastructure.concurrency.QueryCoalescingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 查詢合併配置
+ * 預設啟用；以 query.coalescing.enabled=false 關閉後每個請求各自查詢。
+ * 讀寫分離時，被 ReplicaLagGuard 固定在主庫的請求不與其他請求合併
+ */
+@Configuration
+@ConditionalOnProperty(name = "query.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCoalescingConfig {
+
+    @Bean
+    public QueryCoalescingAspect queryCoalescingAspect(
+            @Value("${query.coalescing.timeout:2s}") Duration timeout,
+            ObjectProvider<ReplicaLagGuard> lagGuard,
+            MeterRegistry registry) {
+        ReplicaLagGuard guard = lagGuard.getIfAvailable();
+        return guard == null
+                ? new QueryCoalescingAspect(timeout, registry)
+                : new QueryCoalescingAspect(timeout, guard::isPinnedToPrimary, registry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.input.rest.routing.ReadYourWritesFilter;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReadWriteRoutingDataSource;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReplicaLagGuard;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReplicatedDataSources;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.SnapshotReplicator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 讀寫分離配置
+ * 啟用 read-replica profile 時，唯讀交易改用副本（persistence.replica.url），寫入仍使用 spring.datasource 的主庫。
+ * persistence.replica.replicator.enabled=true 時以 SnapshotReplicator 定期把主庫複製到副本（本機 H2 驗證用）
+ */
+@Configuration
+@Profile("read-replica")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicatedDataSources replicatedDataSources(
+            DataSourceProperties primaryProperties,
+            @Value("${persistence.replica.url}") String replicaUrl,
+            @Value("${persistence.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${persistence.replica.password:${spring.datasource.password:}}") String replicaPassword) {
+        DataSource primary = primaryProperties.initializeDataSourceBuilder().build();
+        DataSource replica = DataSourceBuilder.create()
+                .driverClassName(primaryProperties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername)
+                .password(replicaPassword)
+                .build();
+        return new ReplicatedDataSources(primary, replica);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "persistence.replica.replicator.enabled", havingValue = "true")
+    public SnapshotReplicator snapshotReplicator(ReplicatedDataSources dataSources, MeterRegistry registry) {
+        return new SnapshotReplicator(dataSources.getPrimary(), dataSources.getReplica(),
+                Clock.systemDefaultZone(), registry);
+    }
+
+    /**
+     * 所有 singleton（含建立資料表結構的 EntityManagerFactory）建立後、排程開始前先同步一次
+     */
+    @Bean
+    @ConditionalOnProperty(name = "persistence.replica.replicator.enabled", havingValue = "true")
+    public SmartInitializingSingleton initialReplicaSync(SnapshotReplicator replicator) {
+        return replicator::replicate;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(
+            ObjectProvider<SnapshotReplicator> replicator,
+            @Value("${persistence.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${persistence.replica.max-tracked-clients:10000}") int maxTrackedClients) {
+        SnapshotReplicator snapshotReplicator = replicator.getIfAvailable();
+        return new ReplicaLagGuard(window, maxTrackedClients, Clock.systemDefaultZone(),
+                snapshotReplicator == null ? () -> ReplicaLagGuard.UNKNOWN : snapshotReplicator::getReplicatedThrough);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicatedDataSources dataSources, ReplicaLagGuard lagGuard, MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(dataSources, lagGuard, registry));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReplicaLagGuard lagGuard,
+            @Value("${persistence.replica.client-header:X-Client-Id}") String clientHeader) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(lagGuard, clientHeader));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 18);
+        return registration;
+    }
+}
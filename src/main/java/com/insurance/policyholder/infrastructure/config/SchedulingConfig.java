@@ -0,0 +1,13 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 排程配置
+ * 啟用背景排程工作（例如投影的持續追蹤）
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,71 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.PolicyHolderShardStore;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ScatterGather;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardRouter;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardTransactions;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardedDataSources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分片配置
+ * 啟用 sharded profile 時，保戶與保單依保戶編號的雜湊存放在 persistence.sharding.urls 的各分片，
+ * 主資料庫（spring.datasource）保存身分證字號目錄、事件與其他資料表。
+ * 啟動時以 Flyway 於每個分片執行 db/shard 的 migration。不可與 event-sourced profile 同時啟用
+ */
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardedDataSources shardedDataSources(
+            DataSourceProperties primaryProperties,
+            @Value("${persistence.sharding.urls}") List<String> urls,
+            @Value("${persistence.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${persistence.sharding.password:${spring.datasource.password:}}") String password) {
+        List<DataSource> shards = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            DataSource shard = DataSourceBuilder.create()
+                    .driverClassName(primaryProperties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            Flyway.configure().dataSource(shard).locations("classpath:db/shard").load().migrate();
+            shards.add(shard);
+        }
+        return new ShardedDataSources(shards);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardedDataSources dataSources) {
+        return new ShardRouter(dataSources.size());
+    }
+
+    @Bean
+    public PolicyHolderShardStore policyHolderShardStore(ShardedDataSources dataSources) {
+        return new PolicyHolderShardStore(dataSources, new ShardTransactions(dataSources));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScatterGather scatterGather(
+            ShardedDataSources dataSources,
+            @Value("${persistence.sharding.scatter.threads:0}") int threads,
+            @Value("${persistence.sharding.scatter.timeout:5s}") Duration timeout,
+            MeterRegistry registry) {
+        int poolSize = threads > 0 ? threads : dataSources.size() * 4;
+        return new ScatterGather(dataSources.size(), poolSize, timeout, registry);
+    }
+}
@@ -0,0 +1,60 @@
+package com.insurance.policyholder.infrastructure.config;
+
+import com.insurance.policyholder.infrastructure.diagnostics.sql.SqlStatementBudgetFilter;
+import com.insurance.policyholder.infrastructure.diagnostics.sql.SqlStatementTracker;
+import com.insurance.policyholder.infrastructure.diagnostics.sql.StatementInterceptingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * SQL 診斷配置
+ * 以 StatementInterceptingDataSource 包裝應用程式的 DataSource，並以 Filter 統計每個請求的語句數
+ *
+ * 可以 diagnostics.sql.enabled=false 整體停用
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsConfig {
+
+    @Bean
+    public SqlStatementTracker sqlStatementTracker() {
+        return new SqlStatementTracker();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementInterceptingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementTracker> tracker,
+            @Value("${diagnostics.sql.slow-threshold:100ms}") Duration slowThreshold,
+            @Value("${diagnostics.sql.explain-slow:true}") boolean explainSlow) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementInterceptingDataSource)) {
+                    return new StatementInterceptingDataSource(dataSource, tracker.getObject(), slowThreshold, explainSlow);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            SqlStatementTracker tracker,
+            MeterRegistry registry,
+            @Value("${diagnostics.sql.statement-budget:10}") int statementBudget) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementBudgetFilter(tracker, statementBudget, registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
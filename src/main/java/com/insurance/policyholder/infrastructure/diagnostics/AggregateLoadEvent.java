@@ -0,0 +1,36 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：由資料庫載入保戶聚合根（含對應至領域物件）
+ */
+@Name("com.insurance.policyholder.AggregateLoad")
+@Label("Aggregate Load")
+@Category({"PolicyHolder", "Persistence"})
+@Description("PolicyHolder aggregate loaded from the database and mapped to the domain model")
+@StackTrace(false)
+public class AggregateLoadEvent extends Event {
+
+    @Label("Lookup")
+    @Description("Lookup key type: id or nationalId")
+    public String lookup;
+
+    @Label("Policy Holder ID")
+    public String policyHolderId;
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Policy Count")
+    public int policyCount;
+
+    @Label("Row Count")
+    @Description("Rows read: one policy_holders row plus its policies rows")
+    public int rowCount;
+}
@@ -0,0 +1,29 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：儲存保戶聚合根（含與資料庫狀態合併）
+ */
+@Name("com.insurance.policyholder.AggregateSave")
+@Label("Aggregate Save")
+@Category({"PolicyHolder", "Persistence"})
+@Description("PolicyHolder aggregate merged into the persistence context")
+@StackTrace(false)
+public class AggregateSaveEvent extends Event {
+
+    @Label("Policy Holder ID")
+    public String policyHolderId;
+
+    @Label("Policy Count")
+    public int policyCount;
+
+    @Label("Row Count")
+    @Description("Rows written: one policy_holders row plus its policies rows")
+    public int rowCount;
+}
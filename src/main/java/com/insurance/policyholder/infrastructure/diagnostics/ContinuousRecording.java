@@ -0,0 +1,70 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 常駐的 JFR 環狀錄製
+ * 只保留最近 maxAge / maxSize 的資料，延遲尖峰發生後再經由 /actuator/jfr 傾印；
+ * 設定 dumpOnExit 時於應用程式關閉前寫出最後的內容
+ */
+public class ContinuousRecording implements Closeable {
+
+    static final String NAME = "policyholder-continuous";
+
+    private static final Logger log = LoggerFactory.getLogger(ContinuousRecording.class);
+
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSize;
+    private final Path dumpOnExit;
+    private Recording recording;
+
+    /**
+     * @param settings   JFR 設定檔（default 或 profile）
+     * @param maxAge     保留的時間長度
+     * @param maxSize    保留的資料大小（bytes）
+     * @param dumpOnExit 關閉時寫出的檔案，null 表示不寫出
+     */
+    public ContinuousRecording(String settings, Duration maxAge, long maxSize, Path dumpOnExit) {
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpOnExit = dumpOnExit;
+    }
+
+    public void start() {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder is not available, continuous recording disabled");
+            return;
+        }
+        recording = new Recording(FlightRecorderEndpoint.configuration(settings));
+        recording.setName(NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize);
+        recording.start();
+        log.info("Started continuous JFR recording {} (settings={}, maxAge={})", recording.getId(), settings, maxAge);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (recording == null) {
+            return;
+        }
+        if (dumpOnExit != null) {
+            Files.createDirectories(dumpOnExit.toAbsolutePath().getParent());
+            recording.dump(dumpOnExit);
+            log.info("Dumped continuous JFR recording to {}", dumpOnExit);
+        }
+        recording.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：PolicyHolderController 請求的進入至離開
+ * httpStatus 為 0 表示以例外結束（實際狀態碼由 GlobalExceptionHandler 決定）
+ */
+@Name("com.insurance.policyholder.ControllerRequest")
+@Label("Controller Request")
+@Category({"PolicyHolder", "REST"})
+@Description("PolicyHolderController request from entry to exit")
+@StackTrace(false)
+public class ControllerRequestEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Policy Holder ID")
+    public String policyHolderId;
+
+    @Label("HTTP Status")
+    public int httpStatus;
+
+    @Label("Result Count")
+    public int resultCount;
+
+    @Label("Exception")
+    public String exception;
+}
@@ -0,0 +1,25 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：領域事件發布至 Spring Event Bus（含同步監聽器的執行）
+ */
+@Name("com.insurance.policyholder.EventDispatch")
+@Label("Event Dispatch")
+@Category({"PolicyHolder", "Event Store"})
+@Description("Domain event published to the Spring event bus including synchronous listeners")
+@StackTrace(false)
+public class EventDispatchEvent extends Event {
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Aggregate ID")
+    public String aggregateId;
+}
@@ -0,0 +1,29 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：附加至 Event Store 前將一批領域事件序列化
+ */
+@Name("com.insurance.policyholder.EventSerialization")
+@Label("Event Serialization")
+@Category({"PolicyHolder", "Event Store"})
+@Description("Domain events of one aggregate encoded before being appended to the event store")
+@StackTrace(false)
+public class EventSerializationEvent extends Event {
+
+    @Label("Aggregate ID")
+    public String aggregateId;
+
+    @Label("Event Count")
+    public int eventCount;
+
+    @Label("Payload Characters")
+    @Description("Total length of the encoded JSON payloads")
+    public long payloadChars;
+}
@@ -0,0 +1,130 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import com.insurance.policyholder.application.query.GetPolicyQuery;
+import com.insurance.policyholder.application.readmodel.PagedResult;
+import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyReadModel;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.ApiResponse;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PageResponse;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.response.PolicyHolderResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+
+/**
+ * 發出 Controller 請求與處理器執行的 JFR 事件
+ *
+ * 沒有進行中的錄製（或事件被停用）時 shouldCommit() 為 false，不會擷取任何欄位，
+ * 常駐開銷只剩事件物件的配置
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    @Around("execution(public * com.insurance.policyholder.infrastructure.adapter.input.rest.PolicyHolderController.*(..))")
+    public Object recordRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        ControllerRequestEvent event = new ControllerRequestEvent();
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.policyHolderId = pathPolicyHolderId(joinPoint);
+                if (result instanceof ResponseEntity<?> response) {
+                    event.httpStatus = response.getStatusCode().value();
+                    Object data = response.getBody() instanceof ApiResponse<?> body ? body.getData() : null;
+                    if (event.policyHolderId == null && data instanceof PolicyHolderResponse holder) {
+                        event.policyHolderId = holder.getId();
+                    }
+                    event.resultCount = count(data instanceof PageResponse<?> page ? page.getContent() : data);
+                }
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * com.insurance.policyholder.application.port.input.CommandHandler+.handle(..))"
+            + " || execution(public * com.insurance.policyholder.application.port.input.QueryHandler+.handle*(..))"
+            + " || execution(public * com.insurance.policyholder.application.commandhandler.DeletePolicyHolderCommandHandler.handle(..))")
+    public Object recordHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        HandlerExecutionEvent event = new HandlerExecutionEvent();
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.handler = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+                Object[] args = joinPoint.getArgs();
+                event.policyHolderId = policyHolderId(args.length > 0 ? args[0] : null, result);
+                event.resultCount = count(result instanceof PagedResult<?> page ? page.getContent() : result);
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    private static String pathPolicyHolderId(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; names != null && i < names.length; i++) {
+            if ("id".equals(names[i]) && args[i] instanceof String id) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private static String policyHolderId(Object request, Object result) {
+        if (request instanceof PolicyHolderCommand command) {
+            return command.getPolicyHolderId();
+        }
+        if (request instanceof GetPolicyHolderQuery query) {
+            return query.getPolicyHolderId();
+        }
+        if (request instanceof GetPolicyHolderPoliciesQuery query) {
+            return query.getPolicyHolderId();
+        }
+        if (request instanceof GetPolicyQuery query) {
+            return query.getPolicyHolderId();
+        }
+        if (result instanceof PolicyHolderReadModel holder) {
+            return holder.getId();
+        }
+        if (result instanceof PolicyReadModel policy) {
+            return policy.getPolicyHolderId();
+        }
+        return null;
+    }
+
+    private static int count(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        return value instanceof Collection<?> collection ? collection.size() : 1;
+    }
+}
@@ -0,0 +1,155 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDK Flight Recorder 管理端點（/actuator/jfr）
+ *
+ * GET    /actuator/jfr         所有錄製（含以 -XX:StartFlightRecording 啟動者）
+ * POST   /actuator/jfr         開始錄製 {"name", "settings": "default"|"profile", "maxAge": "15m", "duration": "5m"}
+ * POST   /actuator/jfr/{id}    {"action": "stop"} 停止錄製；{"action": "dump"} 將目前內容寫入傾印目錄
+ * GET    /actuator/jfr/{id}    下載目前內容（.jfr），可在 JDK Mission Control 中與 GC、鎖等待事件對照
+ * DELETE /actuator/jfr/{id}    關閉錄製並捨棄資料
+ */
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+
+    public FlightRecorderEndpoint(Path dumpDirectory) {
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        if (!FlightRecorder.isAvailable()) {
+            return List.of();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingInfo::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public RecordingInfo start(@Nullable String name, @Nullable String settings,
+                               @Nullable Duration maxAge, @Nullable Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new InvalidEndpointRequestException("Flight Recorder is not available", "JFR unavailable in this JVM");
+        }
+        Recording recording = new Recording(configuration(settings == null ? "default" : settings));
+        recording.setName(name == null ? "policyholder-" + LocalDateTime.now().format(FILE_TIMESTAMP) : name);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge == null ? Duration.ofMinutes(15) : maxAge);
+        if (duration != null) {
+            recording.setDuration(duration);
+        }
+        recording.start();
+        log.info("Started JFR recording {} ({})", recording.getId(), recording.getName());
+        return RecordingInfo.of(recording);
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector long id, String action) {
+        Recording recording = find(id).orElse(null);
+        if (recording == null) {
+            return null;
+        }
+        switch (action) {
+            case "stop" -> {
+                if (recording.getState() == RecordingState.RUNNING) {
+                    recording.stop();
+                    log.info("Stopped JFR recording {}", id);
+                }
+                return Map.of("recording", RecordingInfo.of(recording));
+            }
+            case "dump" -> {
+                Path file = dump(recording);
+                return Map.of("recording", RecordingInfo.of(recording), "file", file.toAbsolutePath().toString());
+            }
+            default -> throw new InvalidEndpointRequestException("Unknown action: " + action,
+                    "Action must be stop or dump");
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        return find(id)
+                .map(recording -> new WebEndpointResponse<Resource>(new FileSystemResource(dump(recording))))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public RecordingInfo close(@Selector long id) {
+        return find(id).map(recording -> {
+            recording.close();
+            log.info("Closed JFR recording {}", id);
+            return RecordingInfo.of(recording);
+        }).orElse(null);
+    }
+
+    private Path dump(Recording recording) {
+        if (recording.getState() != RecordingState.RUNNING && recording.getState() != RecordingState.STOPPED) {
+            throw new InvalidEndpointRequestException("Recording " + recording.getId() + " is " + recording.getState(),
+                    "Only running or stopped recordings can be dumped");
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve(String.format("recording-%d-%s.jfr",
+                    recording.getId(), LocalDateTime.now().format(FILE_TIMESTAMP)));
+            recording.dump(file);
+            log.info("Dumped JFR recording {} to {}", recording.getId(), file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording " + recording.getId(), e);
+        }
+    }
+
+    private static Optional<Recording> find(long id) {
+        if (!FlightRecorder.isAvailable()) {
+            return Optional.empty();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings,
+                    "Settings must be default or profile");
+        }
+    }
+}
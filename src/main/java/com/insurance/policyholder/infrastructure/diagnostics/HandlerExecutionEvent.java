@@ -0,0 +1,31 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：命令或查詢處理器的執行（含交易）
+ */
+@Name("com.insurance.policyholder.HandlerExecution")
+@Label("Handler Execution")
+@Category({"PolicyHolder", "Application"})
+@Description("Command or query handler execution including its transaction")
+@StackTrace(false)
+public class HandlerExecutionEvent extends Event {
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Policy Holder ID")
+    public String policyHolderId;
+
+    @Label("Result Count")
+    public int resultCount;
+
+    @Label("Exception")
+    public String exception;
+}
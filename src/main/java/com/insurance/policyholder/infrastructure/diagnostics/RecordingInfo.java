@@ -0,0 +1,29 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JFR 錄製狀態（/actuator/jfr 的回應）
+ *
+ * @param size 已寫入磁碟的大小（bytes），錄製中的資料尚在緩衝區時可能為 0
+ */
+public record RecordingInfo(long id, String name, String state, Instant startTime, Duration duration,
+                            Duration maxAge, long maxSize, long size, String destination) {
+
+    static RecordingInfo of(Recording recording) {
+        return new RecordingInfo(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getMaxAge(),
+                recording.getMaxSize(),
+                recording.getSize(),
+                recording.getDestination() == null ? null : recording.getDestination().toString()
+        );
+    }
+}
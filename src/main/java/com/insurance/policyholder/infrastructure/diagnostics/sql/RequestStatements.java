@@ -0,0 +1,45 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 單一範圍（HTTP 請求或測試擷取）內執行的 SQL 統計
+ * 只由建立它的執行緒存取
+ */
+public final class RequestStatements {
+
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private int statementCount;
+    private long elapsedNanos;
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 各 SQL 文字的執行次數
+     */
+    public Map<String, Integer> getCountsBySql() {
+        return Map.copyOf(countsBySql);
+    }
+
+    /**
+     * 重複最多次的 SQL（N+1 的典型特徵）
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return countsBySql.entrySet().stream().max(Comparator.comparingInt(Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,73 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 統計每個 HTTP 請求執行的 SQL 語句數與時間
+ *
+ * 語句數超過預算時以 WARN 記錄並附上重複最多次的 SQL（N+1 的典型特徵）；
+ * 每個請求的語句數以 policyholder.sql.statements 依 URI 樣板匯出
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final SqlStatementTracker tracker;
+    private final int statementBudget;
+    private final MeterRegistry registry;
+
+    public SqlStatementBudgetFilter(SqlStatementTracker tracker, int statementBudget, MeterRegistry registry) {
+        this.tracker = tracker;
+        this.statementBudget = statementBudget;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementTracker.Scope scope = tracker.open()) {
+            filterChain.doFilter(request, response);
+            report(request, scope.statements());
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestStatements statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("policyholder.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(statements.getStatementCount());
+
+        if (statements.getStatementCount() > statementBudget) {
+            Counter.builder("policyholder.sql.budget.exceeded")
+                    .description("HTTP requests exceeding the SQL statement budget")
+                    .tags("method", method, "uri", uri)
+                    .register(registry)
+                    .increment();
+            Map.Entry<String, Integer> repeated = statements.mostRepeated().orElse(Map.entry("", 0));
+            log.warn("{} {} executed {} SQL statements in {} ms (budget {}); most repeated ({}x): {}",
+                    method, request.getRequestURI(), statements.getStatementCount(),
+                    statements.getElapsedNanos() / 1_000_000, statementBudget, repeated.getValue(), repeated.getKey());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} executed {} SQL statements in {} ms", method, request.getRequestURI(),
+                    statements.getStatementCount(), statements.getElapsedNanos() / 1_000_000);
+        }
+    }
+}
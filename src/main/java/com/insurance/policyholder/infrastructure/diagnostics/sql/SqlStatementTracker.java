@@ -0,0 +1,59 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 追蹤目前執行緒上開啟的統計範圍
+ *
+ * 範圍可巢狀（例如測試擷取包住 MockMvc 請求），每筆 SQL 會計入所有開啟中的範圍；
+ * 沒有開啟範圍時（排程工作、啟動階段）不做任何統計
+ */
+public class SqlStatementTracker {
+
+    private final ThreadLocal<Deque<RequestStatements>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * 開啟新的統計範圍，需以 {@link Scope#close()} 結束
+     */
+    public Scope open() {
+        RequestStatements statements = new RequestStatements();
+        scopes.get().push(statements);
+        return new Scope(statements);
+    }
+
+    void record(String sql, long nanos) {
+        Deque<RequestStatements> open = scopes.get();
+        if (open.isEmpty()) {
+            return;
+        }
+        for (RequestStatements statements : open) {
+            statements.record(sql, nanos);
+        }
+    }
+
+    /**
+     * 統計範圍
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final RequestStatements statements;
+
+        private Scope(RequestStatements statements) {
+            this.statements = statements;
+        }
+
+        public RequestStatements statements() {
+            return statements;
+        }
+
+        @Override
+        public void close() {
+            Deque<RequestStatements> open = scopes.get();
+            open.remove(statements);
+            if (open.isEmpty()) {
+                scopes.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * 攔截 JDBC 語句執行的 DataSource
+ *
+ * 每次 execute* 呼叫計入 SqlStatementTracker；超過 slowThreshold 的語句以 WARN 記錄 SQL、綁定參數，
+ * SELECT 另附 H2 EXPLAIN 執行計畫（以原始連線執行，不計入統計）
+ */
+public class StatementInterceptingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementInterceptingDataSource.class);
+
+    private final SqlStatementTracker tracker;
+    private final long slowThresholdNanos;
+    private final boolean explainSlow;
+
+    public StatementInterceptingDataSource(DataSource target, SqlStatementTracker tracker,
+                                           Duration slowThreshold, boolean explainSlow) {
+        super(target);
+        this.tracker = tracker;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.explainSlow = explainSlow;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private void afterExecute(Connection connection, String sql, Map<Integer, Object> parameters, long nanos) {
+        tracker.record(sql, nanos);
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms): {} | parameters: {}{}", nanos / 1_000_000, sql, parameters,
+                    explainSlow ? explain(connection, sql, parameters) : "");
+        }
+    }
+
+    private String explain(Connection connection, String sql, Map<Integer, Object> parameters) {
+        if (sql == null || !sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            return "";
+        }
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+            StringJoiner plan = new StringJoiner("\n", "\n", "");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            log.debug("EXPLAIN failed for {}", sql, e);
+            return "";
+        }
+    }
+
+    /**
+     * 代理以自身身分比較與雜湊，Hibernate 以語句為鍵追蹤資源時才能正確移除
+     */
+    private static boolean isIdentityMethod(String name) {
+        return name.equals("equals") || name.equals("hashCode");
+    }
+
+    private static Object identity(Object proxy, String name, Object[] args) {
+        return name.equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    /**
+     * 連線代理：將建立的語句包成 StatementHandler
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isIdentityMethod(name)) {
+                return identity(proxy, name, args);
+            }
+            Object result = StatementInterceptingDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(statement, CallableStatement.class, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(statement, PreparedStatement.class, (String) args[0]);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object proxy(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(target, statement, sql));
+        }
+    }
+
+    /**
+     * 語句代理：記錄綁定參數並量測 execute* 的執行時間
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final Statement target;
+        private final String preparedSql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        StatementHandler(Connection connection, Statement target, String preparedSql) {
+            this.connection = connection;
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (isIdentityMethod(name)) {
+                return identity(proxy, name, args);
+            }
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                try {
+                    return StatementInterceptingDataSource.invoke(target, method, args);
+                } finally {
+                    afterExecute(connection, sql, parameters, System.nanoTime() - start);
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            return StatementInterceptingDataSource.invoke(target, method, args);
+        }
+    }
+}
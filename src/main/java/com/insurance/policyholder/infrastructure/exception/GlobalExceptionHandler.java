@@ -1,5 +1,7 @@
 package com.insurance.policyholder.infrastructure.exception;
 
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.exception.StaleVersionException;
 import com.insurance.policyholder.domain.exception.DomainException;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotActiveException;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
@@ -8,10 +10,13 @@ import com.insurance.policyholder.infrastructure.adapter.input.rest.response.Err
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -107,6 +112,89 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * 處理並行衝突例外（事件序號衝突）
+     */
+    @ExceptionHandler(ConcurrencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyConflictException(
+            ConcurrencyConflictException ex,
+            HttpServletRequest request) {
+
+        log.warn("Concurrency conflict: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                ex.getErrorCode(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * 處理 If-Match 版本號不符例外
+     */
+    @ExceptionHandler(StaleVersionException.class)
+    public ResponseEntity<ErrorResponse> handleStaleVersionException(
+            StaleVersionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getErrorCode(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    /**
+     * 處理缺少必要標頭例外（缺少 If-Match 時回 428）
+     */
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<ErrorResponse> handleMissingRequestHeaderException(
+            MissingRequestHeaderException ex,
+            HttpServletRequest request) {
+
+        log.warn("Missing request header: {}", ex.getHeaderName());
+
+        HttpStatus status = HttpHeaders.IF_MATCH.equalsIgnoreCase(ex.getHeaderName())
+                ? HttpStatus.PRECONDITION_REQUIRED
+                : HttpStatus.BAD_REQUEST;
+        ErrorResponse response = ErrorResponse.of(
+                status.value(),
+                status == HttpStatus.PRECONDITION_REQUIRED ? "PRECONDITION_REQUIRED" : "VALIDATION_ERROR",
+                "Required header '" + ex.getHeaderName() + "' is missing",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * 處理樂觀鎖例外（狀態資料表 @Version 衝突）
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                "CONCURRENCY_CONFLICT",
+                "The resource was modified concurrently, please retry",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * 處理驗證例外（@Valid）
      */
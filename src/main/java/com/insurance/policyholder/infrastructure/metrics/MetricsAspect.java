@@ -0,0 +1,138 @@
+package com.insurance.policyholder.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 應用程式指標切面
+ * 為命令/查詢處理器、Repository Adapter 與 Event Store 的每個方法記錄：
+ *
+ * - {prefix}.duration   執行時間（含百分位直方圖），以 exception 標籤區分成功與失敗
+ * - {prefix}.errors     依例外類型計數的錯誤次數
+ * - {prefix}.in.flight  目前執行中的呼叫數
+ *
+ * 排序在交易切面之外，處理器的執行時間包含交易提交
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricsAspect {
+
+    static final String NO_EXCEPTION = "none";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Pointcut("execution(public * com.insurance.policyholder.application.port.input.CommandHandler+.handle(..))"
+            + " || execution(public * com.insurance.policyholder.application.port.input.QueryHandler+.handle(..))"
+            + " || execution(public * com.insurance.policyholder.application.commandhandler.DeletePolicyHolderCommandHandler.handle(..))")
+    void handlers() {
+    }
+
+    @Pointcut("execution(public * com.insurance.policyholder.application.port.output.PolicyHolderRepository+.*(..))"
+            + " || execution(public * com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository+.*(..))")
+    void repositories() {
+    }
+
+    @Pointcut("execution(public * com.insurance.policyholder.application.port.output.EventStore+.*(..))")
+    void eventStore() {
+    }
+
+    @Around("handlers()")
+    public Object timeHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.HANDLER, joinPoint);
+    }
+
+    @Around("repositories()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.REPOSITORY, joinPoint);
+    }
+
+    @Around("eventStore()")
+    public Object timeEventStore(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.EVENT_STORE, joinPoint);
+    }
+
+    private Object record(Layer layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String component = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        AtomicInteger active = inFlight(layer, component, method);
+
+        String exception = NO_EXCEPTION;
+        active.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            Counter.builder(layer.prefix + ".errors")
+                    .description(layer.description + " errors by exception type")
+                    .tags("component", component, "method", method, "exception", exception)
+                    .register(registry)
+                    .increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            active.decrementAndGet();
+            Timer.builder(layer.prefix + ".duration")
+                    .description(layer.description + " execution time")
+                    .tags("component", component, "method", method, "exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private AtomicInteger inFlight(Layer layer, String component, String method) {
+        return inFlight.computeIfAbsent(layer.prefix + '/' + component + '/' + method, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder(layer.prefix + ".in.flight", counter, AtomicInteger::get)
+                    .description(layer.description + " calls currently executing")
+                    .tags("component", component, "method", method)
+                    .register(registry);
+            return counter;
+        });
+    }
+
+    /**
+     * 受測的層別與其指標名稱前綴
+     */
+    enum Layer {
+        HANDLER("policyholder.handler", "Command/query handler"),
+        REPOSITORY("policyholder.repository", "Repository adapter"),
+        EVENT_STORE("policyholder.eventstore", "Event store");
+
+        private final String prefix;
+        private final String description;
+
+        Layer(String prefix, String description) {
+            this.prefix = prefix;
+            this.description = description;
+        }
+    }
+}
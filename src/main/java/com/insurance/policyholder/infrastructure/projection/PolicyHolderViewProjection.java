@@ -0,0 +1,251 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import com.insurance.policyholder.application.port.input.ProjectionHandler;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.enums.PolicyStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.Money;
+import com.insurance.policyholder.infrastructure.adapter.output.event.EventsAppended;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 保戶檢視表投影（policyholder_view）
+ *
+ * CQRS 的讀取模型：消費 PolicyHolderCreated / Updated / Deleted 與 PolicyAdded，維護保戶欄位、
+ * 有效保單摘要與預先遮罩的身分證字號。事件由兩條路徑進入：命令交易中以 EventsAppended 同步套用
+ * （與事件一同提交，命令完成後即可讀到），以及重播引擎從 Event Store 追趕與重建。
+ * 每列記錄已套用的最後一個聚合根序號，只套用下一個序號的事件，兩條路徑重疊或重複投遞時不會重複累加；
+ * 序號不接續的事件略過，留待重播依序補上。
+ *
+ * 檢視列只由事件內容寫入：版本號取自事件記錄的保戶儲存後版本號（舊版事件沒有時沿用原值），
+ * 時間戳記取自事件發生時間，套用時不讀取寫入端的資料表。
+ * 重建（reset 至 onCaughtUp）寫入影子表 policyholder_view_rebuild，原檢視表照常提供查詢並由命令交易同步套用；
+ * 追上尾端後在單一交易中換入，同時對照寫入端一次，移除已封存的保戶並同步沒有事件的版本號遞增（封存、摘要修正）
+ *
+ * - policyholder.view.events   投影的事件數（依 source：inline / replay，result：applied / skipped；
+ *                              replay 的 skipped 多為命令交易已套用的事件）
+ */
+@Component
+@Profile("!event-log & !sharded")
+public class PolicyHolderViewProjection implements ProjectionHandler {
+
+    public static final String NAME = "policyholder-view";
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyHolderViewProjection.class);
+
+    private static final String VIEW = "policyholder_view";
+
+    private static final String REBUILD = "policyholder_view_rebuild";
+
+    private static final String COLUMNS = "id, national_id, masked_national_id, name, gender, birth_date, "
+            + "mobile_phone, email, zip_code, city, district, street, status, version, created_at, updated_at, "
+            + "active_policy_count, life_policy_count, health_policy_count, accident_policy_count, travel_policy_count, "
+            + "property_policy_count, auto_policy_count, safety_policy_count, total_premium_minor, "
+            + "total_sum_insured_minor, last_sequence";
+
+    private static final String SET_VERSION = "version = COALESCE(:version, version), updated_at = :occurredOn";
+
+    private static final String NEXT_SEQUENCE = ", last_sequence = :sequence WHERE id = :id AND last_sequence = :previous";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final Outcome inline;
+    private final Outcome replay;
+    private volatile boolean rebuilding;
+
+    public PolicyHolderViewProjection(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inline = new Outcome(registry, "inline");
+        this.replay = new Outcome(registry, "replay");
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void reset() {
+        int removed = transactionTemplate.execute(status -> jdbc.getJdbcTemplate().update("DELETE FROM " + REBUILD));
+        rebuilding = true;
+        log.info("Rebuilding policyholder_view into {} (cleared {} stale row(s)); queries keep reading the current view",
+                REBUILD, removed);
+    }
+
+    @Override
+    public void handle(List<StoredEvent> events) {
+        String table = rebuilding ? REBUILD : VIEW;
+        transactionTemplate.executeWithoutResult(status -> {
+            for (StoredEvent event : events) {
+                if (event.getSequence() < 1) {
+                    throw new IllegalStateException("Event " + event.getEventId()
+                            + " has no aggregate sequence number; " + NAME + " requires one");
+                }
+                apply(table, event.getAggregateId(), event.getSequence(), event.getEvent(), replay);
+            }
+        });
+    }
+
+    @Override
+    public void onCaughtUp() {
+        if (rebuilding) {
+            int rows = transactionTemplate.execute(status -> swap());
+            rebuilding = false;
+            log.info("policyholder_view rebuilt; swapped in {} row(s)", rows);
+        }
+    }
+
+    /**
+     * 命令交易中同步套用剛附加的事件（重建期間仍套用至目前的檢視表）
+     */
+    @EventListener
+    public void onEventsAppended(EventsAppended appended) {
+        long sequence = appended.firstSequence();
+        for (DomainEvent event : appended.events()) {
+            apply(VIEW, appended.aggregateId(), sequence++, event, inline);
+        }
+    }
+
+    /**
+     * 以影子表取代檢視表的內容，查詢在交易提交前仍讀到原內容；最後一次讀取之後提交的事件由持續追蹤補上。
+     * 換入前對照寫入端：事件重播會建回已封存的保戶，封存與摘要修正遞增的版本號也沒有事件
+     */
+    private int swap() {
+        JdbcTemplate template = jdbc.getJdbcTemplate();
+        template.update("DELETE FROM " + VIEW);
+        template.update("DELETE FROM " + REBUILD + " r WHERE NOT EXISTS "
+                + "(SELECT 1 FROM policy_holders h WHERE h.id = r.id)");
+        template.update("UPDATE " + REBUILD + " r SET version = "
+                + "(SELECT h.version FROM policy_holders h WHERE h.id = r.id)");
+        int rows = template.update("INSERT INTO " + VIEW + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM " + REBUILD);
+        template.update("DELETE FROM " + REBUILD);
+        return rows;
+    }
+
+    private void apply(String table, String aggregateId, long sequence, DomainEvent event, Outcome outcome) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", aggregateId)
+                .addValue("sequence", sequence)
+                .addValue("previous", sequence - 1)
+                .addValue("occurredOn", event.getOccurredOn());
+        int updated;
+        if (event instanceof PolicyHolderCreated created) {
+            updated = insert(table, created, parameters);
+        } else if (event instanceof PolicyHolderUpdated changed) {
+            parameters.addValue("version", changed.getVersion())
+                    .addValue("mobilePhone", changed.getMobilePhone())
+                    .addValue("email", changed.getEmail())
+                    .addValue("zipCode", changed.getZipCode())
+                    .addValue("city", changed.getCity())
+                    .addValue("district", changed.getDistrict())
+                    .addValue("street", changed.getStreet());
+            updated = jdbc.update("UPDATE " + table + " SET mobile_phone = :mobilePhone, email = :email, "
+                    + "zip_code = :zipCode, city = :city, district = :district, street = :street, "
+                    + SET_VERSION + NEXT_SEQUENCE, parameters);
+        } else if (event instanceof PolicyHolderDeleted deleted) {
+            parameters.addValue("version", deleted.getVersion());
+            updated = jdbc.update("UPDATE " + table + " SET status = 'INACTIVE', "
+                    + SET_VERSION + NEXT_SEQUENCE, parameters);
+        } else if (event instanceof PolicyAdded added
+                && PolicyStatus.ACTIVE.name().equals(added.getStatus())) {
+            String countColumn = PolicyType.valueOf(added.getPolicyType()).name().toLowerCase(Locale.ROOT)
+                    + "_policy_count";
+            parameters.addValue("version", added.getVersion())
+                    .addValue("premium", Money.of(added.getPremium()).toMinorUnits())
+                    .addValue("sumInsured", Money.of(added.getSumInsured()).toMinorUnits());
+            updated = jdbc.update("UPDATE " + table + " SET active_policy_count = active_policy_count + 1, "
+                    + countColumn + " = " + countColumn + " + 1, "
+                    + "total_premium_minor = total_premium_minor + :premium, "
+                    + "total_sum_insured_minor = total_sum_insured_minor + :sumInsured, "
+                    + SET_VERSION + NEXT_SEQUENCE, parameters);
+        } else {
+            // 不影響檢視內容的事件（如非有效的保單）仍推進序號與版本號
+            parameters.addValue("version", event instanceof PolicyAdded inactive ? inactive.getVersion() : null);
+            updated = jdbc.update("UPDATE " + table + " SET " + SET_VERSION + NEXT_SEQUENCE, parameters);
+        }
+        outcome.record(updated == 1);
+    }
+
+    /**
+     * 建立檢視列；新建保戶的版本號為 0，時間戳記取事件發生時間，檢視列已存在時不寫入。
+     * 無法拆出地址欄位的舊版事件以 fullAddress 作為街道
+     */
+    private int insert(String table, PolicyHolderCreated created, MapSqlParameterSource parameters) {
+        parameters.addValue("nationalId", created.getNationalId())
+                .addValue("maskedNationalId", mask(created.getNationalId()))
+                .addValue("name", created.getName())
+                .addValue("gender", created.getGender())
+                .addValue("birthDate", created.getBirthDate())
+                .addValue("mobilePhone", created.getMobilePhone())
+                .addValue("email", created.getEmail())
+                .addValue("zipCode", Objects.requireNonNullElse(created.getZipCode(), ""))
+                .addValue("city", Objects.requireNonNullElse(created.getCity(), ""))
+                .addValue("district", Objects.requireNonNullElse(created.getDistrict(), ""))
+                .addValue("street", Objects.requireNonNullElse(created.getStreet(),
+                        Objects.requireNonNullElse(created.getFullAddress(), "")));
+        return jdbc.update("INSERT INTO " + table + " (id, national_id, masked_national_id, name, gender, "
+                + "birth_date, mobile_phone, email, zip_code, city, district, street, status, version, "
+                + "created_at, updated_at, last_sequence) "
+                + "SELECT :id, :nationalId, :maskedNationalId, :name, :gender, :birthDate, :mobilePhone, :email, "
+                + ":zipCode, :city, :district, :street, 'ACTIVE', 0, :occurredOn, :occurredOn, :sequence "
+                + "WHERE NOT EXISTS (SELECT 1 FROM " + table + " v WHERE v.id = :id)", parameters);
+    }
+
+    /**
+     * 與 PolicyHolderReadModel 相同的遮罩格式（保留前 4 碼與後 3 碼）
+     */
+    static String mask(String nationalId) {
+        if (nationalId == null || nationalId.length() < 10) {
+            return nationalId;
+        }
+        return nationalId.substring(0, 4) + "***" + nationalId.substring(7);
+    }
+
+    private static final class Outcome {
+
+        private final Counter applied;
+        private final Counter skipped;
+
+        Outcome(MeterRegistry registry, String source) {
+            this.applied = counter(registry, source, "applied");
+            this.skipped = counter(registry, source, "skipped");
+        }
+
+        private static Counter counter(MeterRegistry registry, String source, String result) {
+            return Counter.builder("policyholder.view.events")
+                    .description("Events projected into policyholder_view")
+                    .tag("source", source)
+                    .tag("result", result)
+                    .register(registry);
+        }
+
+        void record(boolean wasApplied) {
+            (wasApplied ? applied : skipped).increment();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 投影進度（供 actuator 端點輸出）
+ *
+ * @param name            投影名稱
+ * @param status          目前狀態
+ * @param checkpoint      已完整處理的全域位置
+ * @param headPosition    Event Store 目前的尾端位置
+ * @param lag             尚未處理的位置數
+ * @param eventsProcessed 本次啟動後處理的事件數
+ * @param eventsPerSecond 最近一次追趕的平均速率
+ * @param startedAt       最近一次追趕的開始時間
+ * @param lastError       最近一次失敗的原因
+ */
+public record ProjectionProgress(
+        String name,
+        ProjectionStatus status,
+        long checkpoint,
+        long headPosition,
+        long lag,
+        long eventsProcessed,
+        double eventsPerSecond,
+        LocalDateTime startedAt,
+        String lastError) {
+}
@@ -0,0 +1,427 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import com.insurance.policyholder.application.port.input.ProjectionHandler;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.ProjectionCheckpointJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.ProjectionCheckpointJpaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 投影重播引擎
+ *
+ * 依全域位置順序讀取 Event Store，將每批事件依 aggregateId 分割到固定數量的工作執行緒（lane），
+ * 同一聚合根的事件永遠進入同一 lane，因此處理順序不變；不同聚合根則並行處理。
+ * 讀取與處理以管線方式進行，同時最多 maxInFlightBatches 批；批次依序完成後才前進檢查點，
+ * 中斷後可從檢查點繼續（至少一次投遞）。
+ *
+ * 啟動時每個投影從檢查點追趕至尾端，呼叫 onCaughtUp 後轉為 LIVE，之後由排程持續追蹤新事件。
+ * 全域位置可能因未提交的交易暫時不連續，遇到缺口時等待至缺口後的事件超過 gapTimeout 才跳過。
+ * 逾時只依事件標頭的發生時間判斷，交易可能在之後才提交（鎖等待、命令重試），因此跳過的位置會被記錄，
+ * 每次追蹤時重新檢查並補處理；持久化的檢查點停在最早未補上的缺口之前，重新啟動時從該處重播（至少一次投遞）。
+ * 超過 gapRetention 仍未出現的位置視為已回滾，不再檢查。
+ */
+@Component
+public class ProjectionReplayEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionReplayEngine.class);
+
+    private final EventStore eventStore;
+    private final ProjectionCheckpointJpaRepository checkpointRepository;
+    private final Map<String, ProjectionState> projections = new LinkedHashMap<>();
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final Duration gapTimeout;
+    private final Duration gapRetention;
+    private final Clock clock;
+    private final ExecutorService[] lanes;
+    private final ExecutorService coordinator;
+    private volatile boolean stopping;
+
+    @Autowired
+    public ProjectionReplayEngine(
+            EventStore eventStore,
+            ProjectionCheckpointJpaRepository checkpointRepository,
+            ObjectProvider<ProjectionHandler> handlers,
+            @Value("${projection.replay.workers:0}") int workers,
+            @Value("${projection.replay.batch-size:2000}") int batchSize,
+            @Value("${projection.replay.max-in-flight-batches:4}") int maxInFlightBatches,
+            @Value("${projection.replay.gap-timeout:5s}") Duration gapTimeout,
+            @Value("${projection.replay.gap-retention:10m}") Duration gapRetention) {
+        this(eventStore, checkpointRepository, handlers.orderedStream().collect(Collectors.toList()),
+                workers, batchSize, maxInFlightBatches, gapTimeout, gapRetention, Clock.systemDefaultZone());
+    }
+
+    ProjectionReplayEngine(
+            EventStore eventStore,
+            ProjectionCheckpointJpaRepository checkpointRepository,
+            List<ProjectionHandler> handlers,
+            int workers,
+            int batchSize,
+            int maxInFlightBatches,
+            Duration gapTimeout,
+            Duration gapRetention,
+            Clock clock) {
+        if (batchSize < 1 || maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("Batch size and in-flight batches must be positive");
+        }
+        if (gapRetention.compareTo(gapTimeout) < 0) {
+            throw new IllegalArgumentException("Gap retention must not be shorter than gap timeout");
+        }
+        this.eventStore = eventStore;
+        this.checkpointRepository = checkpointRepository;
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.gapTimeout = gapTimeout;
+        this.gapRetention = gapRetention;
+        this.clock = clock;
+        for (ProjectionHandler handler : handlers) {
+            if (projections.put(handler.getName(), new ProjectionState(handler)) != null) {
+                throw new IllegalStateException("Duplicate projection name: " + handler.getName());
+            }
+        }
+
+        int laneCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(daemonThreads("projection-lane-" + i));
+        }
+        this.coordinator = Executors.newCachedThreadPool(daemonThreads("projection-catch-up"));
+    }
+
+    /**
+     * 應用程式啟動後，每個投影從檢查點開始追趕
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        projections.keySet().forEach(name -> catchUp(name, false));
+    }
+
+    /**
+     * 在背景追趕指定投影
+     *
+     * @param reset 為 true 時先清除投影並從頭重建
+     * @return 投影已在處理中時回傳 false
+     */
+    public boolean catchUp(String name, boolean reset) {
+        ProjectionState state = stateOf(name);
+        if (!state.running.compareAndSet(false, true)) {
+            return false;
+        }
+        coordinator.execute(() -> {
+            try {
+                runCatchUp(state, reset);
+            } finally {
+                state.running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void runCatchUp(ProjectionState state, boolean reset) {
+        state.status = ProjectionStatus.CATCHING_UP;
+        state.caughtUp = false;
+        state.startedAt = LocalDateTime.now(clock);
+        state.startedAtNanos = System.nanoTime();
+        state.processedAtStart = state.processed.get();
+        try {
+            if (reset) {
+                state.handler.reset();
+                saveCheckpoint(state, 0);
+                log.info("Rebuilding projection {} from the beginning", state.handler.getName());
+            } else {
+                saveCheckpoint(state, checkpointRepository.findById(state.handler.getName())
+                        .map(ProjectionCheckpointJpaEntity::getPosition)
+                        .orElse(0L));
+            }
+            state.position = state.checkpoint;
+            state.gaps.clear();
+            if (!drain(state)) {
+                return;
+            }
+            state.handler.onCaughtUp();
+            state.caughtUp = true;
+            state.status = ProjectionStatus.LIVE;
+            log.info("Projection {} caught up at position {} ({} events)", state.handler.getName(),
+                    state.checkpoint, state.processed.get() - state.processedAtStart);
+        } catch (RuntimeException e) {
+            fail(state, e);
+        }
+    }
+
+    /**
+     * 持續追蹤：將已追上尾端的投影推進到最新事件
+     */
+    @Scheduled(fixedDelayString = "${projection.replay.tail-interval:1000}")
+    public void tail() {
+        for (ProjectionState state : projections.values()) {
+            if (!state.caughtUp || !state.running.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                if (drain(state)) {
+                    state.status = ProjectionStatus.LIVE;
+                }
+            } finally {
+                state.running.set(false);
+            }
+        }
+    }
+
+    /**
+     * 從檢查點讀取並處理到目前可見的尾端
+     *
+     * @return 是否成功（失敗時狀態為 FAILED，檢查點停在最後完成的批次）
+     */
+    private boolean drain(ProjectionState state) {
+        Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+        try {
+            recheckGaps(state);
+            long readPosition = state.position;
+            while (!stopping) {
+                List<StoredEvent> page = eventStore.readForward(readPosition, batchSize);
+                List<StoredEvent> ready = contiguousPrefix(state, readPosition, page);
+                if (ready.isEmpty()) {
+                    break;
+                }
+                inFlight.add(dispatch(state, ready));
+                readPosition = ready.get(ready.size() - 1).getPosition();
+                while (inFlight.size() >= maxInFlightBatches) {
+                    complete(state, inFlight.poll());
+                }
+                if (ready.size() < page.size()) {
+                    // 停在尚未提交的缺口前，留待下次追蹤
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                complete(state, inFlight.poll());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            fail(state, e);
+            return false;
+        }
+    }
+
+    /**
+     * 取出位置連續（或缺口已逾時）的前段事件；跳過的缺口記錄至 gaps，留待之後重新檢查
+     */
+    private List<StoredEvent> contiguousPrefix(ProjectionState state, long afterPosition, List<StoredEvent> page) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime gapDeadline = now.minus(gapTimeout);
+        LocalDateTime retentionDeadline = now.minus(gapRetention);
+        long expected = afterPosition + 1;
+        for (int i = 0; i < page.size(); i++) {
+            StoredEvent event = page.get(i);
+            if (event.getPosition() != expected) {
+                if (!event.getOccurredOn().isBefore(gapDeadline)) {
+                    return page.subList(0, i);
+                }
+                if (!event.getOccurredOn().isBefore(retentionDeadline)) {
+                    for (long position = expected; position < event.getPosition(); position++) {
+                        state.gaps.put(position, event.getOccurredOn());
+                    }
+                }
+            }
+            expected = event.getPosition() + 1;
+        }
+        return page;
+    }
+
+    /**
+     * 重新檢查跳過的缺口：已提交的事件補處理；超過 gapRetention 的缺口不再檢查
+     */
+    private void recheckGaps(ProjectionState state) {
+        if (state.gaps.isEmpty()) {
+            return;
+        }
+        LocalDateTime retentionDeadline = LocalDateTime.now(clock).minus(gapRetention);
+        List<StoredEvent> late = new ArrayList<>();
+        Iterator<Map.Entry<Long, LocalDateTime>> gaps = state.gaps.entrySet().iterator();
+        while (gaps.hasNext()) {
+            Map.Entry<Long, LocalDateTime> gap = gaps.next();
+            List<StoredEvent> found = eventStore.readForward(gap.getKey() - 1, 1);
+            if (!found.isEmpty() && found.get(0).getPosition() == gap.getKey()) {
+                late.add(found.get(0));
+                gaps.remove();
+            } else if (gap.getValue().isBefore(retentionDeadline)) {
+                log.warn("Projection {} gave up waiting for position {}", state.handler.getName(), gap.getKey());
+                gaps.remove();
+            }
+        }
+        if (!late.isEmpty()) {
+            log.info("Projection {} applying {} events committed after their gap timed out",
+                    state.handler.getName(), late.size());
+            dispatch(state, late).completion().join();
+            state.processed.addAndGet(late.size());
+        }
+        if (durablePosition(state) != state.checkpoint) {
+            saveCheckpoint(state, durablePosition(state));
+        }
+    }
+
+    private InFlightBatch dispatch(ProjectionState state, List<StoredEvent> batch) {
+        List<List<StoredEvent>> partitions = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (StoredEvent event : batch) {
+            partitions.get(Math.floorMod(event.getAggregateId().hashCode(), lanes.length)).add(event);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            List<StoredEvent> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                futures.add(CompletableFuture.runAsync(() -> state.handler.handle(partition), lanes[i]));
+            }
+        }
+        return new InFlightBatch(
+                batch.get(batch.size() - 1).getPosition(),
+                batch.size(),
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
+    }
+
+    private void complete(ProjectionState state, InFlightBatch batch) {
+        batch.completion().join();
+        state.position = batch.lastPosition();
+        saveCheckpoint(state, durablePosition(state));
+        state.processed.addAndGet(batch.size());
+    }
+
+    /**
+     * 可持久化的檢查點：已處理的位置，但不超過最早未補上的缺口
+     */
+    private long durablePosition(ProjectionState state) {
+        return state.gaps.isEmpty() ? state.position : Math.min(state.position, state.gaps.firstKey() - 1);
+    }
+
+    private void saveCheckpoint(ProjectionState state, long position) {
+        checkpointRepository.save(new ProjectionCheckpointJpaEntity(
+                state.handler.getName(), position, LocalDateTime.now(clock)));
+        state.checkpoint = position;
+    }
+
+    private void fail(ProjectionState state, RuntimeException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        state.lastError = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        state.caughtUp = false;
+        state.status = ProjectionStatus.FAILED;
+        log.error("Projection {} failed after position {}", state.handler.getName(), state.checkpoint, cause);
+    }
+
+    /**
+     * 取得所有投影的進度
+     */
+    public List<ProjectionProgress> progress() {
+        long head = eventStore.headPosition();
+        return projections.values().stream()
+                .map(state -> state.toProgress(head))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 取得單一投影的進度
+     */
+    public ProjectionProgress progress(String name) {
+        return stateOf(name).toProgress(eventStore.headPosition());
+    }
+
+    private ProjectionState stateOf(String name) {
+        ProjectionState state = projections.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown projection: " + name);
+        }
+        return state;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        coordinator.shutdownNow();
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record InFlightBatch(long lastPosition, int size, CompletableFuture<Void> completion) {
+    }
+
+    /**
+     * 單一投影的執行狀態
+     */
+    private final class ProjectionState {
+        private final ProjectionHandler handler;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile ProjectionStatus status = ProjectionStatus.IDLE;
+        private volatile boolean caughtUp;
+        private volatile long checkpoint;
+        // 已處理到的位置與跳過的缺口（位置 → 缺口後事件的發生時間），只由持有 running 的執行緒存取
+        private long position;
+        private final NavigableMap<Long, LocalDateTime> gaps = new TreeMap<>();
+        private volatile long processedAtStart;
+        private volatile long startedAtNanos;
+        private volatile LocalDateTime startedAt;
+        private volatile String lastError;
+
+        private ProjectionState(ProjectionHandler handler) {
+            this.handler = handler;
+        }
+
+        private ProjectionProgress toProgress(long head) {
+            long sinceStart = processed.get() - processedAtStart;
+            double seconds = startedAt == null ? 0 : (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+            return new ProjectionProgress(
+                    handler.getName(),
+                    status,
+                    checkpoint,
+                    head,
+                    Math.max(0, head - checkpoint),
+                    processed.get(),
+                    seconds > 0 ? sinceStart / seconds : 0,
+                    startedAt,
+                    lastError);
+        }
+    }
+}
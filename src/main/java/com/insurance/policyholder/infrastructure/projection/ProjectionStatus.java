@@ -0,0 +1,15 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+/**
+ * 投影狀態
+ */
+public enum ProjectionStatus {
+    /** 尚未開始 */
+    IDLE,
+    /** 正在從檢查點追趕 Event Store 尾端 */
+    CATCHING_UP,
+    /** 已追上尾端，持續追蹤新事件 */
+    LIVE,
+    /** 處理失敗，停在最後完成的檢查點 */
+    FAILED
+}
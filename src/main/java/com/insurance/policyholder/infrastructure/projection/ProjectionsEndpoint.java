@@ -0,0 +1,45 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 投影管理端點（/actuator/projections）
+ *
+ * GET  /actuator/projections           所有投影的進度
+ * GET  /actuator/projections/{name}    單一投影的進度
+ * POST /actuator/projections/{name}    {"reset": true} 從頭重建；省略或 false 則從檢查點繼續
+ */
+@Component
+@Endpoint(id = "projections")
+public class ProjectionsEndpoint {
+
+    private final ProjectionReplayEngine engine;
+
+    public ProjectionsEndpoint(ProjectionReplayEngine engine) {
+        this.engine = engine;
+    }
+
+    @ReadOperation
+    public List<ProjectionProgress> projections() {
+        return engine.progress();
+    }
+
+    @ReadOperation
+    public ProjectionProgress projection(@Selector String name) {
+        return engine.progress(name);
+    }
+
+    @WriteOperation
+    public Map<String, Object> catchUp(@Selector String name, @Nullable Boolean reset) {
+        boolean started = engine.catchUp(name, Boolean.TRUE.equals(reset));
+        return Map.of("projection", name, "started", started);
+    }
+}
@@ -0,0 +1,97 @@
+-- 初始資料表結構（與改用 Flyway 前 Hibernate ddl-auto 產生的結構相同）
+
+CREATE TABLE policy_holders (
+    id            VARCHAR(13)  NOT NULL PRIMARY KEY,
+    national_id   VARCHAR(10)  NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    gender        VARCHAR(10)  NOT NULL CHECK (gender IN ('MALE', 'FEMALE')),
+    birth_date    DATE         NOT NULL,
+    mobile_phone  VARCHAR(10)  NOT NULL,
+    email         VARCHAR(100),
+    zip_code      VARCHAR(5)   NOT NULL,
+    city          VARCHAR(10)  NOT NULL,
+    district      VARCHAR(10)  NOT NULL,
+    street        VARCHAR(100) NOT NULL,
+    status        VARCHAR(20)  NOT NULL CHECK (status IN ('ACTIVE', 'INACTIVE', 'SUSPENDED')),
+    version       BIGINT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_policy_holders_national_id UNIQUE (national_id)
+);
+
+CREATE INDEX idx_name ON policy_holders (name);
+CREATE INDEX idx_status ON policy_holders (status);
+
+CREATE TABLE policies (
+    id                    VARCHAR(12)    NOT NULL PRIMARY KEY,
+    policy_holder_id      VARCHAR(13)    NOT NULL,
+    policy_type           VARCHAR(20)    NOT NULL
+        CHECK (policy_type IN ('LIFE', 'HEALTH', 'ACCIDENT', 'TRAVEL', 'PROPERTY', 'AUTO', 'SAFETY')),
+    premium_amount        NUMERIC(15, 2) NOT NULL,
+    premium_currency      VARCHAR(3)     NOT NULL,
+    sum_insured           NUMERIC(15, 2) NOT NULL,
+    sum_insured_currency  VARCHAR(3)     NOT NULL,
+    start_date            DATE           NOT NULL,
+    end_date              DATE           NOT NULL,
+    status                VARCHAR(20)    NOT NULL CHECK (status IN ('ACTIVE', 'LAPSED', 'TERMINATED')),
+    version               BIGINT,
+    created_at            TIMESTAMP(6)   NOT NULL,
+    updated_at            TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT fk_policies_policy_holder FOREIGN KEY (policy_holder_id) REFERENCES policy_holders (id)
+);
+
+CREATE INDEX idx_policy_holder_id ON policies (policy_holder_id);
+CREATE INDEX idx_policy_type ON policies (policy_type);
+CREATE INDEX idx_policy_status ON policies (status);
+
+CREATE TABLE domain_events (
+    event_id         VARCHAR(36)  NOT NULL PRIMARY KEY,
+    global_position  BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    aggregate_id     VARCHAR(50)  NOT NULL,
+    aggregate_type   VARCHAR(50)  NOT NULL,
+    event_type       VARCHAR(100) NOT NULL,
+    sequence_number  BIGINT       NOT NULL,
+    payload          VARCHAR      NOT NULL,
+    occurred_on      TIMESTAMP(6) NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_aggregate_sequence UNIQUE (aggregate_id, sequence_number),
+    CONSTRAINT idx_global_position UNIQUE (global_position)
+);
+
+CREATE INDEX idx_aggregate_type ON domain_events (aggregate_type);
+CREATE INDEX idx_event_type ON domain_events (event_type);
+CREATE INDEX idx_occurred_on ON domain_events (occurred_on);
+
+CREATE TABLE aggregate_snapshots (
+    aggregate_id    VARCHAR(50)  NOT NULL PRIMARY KEY,
+    aggregate_type  VARCHAR(50)  NOT NULL,
+    last_event_id   VARCHAR(36)  NOT NULL,
+    event_count     INTEGER      NOT NULL,
+    payload         VARCHAR      NOT NULL,
+    taken_at        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE projection_checkpoints (
+    projection_name  VARCHAR(100) NOT NULL PRIMARY KEY,
+    position         BIGINT       NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE idempotency_records (
+    idempotency_key      VARCHAR(255) NOT NULL PRIMARY KEY,
+    request_fingerprint  VARCHAR(64)  NOT NULL,
+    response_status      INTEGER      NOT NULL,
+    content_type         VARCHAR(100),
+    response_body        BLOB,
+    created_at           TIMESTAMP(6) NOT NULL,
+    expires_at           TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_expires_at ON idempotency_records (expires_at);
+
+CREATE TABLE national_id_directory (
+    national_id       VARCHAR(10) NOT NULL PRIMARY KEY,
+    policy_holder_id  VARCHAR(13) NOT NULL,
+    shard             INTEGER     NOT NULL,
+    CONSTRAINT idx_directory_policy_holder_id UNIQUE (policy_holder_id)
+);
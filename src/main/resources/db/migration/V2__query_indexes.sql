@@ -0,0 +1,35 @@
+-- 依儲存庫查詢設計的複合與覆蓋索引（QueryPlanIntegrationTest 以 EXPLAIN 驗證每個查詢都不會全表掃描）
+
+-- policy_holders
+--   findByStatus / countByStatus                    -> idx_status (status, id)，計數只讀索引
+--   findByNationalId / existsByNationalId           -> uk_policy_holders_national_id
+--   findByNameContaining / countByNameContaining    -> idx_name (name, id)；前置萬用字元無法定位，
+--                                                      改掃只含姓名與編號的索引，分頁再依主鍵取回整列
+DROP INDEX idx_name;
+CREATE INDEX idx_name ON policy_holders (name, id);
+DROP INDEX idx_status;
+CREATE INDEX idx_status ON policy_holders (status, id);
+
+-- policies
+--   findVersionsWithPolicies / findByPolicyHolderId / countByPolicyHolderId
+--                                                   -> idx_policy_holder_id (policy_holder_id, id, version)，依 id 排序且只讀索引
+--   findByPolicyHolderIdAndPolicyType               -> idx_policy_holder_type
+--   findByPolicyHolderIdAndStatus                   -> idx_policy_holder_status
+--   findByPolicyType / findByStatus                 -> idx_policy_type / idx_policy_status
+DROP INDEX idx_policy_holder_id;
+CREATE INDEX idx_policy_holder_id ON policies (policy_holder_id, id, version);
+CREATE INDEX idx_policy_holder_type ON policies (policy_holder_id, policy_type);
+CREATE INDEX idx_policy_holder_status ON policies (policy_holder_id, status);
+
+-- domain_events
+--   依聚合根讀取 / 讀取之後的事件 / 最大序號         -> uk_aggregate_sequence (aggregate_id, sequence_number)
+--   findByAggregateTypeOrderByOccurredOnAsc          -> idx_aggregate_type (aggregate_type, occurred_on)，免排序
+--   findByEventTypeOrderByOccurredOnAsc              -> idx_event_type (event_type, occurred_on)，免排序
+--   findByAggregateIdAndEventType                    -> idx_aggregate_event_type (aggregate_id, event_type, occurred_on)
+--   findByGlobalPositionAfter / findMaxGlobalPosition -> idx_global_position
+--   findArchivable* / findByOccurredOnBetween        -> idx_occurred_on
+DROP INDEX idx_aggregate_type;
+CREATE INDEX idx_aggregate_type ON domain_events (aggregate_type, occurred_on);
+DROP INDEX idx_event_type;
+CREATE INDEX idx_event_type ON domain_events (event_type, occurred_on);
+CREATE INDEX idx_aggregate_event_type ON domain_events (aggregate_id, event_type, occurred_on);
@@ -0,0 +1,41 @@
+-- 冷資料封存表：停用的保戶（連同保單）與 LAPSED / TERMINATED 的保單由 PolicyHolderArchivalService 分批移入
+-- 欄位與目前的資料表相同，另記錄封存時間；保單的保戶可能仍在 policy_holders，因此不設外鍵
+
+CREATE TABLE policy_holders_archive (
+    id            VARCHAR(13)  NOT NULL PRIMARY KEY,
+    national_id   VARCHAR(10)  NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    gender        VARCHAR(10)  NOT NULL,
+    birth_date    DATE         NOT NULL,
+    mobile_phone  VARCHAR(10)  NOT NULL,
+    email         VARCHAR(100),
+    zip_code      VARCHAR(5)   NOT NULL,
+    city          VARCHAR(10)  NOT NULL,
+    district      VARCHAR(10)  NOT NULL,
+    street        VARCHAR(100) NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    version       BIGINT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_policy_holders_archive_national_id UNIQUE (national_id)
+);
+
+CREATE TABLE policies_archive (
+    id                    VARCHAR(12)    NOT NULL PRIMARY KEY,
+    policy_holder_id      VARCHAR(13)    NOT NULL,
+    policy_type           VARCHAR(20)    NOT NULL,
+    premium_amount        NUMERIC(15, 2) NOT NULL,
+    premium_currency      VARCHAR(3)     NOT NULL,
+    sum_insured           NUMERIC(15, 2) NOT NULL,
+    sum_insured_currency  VARCHAR(3)     NOT NULL,
+    start_date            DATE           NOT NULL,
+    end_date              DATE           NOT NULL,
+    status                VARCHAR(20)    NOT NULL,
+    version               BIGINT,
+    created_at            TIMESTAMP(6)   NOT NULL,
+    updated_at            TIMESTAMP(6)   NOT NULL,
+    archived_at           TIMESTAMP(6)   NOT NULL
+);
+
+CREATE INDEX idx_policies_archive_policy_holder_id ON policies_archive (policy_holder_id, id, version);
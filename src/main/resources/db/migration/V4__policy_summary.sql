@@ -0,0 +1,49 @@
+-- 保戶的有效保單摘要（反正規化欄位）：有效保單數、各保單類型的有效保單數、保費與保額合計
+-- 由儲存保戶聚合時在同一個 UPDATE 寫入，列表查詢不需載入保單；PolicySummaryReconciler 定期比對保單重算的結果
+-- 金額以幣別的最小單位儲存（新台幣 2 位小數，即 金額 * 100）；既有資料由保單回填
+
+ALTER TABLE policy_holders ADD COLUMN active_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN life_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN health_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN accident_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN travel_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN property_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN auto_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN safety_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN total_premium_minor BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN total_sum_insured_minor BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE policy_holders_archive ADD COLUMN active_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN life_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN health_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN accident_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN travel_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN property_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN auto_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN safety_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN total_premium_minor BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders_archive ADD COLUMN total_sum_insured_minor BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE policy_holders h SET
+    active_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    life_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'LIFE'),
+    health_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'HEALTH'),
+    accident_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'ACCIDENT'),
+    travel_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'TRAVEL'),
+    property_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'PROPERTY'),
+    auto_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'AUTO'),
+    safety_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'SAFETY'),
+    total_premium_minor = (SELECT COALESCE(CAST(SUM(p.premium_amount) * 100 AS BIGINT), 0) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    total_sum_insured_minor = (SELECT COALESCE(CAST(SUM(p.sum_insured) * 100 AS BIGINT), 0) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE');
+
+UPDATE policy_holders_archive h SET
+    active_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    life_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'LIFE'),
+    health_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'HEALTH'),
+    accident_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'ACCIDENT'),
+    travel_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'TRAVEL'),
+    property_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'PROPERTY'),
+    auto_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'AUTO'),
+    safety_policy_count = (SELECT COUNT(*) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'SAFETY'),
+    total_premium_minor = (SELECT COALESCE(CAST(SUM(p.premium_amount) * 100 AS BIGINT), 0) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    total_sum_insured_minor = (SELECT COALESCE(CAST(SUM(p.sum_insured) * 100 AS BIGINT), 0) FROM policies_archive p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE');
@@ -0,0 +1,57 @@
+-- CQRS 讀取端的保戶檢視表：保戶欄位、有效保單摘要與預先遮罩的身分證字號（與 PolicyHolderReadModel 的遮罩格式相同）
+-- 由 PolicyHolderViewProjection 消費 PolicyHolderCreated / Updated / Deleted 與 PolicyAdded 維護，查詢端不再讀取 policy_holders；
+-- last_sequence 為已套用的最後一個事件的聚合根序號，只套用下一個序號的事件，重複投遞與重播不會重複累加
+-- 已封存的保戶不在檢視表中，查詢端改查封存表
+
+CREATE TABLE policyholder_view (
+    id                       VARCHAR(13)  NOT NULL PRIMARY KEY,
+    national_id              VARCHAR(10)  NOT NULL,
+    masked_national_id       VARCHAR(10)  NOT NULL,
+    name                     VARCHAR(50)  NOT NULL,
+    gender                   VARCHAR(10)  NOT NULL,
+    birth_date               DATE         NOT NULL,
+    mobile_phone             VARCHAR(10)  NOT NULL,
+    email                    VARCHAR(100),
+    zip_code                 VARCHAR(5)   NOT NULL,
+    city                     VARCHAR(10)  NOT NULL,
+    district                 VARCHAR(10)  NOT NULL,
+    street                   VARCHAR(100) NOT NULL,
+    status                   VARCHAR(20)  NOT NULL,
+    version                  BIGINT,
+    created_at               TIMESTAMP(6) NOT NULL,
+    updated_at               TIMESTAMP(6) NOT NULL,
+    active_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    life_policy_count        INTEGER      DEFAULT 0 NOT NULL,
+    health_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    accident_policy_count    INTEGER      DEFAULT 0 NOT NULL,
+    travel_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    property_policy_count    INTEGER      DEFAULT 0 NOT NULL,
+    auto_policy_count        INTEGER      DEFAULT 0 NOT NULL,
+    safety_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    total_premium_minor      BIGINT       DEFAULT 0 NOT NULL,
+    total_sum_insured_minor  BIGINT       DEFAULT 0 NOT NULL,
+    last_sequence            BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_policyholder_view_national_id UNIQUE (national_id)
+);
+
+-- 只為查詢設計的索引
+--   findByNationalId                 -> uk_policyholder_view_national_id
+--   searchByName / countByName       -> idx_view_name (name, id)，先掃描索引比對姓名再依主鍵取回整列
+--   findByStatus / countByStatus     -> idx_view_status (status, id)，依編號分頁免排序，計數只讀索引
+CREATE INDEX idx_view_name ON policyholder_view (name, id);
+CREATE INDEX idx_view_status ON policyholder_view (status, id);
+
+-- 由目前的資料表回填；last_sequence 取 domain_events 中的最大序號
+-- （事件已被保留工作移出 domain_events 的保戶為 0，之後的事件會停在缺口前，需以投影重建補齊）
+INSERT INTO policyholder_view (id, national_id, masked_national_id, name, gender, birth_date, mobile_phone, email,
+                               zip_code, city, district, street, status, version, created_at, updated_at,
+                               active_policy_count, life_policy_count, health_policy_count, accident_policy_count,
+                               travel_policy_count, property_policy_count, auto_policy_count, safety_policy_count,
+                               total_premium_minor, total_sum_insured_minor, last_sequence)
+SELECT h.id, h.national_id, SUBSTRING(h.national_id, 1, 4) || '***' || SUBSTRING(h.national_id, 8), h.name, h.gender, h.birth_date,
+       h.mobile_phone, h.email, h.zip_code, h.city, h.district, h.street, h.status, h.version, h.created_at,
+       h.updated_at, h.active_policy_count, h.life_policy_count, h.health_policy_count, h.accident_policy_count,
+       h.travel_policy_count, h.property_policy_count, h.auto_policy_count, h.safety_policy_count,
+       h.total_premium_minor, h.total_sum_insured_minor,
+       COALESCE((SELECT MAX(e.sequence_number) FROM domain_events e WHERE e.aggregate_id = h.id), 0)
+FROM policy_holders h;
@@ -0,0 +1,33 @@
+-- policyholder_view 的影子表：投影重建時由事件重播寫入此表，原檢視表在重建期間照常提供查詢；
+-- 重建追上尾端後由 PolicyHolderViewProjection 在單一交易中換入 policyholder_view 並清空此表。
+-- 欄位與 policyholder_view 相同，只供投影依主鍵套用事件，不建查詢索引
+
+CREATE TABLE policyholder_view_rebuild (
+    id                       VARCHAR(13)  NOT NULL PRIMARY KEY,
+    national_id              VARCHAR(10)  NOT NULL,
+    masked_national_id       VARCHAR(10)  NOT NULL,
+    name                     VARCHAR(50)  NOT NULL,
+    gender                   VARCHAR(10)  NOT NULL,
+    birth_date               DATE         NOT NULL,
+    mobile_phone             VARCHAR(10)  NOT NULL,
+    email                    VARCHAR(100),
+    zip_code                 VARCHAR(5)   NOT NULL,
+    city                     VARCHAR(10)  NOT NULL,
+    district                 VARCHAR(10)  NOT NULL,
+    street                   VARCHAR(100) NOT NULL,
+    status                   VARCHAR(20)  NOT NULL,
+    version                  BIGINT,
+    created_at               TIMESTAMP(6) NOT NULL,
+    updated_at               TIMESTAMP(6) NOT NULL,
+    active_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    life_policy_count        INTEGER      DEFAULT 0 NOT NULL,
+    health_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    accident_policy_count    INTEGER      DEFAULT 0 NOT NULL,
+    travel_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    property_policy_count    INTEGER      DEFAULT 0 NOT NULL,
+    auto_policy_count        INTEGER      DEFAULT 0 NOT NULL,
+    safety_policy_count      INTEGER      DEFAULT 0 NOT NULL,
+    total_premium_minor      BIGINT       DEFAULT 0 NOT NULL,
+    total_sum_insured_minor  BIGINT       DEFAULT 0 NOT NULL,
+    last_sequence            BIGINT       DEFAULT 0 NOT NULL
+);
@@ -0,0 +1,8 @@
+-- 已封存事件的版本高水位：EventRetentionService 在自 domain_events 刪除事件的同一個交易中
+-- 記錄每個聚合根封存到的最大序號，整個事件序列都已封存時 EventStoreAdapter 由此取得目前版本，
+-- 不需在附加事件的交易中讀取封存檔。封存的是每個聚合根的前段，此值只會遞增
+
+CREATE TABLE archived_event_versions (
+    aggregate_id     VARCHAR(50) NOT NULL PRIMARY KEY,
+    sequence_number  BIGINT      NOT NULL
+);
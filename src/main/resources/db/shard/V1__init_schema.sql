@@ -0,0 +1,43 @@
+-- 分片資料庫的資料表（sharded profile 啟動時以 Flyway 於每個分片執行 db/shard 的 migration）
+-- 與主資料庫的 policy_holders / policies 相同；身分證字號的全域唯一由主資料庫的 national_id_directory 保證
+
+CREATE TABLE policy_holders (
+    id            VARCHAR(13)  NOT NULL PRIMARY KEY,
+    national_id   VARCHAR(10)  NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    gender        VARCHAR(10)  NOT NULL,
+    birth_date    DATE         NOT NULL,
+    mobile_phone  VARCHAR(10)  NOT NULL,
+    email         VARCHAR(100),
+    zip_code      VARCHAR(5)   NOT NULL,
+    city          VARCHAR(10)  NOT NULL,
+    district      VARCHAR(10)  NOT NULL,
+    street        VARCHAR(100) NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    version       BIGINT,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX idx_national_id ON policy_holders (national_id);
+CREATE INDEX idx_name ON policy_holders (name, id);
+CREATE INDEX idx_status ON policy_holders (status, id);
+
+CREATE TABLE policies (
+    id                    VARCHAR(12)    NOT NULL PRIMARY KEY,
+    policy_holder_id      VARCHAR(13)    NOT NULL,
+    policy_type           VARCHAR(20)    NOT NULL,
+    premium_amount        NUMERIC(15, 2) NOT NULL,
+    premium_currency      VARCHAR(3)     NOT NULL,
+    sum_insured           NUMERIC(15, 2) NOT NULL,
+    sum_insured_currency  VARCHAR(3)     NOT NULL,
+    start_date            DATE           NOT NULL,
+    end_date              DATE           NOT NULL,
+    status                VARCHAR(20)    NOT NULL,
+    version               BIGINT,
+    created_at            TIMESTAMP(6)   NOT NULL,
+    updated_at            TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT fk_policies_policy_holder FOREIGN KEY (policy_holder_id) REFERENCES policy_holders (id)
+);
+
+CREATE INDEX idx_policy_holder_id ON policies (policy_holder_id, id, version);
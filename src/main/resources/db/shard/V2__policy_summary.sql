@@ -0,0 +1,24 @@
+-- 分片上的保戶有效保單摘要欄位，與主資料庫的 V4__policy_summary 相同
+
+ALTER TABLE policy_holders ADD COLUMN active_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN life_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN health_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN accident_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN travel_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN property_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN auto_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN safety_policy_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN total_premium_minor BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE policy_holders ADD COLUMN total_sum_insured_minor BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE policy_holders h SET
+    active_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    life_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'LIFE'),
+    health_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'HEALTH'),
+    accident_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'ACCIDENT'),
+    travel_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'TRAVEL'),
+    property_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'PROPERTY'),
+    auto_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'AUTO'),
+    safety_policy_count = (SELECT COUNT(*) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE' AND p.policy_type = 'SAFETY'),
+    total_premium_minor = (SELECT COALESCE(CAST(SUM(p.premium_amount) * 100 AS BIGINT), 0) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE'),
+    total_sum_insured_minor = (SELECT COALESCE(CAST(SUM(p.sum_insured) * 100 AS BIGINT), 0) FROM policies p WHERE p.policy_holder_id = h.id AND p.status = 'ACTIVE');
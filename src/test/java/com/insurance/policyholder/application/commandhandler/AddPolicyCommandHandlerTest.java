@@ -2,8 +2,11 @@ package com.insurance.policyholder.application.commandhandler;
 
 import com.insurance.policyholder.application.command.AddPolicyCommand;
 import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyReadModel;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
@@ -20,10 +23,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,11 +41,14 @@ class AddPolicyCommandHandlerTest {
     @Mock
     private DomainEventPublisher domainEventPublisher;
 
+    @Mock
+    private EventStore eventStore;
+
     private AddPolicyCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new AddPolicyCommandHandler(repository, domainEventPublisher);
+        handler = new AddPolicyCommandHandler(repository, domainEventPublisher, eventStore);
     }
 
     private PolicyHolder createActivePolicyHolder() {
@@ -130,6 +138,41 @@ class AddPolicyCommandHandlerTest {
             assertEquals(startDate, result.getStartDate());
             assertEquals(endDate, result.getEndDate());
         }
+
+        @Test
+        @DisplayName("應以載入前讀取的事件版本發布聚合根登記的 PolicyAdded 事件")
+        @SuppressWarnings("unchecked")
+        void shouldPublishPolicyAddedEvent() {
+            // Given
+            PolicyHolder policyHolder = createActivePolicyHolder();
+            policyHolder.getDomainEventsAndClear();
+            AddPolicyCommand command = new AddPolicyCommand(
+                    "PH0000000001",
+                    "LIFE",
+                    new BigDecimal("10000"),
+                    new BigDecimal("1000000"),
+                    LocalDate.now(),
+                    LocalDate.now().plusYears(1)
+            );
+
+            when(eventStore.currentVersion("PH0000000001")).thenReturn(3L);
+            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.save(any(PolicyHolder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            PolicyReadModel result = handler.handle(command);
+
+            // Then
+            ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+            var order = inOrder(eventStore, repository);
+            order.verify(eventStore).currentVersion("PH0000000001");
+            order.verify(repository).findById(PolicyHolderId.of("PH0000000001"));
+            verify(domainEventPublisher).publishAll(eq(3L), captor.capture());
+            assertEquals(1, captor.getValue().size());
+            PolicyAdded event = (PolicyAdded) captor.getValue().get(0);
+            assertEquals(result.getId(), event.getPolicyId());
+            assertEquals("PH0000000001", event.getAggregateId());
+        }
     }
 
     @Nested
@@ -4,6 +4,8 @@ import com.insurance.policyholder.application.command.CreatePolicyHolderCommand;
 import com.insurance.policyholder.application.port.output.DomainEventPublisher;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
@@ -18,9 +20,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -132,6 +136,28 @@ class CreatePolicyHolderCommandHandlerTest {
             assertTrue(result.getId().startsWith("PH"));
             assertEquals(12, result.getId().length()); // PH + 10 digits = 12 characters
         }
+
+        @Test
+        @DisplayName("應發布 PolicyHolderCreated 事件")
+        @SuppressWarnings("unchecked")
+        void shouldPublishPolicyHolderCreatedEvent() {
+            // Given
+            CreatePolicyHolderCommand command = createValidCommand();
+
+            when(policyHolderRepository.existsByNationalId(any(NationalId.class))).thenReturn(false);
+            when(policyHolderRepository.save(any(PolicyHolder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            PolicyHolderReadModel result = handler.handle(command);
+
+            // Then
+            ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+            verify(domainEventPublisher).publishAll(eq(0L), captor.capture());
+            assertEquals(1, captor.getValue().size());
+            PolicyHolderCreated event = (PolicyHolderCreated) captor.getValue().get(0);
+            assertEquals(result.getId(), event.getAggregateId());
+            assertEquals("中正區", event.getDistrict());
+        }
     }
 
     @Nested
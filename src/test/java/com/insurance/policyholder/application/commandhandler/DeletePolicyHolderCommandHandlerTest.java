@@ -1,7 +1,11 @@
 package com.insurance.policyholder.application.commandhandler;
 
 import com.insurance.policyholder.application.command.DeletePolicyHolderCommand;
+import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
@@ -17,10 +21,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +36,17 @@ class DeletePolicyHolderCommandHandlerTest {
     @Mock
     private PolicyHolderRepository repository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private EventStore eventStore;
+
     private DeletePolicyHolderCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new DeletePolicyHolderCommandHandler(repository);
+        handler = new DeletePolicyHolderCommandHandler(repository, domainEventPublisher, eventStore);
     }
 
     private PolicyHolder createActivePolicyHolder() {
@@ -94,6 +106,29 @@ class DeletePolicyHolderCommandHandlerTest {
             assertEquals("A123456789", savedPolicyHolder.getNationalId().getValue());
             assertEquals("王小明", savedPolicyHolder.getPersonalInfo().getName());
         }
+
+        @Test
+        @DisplayName("應發布 PolicyHolderDeleted 事件")
+        @SuppressWarnings("unchecked")
+        void shouldPublishPolicyHolderDeletedEvent() {
+            // Given
+            PolicyHolder existingPolicyHolder = createActivePolicyHolder();
+            existingPolicyHolder.getDomainEventsAndClear();
+            DeletePolicyHolderCommand command = new DeletePolicyHolderCommand("PH0000000001");
+
+            when(eventStore.currentVersion("PH0000000001")).thenReturn(2L);
+            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(existingPolicyHolder));
+            when(repository.save(any(PolicyHolder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+            verify(domainEventPublisher).publishAll(eq(2L), captor.capture());
+            assertEquals(1, captor.getValue().size());
+            assertInstanceOf(PolicyHolderDeleted.class, captor.getValue().get(0));
+        }
     }
 
     @Nested
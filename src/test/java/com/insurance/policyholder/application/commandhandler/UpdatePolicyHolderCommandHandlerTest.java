@@ -1,8 +1,13 @@
 package com.insurance.policyholder.application.commandhandler;
 
 import com.insurance.policyholder.application.command.UpdatePolicyHolderCommand;
+import com.insurance.policyholder.application.exception.StaleVersionException;
+import com.insurance.policyholder.application.port.output.DomainEventPublisher;
+import com.insurance.policyholder.application.port.output.EventStore;
 import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.enums.Gender;
@@ -18,10 +23,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,11 +38,17 @@ class UpdatePolicyHolderCommandHandlerTest {
     @Mock
     private PolicyHolderRepository repository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private EventStore eventStore;
+
     private UpdatePolicyHolderCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new UpdatePolicyHolderCommandHandler(repository);
+        handler = new UpdatePolicyHolderCommandHandler(repository, domainEventPublisher, eventStore);
     }
 
     private PolicyHolder createExistingPolicyHolder() {
@@ -48,6 +61,18 @@ class UpdatePolicyHolderCommandHandlerTest {
         );
     }
 
+    private PolicyHolder createUpdatedPolicyHolder(long version) {
+        return PolicyHolder.reconstitute(
+                PolicyHolderId.of("PH0000000001"),
+                NationalId.of("A123456789"),
+                PersonalInfo.of("王小明", Gender.MALE, LocalDate.of(1990, 1, 15)),
+                ContactInfo.of("0987654321", "new@example.com"),
+                Address.of("200", "新北市", "板橋區", "新地址200號"),
+                PolicyHolderStatus.ACTIVE,
+                version
+        );
+    }
+
     @Nested
     @DisplayName("更新保戶資料")
     class UpdatePolicyHolderTests {
@@ -142,6 +167,39 @@ class UpdatePolicyHolderCommandHandlerTest {
             // Then
             assertTrue(result.getVersion() >= 0);
         }
+
+        @Test
+        @DisplayName("聯絡資訊與地址更新應合併為單一 PolicyHolderUpdated 事件")
+        @SuppressWarnings("unchecked")
+        void shouldPublishSinglePolicyHolderUpdatedEvent() {
+            // Given
+            PolicyHolder existingPolicyHolder = createExistingPolicyHolder();
+            existingPolicyHolder.getDomainEventsAndClear();
+            UpdatePolicyHolderCommand command = new UpdatePolicyHolderCommand(
+                    "PH0000000001",
+                    "0987654321",
+                    "new@example.com",
+                    "200",
+                    "新北市",
+                    "板橋區",
+                    "新地址200號"
+            );
+
+            when(eventStore.currentVersion("PH0000000001")).thenReturn(4L);
+            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(existingPolicyHolder));
+            when(repository.save(any(PolicyHolder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+            verify(domainEventPublisher).publishAll(eq(4L), captor.capture());
+            assertEquals(1, captor.getValue().size());
+            PolicyHolderUpdated event = (PolicyHolderUpdated) captor.getValue().get(0);
+            assertEquals("0987654321", event.getMobilePhone());
+            assertEquals("板橋區", event.getDistrict());
+        }
     }
 
     @Nested
@@ -169,4 +227,113 @@ class UpdatePolicyHolderCommandHandlerTest {
             verify(repository, never()).save(any());
         }
     }
+
+    @Nested
+    @DisplayName("以版本號為條件更新")
+    class VersionedUpdateTests {
+
+        @Test
+        @DisplayName("指定版本號時應直接更新而不載入聚合根")
+        void shouldUpdateWithoutLoadingAggregate() {
+            // Given
+            UpdatePolicyHolderCommand command = new UpdatePolicyHolderCommand(
+                    "PH0000000001", "0987654321", "new@example.com", "200", "新北市", "板橋區", "新地址200號", 3L);
+            when(repository.updateIfVersion(any(PolicyHolderId.class), eq(3L), any(ContactAddressChange.class)))
+                    .thenReturn(Optional.of(createUpdatedPolicyHolder(4L)));
+
+            // When
+            PolicyHolderReadModel result = handler.handle(command);
+
+            // Then
+            ArgumentCaptor<ContactAddressChange> change = ArgumentCaptor.forClass(ContactAddressChange.class);
+            verify(repository).updateIfVersion(eq(PolicyHolderId.of("PH0000000001")), eq(3L), change.capture());
+            assertEquals(ContactAddressChange.replace(
+                    ContactInfo.of("0987654321", "new@example.com"),
+                    Address.of("200", "新北市", "板橋區", "新地址200號")), change.getValue());
+            verify(repository, never()).findById(any());
+            verify(repository, never()).save(any());
+            assertEquals(4L, result.getVersion());
+            assertEquals("0987654321", result.getMobilePhone());
+        }
+
+        @Test
+        @DisplayName("應發布含完整狀態的 PolicyHolderUpdated 事件")
+        void shouldPublishPolicyHolderUpdatedEvent() {
+            // Given
+            UpdatePolicyHolderCommand command = UpdatePolicyHolderCommand.patch(
+                    "PH0000000001", null, "new@example.com", null, null, null, null, 3L);
+            when(eventStore.currentVersion("PH0000000001")).thenReturn(5L);
+            when(repository.updateIfVersion(any(PolicyHolderId.class), eq(3L), any(ContactAddressChange.class)))
+                    .thenReturn(Optional.of(createUpdatedPolicyHolder(4L)));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            ArgumentCaptor<DomainEvent> event = ArgumentCaptor.forClass(DomainEvent.class);
+            verify(domainEventPublisher).publish(eq(5L), event.capture());
+            PolicyHolderUpdated updated = assertInstanceOf(PolicyHolderUpdated.class, event.getValue());
+            assertEquals("PH0000000001", updated.getAggregateId());
+            assertEquals("0987654321", updated.getMobilePhone());
+            assertEquals("新地址200號", updated.getStreet());
+        }
+
+        @Test
+        @DisplayName("部分更新只應包含提供的欄位")
+        void shouldPassOnlySuppliedFieldsForPatch() {
+            // Given
+            UpdatePolicyHolderCommand command = UpdatePolicyHolderCommand.patch(
+                    "PH0000000001", "0987654321", null, null, null, null, null, 3L);
+            when(repository.updateIfVersion(any(PolicyHolderId.class), eq(3L), any(ContactAddressChange.class)))
+                    .thenReturn(Optional.of(createUpdatedPolicyHolder(4L)));
+
+            // When
+            handler.handle(command);
+
+            // Then
+            verify(repository).updateIfVersion(any(PolicyHolderId.class), eq(3L),
+                    eq(ContactAddressChange.partial("0987654321", null, null)));
+        }
+
+        @Test
+        @DisplayName("部分更新的地址欄位不完整時應拋出例外")
+        void shouldRejectIncompleteAddressForPatch() {
+            // Given
+            UpdatePolicyHolderCommand command = UpdatePolicyHolderCommand.patch(
+                    "PH0000000001", null, null, "200", null, null, null, 3L);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> handler.handle(command));
+            verifyNoInteractions(repository, domainEventPublisher);
+        }
+
+        @Test
+        @DisplayName("版本號不符時應拋出例外且不發布事件")
+        void shouldPropagateStaleVersion() {
+            // Given
+            UpdatePolicyHolderCommand command = UpdatePolicyHolderCommand.patch(
+                    "PH0000000001", "0987654321", null, null, null, null, null, 2L);
+            when(repository.updateIfVersion(any(PolicyHolderId.class), eq(2L), any(ContactAddressChange.class)))
+                    .thenThrow(new StaleVersionException("PH0000000001", 2L, 4L));
+
+            // When & Then
+            StaleVersionException ex = assertThrows(StaleVersionException.class, () -> handler.handle(command));
+            assertFalse(ex.isRetryable());
+            verifyNoInteractions(domainEventPublisher);
+        }
+
+        @Test
+        @DisplayName("保戶不存在時應拋出例外")
+        void shouldThrowWhenNotFound() {
+            // Given
+            UpdatePolicyHolderCommand command = UpdatePolicyHolderCommand.patch(
+                    "PH9999999999", "0987654321", null, null, null, null, null, 0L);
+            when(repository.updateIfVersion(any(PolicyHolderId.class), eq(0L), any(ContactAddressChange.class)))
+                    .thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(PolicyHolderNotFoundException.class, () -> handler.handle(command));
+            verifyNoInteractions(domainEventPublisher);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -91,7 +92,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             PolicyHolder policyHolder = createPolicyHolderWithPolicies();
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000001");
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.of(policyHolder));
 
             // When
             List<PolicyReadModel> result = handler.handle(query);
@@ -108,7 +109,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             PolicyHolder policyHolder = createPolicyHolderWithPolicies();
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000001");
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.of(policyHolder));
 
             // When
             List<PolicyReadModel> result = handler.handle(query);
@@ -127,7 +128,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             PolicyHolder policyHolder = createPolicyHolderWithoutPolicies();
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000002");
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.of(policyHolder));
 
             // When
             List<PolicyReadModel> result = handler.handle(query);
@@ -149,7 +150,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             PolicyHolder policyHolder = createPolicyHolderWithPolicies();
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000001", "LIFE", null);
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.of(policyHolder));
 
             // When
             List<PolicyReadModel> result = handler.handle(query);
@@ -171,7 +172,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             PolicyHolder policyHolder = createPolicyHolderWithPolicies();
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000001", null, "ACTIVE");
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(policyHolder));
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.of(policyHolder));
 
             // When
             List<PolicyReadModel> result = handler.handle(query);
@@ -182,6 +183,27 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("封存的保單")
+    class ArchivedPolicyTests {
+
+        @Test
+        @DisplayName("要求歷史時應載入已封存的保單")
+        void shouldLoadArchivedPoliciesWhenRequested() {
+            // Given
+            GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH0000000001", null, null, true);
+            PolicyHolder policyHolder = createPolicyHolderWithPolicies();
+
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(true))).thenReturn(Optional.of(policyHolder));
+
+            // When
+            List<PolicyReadModel> result = handler.handle(query);
+
+            // Then
+            assertEquals(2, result.size());
+        }
+    }
+
     @Nested
     @DisplayName("錯誤處理")
     class ErrorHandlingTests {
@@ -192,7 +214,7 @@ class GetPolicyHolderPoliciesQueryHandlerTest {
             // Given
             GetPolicyHolderPoliciesQuery query = new GetPolicyHolderPoliciesQuery("PH9999999999");
 
-            when(repository.findById(any(PolicyHolderId.class))).thenReturn(Optional.empty());
+            when(repository.findIncludingArchived(any(PolicyHolderId.class), eq(false))).thenReturn(Optional.empty());
 
             // When & Then
             assertThrows(PolicyHolderNotFoundException.class, () -> handler.handle(query));
@@ -3,7 +3,9 @@ package com.insurance.policyholder.application.queryhandler;
 import com.insurance.policyholder.application.port.output.PolicyHolderQueryRepository;
 import com.insurance.policyholder.application.query.GetPolicyHolderByNationalIdQuery;
 import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderVersionQuery;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,4 +128,40 @@ class GetPolicyHolderQueryHandlerTest {
             assertThrows(PolicyHolderNotFoundException.class, () -> handler.handleByNationalId(query));
         }
     }
+
+    @Nested
+    @DisplayName("查詢版本號")
+    class GetVersionTests {
+
+        @Test
+        @DisplayName("應回傳保戶與保單的版本號")
+        void shouldReturnVersions() {
+            // Given
+            GetPolicyHolderVersionQuery query = new GetPolicyHolderVersionQuery("PH0000000001", true);
+            PolicyHolderVersionReadModel version = new PolicyHolderVersionReadModel(
+                    "PH0000000001", 2L, Map.of("PO0000000001", 1L));
+
+            when(queryRepository.findVersionById(any(), eq(true))).thenReturn(Optional.of(version));
+
+            // When
+            PolicyHolderVersionReadModel result = handler.handleVersion(query);
+
+            // Then
+            assertEquals(2L, result.getVersion());
+            assertEquals(Map.of("PO0000000001", 1L), result.getPolicyVersions());
+            verify(queryRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("保戶不存在時應拋出例外")
+        void shouldThrowExceptionWhenNotFound() {
+            // Given
+            GetPolicyHolderVersionQuery query = new GetPolicyHolderVersionQuery("PH9999999999", false);
+
+            when(queryRepository.findVersionById(any(), eq(false))).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(PolicyHolderNotFoundException.class, () -> handler.handleVersion(query));
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,7 +95,7 @@ class GetPolicyQueryHandlerTest {
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
             PolicyHolder policyHolder = createPolicyHolderWithPolicy();
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When
@@ -117,7 +118,7 @@ class GetPolicyQueryHandlerTest {
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
             PolicyHolder policyHolder = createPolicyHolderWithPolicy();
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When
@@ -139,7 +140,7 @@ class GetPolicyQueryHandlerTest {
             // Given
             GetPolicyQuery query = new GetPolicyQuery("PH9999999999", POLICY_ID);
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.empty());
 
             // When & Then
@@ -163,7 +164,7 @@ class GetPolicyQueryHandlerTest {
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, "PO9999999999");
             PolicyHolder policyHolder = createPolicyHolderWithoutPolicy();
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When & Then
@@ -182,7 +183,7 @@ class GetPolicyQueryHandlerTest {
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, "PO0000000002");
             PolicyHolder policyHolder = createPolicyHolderWithPolicy();
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When & Then
@@ -190,6 +191,43 @@ class GetPolicyQueryHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("封存的保單")
+    class ArchivedPolicyTests {
+
+        @Test
+        @DisplayName("should look up archived policies when policy is not in hot table")
+        void shouldLookUpArchivedPoliciesWhenPolicyMissing() {
+            // Given
+            GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), eq(false)))
+                    .thenReturn(Optional.of(createPolicyHolderWithoutPolicy()));
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), eq(true)))
+                    .thenReturn(Optional.of(createPolicyHolderWithPolicy()));
+
+            // When
+            PolicyReadModel result = handler.handle(query);
+
+            // Then
+            assertEquals(POLICY_ID, result.getId());
+        }
+
+        @Test
+        @DisplayName("should not look up archived policies when policy is in hot table")
+        void shouldNotLookUpArchivedPoliciesWhenPolicyFound() {
+            // Given
+            GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), eq(false)))
+                    .thenReturn(Optional.of(createPolicyHolderWithPolicy()));
+
+            // When
+            handler.handle(query);
+
+            // Then
+            verify(policyHolderRepository, never()).findIncludingArchived(any(PolicyHolderId.class), eq(true));
+        }
+    }
+
     @Nested
     @DisplayName("Repository 互動測試")
     class RepositoryInteractionTests {
@@ -201,14 +239,14 @@ class GetPolicyQueryHandlerTest {
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
             PolicyHolder policyHolder = createPolicyHolderWithPolicy();
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When
             handler.handle(query);
 
             // Then
-            verify(policyHolderRepository, times(1)).findById(PolicyHolderId.of(POLICY_HOLDER_ID));
+            verify(policyHolderRepository, times(1)).findIncludingArchived(PolicyHolderId.of(POLICY_HOLDER_ID), false);
         }
     }
 
@@ -244,7 +282,7 @@ class GetPolicyQueryHandlerTest {
 
             GetPolicyQuery query = new GetPolicyQuery(POLICY_HOLDER_ID, POLICY_ID);
 
-            when(policyHolderRepository.findById(any(PolicyHolderId.class)))
+            when(policyHolderRepository.findIncludingArchived(any(PolicyHolderId.class), anyBoolean()))
                     .thenReturn(Optional.of(policyHolder));
 
             // When
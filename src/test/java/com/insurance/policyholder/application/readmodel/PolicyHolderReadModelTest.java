@@ -175,6 +175,20 @@ class PolicyHolderReadModelTest {
             assertEquals("B987***321", model2.getMaskedNationalId());
         }
 
+        @Test
+        @DisplayName("should return the precomputed masked national ID when present")
+        void shouldReturnPrecomputedMaskedNationalId() {
+            // Given
+            PolicyHolderReadModel model = new PolicyHolderReadModel(
+                    ID, "A123456789", NAME, GENDER, BIRTH_DATE,
+                    MOBILE_PHONE, EMAIL, ZIP_CODE, CITY, DISTRICT, STREET,
+                    STATUS, CREATED_AT, UPDATED_AT, VERSION, PolicySummaryReadModel.EMPTY, "A123***000"
+            );
+
+            // Then
+            assertEquals("A123***000", model.getMaskedNationalId());
+        }
+
         @Test
         @DisplayName("should return null when national ID is null")
         void shouldReturnNullWhenNationalIdIsNull() {
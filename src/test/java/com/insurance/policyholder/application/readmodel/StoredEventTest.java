@@ -0,0 +1,89 @@
+package com.insurance.policyholder.application.readmodel;
+
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StoredEvent Tests")
+class StoredEventTest {
+
+    private static final LocalDateTime OCCURRED_ON = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final PolicyHolderDeleted event =
+            new PolicyHolderDeleted("event-1", OCCURRED_ON, "PH0000000001", "A123***789", "王小明", 1L);
+
+    @Nested
+    @DisplayName("Eager Envelope Tests")
+    class EagerTests {
+
+        @Test
+        @DisplayName("should copy headers from the event")
+        void shouldCopyHeadersFromEvent() {
+            // When
+            StoredEvent stored = new StoredEvent(7, event);
+
+            // Then
+            assertEquals(7, stored.getPosition());
+            assertEquals("event-1", stored.getEventId());
+            assertEquals("PH0000000001", stored.getAggregateId());
+            assertEquals("PolicyHolder", stored.getAggregateType());
+            assertEquals(PolicyHolderDeleted.class.getName(), stored.getEventType());
+            assertEquals(OCCURRED_ON, stored.getOccurredOn());
+            assertTrue(stored.isDecoded());
+            assertSame(event, stored.getEvent());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Envelope Tests")
+    class LazyTests {
+
+        @Test
+        @DisplayName("should expose headers without decoding")
+        void shouldExposeHeadersWithoutDecoding() {
+            // Given
+            AtomicInteger decodes = new AtomicInteger();
+
+            // When
+            StoredEvent stored = new StoredEvent(3, "event-1", "PH0000000001", "PolicyHolder",
+                    PolicyHolderDeleted.class.getName(), OCCURRED_ON, () -> {
+                        decodes.incrementAndGet();
+                        return event;
+                    });
+
+            // Then
+            assertEquals("PH0000000001", stored.getAggregateId());
+            assertEquals(OCCURRED_ON, stored.getOccurredOn());
+            assertFalse(stored.isDecoded());
+            assertEquals(0, decodes.get());
+        }
+
+        @Test
+        @DisplayName("should decode payload once on first access")
+        void shouldDecodeOnce() {
+            // Given
+            AtomicInteger decodes = new AtomicInteger();
+            StoredEvent stored = new StoredEvent(3, "event-1", "PH0000000001", "PolicyHolder",
+                    PolicyHolderDeleted.class.getName(), OCCURRED_ON, () -> {
+                        decodes.incrementAndGet();
+                        return event;
+                    });
+
+            // When
+            DomainEvent first = stored.getEvent();
+            DomainEvent second = stored.getEvent();
+
+            // Then
+            assertSame(first, second);
+            assertEquals(1, decodes.get());
+            assertTrue(stored.isDecoded());
+        }
+    }
+}
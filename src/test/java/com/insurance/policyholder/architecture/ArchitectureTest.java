@@ -151,12 +151,17 @@ class ArchitectureTest {
                             APPLICATION_PACKAGE,
                             DOMAIN_PACKAGE,
                             "java..",
+                            "javax.sql..",
                             "jakarta..",
                             "org.springframework..",
                             "org.springdoc..",
                             "io.swagger..",
                             "com.fasterxml..",
-                            "org.slf4j.."
+                            "org.slf4j..",
+                            "io.micrometer..",
+                            "org.aspectj..",
+                            "jdk.jfr..",
+                            "org.flywaydb.."
                     )
                     .check(importedClasses);
         }
@@ -113,7 +113,7 @@ class DomainEventTest {
         @Test
         @DisplayName("should create event from PolicyHolder")
         void shouldCreateEventFromPolicyHolder() {
-            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder);
+            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder, 1L);
 
             assertNotNull(event.getEventId());
             assertNotNull(event.getOccurredOn());
@@ -136,7 +136,7 @@ class DomainEventTest {
             String newEmail = "updated@example.com";
             policyHolder.updateContactInfo(ContactInfo.of(newMobile, newEmail));
 
-            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder);
+            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder, 1L);
 
             assertEquals(newMobile, event.getMobilePhone());
             assertEquals(newEmail, event.getEmail());
@@ -149,7 +149,7 @@ class DomainEventTest {
             String newDistrict = "Sanmin";
             policyHolder.updateAddress(Address.of("80000", newCity, newDistrict, "New Street"));
 
-            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder);
+            PolicyHolderUpdated event = new PolicyHolderUpdated(policyHolder, 1L);
 
             assertEquals("80000", event.getZipCode());
             assertEquals(newCity, event.getCity());
@@ -165,7 +165,7 @@ class DomainEventTest {
         @Test
         @DisplayName("should create event from PolicyHolder")
         void shouldCreateEventFromPolicyHolder() {
-            PolicyHolderDeleted event = new PolicyHolderDeleted(policyHolder);
+            PolicyHolderDeleted event = new PolicyHolderDeleted(policyHolder, 1L);
 
             assertNotNull(event.getEventId());
             assertNotNull(event.getOccurredOn());
@@ -178,7 +178,7 @@ class DomainEventTest {
         @Test
         @DisplayName("should mask national ID")
         void shouldMaskNationalId() {
-            PolicyHolderDeleted event = new PolicyHolderDeleted(policyHolder);
+            PolicyHolderDeleted event = new PolicyHolderDeleted(policyHolder, 1L);
 
             String maskedId = event.getNationalId();
             // NationalId.getMasked() should return masked format like "A12***6789"
@@ -207,7 +207,7 @@ class DomainEventTest {
         @Test
         @DisplayName("should create event with policy data")
         void shouldCreateEventWithPolicyData() {
-            PolicyAdded event = new PolicyAdded(POLICY_HOLDER_ID, policy);
+            PolicyAdded event = new PolicyAdded(POLICY_HOLDER_ID, policy, 1L);
 
             assertNotNull(event.getEventId());
             assertNotNull(event.getOccurredOn());
@@ -234,7 +234,7 @@ class DomainEventTest {
                     LocalDate.now().plusYears(2)
             );
 
-            PolicyAdded event = new PolicyAdded(POLICY_HOLDER_ID, healthPolicy);
+            PolicyAdded event = new PolicyAdded(POLICY_HOLDER_ID, healthPolicy, 1L);
 
             assertEquals("HEALTH", event.getPolicyType());
         }
@@ -1,7 +1,14 @@
 package com.insurance.policyholder.domain.model.aggregate;
 
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.entity.Policy;
 import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +16,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -209,4 +218,264 @@ class PolicyHolderTest {
             assertThrows(IllegalStateException.class, policyHolder::deactivate);
         }
     }
+
+    @Nested
+    @DisplayName("有效保單摘要測試")
+    class PolicySummaryTests {
+
+        @Test
+        @DisplayName("新增保單後摘要應逐筆更新")
+        void shouldUpdateSummaryWhenPolicyAdded() {
+            // Given
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId, validPersonalInfo, validContactInfo, validAddress);
+            PolicySummary before = policyHolder.getPolicySummary();
+
+            // When
+            policyHolder.addPolicy(createPolicy());
+
+            // Then
+            assertEquals(0, before.getActivePolicies());
+            assertEquals(1, policyHolder.getPolicySummary().getActivePolicies());
+            assertEquals(PolicySummary.of(policyHolder.getPolicies()), policyHolder.getPolicySummary());
+        }
+
+        @Test
+        @DisplayName("終止保單後摘要不再計入該保單")
+        void shouldUpdateSummaryWhenPolicyTerminated() {
+            // Given
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId, validPersonalInfo, validContactInfo, validAddress);
+            Policy first = createPolicy();
+            policyHolder.addPolicy(first);
+            policyHolder.addPolicy(createPolicy());
+            policyHolder.getPolicySummary();
+
+            // When
+            policyHolder.terminatePolicy(first.getId());
+
+            // Then
+            assertFalse(first.isActive());
+            assertEquals(1, policyHolder.getPolicySummary().getActivePolicies());
+            assertEquals(1000000L, policyHolder.getPolicySummary().getTotalPremiumMinor());
+            assertEquals(PolicySummary.of(policyHolder.getPolicies()), policyHolder.getPolicySummary());
+        }
+
+        @Test
+        @DisplayName("終止不存在的保單應拋出例外")
+        void shouldRejectUnknownPolicy() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId, validPersonalInfo, validContactInfo, validAddress);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> policyHolder.terminatePolicy(PolicyId.generate()));
+        }
+    }
+
+    @Nested
+    @DisplayName("領域事件測試")
+    class DomainEventTests {
+
+        @Test
+        @DisplayName("建立保戶應登記 PolicyHolderCreated 事件")
+        void shouldRegisterCreatedEvent() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+
+            List<DomainEvent> events = policyHolder.getDomainEventsAndClear();
+
+            assertEquals(1, events.size());
+            PolicyHolderCreated created = (PolicyHolderCreated) events.get(0);
+            assertEquals(policyHolder.getId().getValue(), created.getAggregateId());
+            assertEquals("100", created.getZipCode());
+            assertEquals("忠孝東路100號", created.getStreet());
+        }
+
+        @Test
+        @DisplayName("同一次操作的多次更新應合併為一個 PolicyHolderUpdated 事件")
+        void shouldCoalesceUpdatedEvents() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            policyHolder.getDomainEventsAndClear();
+
+            policyHolder.updateContactInfo(ContactInfo.of("0987654321", "new@example.com"));
+            policyHolder.updateAddress(Address.of("200", "新北市", "板橋區", "新地址200號"));
+
+            List<DomainEvent> events = policyHolder.getDomainEventsAndClear();
+            assertEquals(1, events.size());
+            PolicyHolderUpdated updated = (PolicyHolderUpdated) events.get(0);
+            assertEquals("0987654321", updated.getMobilePhone());
+            assertEquals("新北市", updated.getCity());
+        }
+
+        @Test
+        @DisplayName("新增保單與停用應分別登記事件")
+        void shouldRegisterPolicyAddedAndDeletedEvents() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            policyHolder.getDomainEventsAndClear();
+
+            policyHolder.addPolicy(createPolicy());
+            policyHolder.deactivate();
+
+            List<DomainEvent> events = policyHolder.getDomainEventsAndClear();
+            assertEquals(2, events.size());
+            assertInstanceOf(PolicyAdded.class, events.get(0));
+            assertInstanceOf(PolicyHolderDeleted.class, events.get(1));
+        }
+
+        @Test
+        @DisplayName("事件應記錄儲存後的版本號：已儲存的保戶為目前版本號加 1，新建的保戶為 0")
+        void shouldRecordSavedVersionInEvents() {
+            PolicyHolder stored = PolicyHolder.reconstitute(
+                    PolicyHolderId.of("PH0000000001"),
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress,
+                    PolicyHolderStatus.ACTIVE,
+                    4L
+            );
+            stored.updateContactInfo(ContactInfo.of("0987654321", "new@example.com"));
+            stored.addPolicy(createPolicy());
+            stored.deactivate();
+
+            List<DomainEvent> events = stored.getDomainEventsAndClear();
+            assertEquals(5L, ((PolicyHolderUpdated) events.get(0)).getVersion());
+            assertEquals(5L, ((PolicyAdded) events.get(1)).getVersion());
+            assertEquals(5L, ((PolicyHolderDeleted) events.get(2)).getVersion());
+
+            PolicyHolder created = PolicyHolder.create(validNationalId, validPersonalInfo, validContactInfo, validAddress);
+            created.addPolicy(createPolicy());
+            assertEquals(0L, ((PolicyAdded) created.getDomainEventsAndClear().get(1)).getVersion());
+        }
+
+        @Test
+        @DisplayName("重建的保戶不應有事件")
+        void shouldNotRegisterEventsOnReconstitute() {
+            PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                    PolicyHolderId.of("PH0000000001"),
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress,
+                    PolicyHolderStatus.ACTIVE,
+                    1L
+            );
+
+            assertTrue(policyHolder.getDomainEvents().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("事件重播測試")
+    class ReplayTests {
+
+        private List<DomainEvent> recordHistory(PolicyHolder policyHolder) {
+            List<DomainEvent> history = new ArrayList<>(policyHolder.getDomainEventsAndClear());
+            policyHolder.addPolicy(createPolicy());
+            history.addAll(policyHolder.getDomainEventsAndClear());
+            policyHolder.updateContactInfo(ContactInfo.of("0987654321", "new@example.com"));
+            policyHolder.updateAddress(Address.of("200", "新北市", "板橋區", "新地址200號"));
+            history.addAll(policyHolder.getDomainEventsAndClear());
+            policyHolder.deactivate();
+            history.addAll(policyHolder.getDomainEventsAndClear());
+            return history;
+        }
+
+        @Test
+        @DisplayName("應從事件流重建出相同狀態")
+        void shouldRebuildSameStateFromHistory() {
+            PolicyHolder original = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            List<DomainEvent> history = recordHistory(original);
+
+            PolicyHolder rebuilt = PolicyHolder.fromHistory(history, 3L);
+
+            assertEquals(original.getId(), rebuilt.getId());
+            assertEquals(original.getNationalId(), rebuilt.getNationalId());
+            assertEquals(original.getPersonalInfo(), rebuilt.getPersonalInfo());
+            assertEquals(original.getContactInfo(), rebuilt.getContactInfo());
+            assertEquals(original.getAddress(), rebuilt.getAddress());
+            assertEquals(PolicyHolderStatus.INACTIVE, rebuilt.getStatus());
+            assertEquals(1, rebuilt.getPolicies().size());
+            assertEquals(original.getPolicies().get(0).getId(), rebuilt.getPolicies().get(0).getId());
+            assertEquals(3L, rebuilt.getVersion());
+            assertTrue(rebuilt.getDomainEvents().isEmpty());
+        }
+
+        @Test
+        @DisplayName("應可在快照狀態上重播後續事件")
+        void shouldReplayTailOnTopOfSnapshot() {
+            PolicyHolder original = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            List<DomainEvent> history = recordHistory(original);
+            PolicyHolder snapshot = PolicyHolder.fromHistory(history.subList(0, 2), 1L);
+
+            snapshot.replay(history.subList(2, history.size()));
+
+            assertEquals(original.getAddress(), snapshot.getAddress());
+            assertEquals(PolicyHolderStatus.INACTIVE, snapshot.getStatus());
+        }
+
+        @Test
+        @DisplayName("事件流必須以 PolicyHolderCreated 開始")
+        void shouldRejectHistoryWithoutCreatedEvent() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            List<DomainEvent> history = recordHistory(policyHolder);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> PolicyHolder.fromHistory(history.subList(1, history.size()), 1L));
+            assertThrows(IllegalArgumentException.class, () -> PolicyHolder.fromHistory(List.of(), 1L));
+        }
+
+        @Test
+        @DisplayName("不應在既有保戶上套用 PolicyHolderCreated")
+        void shouldRejectCreatedEventOnExistingPolicyHolder() {
+            PolicyHolder policyHolder = PolicyHolder.create(
+                    validNationalId,
+                    validPersonalInfo,
+                    validContactInfo,
+                    validAddress
+            );
+            DomainEvent created = policyHolder.getDomainEventsAndClear().get(0);
+
+            assertThrows(IllegalStateException.class, () -> policyHolder.apply(created));
+        }
+    }
+
+    private Policy createPolicy() {
+        return Policy.create(
+                PolicyType.LIFE,
+                Money.twd(10000),
+                Money.twd(1000000),
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2025, 1, 1)
+        );
+    }
 }
@@ -0,0 +1,73 @@
+package com.insurance.policyholder.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContactAddressChange Value Object Tests")
+class ContactAddressChangeTest {
+
+    private final Address address = Address.of("100", "台北市", "中正區", "忠孝東路100號");
+
+    @Nested
+    @DisplayName("完整替換")
+    class ReplaceTests {
+
+        @Test
+        @DisplayName("應包含所有欄位")
+        void shouldContainAllFields() {
+            ContactAddressChange change = ContactAddressChange.replace(ContactInfo.of("0912345678", null), address);
+
+            assertTrue(change.hasMobilePhone());
+            assertTrue(change.hasEmail());
+            assertNull(change.getEmail());
+            assertTrue(change.hasAddress());
+            assertEquals(address, change.getAddress());
+        }
+    }
+
+    @Nested
+    @DisplayName("部分更新")
+    class PartialTests {
+
+        @Test
+        @DisplayName("只應包含提供的欄位")
+        void shouldContainOnlySuppliedFields() {
+            ContactAddressChange change = ContactAddressChange.partial(null, " new@example.com ", null);
+
+            assertFalse(change.hasMobilePhone());
+            assertTrue(change.hasEmail());
+            assertEquals("new@example.com", change.getEmail());
+            assertFalse(change.hasAddress());
+        }
+
+        @Test
+        @DisplayName("空白 email 應代表清除")
+        void shouldClearEmailWhenBlank() {
+            ContactAddressChange change = ContactAddressChange.partial(null, "", null);
+
+            assertTrue(change.hasEmail());
+            assertNull(change.getEmail());
+        }
+
+        @Test
+        @DisplayName("無效的手機號碼應拋出例外")
+        void shouldRejectInvalidMobilePhone() {
+            assertThrows(IllegalArgumentException.class, () -> ContactAddressChange.partial("12345", null, null));
+        }
+
+        @Test
+        @DisplayName("無效的 email 應拋出例外")
+        void shouldRejectInvalidEmail() {
+            assertThrows(IllegalArgumentException.class, () -> ContactAddressChange.partial(null, "not-an-email", null));
+        }
+
+        @Test
+        @DisplayName("沒有任何欄位應拋出例外")
+        void shouldRejectEmptyChange() {
+            assertThrows(IllegalArgumentException.class, () -> ContactAddressChange.partial(null, null, null));
+        }
+    }
+}
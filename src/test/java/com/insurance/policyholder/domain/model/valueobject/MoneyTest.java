@@ -111,6 +111,30 @@ class MoneyTest {
         }
     }
 
+    @Nested
+    @DisplayName("最小單位測試")
+    class MinorUnitTests {
+
+        @Test
+        @DisplayName("新台幣應以 1/100 元為最小單位")
+        void shouldConvertTwdToMinorUnits() {
+            assertEquals(123456L, Money.of(new BigDecimal("1234.56")).toMinorUnits());
+            assertEquals(100000L, Money.twd(1000).toMinorUnits());
+        }
+
+        @Test
+        @DisplayName("超出最小單位的位數應四捨五入")
+        void shouldRoundBeyondMinorUnit() {
+            assertEquals(1235L, Money.of(new BigDecimal("12.345")).toMinorUnits());
+        }
+
+        @Test
+        @DisplayName("應依幣別的小數位數換算")
+        void shouldUseCurrencyFractionDigits() {
+            assertEquals(500L, Money.of(new BigDecimal("500"), Currency.getInstance("JPY")).toMinorUnits());
+        }
+    }
+
     @Nested
     @DisplayName("相等性測試")
     class EqualityTests {
@@ -0,0 +1,141 @@
+package com.insurance.policyholder.domain.model.valueobject;
+
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicySummary Value Object Tests")
+class PolicySummaryTest {
+
+    private static Policy policy(PolicyType type, String premium, String sumInsured) {
+        return Policy.create(type, Money.of(new BigDecimal(premium)), Money.of(new BigDecimal(sumInsured)),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Nested
+    @DisplayName("彙總測試")
+    class AggregationTests {
+
+        @Test
+        @DisplayName("應彙總有效保單的數量、類型與金額")
+        void shouldSummarizeActivePolicies() {
+            // Given
+            List<Policy> policies = List.of(
+                    policy(PolicyType.LIFE, "10000.50", "1000000"),
+                    policy(PolicyType.LIFE, "2000", "200000"),
+                    policy(PolicyType.HEALTH, "3000", "300000"));
+
+            // When
+            PolicySummary summary = PolicySummary.of(policies);
+
+            // Then
+            assertEquals(3, summary.getActivePolicies());
+            assertEquals(2, summary.getActivePolicies(PolicyType.LIFE));
+            assertEquals(1, summary.getActivePolicies(PolicyType.HEALTH));
+            assertEquals(0, summary.getActivePolicies(PolicyType.AUTO));
+            assertEquals(1500050L, summary.getTotalPremiumMinor());
+            assertEquals(150000000L, summary.getTotalSumInsuredMinor());
+        }
+
+        @Test
+        @DisplayName("非有效的保單不計入")
+        void shouldIgnoreInactivePolicies() {
+            // Given
+            Policy terminated = policy(PolicyType.AUTO, "5000", "500000");
+            terminated.terminate();
+
+            // When
+            PolicySummary summary = PolicySummary.empty().add(terminated);
+
+            // Then
+            assertSame(PolicySummary.empty(), summary);
+            assertTrue(summary.getActivePoliciesByType().isEmpty());
+        }
+
+        @Test
+        @DisplayName("逐筆加入與一次彙總的結果相同，且不改變原摘要")
+        void shouldAddIncrementally() {
+            // Given
+            Policy life = policy(PolicyType.LIFE, "1000", "100000");
+            Policy travel = policy(PolicyType.TRAVEL, "500", "50000");
+            PolicySummary first = PolicySummary.empty().add(life);
+
+            // When
+            PolicySummary second = first.add(travel);
+
+            // Then
+            assertEquals(PolicySummary.of(List.of(life, travel)), second);
+            assertEquals(1, first.getActivePolicies());
+        }
+    }
+
+    @Nested
+    @DisplayName("移除測試")
+    class RemoveTests {
+
+        @Test
+        @DisplayName("移除有效保單後與重新彙總的結果相同")
+        void shouldRemoveActivePolicy() {
+            // Given
+            Policy life = policy(PolicyType.LIFE, "1000", "100000");
+            Policy travel = policy(PolicyType.TRAVEL, "500", "50000");
+            PolicySummary summary = PolicySummary.of(List.of(life, travel));
+
+            // When
+            PolicySummary removed = summary.remove(travel);
+
+            // Then
+            assertEquals(PolicySummary.of(List.of(life)), removed);
+            assertFalse(removed.getActivePoliciesByType().containsKey(PolicyType.TRAVEL));
+            assertEquals(2, summary.getActivePolicies());
+        }
+
+        @Test
+        @DisplayName("移除未計入摘要的保單應拋出例外")
+        void shouldRejectUncountedPolicy() {
+            Policy life = policy(PolicyType.LIFE, "1000", "100000");
+
+            assertThrows(IllegalStateException.class, () -> PolicySummary.empty().remove(life));
+        }
+    }
+
+    @Nested
+    @DisplayName("重建測試")
+    class ReconstituteTests {
+
+        @Test
+        @DisplayName("以各類型數量重建，有效保單數為各類型的合計")
+        void shouldReconstituteFromCounts() {
+            // Given
+            Map<PolicyType, Integer> counts = new EnumMap<>(PolicyType.class);
+            counts.put(PolicyType.LIFE, 1);
+            counts.put(PolicyType.HEALTH, 0);
+            counts.put(PolicyType.ACCIDENT, 2);
+
+            // When
+            PolicySummary summary = PolicySummary.reconstitute(counts, 300000L, 30000000L);
+
+            // Then
+            assertEquals(3, summary.getActivePolicies());
+            assertEquals(Map.of(PolicyType.LIFE, 1, PolicyType.ACCIDENT, 2), summary.getActivePoliciesByType());
+            assertEquals(300000L, summary.getTotalPremiumMinor());
+        }
+
+        @Test
+        @DisplayName("數量為負數時應拋出例外")
+        void shouldRejectNegativeCount() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PolicySummary.reconstitute(Map.of(PolicyType.LIFE, -1), 0L, 0L));
+        }
+    }
+}
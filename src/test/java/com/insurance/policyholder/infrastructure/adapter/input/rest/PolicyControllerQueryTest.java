@@ -8,9 +8,11 @@ import com.insurance.policyholder.application.queryhandler.GetPolicyHolderPolici
 import com.insurance.policyholder.application.queryhandler.GetPolicyHolderQueryHandler;
 import com.insurance.policyholder.application.queryhandler.GetPolicyQueryHandler;
 import com.insurance.policyholder.application.queryhandler.SearchPolicyHoldersQueryHandler;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
 import com.insurance.policyholder.application.readmodel.PolicyReadModel;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,8 +27,12 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -106,6 +112,14 @@ class PolicyControllerQueryTest {
     @DisplayName("GET /api/v1/policyholders/{id}/policies - 查詢保戶保單")
     class GetPolicyHolderPoliciesTests {
 
+        private final PolicyHolderVersionReadModel version = new PolicyHolderVersionReadModel(
+                "PH0000000001", 3L, Map.of("PO0000000001", 0L, "PO0000000002", 1L));
+
+        @BeforeEach
+        void setUp() {
+            when(getPolicyHolderQueryHandler.handleVersion(any())).thenReturn(version);
+        }
+
         @Test
         @DisplayName("應成功查詢保戶的所有保單")
         void shouldReturnPoliciesSuccessfully() throws Exception {
@@ -143,7 +157,7 @@ class PolicyControllerQueryTest {
         @DisplayName("保戶不存在應回傳 404")
         void shouldReturn404WhenPolicyHolderNotFound() throws Exception {
             // Given
-            when(getPolicyHolderPoliciesQueryHandler.handle(any()))
+            when(getPolicyHolderQueryHandler.handleVersion(any()))
                     .thenThrow(new PolicyHolderNotFoundException("PH9999999999"));
 
             // When & Then
@@ -181,6 +195,47 @@ class PolicyControllerQueryTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
         }
+
+        @Test
+        @DisplayName("應回傳由保戶與保單版本號產生的 ETag")
+        void shouldReturnETag() throws Exception {
+            // Given
+            when(getPolicyHolderPoliciesQueryHandler.handle(any())).thenReturn(createMockPolicyList());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001/policies"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", ETags.ofPolicies(version)))
+                    .andExpect(header().string("ETag", startsWith("\"3-")));
+        }
+
+        @Test
+        @DisplayName("If-None-Match 相符時應回傳 304 且不載入保單")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001/policies")
+                            .header("If-None-Match", ETags.ofPolicies(version)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", ETags.ofPolicies(version)))
+                    .andExpect(content().string(""));
+
+            verify(getPolicyHolderPoliciesQueryHandler, never()).handle(any());
+        }
+
+        @Test
+        @DisplayName("保單版本變更時 ETag 應不同")
+        void shouldChangeETagWhenPolicyVersionChanges() throws Exception {
+            // Given
+            String stale = ETags.ofPolicies(new PolicyHolderVersionReadModel(
+                    "PH0000000001", 3L, Map.of("PO0000000001", 0L, "PO0000000002", 0L)));
+            when(getPolicyHolderPoliciesQueryHandler.handle(any())).thenReturn(createMockPolicyList());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001/policies")
+                            .header("If-None-Match", stale))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2));
+        }
     }
 
     @Nested
@@ -10,6 +10,7 @@ import com.insurance.policyholder.application.queryhandler.GetPolicyQueryHandler
 import com.insurance.policyholder.application.queryhandler.SearchPolicyHoldersQueryHandler;
 import com.insurance.policyholder.application.readmodel.PagedResult;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
+import com.insurance.policyholder.application.readmodel.PolicyHolderVersionReadModel;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +26,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -114,6 +118,53 @@ class PolicyHolderControllerQueryTest {
             mockMvc.perform(get("/api/v1/policyholders/PH9999999999"))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("應回傳以版本號產生的 strong ETag，且無條件請求不另查版本")
+        void shouldReturnETagFromVersion() throws Exception {
+            // Given
+            when(getPolicyHolderQueryHandler.handle(any())).thenReturn(createMockReadModel());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"0\""));
+
+            verify(getPolicyHolderQueryHandler, never()).handleVersion(any());
+        }
+
+        @Test
+        @DisplayName("If-None-Match 相符時應回傳 304 且不載入保戶")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            // Given
+            when(getPolicyHolderQueryHandler.handleVersion(any()))
+                    .thenReturn(new PolicyHolderVersionReadModel("PH0000000001", 0L, Map.of()));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001")
+                            .header("If-None-Match", "\"0\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"0\""))
+                    .andExpect(content().string(""));
+
+            verify(getPolicyHolderQueryHandler, never()).handle(any());
+        }
+
+        @Test
+        @DisplayName("If-None-Match 不符時應回傳 200 與新的 ETag")
+        void shouldReturn200WhenETagIsStale() throws Exception {
+            // Given
+            when(getPolicyHolderQueryHandler.handleVersion(any()))
+                    .thenReturn(new PolicyHolderVersionReadModel("PH0000000001", 0L, Map.of()));
+            when(getPolicyHolderQueryHandler.handle(any())).thenReturn(createMockReadModel());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/policyholders/PH0000000001")
+                            .header("If-None-Match", "\"7\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"0\""))
+                    .andExpect(jsonPath("$.data.id").value("PH0000000001"));
+        }
     }
 
     @Nested
@@ -2,6 +2,7 @@ package com.insurance.policyholder.infrastructure.adapter.input.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.application.command.UpdatePolicyHolderCommand;
 import com.insurance.policyholder.application.commandhandler.AddPolicyCommandHandler;
 import com.insurance.policyholder.application.commandhandler.CreatePolicyHolderCommandHandler;
 import com.insurance.policyholder.application.commandhandler.DeletePolicyHolderCommandHandler;
@@ -10,15 +11,18 @@ import com.insurance.policyholder.application.queryhandler.GetPolicyHolderPolici
 import com.insurance.policyholder.application.queryhandler.GetPolicyHolderQueryHandler;
 import com.insurance.policyholder.application.queryhandler.GetPolicyQueryHandler;
 import com.insurance.policyholder.application.queryhandler.SearchPolicyHoldersQueryHandler;
+import com.insurance.policyholder.application.exception.StaleVersionException;
 import com.insurance.policyholder.application.readmodel.PolicyHolderReadModel;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.mapper.PolicyHolderRestMapper;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -29,8 +33,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -151,6 +159,135 @@ class PolicyHolderControllerUpdateTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data.nationalId").value("A123456789"));
         }
+
+        @Test
+        @DisplayName("帶 If-Match 時應以版本號為條件更新並回傳新的 ETag")
+        void shouldUpdateWithIfMatch() throws Exception {
+            // Given
+            when(updatePolicyHolderCommandHandler.handle(any())).thenReturn(createMockUpdatedReadModel());
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/policyholders/PH0000000001")
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidUpdateRequest())))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"1\""));
+
+            ArgumentCaptor<UpdatePolicyHolderCommand> command = ArgumentCaptor.forClass(UpdatePolicyHolderCommand.class);
+            verify(updatePolicyHolderCommandHandler).handle(command.capture());
+            assertEquals(0L, command.getValue().getExpectedVersion());
+            assertFalse(command.getValue().isPartial());
+        }
+
+        @Test
+        @DisplayName("未帶 If-Match 時不應檢查版本號")
+        void shouldUpdateWithoutVersionWhenNoIfMatch() throws Exception {
+            // Given
+            when(updatePolicyHolderCommandHandler.handle(any())).thenReturn(createMockUpdatedReadModel());
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/policyholders/PH0000000001")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidUpdateRequest())))
+                    .andExpect(status().isOk());
+
+            ArgumentCaptor<UpdatePolicyHolderCommand> command = ArgumentCaptor.forClass(UpdatePolicyHolderCommand.class);
+            verify(updatePolicyHolderCommandHandler).handle(command.capture());
+            assertNull(command.getValue().getExpectedVersion());
+        }
+
+        @Test
+        @DisplayName("版本號不符應回傳 412")
+        void shouldReturn412WhenVersionIsStale() throws Exception {
+            // Given
+            when(updatePolicyHolderCommandHandler.handle(any()))
+                    .thenThrow(new StaleVersionException("PH0000000001", 0L, 2L));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/policyholders/PH0000000001")
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidUpdateRequest())))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.error").value("PRECONDITION_FAILED"));
+        }
+
+        @Test
+        @DisplayName("格式錯誤的 If-Match 應回傳 400")
+        void shouldReturn400WhenIfMatchIsMalformed() throws Exception {
+            // When & Then
+            mockMvc.perform(put("/api/v1/policyholders/PH0000000001")
+                            .header("If-Match", "W/\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidUpdateRequest())))
+                    .andExpect(status().isBadRequest());
+
+            verify(updatePolicyHolderCommandHandler, never()).handle(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/v1/policyholders/{id} - 部分更新保戶")
+    class PatchPolicyHolderTests {
+
+        @Test
+        @DisplayName("應只帶入提供的欄位並回傳新的 ETag")
+        void shouldPatchSuppliedFields() throws Exception {
+            // Given
+            PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+            request.setMobilePhone("0987654321");
+            when(updatePolicyHolderCommandHandler.handle(any())).thenReturn(createMockUpdatedReadModel());
+
+            // When & Then
+            mockMvc.perform(patch("/api/v1/policyholders/PH0000000001")
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"1\""))
+                    .andExpect(jsonPath("$.data.mobilePhone").value("0987654321"));
+
+            ArgumentCaptor<UpdatePolicyHolderCommand> command = ArgumentCaptor.forClass(UpdatePolicyHolderCommand.class);
+            verify(updatePolicyHolderCommandHandler).handle(command.capture());
+            assertTrue(command.getValue().isPartial());
+            assertEquals(0L, command.getValue().getExpectedVersion());
+            assertEquals("0987654321", command.getValue().getMobilePhone());
+            assertNull(command.getValue().getEmail());
+            assertNull(command.getValue().getZipCode());
+        }
+
+        @Test
+        @DisplayName("缺少 If-Match 應回傳 428")
+        void shouldReturn428WithoutIfMatch() throws Exception {
+            // Given
+            PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+            request.setMobilePhone("0987654321");
+
+            // When & Then
+            mockMvc.perform(patch("/api/v1/policyholders/PH0000000001")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isPreconditionRequired())
+                    .andExpect(jsonPath("$.error").value("PRECONDITION_REQUIRED"));
+
+            verify(updatePolicyHolderCommandHandler, never()).handle(any());
+        }
+
+        @Test
+        @DisplayName("無效的手機號碼應回傳 400")
+        void shouldReturn400ForInvalidMobilePhone() throws Exception {
+            // Given
+            PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+            request.setMobilePhone("12345");
+
+            // When & Then
+            mockMvc.perform(patch("/api/v1/policyholders/PH0000000001")
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
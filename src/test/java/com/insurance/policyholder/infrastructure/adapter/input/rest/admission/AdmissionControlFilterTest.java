@@ -0,0 +1,170 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdmissionControlFilter Tests")
+class AdmissionControlFilterTest {
+
+    private static final String PATH = "/api/v1/policyholders/PH0000000001";
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimit readLimit;
+    private ConcurrencyLimit writeLimit;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        readLimit = new ConcurrencyLimit(1, 1, 1, 2.0, 0.2, 10);
+        writeLimit = new ConcurrencyLimit(10, 1, 10, 2.0, 0.2, 10);
+        filter = new AdmissionControlFilter(readLimit, writeLimit, List.of("/api/v1/policyholders/**"),
+                Duration.ofSeconds(2), new ObjectMapper().registerModule(new JavaTimeModule()), registry);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, HttpServlet servlet)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private double rejected(String bulkhead) {
+        return registry.get("policyholder.admission.rejected").tag("bulkhead", bulkhead).counter().count();
+    }
+
+    @Nested
+    @DisplayName("bulkhead")
+    class BulkheadTests {
+
+        @Test
+        @DisplayName("讀取配額用盡時立即回 503 與 Retry-After，寫入不受影響")
+        void shouldRejectReadsWithoutAffectingWrites() throws Exception {
+            // Given：第一個讀取請求處理期間再送出讀取與寫入請求
+            List<MockHttpServletResponse> nested = new ArrayList<>();
+            HttpServlet holdingRead = new StatusServlet(200) {
+                @Override
+                protected void service(HttpServletRequest request, HttpServletResponse response)
+                        throws ServletException, IOException {
+                    nested.add(perform("GET", PATH, new StatusServlet(200)));
+                    nested.add(perform("PUT", PATH, new StatusServlet(200)));
+                    super.service(request, response);
+                }
+            };
+
+            // When
+            MockHttpServletResponse first = perform("GET", PATH, holdingRead);
+
+            // Then
+            assertEquals(200, first.getStatus());
+            MockHttpServletResponse rejectedRead = nested.get(0);
+            assertEquals(503, rejectedRead.getStatus());
+            assertEquals("2", rejectedRead.getHeader("Retry-After"));
+            assertTrue(rejectedRead.getContentAsString().contains("SERVICE_OVERLOADED"));
+            assertEquals(200, nested.get(1).getStatus());
+            assertEquals(1.0, rejected("read"));
+            assertEquals(0.0, rejected("write"));
+            assertEquals(0, readLimit.getInFlight());
+            assertEquals(0, writeLimit.getInFlight());
+        }
+
+        @Test
+        @DisplayName("上限與並行數以 bulkhead 標籤匯出")
+        void shouldExportLimits() {
+            assertEquals(1.0, registry.get("policyholder.admission.limit").tag("bulkhead", "read").gauge().value());
+            assertEquals(10.0, registry.get("policyholder.admission.limit").tag("bulkhead", "write").gauge().value());
+            assertEquals(0.0, registry.get("policyholder.admission.in.flight").tag("bulkhead", "read").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("延遲樣本")
+    class SampleTests {
+
+        @Test
+        @DisplayName("5xx 回應視為失敗並收縮上限")
+        void shouldBackOffOnServerError() throws Exception {
+            // When
+            perform("POST", PATH, new StatusServlet(500));
+
+            // Then
+            assertEquals(9, writeLimit.getLimit());
+            assertEquals(0, writeLimit.getInFlight());
+        }
+
+        @Test
+        @DisplayName("處理器拋出例外時釋放許可並收縮上限")
+        void shouldReleaseOnException() {
+            // Given
+            HttpServlet failing = new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest request, HttpServletResponse response) {
+                    throw new IllegalStateException("boom");
+                }
+            };
+
+            // When
+            assertThrows(IllegalStateException.class, () -> perform("DELETE", PATH, failing));
+
+            // Then
+            assertEquals(9, writeLimit.getLimit());
+            assertEquals(0, writeLimit.getInFlight());
+        }
+
+        @Test
+        @DisplayName("不在設定路徑內的請求不受限制")
+        void shouldSkipOtherPaths() throws Exception {
+            // Given
+            HttpServlet nestedRead = new StatusServlet(200) {
+                @Override
+                protected void service(HttpServletRequest request, HttpServletResponse response)
+                        throws ServletException, IOException {
+                    assertEquals(200, perform("GET", "/actuator/health", new StatusServlet(200)).getStatus());
+                    super.service(request, response);
+                }
+            };
+
+            // When
+            MockHttpServletResponse response = perform("GET", PATH, nestedRead);
+
+            // Then
+            assertEquals(200, response.getStatus());
+            assertEquals(0.0, rejected("read"));
+        }
+    }
+
+    private class StatusServlet extends HttpServlet {
+
+        private final int status;
+
+        StatusServlet(int status) {
+            this.status = status;
+        }
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response)
+                throws ServletException, IOException {
+            response.setStatus(status);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimit Tests")
+class ConcurrencyLimitTest {
+
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private ConcurrencyLimit limit(int initial, int min, int max) {
+        return new ConcurrencyLimit(initial, min, max, 2.0, 0.5, 500);
+    }
+
+    /**
+     * 以固定並行數完成 rounds 個請求，每個請求的延遲為 rttNanos
+     */
+    private void run(ConcurrencyLimit limit, int rounds, int concurrency, long rttNanos) {
+        for (int i = 0; i < rounds; i++) {
+            int inFlight = 0;
+            for (int c = 0; c < concurrency; c++) {
+                int acquired = limit.tryAcquire();
+                if (acquired > 0) {
+                    inFlight = acquired;
+                }
+            }
+            int admitted = limit.getInFlight();
+            for (int c = 0; c < admitted; c++) {
+                limit.onSuccess(rttNanos, inFlight);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("取得許可")
+    class AcquireTests {
+
+        @Test
+        @DisplayName("達到上限後立即拒絕，釋放後可再取得")
+        void shouldRejectAtLimit() {
+            // Given
+            ConcurrencyLimit limit = limit(2, 1, 10);
+
+            // When
+            int first = limit.tryAcquire();
+            int second = limit.tryAcquire();
+            int third = limit.tryAcquire();
+
+            // Then
+            assertEquals(1, first);
+            assertEquals(2, second);
+            assertEquals(-1, third);
+            limit.onSuccess(BASE_RTT, second);
+            assertEquals(1, limit.getInFlight());
+            assertTrue(limit.tryAcquire() > 0);
+        }
+
+        @Test
+        @DisplayName("參數不合理時拒絕建立")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> limit(1, 2, 10));
+            assertThrows(IllegalArgumentException.class, () -> limit(20, 1, 10));
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimit(5, 1, 10, 0.5, 0.5, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("依延遲調整")
+    class AdaptationTests {
+
+        @Test
+        @DisplayName("延遲穩定且並行數接近上限時上限成長")
+        void shouldGrowWhenLatencyIsStable() {
+            // Given
+            ConcurrencyLimit limit = limit(10, 2, 100);
+
+            // When
+            run(limit, 20, 100, BASE_RTT);
+
+            // Then
+            assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+            assertTrue(limit.getLimit() <= 100);
+        }
+
+        @Test
+        @DisplayName("延遲遠超過基準時上限收縮但不低於下限")
+        void shouldShrinkWhenLatencyRises() {
+            // Given
+            ConcurrencyLimit limit = limit(40, 4, 100);
+            run(limit, 5, 40, BASE_RTT);
+            int before = limit.getLimit();
+
+            // When
+            run(limit, 5, 100, BASE_RTT * 20);
+
+            // Then
+            assertTrue(limit.getLimit() < before, before + " -> " + limit.getLimit());
+            assertTrue(limit.getLimit() >= 4);
+        }
+
+        @Test
+        @DisplayName("並行數不到上限一半時不調整")
+        void shouldNotGrowWhenUnderutilized() {
+            // Given
+            ConcurrencyLimit limit = limit(20, 2, 100);
+
+            // When
+            run(limit, 50, 2, BASE_RTT);
+
+            // Then
+            assertEquals(20, limit.getLimit());
+        }
+
+        @Test
+        @DisplayName("失敗時乘法遞減上限並釋放許可")
+        void shouldBackOffOnDrop() {
+            // Given
+            ConcurrencyLimit limit = limit(20, 2, 100);
+            limit.tryAcquire();
+
+            // When
+            limit.onDropped();
+
+            // Then
+            assertEquals(18, limit.getLimit());
+            assertEquals(0, limit.getInFlight());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.IdempotencyRecordJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String CREATE_PATH = "/api/v1/policyholders";
+    private static final String BODY = "{\"nationalId\":\"A123456789\"}";
+
+    private SimpleMeterRegistry registry;
+    private IdempotencyFilter filter;
+    private CountingServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyRecordJpaRepository repository = mock(IdempotencyRecordJpaRepository.class);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+        IdempotencyStore store = new IdempotencyStore(repository, Duration.ofHours(1), 100,
+                Duration.ofSeconds(5), Clock.systemUTC());
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        registry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(store,
+                List.of("/api/v1/policyholders", "/api/v1/policyholders/*/policies"), objectMapper, registry);
+        servlet = new CountingServlet(201);
+    }
+
+    private MockHttpServletResponse post(String path, String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private double count(String outcome) {
+        return registry.find("policyholder.idempotency.requests").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    @Nested
+    @DisplayName("回放")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("重送的請求應回放第一次的回應且不再執行")
+        void shouldReplayWithoutExecutingAgain() throws Exception {
+            // Given
+            MockHttpServletResponse first = post(CREATE_PATH, "key-1", BODY);
+
+            // When
+            MockHttpServletResponse second = post(CREATE_PATH, "key-1", BODY);
+
+            // Then
+            assertEquals(1, servlet.calls.get());
+            assertEquals(201, second.getStatus());
+            assertEquals(first.getContentAsString(), second.getContentAsString());
+            assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals(1.0, count("executed"));
+            assertEquals(1.0, count("replayed"));
+        }
+
+        @Test
+        @DisplayName("處理器收到的請求內容應與原始內容相同")
+        void shouldPassBodyThrough() throws Exception {
+            // When
+            MockHttpServletResponse response = post(CREATE_PATH, "key-1", BODY);
+
+            // Then
+            assertEquals("{\"echo\":" + BODY + "}", response.getContentAsString());
+        }
+
+        @Test
+        @DisplayName("5xx 回應不應保存，重送時重新執行")
+        void shouldNotStoreServerErrors() throws Exception {
+            // Given
+            servlet = new CountingServlet(500);
+            post(CREATE_PATH, "key-1", BODY);
+
+            // When
+            MockHttpServletResponse second = post(CREATE_PATH, "key-1", BODY);
+
+            // Then
+            assertEquals(2, servlet.calls.get());
+            assertNull(second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        }
+    }
+
+    @Nested
+    @DisplayName("拒絕與略過")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("同一 key 搭配不同內容應回 422")
+        void shouldRejectReusedKey() throws Exception {
+            // Given
+            post(CREATE_PATH, "key-1", BODY);
+
+            // When
+            MockHttpServletResponse response = post(CREATE_PATH, "key-1", "{\"nationalId\":\"B123456789\"}");
+
+            // Then
+            assertEquals(422, response.getStatus());
+            assertTrue(response.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+            assertEquals(1, servlet.calls.get());
+        }
+
+        @Test
+        @DisplayName("同一 key 用於不同路徑應回 422")
+        void shouldRejectKeyReusedOnOtherPath() throws Exception {
+            // Given
+            post(CREATE_PATH, "key-1", BODY);
+
+            // When
+            MockHttpServletResponse response = post("/api/v1/policyholders/PH0000000001/policies", "key-1", BODY);
+
+            // Then
+            assertEquals(422, response.getStatus());
+        }
+
+        @Test
+        @DisplayName("過長的 key 應回 400")
+        void shouldRejectOversizedKey() throws Exception {
+            // When
+            MockHttpServletResponse response = post(CREATE_PATH, "k".repeat(256), BODY);
+
+            // Then
+            assertEquals(400, response.getStatus());
+            assertTrue(response.getContentAsString().contains("INVALID_IDEMPOTENCY_KEY"));
+            assertEquals(0, servlet.calls.get());
+        }
+
+        @Test
+        @DisplayName("沒有 key 或不在設定路徑的請求應直接通過")
+        void shouldPassThroughWithoutKeyOrOutsidePaths() throws Exception {
+            // When
+            post(CREATE_PATH, null, BODY);
+            post(CREATE_PATH, null, BODY);
+            post("/api/v1/other", "key-1", BODY);
+            post("/api/v1/other", "key-1", BODY);
+
+            // Then
+            assertEquals(4, servlet.calls.get());
+            assertTrue(registry.find("policyholder.idempotency.requests").counters().isEmpty());
+        }
+    }
+
+    /**
+     * 回傳固定狀態碼並回顯請求內容
+     */
+    private static final class CountingServlet extends HttpServlet {
+
+        final AtomicInteger calls = new AtomicInteger();
+        private final int status;
+
+        CountingServlet(int status) {
+            this.status = status;
+        }
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            int call = calls.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write(status == 201 ? "{\"echo\":" + body + "}" : "{\"call\":" + call + "}");
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.idempotency;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.IdempotencyRecordJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.IdempotencyRecordJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore Tests")
+class IdempotencyStoreTest {
+
+    private static final String KEY = "key-1";
+    private static final String FINGERPRINT = "fp-1";
+    private static final byte[] BODY = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private IdempotencyRecordJpaRepository repository;
+
+    private MutableClock clock;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        store = new IdempotencyStore(repository, Duration.ofHours(1), 100, Duration.ofSeconds(5), clock);
+    }
+
+    private IdempotencyStore.Execution executeFirst() {
+        IdempotencyStore.Outcome outcome = store.begin(KEY, FINGERPRINT);
+        assertInstanceOf(IdempotencyStore.Outcome.Execute.class, outcome);
+        return ((IdempotencyStore.Outcome.Execute) outcome).execution();
+    }
+
+    @Nested
+    @DisplayName("第一次與重送的請求")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("新的 key 應取得執行權")
+        void shouldGrantExecutionForNewKey() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+
+            // When
+            IdempotencyStore.Execution execution = executeFirst();
+
+            // Then
+            assertEquals(KEY, execution.getKey());
+        }
+
+        @Test
+        @DisplayName("完成後應保存至資料表並由本機快取回放")
+        void shouldReplayFromLocalCacheAfterCompletion() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            store.complete(executeFirst(), 201, "application/json", BODY);
+
+            // When
+            IdempotencyStore.Outcome outcome = store.begin(KEY, FINGERPRINT);
+
+            // Then
+            IdempotencyStore.Outcome.Replay replay = assertInstanceOf(IdempotencyStore.Outcome.Replay.class, outcome);
+            assertEquals(IdempotencyStore.Source.LOCAL, replay.source());
+            assertEquals(201, replay.response().status());
+            assertArrayEquals(BODY, replay.response().body());
+            verify(repository).save(any(IdempotencyRecordJpaEntity.class));
+            verify(repository, times(1)).findById(KEY);
+        }
+
+        @Test
+        @DisplayName("本機快取未命中時應由資料表回放")
+        void shouldFallBackToDatabase() {
+            // Given
+            LocalDateTime now = LocalDateTime.now(clock);
+            when(repository.findById(KEY)).thenReturn(Optional.of(new IdempotencyRecordJpaEntity(
+                    KEY, FINGERPRINT, 201, "application/json", BODY, now, now.plusMinutes(30))));
+
+            // When
+            IdempotencyStore.Outcome outcome = store.begin(KEY, FINGERPRINT);
+
+            // Then
+            IdempotencyStore.Outcome.Replay replay = assertInstanceOf(IdempotencyStore.Outcome.Replay.class, outcome);
+            assertEquals(IdempotencyStore.Source.DATABASE, replay.source());
+            assertEquals(1, store.localSize());
+        }
+
+        @Test
+        @DisplayName("同一 key 搭配不同請求應回傳 Mismatch")
+        void shouldRejectDifferentFingerprint() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            store.complete(executeFirst(), 201, "application/json", BODY);
+
+            // When
+            IdempotencyStore.Outcome outcome = store.begin(KEY, "fp-2");
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.Mismatch.class, outcome);
+        }
+
+        @Test
+        @DisplayName("其他節點已保存同一 key 時仍應完成")
+        void shouldTolerateDuplicateInsert() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            when(repository.save(any(IdempotencyRecordJpaEntity.class)))
+                    .thenThrow(new DataIntegrityViolationException("duplicate key"));
+            IdempotencyStore.Execution execution = executeFirst();
+
+            // When
+            store.complete(execution, 201, "application/json", BODY);
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.Replay.class, store.begin(KEY, FINGERPRINT));
+        }
+    }
+
+    @Nested
+    @DisplayName("同時到達的重複請求")
+    class ConcurrentDuplicateTests {
+
+        @Test
+        @DisplayName("應等待第一個請求完成後回放其回應")
+        void shouldWaitForFirstExecution() throws Exception {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            IdempotencyStore.Execution execution = executeFirst();
+            CompletableFuture<IdempotencyStore.Outcome> duplicate =
+                    CompletableFuture.supplyAsync(() -> store.begin(KEY, FINGERPRINT));
+
+            // When
+            Thread.sleep(50);
+            assertFalse(duplicate.isDone());
+            store.complete(execution, 201, "application/json", BODY);
+
+            // Then
+            IdempotencyStore.Outcome.Replay replay = assertInstanceOf(IdempotencyStore.Outcome.Replay.class,
+                    duplicate.get(5, TimeUnit.SECONDS));
+            assertEquals(IdempotencyStore.Source.WAITED, replay.source());
+        }
+
+        @Test
+        @DisplayName("第一個請求放棄時等待者應取得執行權")
+        void shouldHandOverExecutionWhenAbandoned() throws Exception {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            IdempotencyStore.Execution execution = executeFirst();
+            CompletableFuture<IdempotencyStore.Outcome> duplicate =
+                    CompletableFuture.supplyAsync(() -> store.begin(KEY, FINGERPRINT));
+
+            // When
+            Thread.sleep(50);
+            store.abandon(execution);
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.Execute.class, duplicate.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("等待逾時應回傳 InProgress")
+        void shouldReportInProgressAfterWaitTimeout() {
+            // Given
+            store = new IdempotencyStore(repository, Duration.ofHours(1), 100, Duration.ofMillis(20), clock);
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            executeFirst();
+
+            // When
+            IdempotencyStore.Outcome outcome = store.begin(KEY, FINGERPRINT);
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.InProgress.class, outcome);
+        }
+
+        @Test
+        @DisplayName("執行中的 key 搭配不同請求應立即回傳 Mismatch")
+        void shouldRejectDifferentFingerprintWhileInFlight() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            executeFirst();
+
+            // When
+            IdempotencyStore.Outcome outcome = store.begin(KEY, "fp-2");
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.Mismatch.class, outcome);
+        }
+    }
+
+    @Nested
+    @DisplayName("過期與清除")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("超過 TTL 的回應不應再回放")
+        void shouldNotReplayExpiredResponse() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            store.complete(executeFirst(), 201, "application/json", BODY);
+
+            // When
+            clock.advance(Duration.ofHours(2));
+            IdempotencyStore.Outcome outcome = store.begin(KEY, FINGERPRINT);
+
+            // Then
+            assertInstanceOf(IdempotencyStore.Outcome.Execute.class, outcome);
+        }
+
+        @Test
+        @DisplayName("排程清除應移除過期的本機項目與資料表記錄")
+        void shouldEvictExpiredEntries() {
+            // Given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            store.complete(executeFirst(), 201, "application/json", BODY);
+            clock.advance(Duration.ofHours(2));
+
+            // When
+            store.evictExpired();
+
+            // Then
+            assertEquals(0, store.localSize());
+            verify(repository).deleteExpired(LocalDateTime.now(clock));
+        }
+
+        @Test
+        @DisplayName("本機快取已滿時應只保存於資料表")
+        void shouldSkipLocalCacheWhenFull() {
+            // Given
+            store = new IdempotencyStore(repository, Duration.ofHours(1), 1, Duration.ofSeconds(5), clock);
+            when(repository.findById(any())).thenReturn(Optional.empty());
+            store.complete(executeFirst(), 201, "application/json", BODY);
+            IdempotencyStore.Outcome second = store.begin("key-2", FINGERPRINT);
+
+            // When
+            store.complete(((IdempotencyStore.Outcome.Execute) second).execution(), 201, "application/json", BODY);
+
+            // Then
+            assertEquals(1, store.localSize());
+            verify(repository, times(2)).save(any(IdempotencyRecordJpaEntity.class));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
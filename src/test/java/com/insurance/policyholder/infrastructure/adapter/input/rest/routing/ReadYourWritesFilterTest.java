@@ -0,0 +1,73 @@
+package com.insurance.policyholder.infrastructure.adapter.input.rest.routing;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.ReplicaLagGuard;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadYourWritesFilter Tests")
+class ReadYourWritesFilterTest {
+
+    private static final String PATH = "/api/v1/policyholders/PH0000000001";
+
+    private ReplicaLagGuard guard;
+    private ReadYourWritesFilter filter;
+    private final List<Boolean> pinnedDuringRequest = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        guard = new ReplicaLagGuard(Duration.ofSeconds(5), 100, Clock.systemUTC(), () -> ReplicaLagGuard.UNKNOWN);
+        filter = new ReadYourWritesFilter(guard, "X-Client-Id");
+    }
+
+    private void perform(String method, String clientId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, PATH);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                pinnedDuringRequest.add(guard.isPinnedToPrimary());
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("同一用戶端寫入後的讀取固定在主庫，其他用戶端不受影響")
+    void shouldPinReadsOfWritingClient() throws Exception {
+        // When
+        perform("PUT", "client-a");
+        perform("GET", "client-a");
+        perform("GET", "client-b");
+
+        // Then
+        assertEquals(List.of(true, true, false), pinnedDuringRequest);
+        assertFalse(guard.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("未帶用戶端標頭時以來源位址識別")
+    void shouldFallBackToRemoteAddress() throws Exception {
+        // When
+        perform("POST", null);
+        perform("GET", null);
+        perform("GET", "client-b");
+
+        // Then
+        assertEquals(List.of(true, true, false), pinnedDuringRequest);
+    }
+}
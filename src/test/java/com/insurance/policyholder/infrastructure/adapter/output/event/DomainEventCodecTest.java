@@ -0,0 +1,148 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event;
+
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomainEventCodec Tests")
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec();
+
+    private final PolicyHolder policyHolder = PolicyHolder.reconstitute(
+            PolicyHolderId.of("PH0000000001"),
+            NationalId.of("A123456789"),
+            PersonalInfo.of("王小明", Gender.MALE, LocalDate.of(1990, 1, 15)),
+            ContactInfo.of("0912345678", "test@example.com"),
+            Address.of("100", "台北市", "中正區", "忠孝東路100號"),
+            PolicyHolderStatus.ACTIVE,
+            3L
+    );
+
+    private <T extends DomainEvent> T roundTrip(T event) {
+        @SuppressWarnings("unchecked")
+        T decoded = (T) codec.decode(event.getClass().getName(), codec.encode(event));
+        assertEquals(event.getEventId(), decoded.getEventId());
+        assertEquals(event.getOccurredOn(), decoded.getOccurredOn());
+        assertEquals(event.getAggregateId(), decoded.getAggregateId());
+        assertEquals(event.getAggregateType(), decoded.getAggregateType());
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("should round-trip PolicyHolderCreated")
+    void shouldRoundTripPolicyHolderCreated() {
+        PolicyHolderCreated decoded = roundTrip(new PolicyHolderCreated("PH0000000001", "A123456789", "王小明",
+                "MALE", LocalDate.of(1990, 1, 15), "0912345678", null, "100 台北市中正區忠孝東路100號"));
+
+        assertEquals("王小明", decoded.getName());
+        assertNull(decoded.getEmail());
+    }
+
+    @Test
+    @DisplayName("should round-trip PolicyHolderUpdated")
+    void shouldRoundTripPolicyHolderUpdated() {
+        PolicyHolderUpdated decoded = roundTrip(new PolicyHolderUpdated(policyHolder, 3L));
+
+        assertEquals("中正區", decoded.getDistrict());
+        assertEquals(3L, decoded.getVersion());
+    }
+
+    @Test
+    @DisplayName("should round-trip PolicyHolderDeleted")
+    void shouldRoundTripPolicyHolderDeleted() {
+        PolicyHolderDeleted decoded = roundTrip(new PolicyHolderDeleted(policyHolder, 4L));
+
+        assertEquals("A123***789", decoded.getNationalId());
+        assertEquals(4L, decoded.getVersion());
+    }
+
+    @Test
+    @DisplayName("should round-trip PolicyAdded")
+    void shouldRoundTripPolicyAdded() {
+        Policy policy = Policy.create(PolicyType.HEALTH, Money.twd(12000), Money.twd(500000),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+
+        PolicyAdded decoded = roundTrip(new PolicyAdded("PH0000000001", policy, 2L));
+
+        assertEquals(policy.getId().getValue(), decoded.getPolicyId());
+        assertEquals("HEALTH", decoded.getPolicyType());
+        assertEquals(LocalDate.of(2025, 1, 1), decoded.getEndDate());
+        assertEquals(2L, decoded.getVersion());
+    }
+
+    @Test
+    @DisplayName("should stamp schema version on events with upcasters")
+    void shouldStampSchemaVersion() {
+        String payload = codec.encode(new PolicyHolderCreated(policyHolder));
+
+        assertTrue(payload.contains("\"_schemaVersion\":2"));
+        assertFalse(codec.encode(new PolicyHolderDeleted(policyHolder, 1L)).contains("_schemaVersion"));
+    }
+
+    @Test
+    @DisplayName("should upcast v1 PolicyHolderCreated payload without address components")
+    void shouldUpcastV1PolicyHolderCreated() {
+        // Given
+        String v1Payload = "{\"eventId\":\"e-1\",\"occurredOn\":\"2023-05-01T10:00:00\","
+                + "\"aggregateId\":\"PH0000000001\",\"aggregateType\":\"PolicyHolder\","
+                + "\"nationalId\":\"A123456789\",\"name\":\"王小明\",\"gender\":\"MALE\","
+                + "\"birthDate\":\"1990-01-15\",\"mobilePhone\":\"0912345678\",\"email\":null,"
+                + "\"fullAddress\":\"100 台北市中正區忠孝東路100號\"}";
+
+        // When
+        PolicyHolderCreated decoded = (PolicyHolderCreated) codec.decode(PolicyHolderCreated.class.getName(), v1Payload);
+
+        // Then
+        assertEquals("100", decoded.getZipCode());
+        assertEquals("台北市", decoded.getCity());
+        assertEquals("中正區", decoded.getDistrict());
+        assertEquals("忠孝東路100號", decoded.getStreet());
+    }
+
+    @Test
+    @DisplayName("should drop the ambiguous version of v1 PolicyHolderUpdated payload")
+    void shouldUpcastV1PolicyHolderUpdated() {
+        // Given
+        String v1Payload = "{\"eventId\":\"e-2\",\"occurredOn\":\"2023-05-02T10:00:00\","
+                + "\"aggregateId\":\"PH0000000001\",\"aggregateType\":\"PolicyHolder\","
+                + "\"mobilePhone\":\"0987654321\",\"email\":null,\"zipCode\":\"100\",\"city\":\"台北市\","
+                + "\"district\":\"中正區\",\"street\":\"忠孝東路100號\",\"version\":3}";
+
+        // When
+        PolicyHolderUpdated decoded = (PolicyHolderUpdated) codec.decode(PolicyHolderUpdated.class.getName(), v1Payload);
+
+        // Then
+        assertEquals("0987654321", decoded.getMobilePhone());
+        assertNull(decoded.getVersion());
+        assertEquals(3L, ((PolicyHolderUpdated) codec.decode(PolicyHolderUpdated.class.getName(),
+                codec.encode(new PolicyHolderUpdated(policyHolder, 3L)))).getVersion());
+    }
+
+    @Test
+    @DisplayName("should reject payload newer than the supported schema version")
+    void shouldRejectNewerSchemaVersion() {
+        assertThrows(RuntimeException.class, () -> codec.decode(PolicyHolderCreated.class.getName(),
+                "{\"eventId\":\"e-1\",\"_schemaVersion\":3}"));
+    }
+
+    @Test
+    @DisplayName("should fail on unknown event class")
+    void shouldFailOnUnknownEventClass() {
+        assertThrows(RuntimeException.class, () -> codec.decode("com.invalid.Missing", "{}"));
+    }
+}
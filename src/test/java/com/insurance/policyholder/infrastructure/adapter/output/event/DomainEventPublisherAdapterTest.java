@@ -1,6 +1,10 @@
 package com.insurance.policyholder.infrastructure.adapter.output.event;
 
+import com.insurance.policyholder.application.command.AddPolicyCommand;
+import com.insurance.policyholder.application.commandhandler.AddPolicyCommandHandler;
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
 import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
 import com.insurance.policyholder.domain.event.DomainEvent;
 import com.insurance.policyholder.domain.event.PolicyHolderCreated;
 import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
@@ -11,21 +15,30 @@ import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
 import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
+import com.insurance.policyholder.infrastructure.adapter.output.event.log.EventLog;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -83,7 +96,7 @@ class DomainEventPublisherAdapterTest {
     }
 
     private PolicyHolderUpdated createPolicyHolderUpdatedEvent() {
-        return new PolicyHolderUpdated(policyHolder);
+        return new PolicyHolderUpdated(policyHolder, 1L);
     }
 
     private PolicyAdded createPolicyAddedEvent() {
@@ -94,7 +107,7 @@ class DomainEventPublisherAdapterTest {
                 LocalDate.now(),
                 LocalDate.now().plusYears(1)
         );
-        return new PolicyAdded(POLICY_HOLDER_ID, policy);
+        return new PolicyAdded(POLICY_HOLDER_ID, policy, 1L);
     }
 
     @Nested
@@ -102,16 +115,16 @@ class DomainEventPublisherAdapterTest {
     class PublishSingleEventTests {
 
         @Test
-        @DisplayName("should save event to event store and publish to application event publisher")
+        @DisplayName("should append event at the expected version and publish to application event publisher")
         void shouldSaveAndPublishEvent() {
             // Given
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.publish(event);
+            adapter.publish(1L, event);
 
             // Then
-            verify(eventStore).save(event);
+            verify(eventStore).append(POLICY_HOLDER_ID, 1L, List.of(event));
             verify(applicationEventPublisher).publishEvent(event);
         }
 
@@ -122,11 +135,11 @@ class DomainEventPublisherAdapterTest {
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.publish(event);
+            adapter.publish(1L, event);
 
             // Then
             var inOrder = inOrder(eventStore, applicationEventPublisher);
-            inOrder.verify(eventStore).save(event);
+            inOrder.verify(eventStore).append(POLICY_HOLDER_ID, 1L, List.of(event));
             inOrder.verify(applicationEventPublisher).publishEvent(event);
         }
 
@@ -137,7 +150,7 @@ class DomainEventPublisherAdapterTest {
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.publish(event);
+            adapter.publish(1L, event);
 
             // Then
             verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
@@ -153,7 +166,7 @@ class DomainEventPublisherAdapterTest {
             PolicyHolderUpdated event = createPolicyHolderUpdatedEvent();
 
             // When
-            adapter.publish(event);
+            adapter.publish(1L, event);
 
             // Then
             verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
@@ -168,7 +181,7 @@ class DomainEventPublisherAdapterTest {
             PolicyAdded event = createPolicyAddedEvent();
 
             // When
-            adapter.publish(event);
+            adapter.publish(1L, event);
 
             // Then
             verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
@@ -182,7 +195,7 @@ class DomainEventPublisherAdapterTest {
     class PublishAllEventsTests {
 
         @Test
-        @DisplayName("should save all events to event store and publish each")
+        @DisplayName("should append all events at the expected version and publish each")
         void shouldSaveAllAndPublishEach() {
             // Given
             List<DomainEvent> events = Arrays.asList(
@@ -191,10 +204,10 @@ class DomainEventPublisherAdapterTest {
             );
 
             // When
-            adapter.publishAll(events);
+            adapter.publishAll(0L, events);
 
             // Then
-            verify(eventStore).saveAll(events);
+            verify(eventStore).append(POLICY_HOLDER_ID, 0L, events);
             verify(applicationEventPublisher, times(2)).publishEvent(any(DomainEvent.class));
         }
 
@@ -202,10 +215,10 @@ class DomainEventPublisherAdapterTest {
         @DisplayName("should not publish when events list is null")
         void shouldNotPublishWhenEventsListIsNull() {
             // When
-            adapter.publishAll(null);
+            adapter.publishAll(0L, null);
 
             // Then
-            verify(eventStore, never()).saveAll(any());
+            verify(eventStore, never()).append(any(), anyLong(), any());
             verify(applicationEventPublisher, never()).publishEvent(any());
         }
 
@@ -213,10 +226,10 @@ class DomainEventPublisherAdapterTest {
         @DisplayName("should not publish when events list is empty")
         void shouldNotPublishWhenEventsListIsEmpty() {
             // When
-            adapter.publishAll(Collections.emptyList());
+            adapter.publishAll(0L, Collections.emptyList());
 
             // Then
-            verify(eventStore, never()).saveAll(any());
+            verify(eventStore, never()).append(any(), anyLong(), any());
             verify(applicationEventPublisher, never()).publishEvent(any());
         }
 
@@ -230,11 +243,11 @@ class DomainEventPublisherAdapterTest {
             );
 
             // When
-            adapter.publishAll(events);
+            adapter.publishAll(0L, events);
 
             // Then
             var inOrder = inOrder(eventStore, applicationEventPublisher);
-            inOrder.verify(eventStore).saveAll(events);
+            inOrder.verify(eventStore).append(POLICY_HOLDER_ID, 0L, events);
             inOrder.verify(applicationEventPublisher, times(2)).publishEvent(any(DomainEvent.class));
         }
 
@@ -248,7 +261,7 @@ class DomainEventPublisherAdapterTest {
             List<DomainEvent> events = Arrays.asList(createdEvent, updatedEvent, addedEvent);
 
             // When
-            adapter.publishAll(events);
+            adapter.publishAll(0L, events);
 
             // Then
             verify(applicationEventPublisher, times(3)).publishEvent(eventCaptor.capture());
@@ -266,11 +279,118 @@ class DomainEventPublisherAdapterTest {
             List<DomainEvent> events = Collections.singletonList(createPolicyHolderCreatedEvent());
 
             // When
-            adapter.publishAll(events);
+            adapter.publishAll(0L, events);
 
             // Then
-            verify(eventStore).saveAll(events);
+            verify(eventStore).append(POLICY_HOLDER_ID, 0L, events);
             verify(applicationEventPublisher, times(1)).publishEvent(any(DomainEvent.class));
         }
     }
+
+    @Nested
+    @DisplayName("Transactional Dispatch Tests")
+    class TransactionalDispatchTests {
+
+        @BeforeEach
+        void beginSynchronization() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void clearSynchronization() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("should store immediately but dispatch only after commit")
+        void shouldDispatchAfterCommit() {
+            // Given
+            List<DomainEvent> events = Arrays.asList(createPolicyHolderUpdatedEvent(), createPolicyAddedEvent());
+
+            // When
+            adapter.publishAll(0L, events);
+
+            // Then
+            verify(eventStore).append(POLICY_HOLDER_ID, 0L, events);
+            verifyNoInteractions(applicationEventPublisher);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+            assertEquals(events, eventCaptor.getAllValues());
+        }
+
+        @Test
+        @DisplayName("should not dispatch when the transaction rolls back")
+        void shouldNotDispatchOnRollback() {
+            // Given
+            PolicyHolderUpdated event = createPolicyHolderUpdatedEvent();
+
+            // When
+            adapter.publish(1L, event);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            verify(eventStore).append(POLICY_HOLDER_ID, 1L, List.of(event));
+            verifyNoInteractions(applicationEventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Command Tests")
+    class ConcurrentCommandTests {
+
+        @TempDir
+        Path directory;
+
+        private PolicyHolder load() {
+            return PolicyHolder.reconstitute(
+                    PolicyHolderId.of(POLICY_HOLDER_ID),
+                    NationalId.of(NATIONAL_ID),
+                    PersonalInfo.of(NAME, Gender.MALE, LocalDate.of(1990, 1, 15)),
+                    ContactInfo.of(MOBILE_PHONE, EMAIL),
+                    Address.of("10001", "Taipei", "Xinyi", "Test Street"),
+                    PolicyHolderStatus.ACTIVE,
+                    1L
+            );
+        }
+
+        private AddPolicyCommand addPolicy(String premium) {
+            return new AddPolicyCommand(POLICY_HOLDER_ID, "LIFE", new BigDecimal(premium),
+                    new BigDecimal("1000000"), LocalDate.now(), LocalDate.now().plusYears(1));
+        }
+
+        @Test
+        @DisplayName("should reject the append of a command that loaded the holder before another command appended")
+        void shouldRejectAppendOfInterleavedCommand() throws IOException {
+            // Given
+            try (EventLog eventLog = new EventLog(directory, 64 * 1024, 4, false)) {
+                EventStore store = new MappedLogEventStoreAdapter(eventLog);
+                store.append(POLICY_HOLDER_ID, 0, List.of(createPolicyHolderCreatedEvent()));
+                DomainEventPublisherAdapter publisher = new DomainEventPublisherAdapter(applicationEventPublisher, store);
+
+                PolicyHolderRepository secondRepository = mock(PolicyHolderRepository.class);
+                when(secondRepository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(load()));
+                when(secondRepository.save(any(PolicyHolder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                AddPolicyCommandHandler second = new AddPolicyCommandHandler(secondRepository, publisher, store);
+
+                // 第一個命令載入保戶後、附加事件前，第二個命令完成整個流程
+                PolicyHolderRepository firstRepository = mock(PolicyHolderRepository.class);
+                when(firstRepository.findById(any(PolicyHolderId.class))).thenReturn(Optional.of(load()));
+                when(firstRepository.save(any(PolicyHolder.class))).thenAnswer(invocation -> {
+                    second.handle(addPolicy("2000"));
+                    return invocation.getArgument(0);
+                });
+                AddPolicyCommandHandler first = new AddPolicyCommandHandler(firstRepository, publisher, store);
+
+                // When & Then
+                ConcurrencyConflictException ex = assertThrows(ConcurrencyConflictException.class,
+                        () -> first.handle(addPolicy("1000")));
+                assertEquals(POLICY_HOLDER_ID, ex.getAggregateId());
+                assertEquals(2, store.currentVersion(POLICY_HOLDER_ID));
+                PolicyAdded appended = (PolicyAdded) store.findByAggregateId(POLICY_HOLDER_ID).get(1);
+                assertEquals(0, new BigDecimal("2000").compareTo(appended.getPremium()));
+            }
+        }
+    }
 }
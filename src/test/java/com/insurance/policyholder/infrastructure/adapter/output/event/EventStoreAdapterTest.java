@@ -1,5 +1,7 @@
 package com.insurance.policyholder.infrastructure.adapter.output.event;
 
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
 import com.insurance.policyholder.domain.event.DomainEvent;
 import com.insurance.policyholder.domain.event.PolicyHolderCreated;
 import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
@@ -10,7 +12,10 @@ import com.insurance.policyholder.domain.model.enums.Gender;
 import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
 import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.ArchivedEvent;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.EventArchive;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.DomainEventJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventHeader;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,12 +26,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,8 +56,11 @@ class EventStoreAdapterTest {
     @Mock
     private DomainEventJpaRepository jpaRepository;
 
-    @Captor
-    private ArgumentCaptor<DomainEventJpaEntity> entityCaptor;
+    @Mock
+    private EventArchive archive;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Captor
     private ArgumentCaptor<List<DomainEventJpaEntity>> entityListCaptor;
@@ -56,7 +70,7 @@ class EventStoreAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new EventStoreAdapter(jpaRepository);
+        adapter = new EventStoreAdapter(jpaRepository, archive, applicationEventPublisher);
         policyHolder = PolicyHolder.reconstitute(
                 PolicyHolderId.of(POLICY_HOLDER_ID),
                 NationalId.of(NATIONAL_ID),
@@ -82,7 +96,7 @@ class EventStoreAdapterTest {
     }
 
     private PolicyHolderUpdated createPolicyHolderUpdatedEvent() {
-        return new PolicyHolderUpdated(policyHolder);
+        return new PolicyHolderUpdated(policyHolder, 1L);
     }
 
     private PolicyAdded createPolicyAddedEvent() {
@@ -93,11 +107,11 @@ class EventStoreAdapterTest {
                 LocalDate.now(),
                 LocalDate.now().plusYears(1)
         );
-        return new PolicyAdded(POLICY_HOLDER_ID, policy);
+        return new PolicyAdded(POLICY_HOLDER_ID, policy, 1L);
     }
 
     @Nested
-    @DisplayName("Save Single Event Tests")
+    @DisplayName("Append Single Event Tests")
     class SaveSingleEventTests {
 
         @Test
@@ -107,11 +121,11 @@ class EventStoreAdapterTest {
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.save(event);
+            adapter.append(POLICY_HOLDER_ID, 0, List.of(event));
 
             // Then
-            verify(jpaRepository).save(entityCaptor.capture());
-            DomainEventJpaEntity captured = entityCaptor.getValue();
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            DomainEventJpaEntity captured = entityListCaptor.getValue().get(0);
             assertEquals(event.getEventId(), captured.getEventId());
             assertEquals(POLICY_HOLDER_ID, captured.getAggregateId());
             assertEquals(AGGREGATE_TYPE, captured.getAggregateType());
@@ -127,11 +141,11 @@ class EventStoreAdapterTest {
             PolicyHolderUpdated event = createPolicyHolderUpdatedEvent();
 
             // When
-            adapter.save(event);
+            adapter.append(POLICY_HOLDER_ID, 0, List.of(event));
 
             // Then
-            verify(jpaRepository).save(entityCaptor.capture());
-            DomainEventJpaEntity captured = entityCaptor.getValue();
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            DomainEventJpaEntity captured = entityListCaptor.getValue().get(0);
             assertEquals(PolicyHolderUpdated.class.getName(), captured.getEventType());
             assertTrue(captured.getPayload().contains("0912345678"));
         }
@@ -143,11 +157,11 @@ class EventStoreAdapterTest {
             PolicyAdded event = createPolicyAddedEvent();
 
             // When
-            adapter.save(event);
+            adapter.append(POLICY_HOLDER_ID, 0, List.of(event));
 
             // Then
-            verify(jpaRepository).save(entityCaptor.capture());
-            DomainEventJpaEntity captured = entityCaptor.getValue();
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            DomainEventJpaEntity captured = entityListCaptor.getValue().get(0);
             assertEquals(PolicyAdded.class.getName(), captured.getEventType());
             assertTrue(captured.getPayload().contains("LIFE"));
         }
@@ -159,11 +173,11 @@ class EventStoreAdapterTest {
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.save(event);
+            adapter.append(POLICY_HOLDER_ID, 0, List.of(event));
 
             // Then
-            verify(jpaRepository).save(entityCaptor.capture());
-            String payload = entityCaptor.getValue().getPayload();
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            String payload = entityListCaptor.getValue().get(0).getPayload();
             assertTrue(payload.startsWith("{"));
             assertTrue(payload.endsWith("}"));
             assertTrue(payload.contains("\"aggregateId\":\"" + POLICY_HOLDER_ID + "\""));
@@ -176,16 +190,16 @@ class EventStoreAdapterTest {
             PolicyHolderCreated event = createPolicyHolderCreatedEvent();
 
             // When
-            adapter.save(event);
+            adapter.append(POLICY_HOLDER_ID, 0, List.of(event));
 
             // Then
-            verify(jpaRepository).save(entityCaptor.capture());
-            assertEquals(event.getOccurredOn(), entityCaptor.getValue().getOccurredOn());
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            assertEquals(event.getOccurredOn(), entityListCaptor.getValue().get(0).getOccurredOn());
         }
     }
 
     @Nested
-    @DisplayName("Save Multiple Events Tests")
+    @DisplayName("Append Multiple Events Tests")
     class SaveAllEventsTests {
 
         @Test
@@ -199,7 +213,7 @@ class EventStoreAdapterTest {
             );
 
             // When
-            adapter.saveAll(events);
+            adapter.append(POLICY_HOLDER_ID, 0, events);
 
             // Then
             verify(jpaRepository).saveAll(entityListCaptor.capture());
@@ -214,7 +228,7 @@ class EventStoreAdapterTest {
             List<DomainEvent> events = Collections.singletonList(createPolicyHolderCreatedEvent());
 
             // When
-            adapter.saveAll(events);
+            adapter.append(POLICY_HOLDER_ID, 0, events);
 
             // Then
             verify(jpaRepository).saveAll(entityListCaptor.capture());
@@ -230,7 +244,7 @@ class EventStoreAdapterTest {
             List<DomainEvent> events = Arrays.asList(createdEvent, addedEvent);
 
             // When
-            adapter.saveAll(events);
+            adapter.append(POLICY_HOLDER_ID, 0, events);
 
             // Then
             verify(jpaRepository).saveAll(entityListCaptor.capture());
@@ -244,6 +258,115 @@ class EventStoreAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Optimistic Append Tests")
+    class OptimisticAppendTests {
+
+        @Test
+        @DisplayName("should assign sequence numbers after the expected version")
+        void shouldAssignSequenceNumbers() {
+            // Given
+            when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(2L);
+
+            // When
+            adapter.append(POLICY_HOLDER_ID, 2, List.of(createPolicyHolderUpdatedEvent(), createPolicyAddedEvent()));
+
+            // Then
+            verify(jpaRepository).saveAll(entityListCaptor.capture());
+            verify(jpaRepository).flush();
+            List<DomainEventJpaEntity> captured = entityListCaptor.getValue();
+            assertEquals(3L, captured.get(0).getSequenceNumber());
+            assertEquals(4L, captured.get(1).getSequenceNumber());
+        }
+
+        @Test
+        @DisplayName("should publish appended events with their first sequence number after flushing")
+        void shouldPublishAppendedEvents() {
+            // Given
+            when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(2L);
+            DomainEvent updated = createPolicyHolderUpdatedEvent();
+            DomainEvent added = createPolicyAddedEvent();
+
+            // When
+            adapter.append(POLICY_HOLDER_ID, 2, List.of(updated, added));
+
+            // Then
+            var order = inOrder(jpaRepository, applicationEventPublisher);
+            order.verify(jpaRepository).flush();
+            order.verify(applicationEventPublisher).publishEvent(
+                    new EventsAppended(POLICY_HOLDER_ID, 3L, List.of(updated, added)));
+        }
+
+        @Test
+        @DisplayName("should reject append when expected version is stale")
+        void shouldRejectStaleVersion() {
+            // Given
+            when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(3L);
+
+            // When & Then
+            ConcurrencyConflictException ex = assertThrows(ConcurrencyConflictException.class,
+                    () -> adapter.append(POLICY_HOLDER_ID, 2, List.of(createPolicyHolderUpdatedEvent())));
+            assertEquals(POLICY_HOLDER_ID, ex.getAggregateId());
+            assertTrue(ex.isRetryable());
+            verify(jpaRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should not read the version again when it was read earlier in the transaction")
+        void shouldReuseVersionReadInTransaction() {
+            // Given
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(2L);
+                long version = adapter.currentVersion(POLICY_HOLDER_ID);
+
+                // When
+                adapter.append(POLICY_HOLDER_ID, version, List.of(createPolicyHolderUpdatedEvent()));
+                adapter.append(POLICY_HOLDER_ID, 2, List.of(createPolicyHolderUpdatedEvent()));
+
+                // Then：第一次附加沿用讀到的版本，第二次附加重新查詢
+                verify(jpaRepository, times(2)).findCurrentVersion(POLICY_HOLDER_ID);
+            } finally {
+                TransactionSynchronizationManager.clear();
+            }
+        }
+
+        @Test
+        @DisplayName("should translate unique sequence violation into concurrency conflict")
+        void shouldTranslateUniqueViolation() {
+            // Given
+            when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(1L);
+            doThrow(new DataIntegrityViolationException("uk_aggregate_sequence")).when(jpaRepository).flush();
+
+            // When & Then
+            assertThrows(ConcurrencyConflictException.class,
+                    () -> adapter.append(POLICY_HOLDER_ID, 1, List.of(createPolicyHolderUpdatedEvent())));
+            verifyNoInteractions(applicationEventPublisher);
+        }
+
+        @Test
+        @DisplayName("should reject events of another aggregate")
+        void shouldRejectForeignEvents() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> adapter.append("PH0000000002", 0, List.of(createPolicyHolderUpdatedEvent())));
+        }
+
+        @Test
+        @DisplayName("should take the current version from the store without reading the archive")
+        void shouldNotReadArchiveForCurrentVersion() {
+            // Given
+            when(jpaRepository.findCurrentVersion(POLICY_HOLDER_ID)).thenReturn(7L);
+
+            // When
+            long version = adapter.currentVersion(POLICY_HOLDER_ID);
+
+            // Then
+            assertEquals(7L, version);
+            verifyNoInteractions(archive);
+        }
+    }
+
     @Nested
     @DisplayName("Find By Aggregate ID Tests")
     class FindByAggregateIdTests {
@@ -252,21 +375,21 @@ class EventStoreAdapterTest {
         @DisplayName("should call repository with correct aggregate ID")
         void shouldCallRepositoryWithCorrectAggregateId() {
             // Given
-            when(jpaRepository.findByAggregateIdOrderByOccurredOnAsc(POLICY_HOLDER_ID))
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
                     .thenReturn(Collections.emptyList());
 
             // When
             adapter.findByAggregateId(POLICY_HOLDER_ID);
 
             // Then
-            verify(jpaRepository).findByAggregateIdOrderByOccurredOnAsc(POLICY_HOLDER_ID);
+            verify(jpaRepository).findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID);
         }
 
         @Test
         @DisplayName("should return empty list when no events found")
         void shouldReturnEmptyListWhenNoEventsFound() {
             // Given
-            when(jpaRepository.findByAggregateIdOrderByOccurredOnAsc("NON_EXISTENT"))
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc("NON_EXISTENT"))
                     .thenReturn(Collections.emptyList());
 
             // When
@@ -275,6 +398,38 @@ class EventStoreAdapterTest {
             // Then
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("should query events after the anchor event's sequence number")
+        void shouldQueryEventsAfterAnchor() {
+            // Given
+            LocalDateTime occurredOn = LocalDateTime.of(2024, 1, 1, 10, 0);
+            DomainEventJpaEntity anchor = new DomainEventJpaEntity("event-1", POLICY_HOLDER_ID, 3L, AGGREGATE_TYPE,
+                    PolicyHolderCreated.class.getName(), "{}", occurredOn);
+            when(jpaRepository.findById("event-1")).thenReturn(Optional.of(anchor));
+            when(jpaRepository.findByAggregateIdAfter(POLICY_HOLDER_ID, 3L))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            List<DomainEvent> result = adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, "event-1");
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(jpaRepository).findByAggregateIdAfter(POLICY_HOLDER_ID, 3L);
+        }
+
+        @Test
+        @DisplayName("should reject anchor event of another aggregate")
+        void shouldRejectAnchorOfAnotherAggregate() {
+            // Given
+            DomainEventJpaEntity anchor = new DomainEventJpaEntity("event-1", "PH0000000002", AGGREGATE_TYPE,
+                    PolicyHolderCreated.class.getName(), "{}", LocalDateTime.now());
+            when(jpaRepository.findById("event-1")).thenReturn(Optional.of(anchor));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, "event-1"));
+        }
     }
 
     @Nested
@@ -344,6 +499,199 @@ class EventStoreAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Read Forward Tests")
+    class ReadForwardTests {
+
+        @Test
+        @DisplayName("should query by global position with limit")
+        void shouldQueryByGlobalPositionWithLimit() {
+            // Given
+            when(jpaRepository.findByGlobalPositionAfter(eq(10L), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            List<StoredEvent> result = adapter.readForward(10L, 500);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(jpaRepository).findByGlobalPositionAfter(10L, PageRequest.of(0, 500));
+        }
+
+        @Test
+        @DisplayName("should return head position from repository")
+        void shouldReturnHeadPosition() {
+            // Given
+            when(jpaRepository.findMaxGlobalPosition()).thenReturn(42L);
+
+            // When & Then
+            assertEquals(42L, adapter.headPosition());
+        }
+    }
+
+    @Nested
+    @DisplayName("Envelope Tests")
+    class EnvelopeTests {
+
+        private DomainEventHeader header(long sequence, DomainEvent event) {
+            return new DomainEventHeader(sequence, sequence, event.getEventId(), POLICY_HOLDER_ID,
+                    AGGREGATE_TYPE, event.getClass().getName(), event.getOccurredOn());
+        }
+
+        private DomainEventJpaEntity entity(DomainEvent event) {
+            return new DomainEventJpaEntity(event.getEventId(), POLICY_HOLDER_ID, AGGREGATE_TYPE,
+                    event.getClass().getName(), new DomainEventCodec().encode(event), event.getOccurredOn());
+        }
+
+        @Test
+        @DisplayName("should read headers only and load payload on first access")
+        void shouldLoadPayloadLazily() {
+            // Given
+            PolicyHolderCreated event = createPolicyHolderCreatedEvent();
+            when(jpaRepository.findHeadersByAggregateId(POLICY_HOLDER_ID)).thenReturn(List.of(header(1, event)));
+
+            // When
+            List<StoredEvent> envelopes = adapter.findEnvelopesByAggregateId(POLICY_HOLDER_ID);
+
+            // Then
+            assertEquals(1, envelopes.size());
+            assertFalse(envelopes.get(0).isDecoded());
+            verify(jpaRepository, never()).findByAggregateIdOrderBySequenceNumberAsc(any());
+
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(entity(event)));
+            assertEquals(event.getEventId(), envelopes.get(0).getEvent().getEventId());
+        }
+
+        @Test
+        @DisplayName("should carry the aggregate sequence of each header")
+        void shouldCarrySequence() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyAdded added = createPolicyAddedEvent();
+            when(jpaRepository.findHeadersByAggregateId(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(header(1, created), header(2, added)));
+
+            // When
+            List<StoredEvent> envelopes = adapter.findEnvelopesByAggregateId(POLICY_HOLDER_ID);
+
+            // Then
+            assertEquals(1, envelopes.get(0).getSequence());
+            assertEquals(2, envelopes.get(1).getSequence());
+        }
+
+        @Test
+        @DisplayName("should load all payloads of the aggregate with one query")
+        void shouldLoadPayloadsInOneQuery() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyAdded added = createPolicyAddedEvent();
+            when(jpaRepository.findHeadersByAggregateId(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(header(1, created), header(2, added)));
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(entity(created), entity(added)));
+            List<StoredEvent> envelopes = adapter.findEnvelopesByAggregateId(POLICY_HOLDER_ID);
+
+            // When
+            DomainEvent first = envelopes.get(0).getEvent();
+            DomainEvent second = envelopes.get(1).getEvent();
+
+            // Then
+            assertEquals(created.getEventId(), first.getEventId());
+            assertEquals(added.getEventId(), second.getEventId());
+            verify(jpaRepository, times(1)).findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID);
+            verify(jpaRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Fall-through Tests")
+    class ArchiveFallThroughTests {
+
+        private final DomainEventCodec codec = new DomainEventCodec();
+
+        private ArchivedEvent archived(long position, DomainEvent event) {
+            return new ArchivedEvent(position, event.getEventId(), event.getAggregateId(), position, event.getAggregateType(),
+                    event.getClass().getName(), event.getOccurredOn(), codec.encode(event));
+        }
+
+        private DomainEventJpaEntity entity(DomainEvent event) {
+            return new DomainEventJpaEntity(event.getEventId(), event.getAggregateId(), event.getAggregateType(),
+                    event.getClass().getName(), codec.encode(event), event.getOccurredOn());
+        }
+
+        @Test
+        @DisplayName("should return archived events before hot events without duplicates")
+        void shouldMergeArchivedAndHotEvents() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyHolderUpdated updated = new PolicyHolderUpdated(policyHolder, 1L);
+            PolicyHolderUpdated latest = new PolicyHolderUpdated(policyHolder, 1L);
+            when(archive.findByAggregateId(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(archived(1, created), archived(2, updated)));
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(entity(updated), entity(latest)));
+
+            // When
+            List<DomainEvent> result = adapter.findByAggregateId(POLICY_HOLDER_ID);
+
+            // Then
+            assertEquals(List.of(created.getEventId(), updated.getEventId(), latest.getEventId()),
+                    result.stream().map(DomainEvent::getEventId).toList());
+        }
+
+        @Test
+        @DisplayName("should resolve an archived anchor event")
+        void shouldResolveArchivedAnchor() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyHolderUpdated updated = new PolicyHolderUpdated(policyHolder, 1L);
+            PolicyHolderUpdated latest = new PolicyHolderUpdated(policyHolder, 1L);
+            when(jpaRepository.findById(created.getEventId())).thenReturn(Optional.empty());
+            when(archive.findByAggregateId(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(archived(1, created), archived(2, updated)));
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
+                    .thenReturn(List.of(entity(latest)));
+
+            // When
+            List<DomainEvent> result = adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, created.getEventId());
+
+            // Then
+            assertEquals(List.of(updated.getEventId(), latest.getEventId()),
+                    result.stream().map(DomainEvent::getEventId).toList());
+        }
+
+        @Test
+        @DisplayName("should read archived positions when replaying from an older position")
+        void shouldReadForwardFromArchive() {
+            // Given
+            when(jpaRepository.findByGlobalPositionAfter(eq(0L), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+            when(archive.maxPosition()).thenReturn(2L);
+            when(archive.readForward(0L, 10))
+                    .thenReturn(List.of(archived(1, createPolicyHolderCreatedEvent()),
+                            archived(2, new PolicyHolderUpdated(policyHolder, 1L))));
+
+            // When
+            List<StoredEvent> result = adapter.readForward(0L, 10);
+
+            // Then
+            assertEquals(List.of(1L, 2L), result.stream().map(StoredEvent::getPosition).toList());
+            assertEquals(List.of(1L, 2L), result.stream().map(StoredEvent::getSequence).toList());
+        }
+
+        @Test
+        @DisplayName("should report head position including archived events")
+        void shouldIncludeArchiveInHeadPosition() {
+            // Given
+            when(jpaRepository.findMaxGlobalPosition()).thenReturn(0L);
+            when(archive.maxPosition()).thenReturn(7L);
+
+            // When & Then
+            assertEquals(7L, adapter.headPosition());
+        }
+    }
+
     @Nested
     @DisplayName("Deserialization Error Handling Tests")
     class DeserializationErrorTests {
@@ -360,7 +708,7 @@ class EventStoreAdapterTest {
                     "{}",
                     LocalDateTime.now()
             );
-            when(jpaRepository.findByAggregateIdOrderByOccurredOnAsc(POLICY_HOLDER_ID))
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
                     .thenReturn(Collections.singletonList(entity));
 
             // When & Then
@@ -379,7 +727,7 @@ class EventStoreAdapterTest {
                     "invalid json",
                     LocalDateTime.now()
             );
-            when(jpaRepository.findByAggregateIdOrderByOccurredOnAsc(POLICY_HOLDER_ID))
+            when(jpaRepository.findByAggregateIdOrderBySequenceNumberAsc(POLICY_HOLDER_ID))
                     .thenReturn(Collections.singletonList(entity));
 
             // When & Then
@@ -0,0 +1,413 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event;
+
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.*;
+import com.insurance.policyholder.infrastructure.adapter.output.event.log.EventLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedLogEventStoreAdapter Tests")
+class MappedLogEventStoreAdapterTest {
+
+    private static final String POLICY_HOLDER_ID = "PH0000000001";
+    private static final String NATIONAL_ID = "A123456789";
+    private static final String NAME = "John Doe";
+    private static final String MOBILE_PHONE = "0912345678";
+    private static final String EMAIL = "john@example.com";
+    private static final String AGGREGATE_TYPE = "PolicyHolder";
+
+    @TempDir
+    Path directory;
+
+    private EventLog eventLog;
+    private MappedLogEventStoreAdapter adapter;
+    private PolicyHolder policyHolder;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = new EventLog(directory, 64 * 1024, 4, false);
+        adapter = new MappedLogEventStoreAdapter(eventLog);
+        policyHolder = PolicyHolder.reconstitute(
+                PolicyHolderId.of(POLICY_HOLDER_ID),
+                NationalId.of(NATIONAL_ID),
+                PersonalInfo.of(NAME, Gender.MALE, LocalDate.of(1990, 1, 15)),
+                ContactInfo.of(MOBILE_PHONE, EMAIL),
+                Address.of("10001", "Taipei", "Xinyi", "Test Street"),
+                PolicyHolderStatus.ACTIVE,
+                1L
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        eventLog.close();
+    }
+
+    private PolicyHolderCreated createPolicyHolderCreatedEvent() {
+        return new PolicyHolderCreated(
+                POLICY_HOLDER_ID,
+                NATIONAL_ID,
+                NAME,
+                "MALE",
+                LocalDate.of(1990, 1, 15),
+                MOBILE_PHONE,
+                EMAIL,
+                "Taipei Xinyi Test Street"
+        );
+    }
+
+    private PolicyHolderUpdated createPolicyHolderUpdatedEvent() {
+        return new PolicyHolderUpdated(policyHolder, 1L);
+    }
+
+    private PolicyAdded createPolicyAddedEvent() {
+        Policy policy = Policy.create(
+                PolicyType.LIFE,
+                Money.twd(10000),
+                Money.twd(1000000),
+                LocalDate.now(),
+                LocalDate.now().plusYears(1)
+        );
+        return new PolicyAdded(POLICY_HOLDER_ID, policy, 1L);
+    }
+
+    /**
+     * 依聚合根分組，各以目前版本附加（測試資料準備用）
+     */
+    private void append(DomainEvent event) {
+        append(List.of(event));
+    }
+
+    private void append(List<DomainEvent> events) {
+        events.stream()
+                .collect(Collectors.groupingBy(DomainEvent::getAggregateId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((aggregateId, aggregateEvents) ->
+                        adapter.append(aggregateId, adapter.currentVersion(aggregateId), aggregateEvents));
+    }
+
+    @Nested
+    @DisplayName("Save Single Event Tests")
+    class SaveSingleEventTests {
+
+        @Test
+        @DisplayName("should save and read back PolicyHolderCreated event")
+        void shouldSaveAndReadBackPolicyHolderCreatedEvent() {
+            // Given
+            PolicyHolderCreated event = createPolicyHolderCreatedEvent();
+
+            // When
+            append(event);
+
+            // Then
+            List<DomainEvent> events = adapter.findByAggregateId(POLICY_HOLDER_ID);
+            assertEquals(1, events.size());
+            PolicyHolderCreated restored = (PolicyHolderCreated) events.get(0);
+            assertEquals(event.getEventId(), restored.getEventId());
+            assertEquals(AGGREGATE_TYPE, restored.getAggregateType());
+            assertEquals(NAME, restored.getName());
+            assertEquals(LocalDate.of(1990, 1, 15), restored.getBirthDate());
+        }
+
+        @Test
+        @DisplayName("should preserve event timestamp")
+        void shouldPreserveEventTimestamp() {
+            // Given
+            PolicyAdded event = createPolicyAddedEvent();
+
+            // When
+            append(event);
+
+            // Then
+            DomainEvent restored = adapter.findByAggregateId(POLICY_HOLDER_ID).get(0);
+            assertEquals(event.getOccurredOn(), restored.getOccurredOn());
+            assertEquals(0, event.getPremium().compareTo(((PolicyAdded) restored).getPremium()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Save Multiple Events Tests")
+    class SaveAllEventsTests {
+
+        @Test
+        @DisplayName("should save all events in append order")
+        void shouldSaveAllEventsInAppendOrder() {
+            // Given
+            List<DomainEvent> events = Arrays.asList(
+                    createPolicyHolderCreatedEvent(),
+                    createPolicyHolderUpdatedEvent(),
+                    createPolicyAddedEvent()
+            );
+
+            // When
+            append(events);
+
+            // Then
+            List<DomainEvent> restored = adapter.findByAggregateId(POLICY_HOLDER_ID);
+            assertEquals(3, restored.size());
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(events.get(i).getEventId(), restored.get(i).getEventId());
+                assertEquals(events.get(i).getClass(), restored.get(i).getClass());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Tests")
+    class FindTests {
+
+        @Test
+        @DisplayName("should return empty list when no events found")
+        void shouldReturnEmptyListWhenNoEventsFound() {
+            assertTrue(adapter.findByAggregateId("NON_EXISTENT").isEmpty());
+            assertTrue(adapter.findByAggregateType("NonExistent").isEmpty());
+            assertTrue(adapter.findByEventType("com.example.NonExistentEvent").isEmpty());
+        }
+
+        @Test
+        @DisplayName("should find events by aggregate type")
+        void shouldFindEventsByAggregateType() {
+            // Given
+            append(Arrays.asList(createPolicyHolderCreatedEvent(), createPolicyAddedEvent()));
+
+            // When
+            List<DomainEvent> result = adapter.findByAggregateType(AGGREGATE_TYPE);
+
+            // Then
+            assertEquals(2, result.size());
+        }
+
+        @Test
+        @DisplayName("should find events by event type")
+        void shouldFindEventsByEventType() {
+            // Given
+            append(Arrays.asList(
+                    createPolicyHolderCreatedEvent(),
+                    createPolicyAddedEvent(),
+                    createPolicyAddedEvent()
+            ));
+
+            // When
+            List<DomainEvent> result = adapter.findByEventType(PolicyAdded.class.getName());
+
+            // Then
+            assertEquals(2, result.size());
+            assertTrue(result.stream().allMatch(event -> event instanceof PolicyAdded));
+        }
+
+        @Test
+        @DisplayName("should keep aggregates separated")
+        void shouldKeepAggregatesSeparated() {
+            // Given
+            append(createPolicyHolderCreatedEvent());
+            append(new PolicyHolderCreated("PH0000000002", "B123456780", "Jane", "FEMALE",
+                    LocalDate.of(1991, 2, 2), "0987654321", null, "address"));
+
+            // Then
+            assertEquals(1, adapter.findByAggregateId(POLICY_HOLDER_ID).size());
+            assertEquals(1, adapter.findByAggregateId("PH0000000002").size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic Append Tests")
+    class OptimisticAppendTests {
+
+        @Test
+        @DisplayName("should append when expected version matches")
+        void shouldAppendWhenVersionMatches() {
+            // Given
+            append(createPolicyHolderCreatedEvent());
+
+            // When
+            adapter.append(POLICY_HOLDER_ID, 1, List.of(createPolicyHolderUpdatedEvent(), createPolicyAddedEvent()));
+
+            // Then
+            assertEquals(3, adapter.currentVersion(POLICY_HOLDER_ID));
+            assertEquals(3, adapter.findByAggregateId(POLICY_HOLDER_ID).size());
+        }
+
+        @Test
+        @DisplayName("should reject stale expected version without writing")
+        void shouldRejectStaleVersion() {
+            // Given
+            append(Arrays.asList(createPolicyHolderCreatedEvent(), createPolicyHolderUpdatedEvent()));
+            long nextOffset = eventLog.nextOffset();
+
+            // When & Then
+            assertThrows(ConcurrencyConflictException.class,
+                    () -> adapter.append(POLICY_HOLDER_ID, 1, List.of(createPolicyAddedEvent())));
+            assertEquals(nextOffset, eventLog.nextOffset());
+            assertEquals(2, adapter.currentVersion(POLICY_HOLDER_ID));
+        }
+
+        @Test
+        @DisplayName("should report zero version for unknown aggregate")
+        void shouldReportZeroVersionForUnknownAggregate() {
+            assertEquals(0, adapter.currentVersion("PH9999999999"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find After Event Tests")
+    class FindAfterEventTests {
+
+        @Test
+        @DisplayName("should return only events appended after the anchor")
+        void shouldReturnEventsAfterAnchor() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyHolderUpdated updated = createPolicyHolderUpdatedEvent();
+            PolicyAdded added = createPolicyAddedEvent();
+            append(Arrays.asList(created, updated, added));
+
+            // When
+            List<DomainEvent> tail = adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, created.getEventId());
+
+            // Then
+            assertEquals(2, tail.size());
+            assertEquals(updated.getEventId(), tail.get(0).getEventId());
+            assertEquals(added.getEventId(), tail.get(1).getEventId());
+            assertTrue(adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, added.getEventId()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should reject unknown anchor event")
+        void shouldRejectUnknownAnchor() {
+            // Given
+            append(createPolicyHolderCreatedEvent());
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> adapter.findByAggregateIdAfter(POLICY_HOLDER_ID, "missing"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Forward Tests")
+    class ReadForwardTests {
+
+        @Test
+        @DisplayName("should read events in append order starting at position 1")
+        void shouldReadEventsInAppendOrder() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyHolderUpdated updated = createPolicyHolderUpdatedEvent();
+            PolicyAdded added = createPolicyAddedEvent();
+            append(Arrays.asList(created, updated, added));
+
+            // When
+            List<StoredEvent> result = adapter.readForward(0, 10);
+
+            // Then
+            assertEquals(3, result.size());
+            assertEquals(1, result.get(0).getPosition());
+            assertEquals(created.getEventId(), result.get(0).getEvent().getEventId());
+            assertEquals(3, result.get(2).getPosition());
+            assertEquals(added.getEventId(), result.get(2).getEvent().getEventId());
+            assertEquals(3, adapter.headPosition());
+        }
+
+        @Test
+        @DisplayName("should resume after position and honour limit")
+        void shouldResumeAfterPositionAndHonourLimit() {
+            // Given
+            append(Collections.nCopies(10, null).stream()
+                    .map(ignored -> (DomainEvent) createPolicyAddedEvent())
+                    .toList());
+
+            // When
+            List<StoredEvent> result = adapter.readForward(4, 3);
+
+            // Then
+            assertEquals(List.of(5L, 6L, 7L), result.stream().map(StoredEvent::getPosition).toList());
+            assertTrue(adapter.readForward(10, 3).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Envelope Tests")
+    class EnvelopeTests {
+
+        @Test
+        @DisplayName("should return header-only envelopes that decode on access")
+        void shouldReturnLazyEnvelopes() {
+            // Given
+            PolicyHolderCreated created = createPolicyHolderCreatedEvent();
+            PolicyAdded added = createPolicyAddedEvent();
+            append(Arrays.asList(created, added));
+
+            // When
+            List<StoredEvent> envelopes = adapter.findEnvelopesByAggregateId(POLICY_HOLDER_ID);
+
+            // Then
+            assertEquals(2, envelopes.size());
+            assertEquals(PolicyAdded.class.getName(), envelopes.get(1).getEventType());
+            assertEquals(added.getOccurredOn(), envelopes.get(1).getOccurredOn());
+            assertFalse(envelopes.get(1).isDecoded());
+            assertEquals(added.getEventId(), envelopes.get(1).getEvent().getEventId());
+            assertTrue(envelopes.get(1).isDecoded());
+        }
+
+        @Test
+        @DisplayName("should not decode payloads when reading forward until accessed")
+        void shouldReadForwardLazily() {
+            // Given
+            append(createPolicyHolderCreatedEvent());
+
+            // When
+            List<StoredEvent> result = adapter.readForward(0, 10);
+
+            // Then
+            assertFalse(result.get(0).isDecoded());
+            assertEquals(POLICY_HOLDER_ID, result.get(0).getAggregateId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Durability Tests")
+    class DurabilityTests {
+
+        @Test
+        @DisplayName("should read events after reopening the log")
+        void shouldReadEventsAfterReopening() throws IOException {
+            // Given
+            append(Collections.nCopies(3, null).stream()
+                    .map(ignored -> (DomainEvent) createPolicyAddedEvent())
+                    .toList());
+            eventLog.close();
+
+            // When
+            eventLog = new EventLog(directory, 64 * 1024, 4, false);
+            adapter = new MappedLogEventStoreAdapter(eventLog);
+
+            // Then
+            assertEquals(3, adapter.findByAggregateId(POLICY_HOLDER_ID).size());
+            assertEquals(3, eventLog.nextOffset());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventArchive Tests")
+class EventArchiveTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private EventArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new EventArchive(directory);
+    }
+
+    private ArchivedEvent event(long position, String aggregateId) {
+        return new ArchivedEvent(position, "event-" + position, aggregateId, position, "PolicyHolder",
+                "com.example.Event", BASE_TIME.plusMinutes(position), "{\"position\":" + position + "}");
+    }
+
+    private List<ArchivedEvent> events(long from, long to, int aggregates) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(position -> event(position, "PH" + (position % aggregates)))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("should be empty when no manifest exists")
+        void shouldBeEmptyWithoutManifest() {
+            assertTrue(archive.isEmpty());
+            assertEquals(0, archive.maxPosition());
+            assertFalse(Files.exists(directory.resolve("manifest.json")));
+        }
+
+        @Test
+        @DisplayName("should write compressed read-only archive and manifest entry")
+        void shouldWriteArchiveAndManifest() throws IOException {
+            // When
+            ArchiveManifest.Entry entry = archive.write(events(1, 10, 3));
+
+            // Then
+            assertEquals(1, entry.fromPosition());
+            assertEquals(10, entry.toPosition());
+            assertEquals(10, entry.eventCount());
+            assertEquals(BASE_TIME.plusMinutes(1), entry.minOccurredOn());
+            Path file = directory.resolve(entry.file());
+            assertTrue(Files.exists(file));
+            assertFalse(Files.getPosixFilePermissions(file).contains(PosixFilePermission.OWNER_WRITE));
+            assertTrue(Files.exists(directory.resolve("manifest.json")));
+            assertEquals(10, archive.maxPosition());
+        }
+
+        @Test
+        @DisplayName("should reload manifest after reopening")
+        void shouldReloadManifest() {
+            // Given
+            archive.write(events(1, 5, 2));
+            archive.write(events(6, 8, 2));
+
+            // When
+            EventArchive reopened = new EventArchive(directory);
+
+            // Then
+            assertEquals(2, reopened.entries().size());
+            assertEquals(8, reopened.readForward(0, 100).size());
+        }
+
+        @Test
+        @DisplayName("should reject empty batch")
+        void shouldRejectEmptyBatch() {
+            assertThrows(IllegalArgumentException.class, () -> archive.write(List.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("should find events of an aggregate across archives in order")
+        void shouldFindByAggregateId() {
+            // Given
+            archive.write(events(1, 6, 3));
+            archive.write(events(7, 12, 3));
+
+            // When
+            List<ArchivedEvent> result = archive.findByAggregateId("PH1");
+
+            // Then
+            assertEquals(List.of(1L, 4L, 7L, 10L), result.stream().map(ArchivedEvent::position).toList());
+        }
+
+        @Test
+        @DisplayName("should return empty list for unknown aggregate")
+        void shouldReturnEmptyForUnknownAggregate() {
+            // Given
+            archive.write(events(1, 6, 3));
+
+            // When & Then
+            assertTrue(archive.findByAggregateId("UNKNOWN").isEmpty());
+        }
+
+        @Test
+        @DisplayName("should read forward across archives with limit")
+        void shouldReadForwardWithLimit() {
+            // Given
+            archive.write(events(1, 5, 2));
+            archive.write(events(6, 10, 2));
+
+            // When
+            List<ArchivedEvent> result = archive.readForward(3, 4);
+
+            // Then
+            assertEquals(List.of(4L, 5L, 6L, 7L), result.stream().map(ArchivedEvent::position).toList());
+        }
+
+        @Test
+        @DisplayName("should merge overlapping position ranges when reading forward")
+        void shouldReadForwardOverlappingArchives() {
+            // Given
+            archive.write(List.of(event(1, "PH1"), event(5, "PH1")));
+            archive.write(List.of(event(2, "PH2"), event(3, "PH2")));
+
+            // When
+            List<ArchivedEvent> result = archive.readForward(0, 3);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L), result.stream().map(ArchivedEvent::position).toList());
+        }
+
+        @Test
+        @DisplayName("should scan all archives with filter")
+        void shouldScanWithFilter() {
+            // Given
+            archive.write(events(1, 10, 2));
+
+            // When
+            List<ArchivedEvent> result = archive.scan(event -> event.position() % 5 == 0);
+
+            // Then
+            assertEquals(List.of(5L, 10L), result.stream().map(ArchivedEvent::position).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Compaction Tests")
+    class CompactionTests {
+
+        @Test
+        @DisplayName("should merge small archives into one")
+        void shouldMergeSmallArchives() {
+            // Given
+            List<ArchiveManifest.Entry> written = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                written.add(archive.write(events(i * 3L + 1, i * 3L + 3, 2)));
+            }
+
+            // When
+            int compacted = archive.compact(5, 100);
+
+            // Then
+            assertEquals(4, compacted);
+            assertEquals(1, archive.entries().size());
+            assertEquals(12, archive.entries().get(0).eventCount());
+            assertEquals(12, archive.readForward(0, 100).size());
+            assertEquals(6, archive.findByAggregateId("PH0").size());
+        }
+
+        @Test
+        @DisplayName("should keep archives that are large enough")
+        void shouldKeepLargeArchives() {
+            // Given
+            archive.write(events(1, 10, 2));
+            archive.write(events(11, 12, 2));
+
+            // When
+            int compacted = archive.compact(5, 100);
+
+            // Then
+            assertEquals(0, compacted);
+            assertEquals(2, archive.entries().size());
+        }
+
+        @Test
+        @DisplayName("should delete replaced files on next write")
+        void shouldDeleteReplacedFilesLater() {
+            // Given
+            ArchiveManifest.Entry first = archive.write(events(1, 2, 2));
+            archive.write(events(3, 4, 2));
+            archive.compact(5, 100);
+            assertTrue(Files.exists(directory.resolve(first.file())));
+
+            // When
+            archive.write(events(5, 6, 2));
+
+            // Then
+            assertFalse(Files.exists(directory.resolve(first.file())));
+            assertEquals(6, archive.readForward(0, 100).size());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.archive;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.DomainEventJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventRetentionService Tests")
+class EventRetentionServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    @Mock
+    private DomainEventJpaRepository jpaRepository;
+
+    @Mock
+    private EventArchive archive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventRetentionService service(boolean requireSnapshot) {
+        lenient().when(transactionManager.getTransaction(any(TransactionDefinition.class)))
+                .thenReturn(new SimpleTransactionStatus());
+        return new EventRetentionService(jpaRepository, archive, transactionManager, Duration.ofDays(365),
+                requireSnapshot, 2, 10, 100, CLOCK);
+    }
+
+    private DomainEventJpaEntity entity(String eventId) {
+        DomainEventJpaEntity entity = new DomainEventJpaEntity(eventId, "PH0000000001", "PolicyHolder",
+                "com.example.Event", "{}", CUTOFF.minusDays(10));
+        // global_position 由資料庫產生
+        ReflectionTestUtils.setField(entity, "globalPosition", (long) eventId.hashCode());
+        return entity;
+    }
+
+    @Test
+    @DisplayName("should archive eligible events behind snapshots and delete them from the table")
+    void shouldArchiveAndDelete() {
+        // Given
+        EventRetentionService service = service(true);
+        when(jpaRepository.findArchivableBehindSnapshot(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(entity("e1"), entity("e2")))
+                .thenReturn(List.of(entity("e3")));
+
+        // When
+        int archived = service.run();
+
+        // Then
+        assertEquals(3, archived);
+        verify(archive, times(2)).write(anyList());
+        verify(jpaRepository).deleteAllByIdInBatch(List.of("e1", "e2"));
+        verify(jpaRepository).deleteAllByIdInBatch(List.of("e3"));
+        verify(archive).compact(100, 2);
+        verify(jpaRepository, never()).findArchivable(any(), any());
+    }
+
+    @Test
+    @DisplayName("should record the highest archived sequence per aggregate before deleting")
+    void shouldRecordArchivedVersions() {
+        // Given
+        EventRetentionService service = service(true);
+        DomainEventJpaEntity first = entity("e1");
+        first.setSequenceNumber(1);
+        DomainEventJpaEntity second = entity("e2");
+        second.setSequenceNumber(2);
+        when(jpaRepository.findArchivableBehindSnapshot(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(Collections.emptyList());
+        when(jpaRepository.insertArchivedVersion("PH0000000001", 2)).thenReturn(0);
+
+        // When
+        service.run();
+
+        // Then
+        var order = inOrder(jpaRepository);
+        order.verify(jpaRepository).insertArchivedVersion("PH0000000001", 2);
+        order.verify(jpaRepository).raiseArchivedVersion("PH0000000001", 2);
+        order.verify(jpaRepository).deleteAllByIdInBatch(List.of("e1", "e2"));
+        verify(jpaRepository, never()).insertArchivedVersion("PH0000000001", 1);
+    }
+
+    @Test
+    @DisplayName("should archive by age only when snapshots are not required")
+    void shouldArchiveByAgeOnly() {
+        // Given
+        EventRetentionService service = service(false);
+        when(jpaRepository.findArchivable(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(entity("e1")));
+
+        // When
+        service.run();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(archive).write(captor.capture());
+        assertEquals("e1", captor.getValue().get(0).eventId());
+        verify(jpaRepository, never()).findArchivableBehindSnapshot(any(), any());
+    }
+
+    @Test
+    @DisplayName("should not delete events when writing the archive fails")
+    void shouldNotDeleteWhenArchiveWriteFails() {
+        // Given
+        EventRetentionService service = service(true);
+        when(jpaRepository.findArchivableBehindSnapshot(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(entity("e1")));
+        when(archive.write(anyList())).thenThrow(new IllegalStateException("disk full"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, service::run);
+        verify(jpaRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("should do nothing when no events are eligible")
+    void shouldDoNothingWhenNothingEligible() {
+        // Given
+        EventRetentionService service = service(true);
+        when(jpaRepository.findArchivableBehindSnapshot(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        int archived = service.run();
+
+        // Then
+        assertEquals(0, archived);
+        verify(archive, never()).write(anyList());
+    }
+}
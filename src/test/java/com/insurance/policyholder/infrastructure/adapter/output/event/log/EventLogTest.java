@@ -0,0 +1,296 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventLog Tests")
+class EventLogTest {
+
+    private static final int SEGMENT_BYTES = 4 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private static EventLog.PendingRecord record(String aggregateId, int sequence) {
+        return new EventLog.PendingRecord(
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(sequence),
+                "event-" + sequence,
+                aggregateId,
+                "PolicyHolder",
+                "com.example.TestEvent",
+                "{\"sequence\":" + sequence + ",\"padding\":\"" + "x".repeat(100) + "\"}"
+        );
+    }
+
+    private static List<EventLog.PendingRecord> records(String aggregateId, int count) {
+        return IntStream.range(0, count).mapToObj(i -> record(aggregateId, i)).toList();
+    }
+
+    @Nested
+    @DisplayName("Append and Read")
+    class AppendAndReadTests {
+
+        @Test
+        @DisplayName("should assign consecutive offsets")
+        void shouldAssignConsecutiveOffsets() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(List.of(0L, 1L, 2L), log.append(records("PH0000000001", 3)));
+                assertEquals(List.of(3L), log.append(List.of(record("PH0000000002", 3))));
+                assertEquals(4, log.nextOffset());
+            }
+        }
+
+        @Test
+        @DisplayName("should read any offset through the sparse index")
+        void shouldReadAnyOffset() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 10));
+
+                for (int i = 0; i < 10; i++) {
+                    LogRecord read = log.read(i);
+                    assertEquals(i, read.getOffset());
+                    assertEquals("event-" + i, read.getEventId());
+                    assertTrue(read.getPayload().contains("\"sequence\":" + i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should scan headers without decoding payloads")
+        void shouldScanHeadersWithoutPayload() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 5));
+
+                List<LogRecord> headers = new ArrayList<>();
+                log.scan(2, false, headers::add);
+
+                assertEquals(3, headers.size());
+                assertEquals(2, headers.get(0).getOffset());
+                assertNull(headers.get(0).getPayload());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment Rolling")
+    class SegmentRollingTests {
+
+        @Test
+        @DisplayName("should roll to new segments when full")
+        void shouldRollSegments() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 100));
+
+                assertTrue(log.segmentCount() > 1);
+                assertEquals(100, log.readAggregate("PH0000000001").size());
+                List<LogRecord> all = new ArrayList<>();
+                log.scan(0, true, all::add);
+                assertEquals(100, all.size());
+                assertEquals(99, all.get(99).getOffset());
+            }
+        }
+
+        @Test
+        @DisplayName("should reject records larger than a segment")
+        void shouldRejectOversizedRecords() throws IOException {
+            try (EventLog log = new EventLog(directory, 128, 4, false)) {
+                assertThrows(IllegalArgumentException.class, () -> log.append(List.of(record("PH0000000001", 1))));
+            }
+        }
+
+        @Test
+        @DisplayName("should write nothing when any record of the batch is rejected")
+        void shouldWriteNothingForRejectedBatch() throws IOException {
+            List<EventLog.PendingRecord> batch = new ArrayList<>(records("PH0000000001", 40));
+            batch.add(new EventLog.PendingRecord(LocalDateTime.of(2024, 1, 1, 0, 0), "oversized", "PH0000000001",
+                    "PolicyHolder", "com.example.TestEvent", "x".repeat(SEGMENT_BYTES)));
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000002", 1));
+
+                assertThrows(IllegalArgumentException.class, () -> log.append(batch));
+
+                assertEquals(1, log.nextOffset());
+                assertEquals(1, log.segmentCount());
+                assertEquals(0, log.aggregateCount("PH0000000001"));
+            }
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(1, log.nextOffset());
+                assertEquals(0, log.aggregateCount("PH0000000001"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Atomic Batches")
+    class AtomicBatchTests {
+
+        @Test
+        @DisplayName("should roll back a batch that fails after writing part of it")
+        void shouldRollBackPartiallyWrittenBatch() throws IOException {
+            List<Path> blockers = new ArrayList<>();
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 10));
+                // 以同名目錄佔住下一個區段的檔名，讓批次寫到一半滾動區段時失敗
+                for (int offset = 11; offset < 30; offset++) {
+                    blockers.add(Files.createDirectory(directory.resolve(String.format("%020d.log", offset))));
+                }
+
+                assertThrows(UncheckedIOException.class, () -> log.append(records("PH0000000002", 20)));
+
+                assertEquals(10, log.nextOffset());
+                assertEquals(0, log.aggregateCount("PH0000000002"));
+                assertEquals(List.of(10L), log.append(List.of(record("PH0000000001", 10))));
+                assertEquals(11, log.readAggregate("PH0000000001").size());
+            }
+            for (Path blocker : blockers) {
+                Files.deleteIfExists(blocker);
+            }
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(11, log.nextOffset());
+                assertEquals(0, log.aggregateCount("PH0000000002"));
+                assertEquals("event-10", log.read(10).getEventId());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("should recover offsets and aggregate index after reopen")
+        void shouldRecoverAfterReopen() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 50));
+            }
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(50, log.nextOffset());
+                assertEquals(50, log.readAggregate("PH0000000001").size());
+                assertEquals(List.of(50L), log.append(List.of(record("PH0000000001", 50))));
+            }
+        }
+
+        @Test
+        @DisplayName("should truncate a torn write at the tail")
+        void shouldTruncateTornWrite() throws IOException {
+            int validBytes;
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 3));
+            }
+            Path segment = directory.resolve(String.format("%020d.log", 0));
+            validBytes = endOfRecords(segment);
+
+            // 模擬寫入中斷：長度欄位已寫入，但 body 只寫了一半
+            byte[] frame = new LogRecord(3, LocalDateTime.now(), "torn", "PH0000000001",
+                    "PolicyHolder", "com.example.TestEvent", "{\"torn\":true}").toFrame();
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(frame, 0, frame.length / 2), validBytes);
+            }
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(3, log.nextOffset());
+                assertEquals(3, log.readAggregate("PH0000000001").size());
+                assertEquals(List.of(3L), log.append(List.of(record("PH0000000001", 3))));
+                assertEquals("event-3", log.read(3).getEventId());
+            }
+        }
+
+        @Test
+        @DisplayName("should drop aggregate index entries beyond the recovered log")
+        void shouldDropDanglingAggregateIndexEntries() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 2));
+            }
+            // 索引多出一筆指向不存在記錄的項目
+            Path index = directory.resolve("aggregates-v2.idx");
+            byte[] id = "PH0000000001".getBytes();
+            ByteBuffer entry = ByteBuffer.allocate(Long.BYTES * 2 + Short.BYTES + id.length)
+                    .putLong(7L).putLong(Files.size(index) - entry(id)).putShort((short) id.length).put(id).flip();
+            Files.write(index, entry.array(), StandardOpenOption.APPEND);
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertEquals(2, log.readAggregate("PH0000000001").size());
+            }
+        }
+
+        @Test
+        @DisplayName("should rebuild a legacy aggregate index from the log")
+        void shouldReplaceLegacyAggregateIndex() throws IOException {
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                log.append(records("PH0000000001", 3));
+                log.append(records("PH0000000002", 2));
+            }
+            Files.delete(directory.resolve("aggregates-v2.idx"));
+            Files.write(directory.resolve("aggregates.idx"), new byte[]{0, 12});
+
+            try (EventLog log = new EventLog(directory, SEGMENT_BYTES, 4, false)) {
+                assertFalse(Files.exists(directory.resolve("aggregates.idx")));
+                assertEquals(List.of(0L, 1L, 2L),
+                        log.readAggregate("PH0000000001").stream().map(LogRecord::getOffset).toList());
+                assertEquals(List.of(3L, 4L),
+                        log.readAggregate("PH0000000002").stream().map(LogRecord::getOffset).toList());
+            }
+        }
+
+        @Test
+        @DisplayName("should discard records rolled back from a segment")
+        void shouldDiscardRolledBackRecords() throws IOException {
+            try (LogSegment segment = LogSegment.open(directory, 0, SEGMENT_BYTES, 4)) {
+                int position = 0;
+                for (int i = 0; i < 6; i++) {
+                    if (i == 3) {
+                        position = segment.getWritePosition();
+                    }
+                    segment.append(frame(i, "event-" + i), i);
+                }
+
+                segment.truncateTo(position, 3);
+                assertEquals(3, segment.getNextOffset());
+                segment.append(frame(3, "replaced"), 3);
+            }
+
+            try (LogSegment segment = LogSegment.open(directory, 0, SEGMENT_BYTES, 4)) {
+                assertEquals(4, segment.getNextOffset());
+                assertEquals("replaced", segment.read(3, false).getEventId());
+            }
+        }
+
+        private byte[] frame(long offset, String eventId) {
+            return new LogRecord(offset, LocalDateTime.of(2024, 1, 1, 0, 0), eventId, "PH0000000001",
+                    "PolicyHolder", "com.example.TestEvent", "{}").toFrame();
+        }
+
+        private long entry(byte[] id) {
+            return Long.BYTES * 2 + Short.BYTES + id.length;
+        }
+
+        private int endOfRecords(Path segment) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(segment));
+            int position = 0;
+            while (bytes.getInt(position) != 0) {
+                position += LogRecord.FRAME_HEADER_BYTES + bytes.getInt(position);
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.insurance.policyholder.infrastructure.adapter.output.event.upcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventUpcasterChain Tests")
+class EventUpcasterChainTest {
+
+    private static final String EVENT_TYPE = "com.example.SampleEvent";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EventUpcaster renameField(int fromVersion, String from, String to) {
+        return new EventUpcaster() {
+            @Override
+            public String eventType() {
+                return EVENT_TYPE;
+            }
+
+            @Override
+            public int fromVersion() {
+                return fromVersion;
+            }
+
+            @Override
+            public ObjectNode upcast(ObjectNode payload) {
+                payload.set(to, payload.remove(from));
+                return payload;
+            }
+        };
+    }
+
+    private ObjectNode payload(String json) throws Exception {
+        return (ObjectNode) objectMapper.readTree(json);
+    }
+
+    @Nested
+    @DisplayName("Chain Tests")
+    class ChainTests {
+
+        private final EventUpcasterChain chain = new EventUpcasterChain(List.of(
+                renameField(2, "b", "c"),
+                renameField(1, "a", "b")));
+
+        @Test
+        @DisplayName("should apply upcasters in version order from unversioned payload")
+        void shouldApplyAllUpcastersToV1() throws Exception {
+            // When
+            ObjectNode result = chain.upcast(EVENT_TYPE, payload("{\"a\":1}"));
+
+            // Then
+            assertEquals(1, result.get("c").asInt());
+            assertEquals(3, result.get(EventUpcasterChain.SCHEMA_VERSION_FIELD).asInt());
+            assertEquals(3, chain.currentVersion(EVENT_TYPE));
+        }
+
+        @Test
+        @DisplayName("should only apply upcasters newer than the payload version")
+        void shouldSkipAppliedUpcasters() throws Exception {
+            // When
+            ObjectNode result = chain.upcast(EVENT_TYPE, payload("{\"b\":1,\"_schemaVersion\":2}"));
+
+            // Then
+            assertEquals(1, result.get("c").asInt());
+            assertFalse(result.has("b"));
+        }
+
+        @Test
+        @DisplayName("should reject payload newer than current version")
+        void shouldRejectNewerPayload() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> chain.upcast(EVENT_TYPE, payload("{\"_schemaVersion\":4}")));
+        }
+
+        @Test
+        @DisplayName("should report version 1 for types without upcasters")
+        void shouldReportVersionOneWithoutUpcasters() {
+            assertFalse(chain.hasUpcasters("com.example.Other"));
+            assertEquals(1, chain.currentVersion("com.example.Other"));
+        }
+
+        @Test
+        @DisplayName("should reject non-contiguous upcasters")
+        void shouldRejectGaps() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new EventUpcasterChain(List.of(renameField(2, "b", "c"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("PolicyHolderCreated Address Upcaster Tests")
+    class AddressUpcasterTests {
+
+        private final PolicyHolderCreatedAddressUpcaster upcaster = new PolicyHolderCreatedAddressUpcaster();
+
+        @Test
+        @DisplayName("should split full address into components")
+        void shouldSplitFullAddress() throws Exception {
+            // When
+            ObjectNode result = upcaster.upcast(payload("{\"fullAddress\":\"300 新竹縣竹北市光明六路10號\"}"));
+
+            // Then
+            assertEquals("300", result.get("zipCode").asText());
+            assertEquals("新竹縣", result.get("city").asText());
+            assertEquals("竹北市", result.get("district").asText());
+            assertEquals("光明六路10號", result.get("street").asText());
+        }
+
+        @Test
+        @DisplayName("should keep existing components")
+        void shouldKeepExistingComponents() throws Exception {
+            // When
+            ObjectNode result = upcaster.upcast(payload(
+                    "{\"fullAddress\":\"100 台北市中正區X\",\"zipCode\":\"999\",\"city\":\"C\"}"));
+
+            // Then
+            assertEquals("999", result.get("zipCode").asText());
+            assertEquals("C", result.get("city").asText());
+        }
+
+        @Test
+        @DisplayName("should leave components empty when address cannot be parsed")
+        void shouldLeaveUnparseableAddress() throws Exception {
+            // When
+            ObjectNode result = upcaster.upcast(payload("{\"fullAddress\":\"10001 TaipeiXinyiTest Street\"}"));
+
+            // Then
+            assertFalse(result.has("zipCode"));
+        }
+    }
+}
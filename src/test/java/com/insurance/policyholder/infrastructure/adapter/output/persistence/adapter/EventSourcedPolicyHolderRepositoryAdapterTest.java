@@ -0,0 +1,349 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
+
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.*;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.AggregateSnapshotJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderSnapshotMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.AggregateSnapshotJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyStateRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSourcedPolicyHolderRepositoryAdapter Tests")
+class EventSourcedPolicyHolderRepositoryAdapterTest {
+
+    private static final int SNAPSHOT_INTERVAL = 3;
+
+    @Mock
+    private PolicyHolderRepositoryAdapter delegate;
+
+    @Mock
+    private PolicyHolderJpaRepository jpaRepository;
+
+    @Mock
+    private EventStore eventStore;
+
+    @Mock
+    private AggregateSnapshotJpaRepository snapshotRepository;
+
+    @Mock
+    private PolicyHolderArchive archive;
+
+    private final PolicyHolderSnapshotMapper snapshotMapper = new PolicyHolderSnapshotMapper();
+    private final PolicyMapper policyMapper = new PolicyMapper();
+
+    private EventSourcedPolicyHolderRepositoryAdapter adapter;
+    private PolicyHolder policyHolder;
+    private PolicyHolderId id;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new EventSourcedPolicyHolderRepositoryAdapter(
+                delegate, jpaRepository, eventStore, snapshotRepository, snapshotMapper, policyMapper, archive,
+                SNAPSHOT_INTERVAL);
+        policyHolder = PolicyHolder.create(
+                PolicyHolderId.of("PH0000000001"),
+                NationalId.of("A123456789"),
+                PersonalInfo.of("王小明", Gender.MALE, LocalDate.of(1990, 1, 15)),
+                ContactInfo.of("0912345678", "test@example.com"),
+                Address.of("100", "台北市", "中正區", "忠孝東路100號")
+        );
+        id = policyHolder.getId();
+    }
+
+    /**
+     * 產生 Created 之後接著 updates 次更新的事件流
+     */
+    private List<DomainEvent> history(int updates) {
+        List<DomainEvent> events = new ArrayList<>(policyHolder.getDomainEventsAndClear());
+        for (int i = 0; i < updates; i++) {
+            policyHolder.updateContactInfo(ContactInfo.of("09" + String.format("%08d", i), "test@example.com"));
+            events.addAll(policyHolder.getDomainEventsAndClear());
+        }
+        return events;
+    }
+
+    /**
+     * 目前資料表的保戶版本號與保單狀態（未指定保單時為沒有保單的一列）
+     */
+    private static List<PolicyStateRow> states(Long version, PolicyStateRow... policies) {
+        return policies.length == 0
+                ? List.of(new PolicyStateRow(version, null, null, null))
+                : Arrays.asList(policies);
+    }
+
+    private Policy addPolicy() {
+        Policy policy = Policy.create(PolicyType.LIFE, Money.twd(10000), Money.twd(1000000),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+        policyHolder.addPolicy(policy);
+        return policy;
+    }
+
+    @Nested
+    @DisplayName("Find By ID Tests")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("should return empty when write model has no row")
+        void shouldReturnEmptyWhenNotPersisted() {
+            // Given
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(List.of());
+
+            // When & Then
+            assertTrue(adapter.findById(id).isEmpty());
+            verifyNoInteractions(eventStore);
+        }
+
+        @Test
+        @DisplayName("should rebuild from full history without snapshot")
+        void shouldRebuildFromHistory() {
+            // Given
+            List<DomainEvent> history = history(1);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(1L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+
+            // When
+            PolicyHolder result = adapter.findById(id).orElseThrow();
+
+            // Then
+            assertEquals("0900000000", result.getContactInfo().getMobilePhone());
+            assertEquals(1L, result.getVersion());
+            verify(snapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should take snapshot when replayed events reach interval")
+        void shouldTakeSnapshotAtInterval() {
+            // Given
+            List<DomainEvent> history = history(2);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(2L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+
+            // When
+            adapter.findById(id);
+
+            // Then
+            ArgumentCaptor<AggregateSnapshotJpaEntity> captor = ArgumentCaptor.forClass(AggregateSnapshotJpaEntity.class);
+            verify(snapshotRepository).save(captor.capture());
+            assertEquals(history.get(2).getEventId(), captor.getValue().getLastEventId());
+            assertEquals(3, captor.getValue().getEventCount());
+        }
+
+        @Test
+        @DisplayName("should not take snapshot inside a read-only transaction")
+        void shouldNotTakeSnapshotWhenReadOnly() {
+            // Given
+            List<DomainEvent> history = history(2);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(2L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            // When
+            Optional<PolicyHolder> found;
+            try {
+                found = adapter.findById(id);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+
+            // Then
+            assertTrue(found.isPresent());
+            verify(snapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should load snapshot and replay only the tail")
+        void shouldReplayTailOnSnapshot() {
+            // Given
+            List<DomainEvent> history = history(3);
+            PolicyHolder snapshotState = PolicyHolder.fromHistory(history.subList(0, 3), 2L);
+            AggregateSnapshotJpaEntity snapshot = new AggregateSnapshotJpaEntity(id.getValue(), "PolicyHolder",
+                    history.get(2).getEventId(), 3, snapshotMapper.toPayload(snapshotState), LocalDateTime.now());
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(3L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.of(snapshot));
+            when(eventStore.findByAggregateIdAfter(id.getValue(), history.get(2).getEventId()))
+                    .thenReturn(history.subList(3, 4));
+
+            // When
+            PolicyHolder result = adapter.findById(id).orElseThrow();
+
+            // Then
+            assertEquals("0900000002", result.getContactInfo().getMobilePhone());
+            assertEquals(3L, result.getVersion());
+            verify(eventStore, never()).findByAggregateId(any());
+            verify(snapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should fall back to full replay when snapshot anchor is missing")
+        void shouldFallBackWhenSnapshotAnchorMissing() {
+            // Given
+            List<DomainEvent> history = history(1);
+            AggregateSnapshotJpaEntity snapshot = new AggregateSnapshotJpaEntity(id.getValue(), "PolicyHolder",
+                    "missing", 1, "{}", LocalDateTime.now());
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(1L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.of(snapshot));
+            when(eventStore.findByAggregateIdAfter(id.getValue(), "missing"))
+                    .thenThrow(new IllegalArgumentException("not found"));
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+
+            // When
+            PolicyHolder result = adapter.findById(id).orElseThrow();
+
+            // Then
+            assertEquals("0900000000", result.getContactInfo().getMobilePhone());
+        }
+
+        @Test
+        @DisplayName("should delegate to JPA for policyholders without event stream")
+        void shouldDelegateWithoutEventStream() {
+            // Given
+            PolicyHolder stored = PolicyHolder.reconstitute(id, policyHolder.getNationalId(),
+                    policyHolder.getPersonalInfo(), policyHolder.getContactInfo(), policyHolder.getAddress(),
+                    PolicyHolderStatus.ACTIVE, 0L);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(0L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(Collections.emptyList());
+            when(delegate.findById(id)).thenReturn(Optional.of(stored));
+
+            // When & Then
+            assertSame(stored, adapter.findById(id).orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Current Policy Tests")
+    class CurrentPolicyTests {
+
+        @Test
+        @DisplayName("should drop archived policies and carry status and version of current rows")
+        void shouldUseCurrentPolicyRows() {
+            // Given
+            Policy archived = addPolicy();
+            Policy current = addPolicy();
+            List<DomainEvent> history = policyHolder.getDomainEventsAndClear();
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(4L,
+                    new PolicyStateRow(4L, current.getId().getValue(), PolicyJpaEntity.PolicyStatus.LAPSED, 2L)));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+
+            // When
+            PolicyHolder result = adapter.findById(id).orElseThrow();
+
+            // Then
+            assertEquals(1, result.getPolicies().size());
+            Policy loaded = result.getPolicies().get(0);
+            assertEquals(current.getId(), loaded.getId());
+            assertEquals(PolicyStatus.LAPSED, loaded.getStatus());
+            assertEquals(2L, loaded.getVersion());
+            assertEquals(4L, result.getVersion());
+            assertEquals(0, result.getPolicySummary().getActivePolicies());
+            assertNotEquals(archived.getId(), loaded.getId());
+        }
+
+        @Test
+        @DisplayName("should add archived policies when requested")
+        void shouldAddArchivedPoliciesWhenRequested() {
+            // Given
+            List<DomainEvent> history = history(0);
+            PolicyJpaEntity archived = new PolicyJpaEntity();
+            archived.setId("PO0000000009");
+            archived.setPolicyType(PolicyJpaEntity.PolicyType.LIFE);
+            archived.setPremiumAmount(new BigDecimal("10000"));
+            archived.setPremiumCurrency("TWD");
+            archived.setSumInsured(new BigDecimal("1000000"));
+            archived.setSumInsuredCurrency("TWD");
+            archived.setStartDate(LocalDate.of(2023, 1, 1));
+            archived.setEndDate(LocalDate.of(2024, 1, 1));
+            archived.setStatus(PolicyJpaEntity.PolicyStatus.TERMINATED);
+            archived.setVersion(1L);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(states(1L));
+            when(snapshotRepository.findById(id.getValue())).thenReturn(Optional.empty());
+            when(eventStore.findByAggregateId(id.getValue())).thenReturn(history);
+            when(archive.findPolicies(id.getValue())).thenReturn(List.of(archived));
+
+            // When
+            PolicyHolder result = adapter.findIncludingArchived(id, true).orElseThrow();
+
+            // Then
+            assertEquals(1, result.getPolicies().size());
+            assertEquals(PolicyStatus.TERMINATED, result.getPolicies().get(0).getStatus());
+        }
+
+        @Test
+        @DisplayName("should delegate archived policyholders to JPA adapter")
+        void shouldDelegateArchivedPolicyHolder() {
+            // Given
+            PolicyHolder stored = PolicyHolder.reconstitute(id, policyHolder.getNationalId(),
+                    policyHolder.getPersonalInfo(), policyHolder.getContactInfo(), policyHolder.getAddress(),
+                    PolicyHolderStatus.INACTIVE, 3L);
+            when(jpaRepository.findPolicyStates(id.getValue())).thenReturn(List.of());
+            when(delegate.findIncludingArchived(id, false)).thenReturn(Optional.of(stored));
+
+            // When & Then
+            assertSame(stored, adapter.findIncludingArchived(id, false).orElseThrow());
+            verifyNoInteractions(eventStore, archive);
+        }
+    }
+
+    @Nested
+    @DisplayName("Delegation Tests")
+    class DelegationTests {
+
+        @Test
+        @DisplayName("should delegate save to JPA adapter")
+        void shouldDelegateSave() {
+            // Given
+            when(delegate.save(policyHolder)).thenReturn(policyHolder);
+
+            // When & Then
+            assertSame(policyHolder, adapter.save(policyHolder));
+        }
+
+        @Test
+        @DisplayName("should delete snapshot together with policyholder")
+        void shouldDeleteSnapshot() {
+            // When
+            adapter.deleteById(id);
+
+            // Then
+            verify(delegate).deleteById(id);
+            verify(snapshotRepository).deleteById(id.getValue());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter;
 
+import com.insurance.policyholder.application.exception.StaleVersionException;
 import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
 import com.insurance.policyholder.domain.model.entity.Policy;
 import com.insurance.policyholder.domain.model.enums.Gender;
@@ -7,10 +8,16 @@ import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
 import com.insurance.policyholder.domain.model.enums.PolicyStatus;
 import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.diagnostics.AggregateLoadEvent;
+import com.insurance.policyholder.infrastructure.diagnostics.AggregateSaveEvent;
+import com.insurance.policyholder.infrastructure.diagnostics.JfrTestRecording;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,10 +27,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +49,12 @@ class PolicyHolderRepositoryAdapterTest {
     @Mock
     private PolicyHolderMapper mapper;
 
+    @Mock
+    private PolicyMapper policyMapper;
+
+    @Mock
+    private PolicyHolderArchive archive;
+
     @InjectMocks
     private PolicyHolderRepositoryAdapter repositoryAdapter;
 
@@ -85,7 +101,7 @@ class PolicyHolderRepositoryAdapterTest {
             PolicyHolderJpaEntity entity = createTestJpaEntity();
 
             when(mapper.toEntity(any(PolicyHolder.class))).thenReturn(entity);
-            when(jpaRepository.save(any(PolicyHolderJpaEntity.class))).thenReturn(entity);
+            when(jpaRepository.saveAndFlush(any(PolicyHolderJpaEntity.class))).thenReturn(entity);
             when(mapper.toDomain(any(PolicyHolderJpaEntity.class))).thenReturn(policyHolder);
 
             // When
@@ -95,7 +111,7 @@ class PolicyHolderRepositoryAdapterTest {
             assertNotNull(saved);
             assertEquals(POLICY_HOLDER_ID, saved.getId().getValue());
             verify(mapper).toEntity(policyHolder);
-            verify(jpaRepository).save(entity);
+            verify(jpaRepository).saveAndFlush(entity);
             verify(mapper).toDomain(entity);
         }
     }
@@ -140,6 +156,118 @@ class PolicyHolderRepositoryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("包含封存資料的查詢")
+    class FindIncludingArchivedTests {
+
+        @Test
+        @DisplayName("目前的資料表查無時應讀取封存的保戶")
+        void shouldFallBackToArchive() {
+            // Given
+            PolicyHolder policyHolder = createTestPolicyHolder();
+            PolicyHolderJpaEntity archived = createTestJpaEntity();
+            when(jpaRepository.findById(POLICY_HOLDER_ID)).thenReturn(Optional.empty());
+            when(archive.findById(POLICY_HOLDER_ID, true)).thenReturn(Optional.of(archived));
+            when(mapper.toDomain(archived)).thenReturn(policyHolder);
+
+            // When
+            Optional<PolicyHolder> found = repositoryAdapter.findIncludingArchived(PolicyHolderId.of(POLICY_HOLDER_ID), false);
+
+            // Then
+            assertEquals(Optional.of(policyHolder), found);
+        }
+
+        @Test
+        @DisplayName("保戶在目前的資料表且未要求歷史時不應查詢封存表")
+        void shouldNotQueryArchiveWhenHot() {
+            // Given
+            PolicyHolderJpaEntity entity = createTestJpaEntity();
+            when(jpaRepository.findById(POLICY_HOLDER_ID)).thenReturn(Optional.of(entity));
+            when(mapper.toDomain(entity)).thenReturn(createTestPolicyHolder());
+
+            // When
+            Optional<PolicyHolder> found = repositoryAdapter.findIncludingArchived(PolicyHolderId.of(POLICY_HOLDER_ID), false);
+
+            // Then
+            assertTrue(found.isPresent());
+            verifyNoInteractions(archive);
+        }
+
+        @Test
+        @DisplayName("要求歷史時應加入已封存的保單")
+        void shouldAppendArchivedPolicies() {
+            // Given
+            PolicyHolderJpaEntity entity = createTestJpaEntity();
+            PolicyJpaEntity archivedEntity = new PolicyJpaEntity();
+            Policy archivedPolicy = Policy.reconstitute(
+                    PolicyId.of("PO0000000009"), PolicyType.LIFE, Money.twd(1000), Money.twd(100000),
+                    LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1), PolicyStatus.TERMINATED, 1L);
+            when(jpaRepository.findById(POLICY_HOLDER_ID)).thenReturn(Optional.of(entity));
+            when(mapper.toDomain(entity)).thenReturn(createTestPolicyHolder());
+            when(archive.findPolicies(POLICY_HOLDER_ID)).thenReturn(List.of(archivedEntity));
+            when(policyMapper.toDomain(archivedEntity)).thenReturn(archivedPolicy);
+
+            // When
+            Optional<PolicyHolder> found = repositoryAdapter.findIncludingArchived(PolicyHolderId.of(POLICY_HOLDER_ID), true);
+
+            // Then
+            assertEquals(List.of(archivedPolicy), found.orElseThrow().getPolicies());
+            assertTrue(entity.getPolicies().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("以版本號為條件更新")
+    class UpdateIfVersionTests {
+
+        private final ContactAddressChange change = ContactAddressChange.partial("0987654321", null, null);
+
+        @Test
+        @DisplayName("版本號相符時應回傳更新後的保戶")
+        void shouldReturnUpdatedPolicyHolder() {
+            // Given
+            PolicyHolderJpaEntity entity = createTestJpaEntity();
+            PolicyHolder updated = createTestPolicyHolder();
+            when(jpaRepository.updateIfVersion(eq(POLICY_HOLDER_ID), eq(3L), eq(change), any())).thenReturn(Optional.of(entity));
+            when(mapper.toDomainWithoutPolicies(entity)).thenReturn(updated);
+
+            // When
+            Optional<PolicyHolder> result = repositoryAdapter.updateIfVersion(PolicyHolderId.of(POLICY_HOLDER_ID), 3L, change);
+
+            // Then
+            assertEquals(Optional.of(updated), result);
+            verify(jpaRepository, never()).findVersionById(any());
+        }
+
+        @Test
+        @DisplayName("版本號不符時應拋出 StaleVersionException")
+        void shouldThrowWhenVersionIsStale() {
+            // Given
+            when(jpaRepository.updateIfVersion(eq(POLICY_HOLDER_ID), eq(3L), eq(change), any())).thenReturn(Optional.empty());
+            when(jpaRepository.findVersionById(POLICY_HOLDER_ID)).thenReturn(Optional.of(5L));
+
+            // When & Then
+            StaleVersionException ex = assertThrows(StaleVersionException.class,
+                    () -> repositoryAdapter.updateIfVersion(PolicyHolderId.of(POLICY_HOLDER_ID), 3L, change));
+            assertEquals(3L, ex.getExpectedVersion());
+            assertEquals(5L, ex.getActualVersion());
+        }
+
+        @Test
+        @DisplayName("保戶不存在時應回傳空值")
+        void shouldReturnEmptyWhenNotFound() {
+            // Given
+            when(jpaRepository.updateIfVersion(any(), anyLong(), any(), any())).thenReturn(Optional.empty());
+            when(jpaRepository.findVersionById(POLICY_HOLDER_ID)).thenReturn(Optional.empty());
+
+            // When
+            Optional<PolicyHolder> result = repositoryAdapter.updateIfVersion(PolicyHolderId.of(POLICY_HOLDER_ID), 3L, change);
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("FindByNationalId Tests")
     class FindByNationalIdTests {
@@ -185,21 +313,21 @@ class PolicyHolderRepositoryAdapterTest {
         @DisplayName("should return true for existing national ID")
         void shouldReturnTrueForExistingNationalId() {
             // Given
-            when(jpaRepository.existsByNationalId(VALID_ID_A)).thenReturn(true);
+            when(jpaRepository.existsByNationalIdIncludingArchive(VALID_ID_A)).thenReturn(true);
 
             // When
             boolean exists = repositoryAdapter.existsByNationalId(NationalId.of(VALID_ID_A));
 
             // Then
             assertTrue(exists);
-            verify(jpaRepository).existsByNationalId(VALID_ID_A);
+            verify(jpaRepository).existsByNationalIdIncludingArchive(VALID_ID_A);
         }
 
         @Test
         @DisplayName("should return false for non-existing national ID")
         void shouldReturnFalseForNonExistingNationalId() {
             // Given
-            when(jpaRepository.existsByNationalId("F131104093")).thenReturn(false);
+            when(jpaRepository.existsByNationalIdIncludingArchive("F131104093")).thenReturn(false);
 
             // When
             boolean exists = repositoryAdapter.existsByNationalId(NationalId.of("F131104093"));
@@ -251,7 +379,7 @@ class PolicyHolderRepositoryAdapterTest {
             entity.getPolicies().add(policyEntity);
 
             when(mapper.toEntity(any(PolicyHolder.class))).thenReturn(entity);
-            when(jpaRepository.save(any(PolicyHolderJpaEntity.class))).thenReturn(entity);
+            when(jpaRepository.saveAndFlush(any(PolicyHolderJpaEntity.class))).thenReturn(entity);
             when(mapper.toDomain(any(PolicyHolderJpaEntity.class))).thenReturn(policyHolder);
 
             // When
@@ -323,4 +451,57 @@ class PolicyHolderRepositoryAdapterTest {
             assertEquals(PolicyHolderStatus.SUSPENDED, found.get().getStatus());
         }
     }
+
+    @Nested
+    @DisplayName("Flight Recorder Event Tests")
+    class FlightRecorderEventTests {
+
+        @Test
+        @DisplayName("should record aggregate load with policy and row counts")
+        void shouldRecordAggregateLoad() {
+            // Given
+            PolicyHolder policyHolder = createTestPolicyHolder();
+            policyHolder.addPolicy(Policy.create(PolicyType.LIFE, Money.twd(10000), Money.twd(1000000),
+                    LocalDate.now(), LocalDate.now().plusYears(1)));
+            when(jpaRepository.findById(POLICY_HOLDER_ID)).thenReturn(Optional.of(createTestJpaEntity()));
+            when(mapper.toDomain(any(PolicyHolderJpaEntity.class))).thenReturn(policyHolder);
+
+            try (JfrTestRecording recording = new JfrTestRecording(AggregateLoadEvent.class)) {
+                // When
+                repositoryAdapter.findById(PolicyHolderId.of(POLICY_HOLDER_ID));
+
+                // Then
+                List<RecordedEvent> events = recording.stop(AggregateLoadEvent.class);
+                assertEquals(1, events.size());
+                assertEquals("id", events.get(0).getString("lookup"));
+                assertEquals(POLICY_HOLDER_ID, events.get(0).getString("policyHolderId"));
+                assertTrue(events.get(0).getBoolean("found"));
+                assertEquals(1, events.get(0).getInt("policyCount"));
+                assertEquals(2, events.get(0).getInt("rowCount"));
+            }
+        }
+
+        @Test
+        @DisplayName("should record aggregate save")
+        void shouldRecordAggregateSave() {
+            // Given
+            PolicyHolder policyHolder = createTestPolicyHolder();
+            PolicyHolderJpaEntity entity = createTestJpaEntity();
+            when(mapper.toEntity(any(PolicyHolder.class))).thenReturn(entity);
+            when(jpaRepository.saveAndFlush(any(PolicyHolderJpaEntity.class))).thenReturn(entity);
+            when(mapper.toDomain(any(PolicyHolderJpaEntity.class))).thenReturn(policyHolder);
+
+            try (JfrTestRecording recording = new JfrTestRecording(AggregateSaveEvent.class)) {
+                // When
+                repositoryAdapter.save(policyHolder);
+
+                // Then
+                List<RecordedEvent> events = recording.stop(AggregateSaveEvent.class);
+                assertEquals(1, events.size());
+                assertEquals(POLICY_HOLDER_ID, events.get(0).getString("policyHolderId"));
+                assertEquals(0, events.get(0).getInt("policyCount"));
+                assertEquals(1, events.get(0).getInt("rowCount"));
+            }
+        }
+    }
 }
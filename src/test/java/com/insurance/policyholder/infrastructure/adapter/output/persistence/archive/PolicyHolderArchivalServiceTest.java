@@ -0,0 +1,101 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.archive;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyHolderArchivalService Tests")
+class PolicyHolderArchivalServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("UTC"));
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime CUTOFF = NOW.minusDays(90);
+
+    @Mock
+    private PolicyHolderArchive archive;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry registry;
+    private PolicyHolderArchivalService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any(TransactionDefinition.class)))
+                .thenReturn(new SimpleTransactionStatus());
+        registry = new SimpleMeterRegistry();
+        service = new PolicyHolderArchivalService(archive, transactionManager, Duration.ofDays(90), 2, 3, CLOCK, registry);
+    }
+
+    @Test
+    @DisplayName("should archive holders and then closed policies in batches until a batch is not full")
+    void shouldArchiveInBatches() {
+        // Given
+        when(archive.lockInactiveHolders(CUTOFF, 2))
+                .thenReturn(List.of("PH0000000001", "PH0000000002"))
+                .thenReturn(List.of("PH0000000003"));
+        when(archive.archiveHolders(anyList(), eq(NOW))).thenReturn(3, 1);
+        when(archive.lockClosedPolicies(CUTOFF, 2)).thenReturn(List.of("PO0000000009"));
+
+        // When
+        PolicyHolderArchivalService.Result result = service.run();
+
+        // Then
+        assertEquals(new PolicyHolderArchivalService.Result(3, 5), result);
+        verify(archive).archiveHolders(List.of("PH0000000001", "PH0000000002"), NOW);
+        verify(archive).archiveHolders(List.of("PH0000000003"), NOW);
+        verify(archive).archivePolicies(List.of("PO0000000009"), NOW);
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(3.0, registry.get("policyholder.archive.moved").tag("table", "policy_holders").counter().count());
+        assertEquals(5.0, registry.get("policyholder.archive.moved").tag("table", "policies").counter().count());
+        assertEquals(2, registry.get("policyholder.archive.batch").tag("table", "policy_holders").timer().count());
+    }
+
+    @Test
+    @DisplayName("should stop after the configured number of batches per run")
+    void shouldStopAfterMaxBatches() {
+        // Given
+        when(archive.lockInactiveHolders(CUTOFF, 2)).thenReturn(List.of("PH0000000001", "PH0000000002"));
+        when(archive.lockClosedPolicies(CUTOFF, 2)).thenReturn(List.of());
+
+        // When
+        PolicyHolderArchivalService.Result result = service.run();
+
+        // Then
+        assertEquals(6, result.policyHolders());
+        verify(archive, times(3)).archiveHolders(anyList(), eq(NOW));
+        verify(archive, never()).archivePolicies(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("should roll back the batch and stop when moving rows fails")
+    void shouldRollBackFailedBatch() {
+        // Given
+        when(archive.lockInactiveHolders(CUTOFF, 2)).thenReturn(List.of("PH0000000001"));
+        when(archive.archiveHolders(anyList(), eq(NOW))).thenThrow(new IllegalStateException("constraint"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, service::run);
+        verify(transactionManager).rollback(any());
+        verify(archive, never()).lockClosedPolicies(any(), anyInt());
+    }
+}
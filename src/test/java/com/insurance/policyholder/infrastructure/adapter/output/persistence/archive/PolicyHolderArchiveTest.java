@@ -0,0 +1,198 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.archive;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyHolderArchive Tests")
+class PolicyHolderArchiveTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime CUTOFF = UPDATED.plusDays(1);
+    private static final LocalDateTime ARCHIVED_AT = UPDATED.plusDays(2);
+
+    private PolicyHolderArchive archive;
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:archive-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        registry = new SimpleMeterRegistry();
+        archive = new PolicyHolderArchive(dataSource, registry);
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private void holder(String id, String nationalId, String status) {
+        jdbc.update("INSERT INTO policy_holders (id, national_id, name, gender, birth_date, mobile_phone, email, "
+                        + "zip_code, city, district, street, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, '王小明', 'MALE', DATE '1990-01-15', '0912345678', NULL, "
+                        + "'10001', '台北市', '信義區', '信義路100號', ?, 3, ?, ?)",
+                id, nationalId, status, UPDATED, UPDATED);
+    }
+
+    private void policy(String id, String policyHolderId, String status) {
+        jdbc.update("INSERT INTO policies (id, policy_holder_id, policy_type, premium_amount, premium_currency, "
+                        + "sum_insured, sum_insured_currency, start_date, end_date, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, 'LIFE', 10000, 'TWD', 1000000, 'TWD', DATE '2023-01-01', DATE '2024-01-01', "
+                        + "?, 0, ?, ?)",
+                id, policyHolderId, status, UPDATED, UPDATED);
+    }
+
+    private void view(String id) {
+        jdbc.update("INSERT INTO policyholder_view (id, national_id, masked_national_id, name, gender, birth_date, "
+                + "mobile_phone, zip_code, city, district, street, status, version, created_at, updated_at) "
+                + "SELECT id, national_id, national_id, name, gender, birth_date, mobile_phone, zip_code, city, "
+                + "district, street, status, version, created_at, updated_at FROM policy_holders WHERE id = ?", id);
+    }
+
+    private long rows(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Nested
+    @DisplayName("封存停用的保戶")
+    class HolderTests {
+
+        @Test
+        @DisplayName("只鎖定最後異動早於 cutoff 的停用保戶")
+        void shouldLockOnlyInactiveHoldersBeforeCutoff() {
+            // Given
+            holder("PH0000000001", "A123456789", "INACTIVE");
+            holder("PH0000000002", "B123456780", "ACTIVE");
+            holder("PH0000000003", "C123456781", "INACTIVE");
+
+            // When
+            List<String> ids = archive.lockInactiveHolders(CUTOFF, 1);
+
+            // Then
+            assertEquals(List.of("PH0000000001"), ids);
+            assertEquals(List.of("PH0000000001", "PH0000000003"), archive.lockInactiveHolders(CUTOFF, 10));
+            assertTrue(archive.lockInactiveHolders(UPDATED, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("連同保單移入封存表並自目前的資料表與檢視表刪除")
+        void shouldMoveHolderWithPolicies() {
+            // Given
+            holder("PH0000000001", "A123456789", "INACTIVE");
+            view("PH0000000001");
+            policy("PO0000000001", "PH0000000001", "ACTIVE");
+            policy("PO0000000002", "PH0000000001", "LAPSED");
+
+            // When
+            int policies = archive.archiveHolders(List.of("PH0000000001"), ARCHIVED_AT);
+
+            // Then
+            assertEquals(2, policies);
+            assertEquals(0, rows("policy_holders"));
+            assertEquals(0, rows("policies"));
+            assertEquals(0, rows("policyholder_view"));
+            PolicyHolderJpaEntity archived = archive.findById("PH0000000001", true).orElseThrow();
+            assertEquals("A123456789", archived.getNationalId());
+            assertEquals(3L, archived.getVersion());
+            assertEquals(2, archived.getPolicies().size());
+            assertEquals(ARCHIVED_AT, jdbc.queryForObject(
+                    "SELECT archived_at FROM policy_holders_archive WHERE id = 'PH0000000001'", LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("封存已結束的保單")
+    class PolicyTests {
+
+        @Test
+        @DisplayName("只鎖定 LAPSED / TERMINATED 的保單")
+        void shouldLockOnlyClosedPolicies() {
+            // Given
+            holder("PH0000000001", "A123456789", "ACTIVE");
+            policy("PO0000000001", "PH0000000001", "ACTIVE");
+            policy("PO0000000002", "PH0000000001", "LAPSED");
+            policy("PO0000000003", "PH0000000001", "TERMINATED");
+
+            // When
+            List<String> ids = archive.lockClosedPolicies(CUTOFF, 10);
+
+            // Then
+            assertEquals(List.of("PO0000000002", "PO0000000003"), ids);
+        }
+
+        @Test
+        @DisplayName("移入封存表並遞增保戶與檢視表的版本號")
+        void shouldMovePolicyAndBumpHolderVersion() {
+            // Given
+            holder("PH0000000001", "A123456789", "ACTIVE");
+            view("PH0000000001");
+            policy("PO0000000001", "PH0000000001", "ACTIVE");
+            policy("PO0000000002", "PH0000000001", "TERMINATED");
+
+            // When
+            archive.archivePolicies(List.of("PO0000000002"), ARCHIVED_AT);
+
+            // Then
+            assertEquals(4L, jdbc.queryForObject(
+                    "SELECT version FROM policy_holders WHERE id = 'PH0000000001'", Long.class));
+            assertEquals(4L, jdbc.queryForObject(
+                    "SELECT version FROM policyholder_view WHERE id = 'PH0000000001'", Long.class));
+            assertEquals(List.of("PO0000000001"), jdbc.queryForList("SELECT id FROM policies", String.class));
+            assertEquals(Map.of("PO0000000002", 0L), archive.findPolicyVersions("PH0000000001"));
+            assertEquals("TERMINATED", archive.findPolicies("PH0000000001").get(0).getStatus().name());
+            assertTrue(archive.findById("PH0000000001", false).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("讀取與指標")
+    class LookupTests {
+
+        @Test
+        @DisplayName("依身分證字號與版本號查詢已封存的保戶")
+        void shouldFindArchivedHolder() {
+            // Given
+            holder("PH0000000001", "A123456789", "INACTIVE");
+            archive.archiveHolders(List.of("PH0000000001"), ARCHIVED_AT);
+
+            // When & Then
+            assertEquals("PH0000000001", archive.findByNationalId("A123456789").orElseThrow().getId());
+            assertEquals(3L, archive.findVersionById("PH0000000001").orElseThrow());
+            assertTrue(archive.findById("PH0000000001", false).orElseThrow().getPolicies().isEmpty());
+        }
+
+        @Test
+        @DisplayName("記錄查詢命中與未命中，並回報各資料表的資料列數")
+        void shouldExposeMetrics() {
+            // Given
+            holder("PH0000000001", "A123456789", "INACTIVE");
+            holder("PH0000000002", "B123456780", "ACTIVE");
+            archive.archiveHolders(List.of("PH0000000001"), ARCHIVED_AT);
+
+            // When
+            archive.findById("PH0000000001", false);
+            archive.findById("PH0000000002", false);
+            archive.findVersionById("PH0000000009");
+
+            // Then
+            assertEquals(1.0, registry.get("policyholder.archive.lookups").tag("result", "hit").counter().count());
+            assertEquals(2.0, registry.get("policyholder.archive.lookups").tag("result", "miss").counter().count());
+            assertEquals(1.0, registry.get("policyholder.archive.hot.rows").tag("table", "policy_holders").gauge().value());
+            assertEquals(1.0, registry.get("policyholder.archive.rows").tag("table", "policy_holders").gauge().value());
+            assertEquals(0.0, registry.get("policyholder.archive.rows").tag("table", "policies").gauge().value());
+        }
+    }
+}
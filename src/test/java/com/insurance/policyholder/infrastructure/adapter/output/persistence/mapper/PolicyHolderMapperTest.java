@@ -9,6 +9,7 @@ import com.insurance.policyholder.domain.model.enums.PolicyType;
 import com.insurance.policyholder.domain.model.valueobject.*;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
 import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicySummaryEmbeddable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -170,6 +171,25 @@ class PolicyHolderMapperTest {
             assertEquals(1, domain.getPolicies().size());
             verify(policyMapper, times(1)).toDomain(policyEntity);
         }
+
+        @Test
+        @DisplayName("should take the persisted summary when policies are not loaded")
+        void shouldTakePersistedSummaryWithoutPolicies() {
+            // Given
+            PolicyHolderJpaEntity entity = createJpaEntity();
+            entity.getPolicySummary().setActivePolicyCount(2);
+            entity.getPolicySummary().setPolicyCount(PolicyJpaEntity.PolicyType.LIFE, 2);
+            entity.getPolicySummary().setTotalPremiumMinor(300000L);
+
+            // When
+            PolicyHolder domain = mapper.toDomainWithoutPolicies(entity);
+
+            // Then
+            assertTrue(domain.getPolicies().isEmpty());
+            assertEquals(2, domain.getPolicySummary().getActivePolicies(PolicyType.LIFE));
+            assertEquals(300000L, domain.getPolicySummary().getTotalPremiumMinor());
+            verifyNoInteractions(policyMapper);
+        }
     }
 
     @Nested
@@ -327,4 +347,55 @@ class PolicyHolderMapperTest {
             assertDoesNotThrow(() -> mapper.updateEntity(entity, null));
         }
     }
+
+    @Nested
+    @DisplayName("Policy Summary Tests")
+    class PolicySummaryTests {
+
+        @Test
+        @DisplayName("should write the active policy summary to the entity")
+        void shouldWritePolicySummaryToEntity() {
+            // Given
+            PolicyHolder domain = createDomainPolicyHolder();
+            domain.addReconstitutedPolicy(Policy.reconstitute(PolicyId.of("PO0000000001"), PolicyType.LIFE,
+                    Money.twd(10000), Money.twd(1000000), LocalDate.now(), LocalDate.now().plusYears(1),
+                    PolicyStatus.ACTIVE, 0L));
+            domain.addReconstitutedPolicy(Policy.reconstitute(PolicyId.of("PO0000000002"), PolicyType.AUTO,
+                    Money.twd(3000), Money.twd(300000), LocalDate.now(), LocalDate.now().plusYears(1),
+                    PolicyStatus.TERMINATED, 0L));
+            when(policyMapper.toEntity(any(Policy.class), any(PolicyHolderJpaEntity.class)))
+                    .thenReturn(new PolicyJpaEntity());
+
+            // When
+            PolicyHolderJpaEntity entity = mapper.toEntity(domain);
+
+            // Then
+            assertEquals(1, entity.getPolicySummary().getActivePolicyCount());
+            assertEquals(1, entity.getPolicySummary().getPolicyCount(PolicyJpaEntity.PolicyType.LIFE));
+            assertEquals(0, entity.getPolicySummary().getPolicyCount(PolicyJpaEntity.PolicyType.AUTO));
+            assertEquals(1000000L, entity.getPolicySummary().getTotalPremiumMinor());
+            assertEquals(100000000L, entity.getPolicySummary().getTotalSumInsuredMinor());
+        }
+
+        @Test
+        @DisplayName("should round-trip the policy summary columns")
+        void shouldRoundTripPolicySummary() {
+            // Given
+            PolicySummaryEmbeddable embeddable = new PolicySummaryEmbeddable();
+            embeddable.setActivePolicyCount(3);
+            embeddable.setPolicyCount(PolicyJpaEntity.PolicyType.HEALTH, 2);
+            embeddable.setPolicyCount(PolicyJpaEntity.PolicyType.SAFETY, 1);
+            embeddable.setTotalPremiumMinor(450000L);
+            embeddable.setTotalSumInsuredMinor(45000000L);
+
+            // When
+            PolicySummary summary = mapper.toPolicySummary(embeddable);
+
+            // Then
+            assertEquals(3, summary.getActivePolicies());
+            assertEquals(2, summary.getActivePolicies(PolicyType.HEALTH));
+            assertEquals(1, summary.getActivePolicies(PolicyType.SAFETY));
+            assertEquals(embeddable, mapper.toPolicySummaryEntity(summary));
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper;
+
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.entity.Policy;
+import com.insurance.policyholder.domain.model.enums.Gender;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyHolderSnapshotMapper Tests")
+class PolicyHolderSnapshotMapperTest {
+
+    private final PolicyHolderSnapshotMapper mapper = new PolicyHolderSnapshotMapper();
+
+    @Test
+    @DisplayName("should round-trip policyholder state with policies")
+    void shouldRoundTripState() {
+        // Given
+        PolicyHolder policyHolder = PolicyHolder.reconstitute(
+                PolicyHolderId.of("PH0000000001"),
+                NationalId.of("A123456789"),
+                PersonalInfo.of("王小明", Gender.MALE, LocalDate.of(1990, 1, 15)),
+                ContactInfo.of("0912345678", null),
+                Address.of("100", "台北市", "中正區", "忠孝東路100號"),
+                PolicyHolderStatus.ACTIVE,
+                2L
+        );
+        Policy policy = Policy.create(PolicyType.HEALTH, Money.twd(5000), Money.twd(500000),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        policyHolder.addReconstitutedPolicy(policy);
+
+        // When
+        PolicyHolder restored = mapper.toDomain(mapper.toPayload(policyHolder), 7L);
+
+        // Then
+        assertEquals(policyHolder.getId(), restored.getId());
+        assertEquals(policyHolder.getPersonalInfo(), restored.getPersonalInfo());
+        assertEquals(policyHolder.getContactInfo(), restored.getContactInfo());
+        assertEquals(policyHolder.getAddress(), restored.getAddress());
+        assertEquals(PolicyHolderStatus.ACTIVE, restored.getStatus());
+        assertEquals(7L, restored.getVersion());
+        assertEquals(1, restored.getPolicies().size());
+        assertEquals(policy.getId(), restored.getPolicies().get(0).getId());
+        assertEquals(0, policy.getPremium().getAmount().compareTo(restored.getPolicies().get(0).getPremium().getAmount()));
+        assertTrue(restored.getDomainEvents().isEmpty());
+    }
+}
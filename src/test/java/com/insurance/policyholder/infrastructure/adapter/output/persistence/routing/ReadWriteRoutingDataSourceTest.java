@@ -0,0 +1,92 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagGuard guard;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        guard = new ReplicaLagGuard(Duration.ofSeconds(5), 100, Clock.systemUTC(), () -> ReplicaLagGuard.UNKNOWN);
+        routing = new ReadWriteRoutingDataSource(new ReplicatedDataSources(primary, replica), guard, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        guard.end("client", false);
+    }
+
+    private double routed(String role) {
+        return registry.get("policyholder.datasource.routed").tag("role", role).counter().count();
+    }
+
+    @Test
+    @DisplayName("唯讀交易取得副本連線")
+    void shouldRouteReadOnlyTransactionsToReplica() throws Exception {
+        // Given
+        Connection connection = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection obtained = routing.getConnection();
+
+        // Then
+        assertSame(connection, obtained);
+        verifyNoInteractions(primary);
+        assertEquals(1.0, routed("replica"));
+    }
+
+    @Test
+    @DisplayName("寫入交易與交易外的存取使用主庫")
+    void shouldRouteWritesToPrimary() throws Exception {
+        // Given
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        // When
+        Connection obtained = routing.getConnection();
+
+        // Then
+        assertSame(connection, obtained);
+        verifyNoInteractions(replica);
+        assertEquals(1.0, routed("primary"));
+    }
+
+    @Test
+    @DisplayName("被固定在主庫的請求，唯讀交易也使用主庫")
+    void shouldRoutePinnedReadsToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        guard.begin("client", true);
+
+        // When
+        DataSourceRole role = routing.currentRole();
+
+        // Then
+        assertEquals(DataSourceRole.PRIMARY, role);
+    }
+}
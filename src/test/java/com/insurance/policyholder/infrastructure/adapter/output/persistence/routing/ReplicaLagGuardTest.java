@@ -0,0 +1,155 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaLagGuard Tests")
+class ReplicaLagGuardTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private MutableClock clock;
+    private AtomicLong replicatedThrough;
+    private ReplicaLagGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        replicatedThrough = new AtomicLong(ReplicaLagGuard.UNKNOWN);
+        guard = new ReplicaLagGuard(WINDOW, 2, clock, replicatedThrough::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.end("any", false);
+    }
+
+    private void write(String client) {
+        guard.begin(client, true);
+        guard.end(client, true);
+    }
+
+    @Nested
+    @DisplayName("請求判定")
+    class PinningTests {
+
+        @Test
+        @DisplayName("寫入請求全程使用主庫")
+        void shouldPinWriteRequests() {
+            // When
+            guard.begin("client-a", true);
+
+            // Then
+            assertTrue(guard.isPinnedToPrimary());
+            guard.end("client-a", true);
+            assertFalse(guard.isPinnedToPrimary());
+        }
+
+        @Test
+        @DisplayName("寫入後 window 內同一用戶端的讀取使用主庫，其他用戶端使用副本")
+        void shouldPinReadsAfterOwnWrite() {
+            // Given
+            write("client-a");
+            clock.advance(Duration.ofSeconds(1));
+
+            // When / Then
+            guard.begin("client-a", false);
+            assertTrue(guard.isPinnedToPrimary());
+            guard.end("client-a", false);
+
+            guard.begin("client-b", false);
+            assertFalse(guard.isPinnedToPrimary());
+            guard.end("client-b", false);
+        }
+
+        @Test
+        @DisplayName("超過 window 後改回副本並清除記錄")
+        void shouldReleaseAfterWindow() {
+            // Given
+            write("client-a");
+            clock.advance(WINDOW);
+
+            // When
+            guard.begin("client-a", false);
+
+            // Then
+            assertFalse(guard.isPinnedToPrimary());
+            assertEquals(0, guard.trackedClients());
+        }
+
+        @Test
+        @DisplayName("副本已複製到寫入之後的時間點時提前改回副本")
+        void shouldReleaseOnceReplicaCaughtUp() {
+            // Given
+            write("client-a");
+            long writtenAt = clock.millis();
+
+            // When / Then
+            replicatedThrough.set(writtenAt - 1);
+            assertTrue(guard.mustReadPrimary("client-a"));
+            replicatedThrough.set(writtenAt + 1);
+            assertFalse(guard.mustReadPrimary("client-a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("用戶端記錄")
+    class TrackingTests {
+
+        @Test
+        @DisplayName("追蹤數超過上限時清除已過期的用戶端")
+        void shouldEvictExpiredClients() {
+            // Given
+            write("client-a");
+            write("client-b");
+            clock.advance(WINDOW);
+
+            // When
+            write("client-c");
+
+            // Then
+            assertEquals(1, guard.trackedClients());
+            assertTrue(guard.mustReadPrimary("client-c"));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
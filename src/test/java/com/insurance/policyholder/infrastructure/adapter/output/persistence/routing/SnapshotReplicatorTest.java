@@ -0,0 +1,127 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SnapshotReplicator Tests")
+class SnapshotReplicatorTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private SimpleMeterRegistry registry;
+    private SnapshotReplicator replicator;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString();
+        DataSource primaryDataSource = h2("primary-" + name);
+        DataSource replicaDataSource = h2("replica-" + name);
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        registry = new SimpleMeterRegistry();
+        replicator = new SnapshotReplicator(primaryDataSource, replicaDataSource, Clock.systemUTC(), registry);
+
+        primary.execute("CREATE TABLE holders (id VARCHAR(20) PRIMARY KEY, name VARCHAR(50), version BIGINT)");
+        primary.execute("CREATE TABLE policies (id VARCHAR(20) PRIMARY KEY, holder_id VARCHAR(20) "
+                + "REFERENCES holders(id), payload CLOB)");
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @Nested
+    @DisplayName("同步")
+    class ReplicationTests {
+
+        @Test
+        @DisplayName("第一次同步建立結構並複製資料（含 LOB）")
+        void shouldCopySchemaAndRows() {
+            // Given
+            primary.update("INSERT INTO holders VALUES ('PH1', '王小明', 0)");
+            primary.update("INSERT INTO policies VALUES ('PO1', 'PH1', ?)", "x".repeat(5000));
+
+            // When
+            replicator.replicate();
+
+            // Then
+            assertEquals("王小明", replica.queryForObject("SELECT name FROM holders WHERE id = 'PH1'", String.class));
+            assertEquals(5000, replica.queryForObject("SELECT LENGTH(payload) FROM policies", Integer.class));
+            assertNotEquals(ReplicaLagGuard.UNKNOWN, replicator.getReplicatedThrough());
+        }
+
+        @Test
+        @DisplayName("後續同步反映更新與刪除")
+        void shouldReflectUpdatesAndDeletes() {
+            // Given
+            primary.update("INSERT INTO holders VALUES ('PH1', '王小明', 0)");
+            primary.update("INSERT INTO holders VALUES ('PH2', '李小華', 0)");
+            replicator.replicate();
+            primary.update("UPDATE holders SET name = '王大明', version = 1 WHERE id = 'PH1'");
+            primary.update("DELETE FROM holders WHERE id = 'PH2'");
+
+            // When
+            replicator.replicate();
+
+            // Then
+            assertEquals(1, replica.queryForObject("SELECT COUNT(*) FROM holders", Integer.class));
+            assertEquals("王大明", replica.queryForObject("SELECT name FROM holders WHERE id = 'PH1'", String.class));
+        }
+
+        @Test
+        @DisplayName("主庫結構改變時重建副本結構")
+        void shouldRebuildSchemaOnChange() {
+            // Given
+            replicator.replicate();
+            primary.execute("ALTER TABLE holders ADD COLUMN email VARCHAR(100)");
+            primary.update("INSERT INTO holders VALUES ('PH1', '王小明', 0, 'a@example.com')");
+
+            // When
+            replicator.replicate();
+
+            // Then
+            assertEquals("a@example.com", replica.queryForObject("SELECT email FROM holders", String.class));
+        }
+
+        @Test
+        @DisplayName("只有資料改變（含 identity 與序列前進）時不重建副本結構")
+        void shouldNotRebuildSchemaForDataChanges() {
+            // Given
+            primary.execute("CREATE TABLE events (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, type VARCHAR(20))");
+            primary.execute("CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 50");
+            replicator.replicate();
+            replica.execute("CREATE TABLE replica_marker (id INT)");
+            primary.update("INSERT INTO events (type) VALUES ('Created')");
+            primary.queryForObject("SELECT NEXT VALUE FOR event_seq", Long.class);
+
+            // When
+            replicator.replicate();
+
+            // Then
+            assertEquals(1, replica.queryForObject("SELECT COUNT(*) FROM events", Integer.class));
+            assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM replica_marker", Integer.class));
+        }
+
+        @Test
+        @DisplayName("同步耗時與副本延遲以指標匯出")
+        void shouldExportMetrics() {
+            // When
+            replicator.replicate();
+
+            // Then
+            assertEquals(1, registry.get("policyholder.replica.sync").timer().count());
+            assertTrue(registry.get("policyholder.replica.lag").gauge().value() >= 0);
+        }
+    }
+}
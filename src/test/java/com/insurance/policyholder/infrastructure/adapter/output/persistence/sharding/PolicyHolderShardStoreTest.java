@@ -0,0 +1,245 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyHolderShardStore Tests")
+class PolicyHolderShardStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private PolicyHolderShardStore store;
+    private JdbcTemplate shard0;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString();
+        DataSource first = h2("shard0-" + name);
+        DataSource second = h2("shard1-" + name);
+        migrate(first);
+        migrate(second);
+        ShardedDataSources dataSources = new ShardedDataSources(List.of(first, second));
+        store = new PolicyHolderShardStore(dataSources, new ShardTransactions(dataSources));
+        shard0 = new JdbcTemplate(first);
+    }
+
+    private static void migrate(DataSource shard) {
+        Flyway.configure().dataSource(shard).locations("classpath:db/shard").load().migrate();
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @Nested
+    @DisplayName("寫入聚合")
+    class MergeTests {
+
+        @Test
+        @DisplayName("新增保戶與保單，版本號為 0")
+        void shouldInsertNewAggregate() {
+            // Given
+            PolicyHolderJpaEntity holder = holder("PH0000000001", "王小明", 0L);
+            holder.addPolicy(policy("PO0000000001", 0L));
+
+            // When
+            PolicyHolderJpaEntity saved = store.insert(0, holder, NOW);
+
+            // Then
+            assertEquals(0L, saved.getVersion());
+            PolicyHolderJpaEntity loaded = store.findById(0, "PH0000000001", true).orElseThrow();
+            assertEquals("王小明", loaded.getName());
+            assertEquals(1, loaded.getPolicies().size());
+            assertEquals(0L, loaded.getPolicies().get(0).getVersion());
+            assertTrue(store.findById(1, "PH0000000001", false).isEmpty());
+        }
+
+        @Test
+        @DisplayName("只更新有變更的資料列並遞增版本號")
+        void shouldUpdateOnlyChangedRows() {
+            // Given
+            PolicyHolderJpaEntity holder = holder("PH0000000001", "王小明", 0L);
+            holder.addPolicy(policy("PO0000000001", 0L));
+            store.insert(0, holder, NOW);
+
+            PolicyHolderJpaEntity renamed = holder("PH0000000001", "王大明", 0L);
+            renamed.addPolicy(policy("PO0000000001", 0L));
+
+            // When
+            PolicyHolderJpaEntity saved = store.update(0, stored(), renamed, NOW.plusMinutes(1));
+
+            // Then
+            assertEquals(1L, saved.getVersion());
+            assertEquals(0L, saved.getPolicies().get(0).getVersion());
+            PolicyHolderJpaEntity loaded = store.findById(0, "PH0000000001", true).orElseThrow();
+            assertEquals("王大明", loaded.getName());
+            assertEquals(NOW, loaded.getCreatedAt());
+            assertEquals(NOW.plusMinutes(1), loaded.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("新增保單時插入新資料列，不在聚合中的保單刪除")
+        void shouldInsertAndRemovePolicies() {
+            // Given
+            PolicyHolderJpaEntity holder = holder("PH0000000001", "王小明", 0L);
+            holder.addPolicy(policy("PO0000000001", 0L));
+            store.insert(0, holder, NOW);
+
+            PolicyHolderJpaEntity changed = holder("PH0000000001", "王小明", 0L);
+            changed.addPolicy(policy("PO0000000002", 0L));
+
+            // When
+            store.update(0, stored(), changed, NOW);
+
+            // Then
+            List<PolicyJpaEntity> policies = store.findById(0, "PH0000000001", true).orElseThrow().getPolicies();
+            assertEquals(List.of("PO0000000002"), policies.stream().map(PolicyJpaEntity::getId).toList());
+        }
+
+        @Test
+        @DisplayName("版本號不符時拋出 OptimisticLockingFailureException")
+        void shouldRejectStaleVersion() {
+            // Given
+            store.insert(0, holder("PH0000000001", "王小明", 0L), NOW);
+            PolicyHolderJpaEntity stale = stored();
+            store.update(0, stored(), holder("PH0000000001", "王大明", 0L), NOW);
+
+            // When / Then
+            assertThrows(OptimisticLockingFailureException.class,
+                    () -> store.update(0, stale, holder("PH0000000001", "李小華", 0L), NOW));
+            assertThrows(OptimisticLockingFailureException.class,
+                    () -> store.update(0, stored(), holder("PH0000000001", "李小華", 0L), NOW));
+        }
+    }
+
+    @Nested
+    @DisplayName("條件式更新")
+    class UpdateIfVersionTests {
+
+        @Test
+        @DisplayName("版本號相符時更新並回傳新版本，不符時回傳空")
+        void shouldUpdateWhenVersionMatches() {
+            // Given
+            store.insert(0, holder("PH0000000001", "王小明", 0L), NOW);
+            ContactAddressChange change = ContactAddressChange.partial("0987654321", null, null);
+
+            // When
+            PolicyHolderJpaEntity updated = store.updateIfVersion(0, "PH0000000001", 0L, change, NOW).orElseThrow();
+
+            // Then
+            assertEquals(1L, updated.getVersion());
+            assertEquals("0987654321", updated.getMobilePhone());
+            assertTrue(store.updateIfVersion(0, "PH0000000001", 0L, change, NOW).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("分片內查詢")
+    class QueryTests {
+
+        @Test
+        @DisplayName("姓名搜尋依保戶編號排序並限制筆數，萬用字元視為一般字元")
+        void shouldSearchByNameOrderedById() {
+            // Given
+            store.insert(0, holder("PH0000000003", "王小明", 0L), NOW);
+            store.insert(0, holder("PH0000000001", "王大明", 0L), NOW);
+            store.insert(0, holder("PH0000000002", "李小華", 0L), NOW);
+            store.insert(0, holder("PH0000000004", "王_明", 0L), NOW);
+
+            // When
+            List<PolicyHolderJpaEntity> found = store.findByNameContaining(0, "王", 2);
+
+            // Then
+            assertEquals(List.of("PH0000000001", "PH0000000003"), found.stream().map(PolicyHolderJpaEntity::getId).toList());
+            assertEquals(3, store.countByNameContaining(0, "王"));
+            assertEquals(1, store.countByNameContaining(0, "_"));
+            assertEquals(0, store.countByNameContaining(1, "王"));
+        }
+
+        @Test
+        @DisplayName("依狀態查詢與計數")
+        void shouldFindByStatus() {
+            // Given
+            store.insert(0, holder("PH0000000001", "王小明", 0L), NOW);
+            PolicyHolderJpaEntity inactive = holder("PH0000000002", "李小華", 0L);
+            inactive.setStatus(PolicyHolderJpaEntity.Status.INACTIVE);
+            store.insert(0, inactive, NOW);
+
+            // When / Then
+            assertEquals(List.of("PH0000000002"), store.findByStatus(0, PolicyHolderJpaEntity.Status.INACTIVE, 10)
+                    .stream().map(PolicyHolderJpaEntity::getId).toList());
+            assertEquals(1, store.countByStatus(0, PolicyHolderJpaEntity.Status.ACTIVE));
+        }
+
+        @Test
+        @DisplayName("刪除保戶時一併刪除保單")
+        void shouldDeleteWithPolicies() {
+            // Given
+            PolicyHolderJpaEntity holder = holder("PH0000000001", "王小明", 0L);
+            holder.addPolicy(policy("PO0000000001", 0L));
+            store.insert(0, holder, NOW);
+
+            // When
+            store.deleteById(0, "PH0000000001");
+
+            // Then
+            assertTrue(store.findById(0, "PH0000000001", true).isEmpty());
+            assertEquals(0, shard0.queryForObject("SELECT COUNT(*) FROM policies", Integer.class));
+        }
+    }
+
+    private PolicyHolderJpaEntity stored() {
+        return store.findById(0, "PH0000000001", true).orElseThrow();
+    }
+
+    private static PolicyHolderJpaEntity holder(String id, String name, Long version) {
+        PolicyHolderJpaEntity entity = new PolicyHolderJpaEntity();
+        entity.setId(id);
+        entity.setNationalId("A" + id.substring(3));
+        entity.setName(name);
+        entity.setGender(PolicyHolderJpaEntity.Gender.MALE);
+        entity.setBirthDate(LocalDate.of(1990, 1, 15));
+        entity.setMobilePhone("0912345678");
+        entity.setEmail("test@example.com");
+        entity.setZipCode("100");
+        entity.setCity("台北市");
+        entity.setDistrict("中正區");
+        entity.setStreet("忠孝東路100號");
+        entity.setStatus(PolicyHolderJpaEntity.Status.ACTIVE);
+        entity.setVersion(version);
+        return entity;
+    }
+
+    private static PolicyJpaEntity policy(String id, Long version) {
+        PolicyJpaEntity entity = new PolicyJpaEntity();
+        entity.setId(id);
+        entity.setPolicyType(PolicyJpaEntity.PolicyType.LIFE);
+        entity.setPremiumAmount(new BigDecimal("1000.00"));
+        entity.setPremiumCurrency("TWD");
+        entity.setSumInsured(new BigDecimal("100000.00"));
+        entity.setSumInsuredCurrency("TWD");
+        entity.setStartDate(LocalDate.of(2024, 1, 1));
+        entity.setEndDate(LocalDate.of(2034, 1, 1));
+        entity.setStatus(PolicyJpaEntity.PolicyStatus.ACTIVE);
+        entity.setVersion(version);
+        return entity;
+    }
+}
@@ -0,0 +1,131 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScatterGather Tests")
+class ScatterGatherTest {
+
+    private SimpleMeterRegistry registry;
+    private ScatterGather scatterGather;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        scatterGather = new ScatterGather(3, 3, Duration.ofSeconds(5), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scatterGather.shutdown();
+    }
+
+    @Nested
+    @DisplayName("平行查詢")
+    class GatherTests {
+
+        @Test
+        @DisplayName("所有分片同時執行，結果依分片編號排列")
+        void shouldQueryShardsInParallel() {
+            // Given
+            CountDownLatch allStarted = new CountDownLatch(3);
+
+            // When
+            List<Integer> results = scatterGather.gather("test", shard -> {
+                allStarted.countDown();
+                try {
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return shard * 10;
+            });
+
+            // Then
+            assertEquals(List.of(0, 10, 20), results);
+            assertEquals(1, registry.get("policyholder.shard.scatter").tag("operation", "test").timer().count());
+        }
+
+        @Test
+        @DisplayName("計數加總所有分片")
+        void shouldSumCounts() {
+            // When / Then
+            assertEquals(3L, scatterGather.sum("count", shard -> (long) shard));
+        }
+
+        @Test
+        @DisplayName("任一分片失敗時拋出該分片的例外")
+        void shouldPropagateShardFailure() {
+            // When / Then
+            IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                    () -> scatterGather.gather("test", shard -> {
+                        if (shard == 1) {
+                            throw new IllegalArgumentException("shard 1 down");
+                        }
+                        return shard;
+                    }));
+            assertEquals("shard 1 down", thrown.getMessage());
+        }
+
+        @Test
+        @DisplayName("分片逾時時整個查詢失敗")
+        void shouldFailOnTimeout() {
+            // Given
+            ScatterGather impatient = new ScatterGather(2, 2, Duration.ofMillis(50), registry);
+            CountDownLatch never = new CountDownLatch(1);
+
+            // When / Then
+            try {
+                assertThrows(IllegalStateException.class, () -> impatient.gather("slow", shard -> {
+                    try {
+                        return never.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                }));
+            } finally {
+                impatient.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("合併排序")
+    class MergeTests {
+
+        @Test
+        @DisplayName("合併已排序的列表並套用 offset 與 limit")
+        void shouldMergeSortedLists() {
+            // Given
+            List<List<Integer>> sorted = List.of(List.of(1, 4, 7), List.of(2, 5, 8), List.of(3, 6));
+
+            // When / Then
+            assertEquals(List.of(1, 2, 3), ScatterGather.mergeSorted(sorted, Comparator.naturalOrder(), 0, 3));
+            assertEquals(List.of(4, 5, 6), ScatterGather.mergeSorted(sorted, Comparator.naturalOrder(), 3, 3));
+            assertEquals(List.of(7, 8), ScatterGather.mergeSorted(sorted, Comparator.naturalOrder(), 6, 3));
+            assertEquals(List.of(), ScatterGather.mergeSorted(sorted, Comparator.naturalOrder(), 9, 3));
+        }
+
+        @Test
+        @DisplayName("空的分片結果不影響合併")
+        void shouldIgnoreEmptyLists() {
+            // Given
+            List<List<Integer>> sorted = List.of(List.of(), List.of(2, 3), List.of());
+
+            // When / Then
+            assertEquals(List.of(2, 3), ScatterGather.mergeSorted(sorted, Comparator.naturalOrder(), 0, 10));
+        }
+    }
+}
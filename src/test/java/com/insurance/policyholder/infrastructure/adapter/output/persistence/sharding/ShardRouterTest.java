@@ -0,0 +1,49 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardRouter Tests")
+class ShardRouterTest {
+
+    @Test
+    @DisplayName("同一保戶編號永遠對應同一分片")
+    void shouldBeDeterministic() {
+        // Given
+        ShardRouter router = new ShardRouter(4);
+        PolicyHolderId id = PolicyHolderId.of("PH0000000042");
+
+        // When / Then
+        assertEquals(router.shardOf(id), router.shardOf("PH0000000042"));
+        assertEquals(router.shardOf(id), new ShardRouter(4).shardOf(id));
+    }
+
+    @Test
+    @DisplayName("連續的保戶編號大致平均分散到各分片")
+    void shouldSpreadSequentialIds() {
+        // Given
+        ShardRouter router = new ShardRouter(4);
+        int[] counts = new int[4];
+
+        // When
+        for (int i = 0; i < 4000; i++) {
+            counts[router.shardOf(PolicyHolderId.generate(i))]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200, "Unbalanced shard: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("單一分片時全部對應分片 0，分片數須為正數")
+    void shouldHandleSingleShard() {
+        // When / Then
+        assertEquals(0, new ShardRouter(1).shardOf("PH0000000001"));
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardTransactions Tests")
+class ShardTransactionsTest {
+
+    private DataSource shard;
+    private JdbcTemplate shardJdbc;
+    private ShardTransactions transactions;
+    private TransactionTemplate homeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString();
+        shard = new DriverManagerDataSource("jdbc:h2:mem:shard-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource home = new DriverManagerDataSource("jdbc:h2:mem:home-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        shardJdbc = new JdbcTemplate(shard);
+        shardJdbc.execute("CREATE TABLE items (id INT PRIMARY KEY)");
+        transactions = new ShardTransactions(new ShardedDataSources(List.of(shard)));
+        homeTransaction = new TransactionTemplate(new DataSourceTransactionManager(home));
+    }
+
+    @Test
+    @DisplayName("主交易提交時分片的寫入一併提交")
+    void shouldCommitWithOuterTransaction() {
+        // When
+        homeTransaction.executeWithoutResult(status -> {
+            transactions.join(0);
+            shardJdbc.update("INSERT INTO items VALUES (1)");
+            assertTrue(TransactionSynchronizationManager.hasResource(shard));
+        });
+
+        // Then
+        assertEquals(1, shardJdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+        assertFalse(TransactionSynchronizationManager.hasResource(shard));
+    }
+
+    @Test
+    @DisplayName("主交易回滾時分片的寫入一併回滾")
+    void shouldRollBackWithOuterTransaction() {
+        // When
+        assertThrows(IllegalStateException.class, () -> homeTransaction.executeWithoutResult(status -> {
+            transactions.join(0);
+            shardJdbc.update("INSERT INTO items VALUES (1)");
+            throw new IllegalStateException("event publishing failed");
+        }));
+
+        // Then
+        assertEquals(0, shardJdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+    }
+
+    @Test
+    @DisplayName("不在交易中時每個語句各自提交")
+    void shouldAutoCommitOutsideTransaction() {
+        // When
+        transactions.join(0);
+        shardJdbc.update("INSERT INTO items VALUES (1)");
+
+        // Then
+        assertEquals(1, shardJdbc.queryForObject("SELECT COUNT(*) FROM items", Integer.class));
+        assertFalse(TransactionSynchronizationManager.hasResource(shard));
+    }
+}
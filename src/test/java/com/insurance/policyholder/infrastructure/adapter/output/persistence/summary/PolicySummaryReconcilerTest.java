@@ -0,0 +1,163 @@
+package com.insurance.policyholder.infrastructure.adapter.output.persistence.summary;
+
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicySummaryReconciler Tests")
+class PolicySummaryReconcilerTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private DataSource dataSource;
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:summary-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        registry = new SimpleMeterRegistry();
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private PolicySummaryReconciler reconciler(int batchSize, boolean repair) {
+        PolicyMapper policyMapper = new PolicyMapper();
+        return new PolicySummaryReconciler(dataSource, policyMapper, new PolicyHolderMapper(policyMapper),
+                new DataSourceTransactionManager(dataSource), batchSize, repair, registry);
+    }
+
+    private void holder(String id, String nationalId, int activePolicies, int lifePolicies, long premiumMinor,
+                        long sumInsuredMinor) {
+        jdbc.update("INSERT INTO policy_holders (id, national_id, name, gender, birth_date, mobile_phone, email, "
+                        + "zip_code, city, district, street, status, version, created_at, updated_at, "
+                        + "active_policy_count, life_policy_count, total_premium_minor, total_sum_insured_minor) "
+                        + "VALUES (?, ?, '王小明', 'MALE', DATE '1990-01-15', '0912345678', NULL, "
+                        + "'10001', '台北市', '信義區', '信義路100號', 'ACTIVE', 3, ?, ?, ?, ?, ?, ?)",
+                id, nationalId, UPDATED, UPDATED, activePolicies, lifePolicies, premiumMinor, sumInsuredMinor);
+    }
+
+    private void policy(String id, String policyHolderId, String status) {
+        jdbc.update("INSERT INTO policies (id, policy_holder_id, policy_type, premium_amount, premium_currency, "
+                        + "sum_insured, sum_insured_currency, start_date, end_date, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, 'LIFE', 10000.50, 'TWD', 1000000, 'TWD', DATE '2023-01-01', DATE '2024-01-01', "
+                        + "?, 0, ?, ?)",
+                id, policyHolderId, status, UPDATED, UPDATED);
+    }
+
+    private Map<String, Object> summaryOf(String id) {
+        return jdbc.queryForMap("SELECT active_policy_count, life_policy_count, total_premium_minor, "
+                + "total_sum_insured_minor, version FROM policy_holders WHERE id = ?", id);
+    }
+
+    @Test
+    @DisplayName("摘要與保單一致時不修改保戶")
+    void shouldLeaveMatchingSummariesUntouched() {
+        // Given
+        holder("PH0000000001", "A123456789", 1, 1, 1000050L, 100000000L);
+        policy("PO0000000001", "PH0000000001", "ACTIVE");
+        policy("PO0000000002", "PH0000000001", "TERMINATED");
+        holder("PH0000000002", "B123456780", 0, 0, 0L, 0L);
+
+        // When
+        PolicySummaryReconciler.Result result = reconciler(10, true).run();
+
+        // Then
+        assertEquals(new PolicySummaryReconciler.Result(2, 0, 0), result);
+        assertEquals(3L, ((Number) summaryOf("PH0000000001").get("VERSION")).longValue());
+        assertEquals(2.0, registry.get("policyholder.summary.checked").counter().count());
+    }
+
+    @Test
+    @DisplayName("分批走訪所有保戶，修正不一致的摘要並遞增版本號")
+    void shouldRepairMismatchesAcrossBatches() {
+        // Given
+        holder("PH0000000001", "A123456789", 0, 0, 0L, 0L);
+        holder("PH0000000002", "B123456780", 0, 0, 0L, 0L);
+        holder("PH0000000003", "C123456781", 5, 5, 1L, 1L);
+        policy("PO0000000001", "PH0000000003", "ACTIVE");
+        policy("PO0000000002", "PH0000000003", "ACTIVE");
+
+        // When
+        PolicySummaryReconciler.Result result = reconciler(2, true).run();
+
+        // Then
+        assertEquals(new PolicySummaryReconciler.Result(3, 1, 1), result);
+        Map<String, Object> summary = summaryOf("PH0000000003");
+        assertEquals(2, ((Number) summary.get("ACTIVE_POLICY_COUNT")).intValue());
+        assertEquals(2, ((Number) summary.get("LIFE_POLICY_COUNT")).intValue());
+        assertEquals(2000100L, ((Number) summary.get("TOTAL_PREMIUM_MINOR")).longValue());
+        assertEquals(200000000L, ((Number) summary.get("TOTAL_SUM_INSURED_MINOR")).longValue());
+        assertEquals(4L, ((Number) summary.get("VERSION")).longValue());
+        assertEquals(1.0, registry.get("policyholder.summary.mismatches").counter().count());
+        assertEquals(1.0, registry.get("policyholder.summary.repaired").counter().count());
+    }
+
+    @Test
+    @DisplayName("有效保單數與各類型合計不符時也視為不一致")
+    void shouldDetectInconsistentActiveCount() {
+        // Given
+        holder("PH0000000001", "A123456789", 2, 1, 1000050L, 100000000L);
+        policy("PO0000000001", "PH0000000001", "ACTIVE");
+
+        // When
+        PolicySummaryReconciler.Result result = reconciler(10, true).run();
+
+        // Then
+        assertEquals(1, result.mismatches());
+        assertEquals(1, ((Number) summaryOf("PH0000000001").get("ACTIVE_POLICY_COUNT")).intValue());
+    }
+
+    @Test
+    @DisplayName("修正時一併改寫讀取端檢視表的摘要與版本號")
+    void shouldRepairPolicyHolderView() {
+        // Given
+        holder("PH0000000001", "A123456789", 0, 0, 0L, 0L);
+        policy("PO0000000001", "PH0000000001", "ACTIVE");
+        jdbc.update("INSERT INTO policyholder_view (id, national_id, masked_national_id, name, gender, birth_date, "
+                + "mobile_phone, zip_code, city, district, street, status, version, created_at, updated_at) "
+                + "SELECT id, national_id, 'A123***789', name, gender, birth_date, mobile_phone, zip_code, city, "
+                + "district, street, status, version, created_at, updated_at FROM policy_holders");
+
+        // When
+        reconciler(10, true).run();
+
+        // Then
+        Map<String, Object> view = jdbc.queryForMap(
+                "SELECT active_policy_count, life_policy_count, version FROM policyholder_view WHERE id = 'PH0000000001'");
+        assertEquals(1, ((Number) view.get("ACTIVE_POLICY_COUNT")).intValue());
+        assertEquals(1, ((Number) view.get("LIFE_POLICY_COUNT")).intValue());
+        assertEquals(4L, ((Number) view.get("VERSION")).longValue());
+    }
+
+    @Test
+    @DisplayName("repair 為 false 時只回報不一致")
+    void shouldOnlyReportWhenRepairDisabled() {
+        // Given
+        holder("PH0000000001", "A123456789", 0, 0, 0L, 0L);
+        policy("PO0000000001", "PH0000000001", "ACTIVE");
+
+        // When
+        PolicySummaryReconciler.Result result = reconciler(10, false).run();
+
+        // Then
+        assertEquals(new PolicySummaryReconciler.Result(1, 1, 0), result);
+        assertEquals(0, ((Number) summaryOf("PH0000000001").get("ACTIVE_POLICY_COUNT")).intValue());
+        assertEquals(3L, ((Number) summaryOf("PH0000000001").get("VERSION")).longValue());
+    }
+}
@@ -0,0 +1,201 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandRetryAspect Tests")
+class CommandRetryAspectTest {
+
+    private static final String POLICY_HOLDER_ID = "PH0000000001";
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private ScriptedHandler retrying(ScriptedHandler target, int maxAttempts) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CommandRetryAspect(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5), registry));
+        return factory.getProxy();
+    }
+
+    private double count(String name) {
+        return registry.find(name).tag("command", "TestCommand").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    @Nested
+    @DisplayName("版本衝突")
+    class ConflictTests {
+
+        @Test
+        @DisplayName("樂觀鎖衝突後應重新執行命令並回傳成功結果")
+        void shouldRetryOptimisticLockFailure() {
+            // Given
+            ScriptedHandler target = new ScriptedHandler(
+                    new ObjectOptimisticLockingFailureException("PolicyHolderJpaEntity", POLICY_HOLDER_ID));
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When
+            String result = handler.handle(new TestCommand(POLICY_HOLDER_ID));
+
+            // Then
+            assertEquals("done on attempt 2", result);
+            assertEquals(2, target.attempts.get());
+            assertEquals(1.0, count("policyholder.command.retries"));
+            assertEquals(0.0, count("policyholder.command.retry.exhausted"));
+        }
+
+        @Test
+        @DisplayName("事件序號衝突與包裝在提交例外中的衝突都應重試")
+        void shouldRetryConcurrencyConflictAndWrappedFailure() {
+            // Given
+            ScriptedHandler target = new ScriptedHandler(
+                    ConcurrencyConflictException.versionMismatch(POLICY_HOLDER_ID, 3, 4),
+                    new TransactionSystemException("commit failed",
+                            new ObjectOptimisticLockingFailureException("PolicyJpaEntity", "POL0000000001")));
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When
+            String result = handler.handle(new TestCommand(POLICY_HOLDER_ID));
+
+            // Then
+            assertEquals("done on attempt 3", result);
+            assertEquals(2.0, count("policyholder.command.retries"));
+        }
+
+        @Test
+        @DisplayName("嘗試次數用盡時應拋出最後一次的例外並計數")
+        void shouldGiveUpAfterMaxAttempts() {
+            // Given
+            ConcurrencyConflictException last = ConcurrencyConflictException.versionMismatch(POLICY_HOLDER_ID, 5, 6);
+            ScriptedHandler target = new ScriptedHandler(
+                    ConcurrencyConflictException.versionMismatch(POLICY_HOLDER_ID, 3, 4),
+                    ConcurrencyConflictException.versionMismatch(POLICY_HOLDER_ID, 4, 5),
+                    last);
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When
+            ConcurrencyConflictException ex = assertThrows(ConcurrencyConflictException.class,
+                    () -> handler.handle(new TestCommand(POLICY_HOLDER_ID)));
+
+            // Then
+            assertSame(last, ex);
+            assertEquals(3, target.attempts.get());
+            assertEquals(2.0, count("policyholder.command.retries"));
+            assertEquals(1.0, count("policyholder.command.retry.exhausted"));
+        }
+    }
+
+    @Nested
+    @DisplayName("不重試的情況")
+    class NonRetryableTests {
+
+        @Test
+        @DisplayName("非衝突例外應直接拋出")
+        void shouldNotRetryOtherExceptions() {
+            // Given
+            ScriptedHandler target = new ScriptedHandler(new PolicyHolderNotFoundException(POLICY_HOLDER_ID));
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When / Then
+            assertThrows(PolicyHolderNotFoundException.class, () -> handler.handle(new TestCommand(POLICY_HOLDER_ID)));
+            assertEquals(1, target.attempts.get());
+            assertEquals(0.0, count("policyholder.command.retries"));
+        }
+
+        @Test
+        @DisplayName("等待保戶鎖逾時不應重試")
+        void shouldNotRetryLockTimeout() {
+            // Given
+            ScriptedHandler target = new ScriptedHandler(
+                    ConcurrencyConflictException.lockTimeout(POLICY_HOLDER_ID, "timed out", null));
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When / Then
+            assertThrows(ConcurrencyConflictException.class, () -> handler.handle(new TestCommand(POLICY_HOLDER_ID)));
+            assertEquals(1, target.attempts.get());
+        }
+
+        @Test
+        @DisplayName("呼叫端已在交易中時不應重試")
+        void shouldNotRetryInsideCallerTransaction() {
+            // Given
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            ScriptedHandler target = new ScriptedHandler(
+                    new ObjectOptimisticLockingFailureException("PolicyHolderJpaEntity", POLICY_HOLDER_ID));
+            ScriptedHandler handler = retrying(target, 3);
+
+            // When / Then
+            assertThrows(ObjectOptimisticLockingFailureException.class,
+                    () -> handler.handle(new TestCommand(POLICY_HOLDER_ID)));
+            assertEquals(1, target.attempts.get());
+        }
+
+        @Test
+        @DisplayName("嘗試次數必須為正數")
+        void shouldRejectNonPositiveMaxAttempts() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new CommandRetryAspect(0, Duration.ZERO, Duration.ZERO, registry));
+        }
+    }
+
+    record TestCommand(String policyHolderId) implements PolicyHolderCommand {
+
+        @Override
+        public String getPolicyHolderId() {
+            return policyHolderId;
+        }
+    }
+
+    /**
+     * 依序拋出預先排定的例外，排定的例外用完後成功
+     */
+    static class ScriptedHandler {
+
+        final AtomicInteger attempts = new AtomicInteger();
+        private final Deque<RuntimeException> failures = new ArrayDeque<>();
+
+        ScriptedHandler(RuntimeException... failures) {
+            for (RuntimeException failure : failures) {
+                this.failures.add(failure);
+            }
+        }
+
+        public String handle(TestCommand command) {
+            int attempt = attempts.incrementAndGet();
+            RuntimeException failure = failures.poll();
+            if (failure != null) {
+                throw failure;
+            }
+            return "done on attempt " + attempt;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandSerializationAspect Tests")
+class CommandSerializationAspectTest {
+
+    private static final int THREADS = 8;
+    private static final int COMMANDS_PER_THREAD = 25;
+
+    private SimpleMeterRegistry registry;
+    private StripedLocks locks;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        locks = new StripedLocks(64);
+    }
+
+    private VersionedHandler serialized(VersionedHandler target, Duration lockTimeout) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CommandSerializationAspect(locks, lockTimeout, registry));
+        return factory.getProxy();
+    }
+
+    /**
+     * 以 THREADS 條執行緒對同一保戶送出命令，等待全部完成
+     */
+    private void hammer(VersionedHandler handler, String policyHolderId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < COMMANDS_PER_THREAD; i++) {
+                    handler.handle(new TestCommand(policyHolderId));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("同一保戶的命令")
+    class SameHolderTests {
+
+        @Test
+        @DisplayName("未序列化時並行命令會產生版本衝突，序列化後衝突歸零")
+        void shouldEliminateConflictsUnderContention() throws Exception {
+            // Given
+            VersionedHandler unprotected = new VersionedHandler();
+            VersionedHandler target = new VersionedHandler();
+
+            // When
+            hammer(unprotected, "PH0000000001");
+            hammer(serialized(target, Duration.ofSeconds(10)), "PH0000000001");
+
+            // Then
+            int total = THREADS * COMMANDS_PER_THREAD;
+            assertTrue(unprotected.conflicts.get() > 0);
+            assertEquals(0, target.conflicts.get());
+            assertEquals(total, target.versionOf("PH0000000001"));
+            assertEquals(total, registry.get("policyholder.command.lock.wait").timer().count());
+        }
+
+        @Test
+        @DisplayName("等待逾時應拋出 ConcurrencyConflictException 並計數")
+        void shouldRejectAfterLockTimeout() throws Exception {
+            // Given
+            BlockingHandler target = new BlockingHandler("PH0000000001");
+            VersionedHandler handler = serialized(target, Duration.ofMillis(50));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<?> holder = executor.submit(() -> handler.handle(new TestCommand("PH0000000001")));
+            assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+
+            // When
+            ConcurrencyConflictException ex = assertThrows(ConcurrencyConflictException.class,
+                    () -> handler.handle(new TestCommand("PH0000000001")));
+
+            // Then
+            assertEquals("PH0000000001", ex.getAggregateId());
+            assertFalse(ex.isRetryable());
+            assertEquals(1.0, registry.get("policyholder.command.lock.timeouts").counter().count());
+            target.release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("不同保戶的命令")
+    class DifferentHolderTests {
+
+        @Test
+        @DisplayName("其他保戶的命令執行中時不應被阻塞")
+        void shouldNotBlockOtherHolders() throws Exception {
+            // Given
+            String blocked = "PH0000000001";
+            String other = otherStripe(blocked);
+            BlockingHandler target = new BlockingHandler(blocked);
+            VersionedHandler handler = serialized(target, Duration.ofMillis(200));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<?> holder = executor.submit(() -> handler.handle(new TestCommand(blocked)));
+            assertTrue(target.entered.await(5, TimeUnit.SECONDS));
+
+            // When
+            handler.handle(new TestCommand(other));
+
+            // Then
+            assertEquals(1, target.versionOf(other));
+            assertEquals(0.0, registry.get("policyholder.command.lock.timeouts").counter().count());
+            target.release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("非保戶命令的參數不應取得鎖")
+        void shouldIgnoreOtherArguments() {
+            // Given
+            VersionedHandler handler = serialized(new VersionedHandler(), Duration.ofSeconds(1));
+
+            // When
+            String result = handler.handle("ping");
+
+            // Then
+            assertEquals("ping", result);
+            assertEquals(0, registry.get("policyholder.command.lock.wait").timer().count());
+        }
+
+        private String otherStripe(String policyHolderId) {
+            int stripe = locks.indexOf(policyHolderId);
+            for (int i = 2; ; i++) {
+                String candidate = String.format("PH%010d", i);
+                if (locks.indexOf(candidate) != stripe) {
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    record TestCommand(String policyHolderId) implements PolicyHolderCommand {
+
+        @Override
+        public String getPolicyHolderId() {
+            return policyHolderId;
+        }
+    }
+
+    /**
+     * 模擬「讀取 → 處理 → 以版本條件寫回」的樂觀鎖流程
+     */
+    static class VersionedHandler {
+
+        final Map<String, Integer> versions = new ConcurrentHashMap<>();
+        final AtomicInteger conflicts = new AtomicInteger();
+
+        public void handle(TestCommand command) {
+            String id = command.getPolicyHolderId();
+            while (true) {
+                int version = versionOf(id);
+                work(id);
+                if (versions.replace(id, version, version + 1)
+                        || (version == 0 && versions.putIfAbsent(id, 1) == null)) {
+                    return;
+                }
+                conflicts.incrementAndGet();
+            }
+        }
+
+        public String handle(String value) {
+            return value;
+        }
+
+        void work(String policyHolderId) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int versionOf(String policyHolderId) {
+            return versions.getOrDefault(policyHolderId, 0);
+        }
+    }
+
+    /**
+     * 處理指定保戶的命令時停住，直到 release
+     */
+    static class BlockingHandler extends VersionedHandler {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final String blockedHolderId;
+
+        BlockingHandler(String blockedHolderId) {
+            this.blockedHolderId = blockedHolderId;
+        }
+
+        @Override
+        void work(String policyHolderId) {
+            if (policyHolderId.equals(blockedHolderId)) {
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import com.insurance.policyholder.application.command.PolicyHolderCommand;
+import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
+import com.insurance.policyholder.application.query.GetPolicyHolderQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryCoalescingAspect Tests")
+class QueryCoalescingAspectTest {
+
+    private static final int FOLLOWERS = 7;
+
+    private SimpleMeterRegistry registry;
+    private QueryCoalescingAspect aspect;
+    private BlockingHandler target;
+    private BlockingHandler handler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new QueryCoalescingAspect(Duration.ofSeconds(5), registry);
+        target = new BlockingHandler();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        handler = factory.getProxy();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    private double coalescingCount(String query, String outcome) {
+        var counter = registry.find("policyholder.query.coalescing").tag("query", query).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double waiting() {
+        return registry.get("policyholder.query.coalescing.waiting").gauge().value();
+    }
+
+    private void awaitWaiting(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiting() < expected) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join in time");
+            Thread.sleep(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("相同查詢")
+    class SameQueryTests {
+
+        @Test
+        @DisplayName("並行的相同保戶查詢只執行一次並共用結果")
+        void shouldCoalesceIdenticalPolicyHolderQueries() throws Exception {
+            // Given
+            List<Future<Object>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001"))));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < FOLLOWERS; i++) {
+                futures.add(executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001"))));
+            }
+            awaitWaiting(FOLLOWERS);
+
+            // When
+            target.release.countDown();
+
+            // Then
+            Object first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, target.executions.get());
+            assertEquals(1, coalescingCount("GetPolicyHolderQuery", "leader"));
+            assertEquals(FOLLOWERS, coalescingCount("GetPolicyHolderQuery", "follower"));
+            assertEquals(0, registry.get("policyholder.query.coalescing.in.flight").gauge().value());
+        }
+
+        @Test
+        @DisplayName("篩選條件不同的保單查詢各自執行")
+        void shouldNotCoalesceDifferentFilters() throws Exception {
+            // Given
+            Future<Object> leader = executor.submit(() ->
+                    handler.handle(new GetPolicyHolderPoliciesQuery("PH0000000001", "LIFE", null)));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+            Future<Object> other = executor.submit(() ->
+                    handler.handle(new GetPolicyHolderPoliciesQuery("PH0000000001", "HEALTH", null)));
+
+            // When
+            target.release.countDown();
+
+            // Then
+            leader.get(5, TimeUnit.SECONDS);
+            other.get(5, TimeUnit.SECONDS);
+            assertEquals(2, target.executions.get());
+            assertEquals(2, coalescingCount("GetPolicyHolderPoliciesQuery", "leader"));
+            assertEquals(0, coalescingCount("GetPolicyHolderPoliciesQuery", "follower"));
+        }
+    }
+
+    @Nested
+    @DisplayName("寫入世代")
+    class WriteEpochTests {
+
+        @Test
+        @DisplayName("命令完成後到達的查詢不加入命令前開始的查詢")
+        void shouldNotJoinQueryStartedBeforeCommand() throws Exception {
+            // Given
+            AspectJProxyFactory factory = new AspectJProxyFactory(new CommandHandler());
+            factory.setProxyTargetClass(true);
+            factory.addAspect(aspect);
+            CommandHandler commands = factory.getProxy();
+            Future<Object> before = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+            // When
+            commands.handle((PolicyHolderCommand) () -> "PH0000000001");
+            Future<Object> after = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (target.executions.get() < 2) {
+                assertTrue(System.nanoTime() < deadline, "query after the command did not start");
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+
+            // Then
+            assertNotSame(before.get(5, TimeUnit.SECONDS), after.get(5, TimeUnit.SECONDS));
+            assertEquals(2, coalescingCount("GetPolicyHolderQuery", "leader"));
+            assertEquals(0, coalescingCount("GetPolicyHolderQuery", "follower"));
+        }
+
+        @Test
+        @DisplayName("其他保戶的命令不影響合併")
+        void shouldStillJoinAfterCommandOnOtherHolder() throws Exception {
+            // Given
+            AspectJProxyFactory factory = new AspectJProxyFactory(new CommandHandler());
+            factory.setProxyTargetClass(true);
+            factory.addAspect(aspect);
+            CommandHandler commands = factory.getProxy();
+            Future<Object> leader = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+            // When
+            commands.handle((PolicyHolderCommand) () -> "PH0000000002");
+            Future<Object> follower = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            awaitWaiting(1);
+            target.release.countDown();
+
+            // Then
+            assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, target.executions.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("略過合併")
+    class BypassTests {
+
+        @Test
+        @DisplayName("已在交易中的查詢不加入執行中的查詢")
+        void shouldBypassInsideTransaction() throws Exception {
+            // Given
+            Future<Object> leader = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+            Future<Object> inTransaction = executor.submit(() -> {
+                TransactionSynchronizationManager.setActualTransactionActive(true);
+                try {
+                    return handler.handle(new GetPolicyHolderQuery("PH0000000001"));
+                } finally {
+                    TransactionSynchronizationManager.setActualTransactionActive(false);
+                }
+            });
+
+            // When
+            target.release.countDown();
+
+            // Then
+            assertNotSame(leader.get(5, TimeUnit.SECONDS), inTransaction.get(5, TimeUnit.SECONDS));
+            assertEquals(2, target.executions.get());
+            assertEquals(0, coalescingCount("GetPolicyHolderQuery", "follower"));
+        }
+
+        @Test
+        @DisplayName("bypass 成立（例如必須讀主庫）的查詢不加入執行中的查詢")
+        void shouldBypassWhenRequested() throws Exception {
+            // Given
+            AspectJProxyFactory factory = new AspectJProxyFactory(target);
+            factory.setProxyTargetClass(true);
+            factory.addAspect(new QueryCoalescingAspect(Duration.ofSeconds(5), () -> true, new SimpleMeterRegistry()));
+            BlockingHandler bypassing = factory.getProxy();
+            Future<Object> leader = executor.submit(() -> handler.handle(new GetPolicyHolderQuery("PH0000000001")));
+            assertTrue(target.started.await(5, TimeUnit.SECONDS));
+            Future<Object> pinned = executor.submit(() -> bypassing.handle(new GetPolicyHolderQuery("PH0000000001")));
+
+            // When
+            target.release.countDown();
+
+            // Then
+            assertNotSame(leader.get(5, TimeUnit.SECONDS), pinned.get(5, TimeUnit.SECONDS));
+            assertEquals(2, target.executions.get());
+        }
+
+        @Test
+        @DisplayName("其他查詢類型不經過合併")
+        void shouldIgnoreOtherQueries() {
+            // Given
+            target.release.countDown();
+
+            // When
+            handler.handle("not a coalesced query");
+
+            // Then
+            assertEquals(1, target.executions.get());
+            assertNull(registry.find("policyholder.query.coalescing").counter());
+        }
+    }
+
+    /**
+     * 立即完成的命令處理器
+     */
+    static class CommandHandler {
+
+        public void handle(PolicyHolderCommand command) {
+        }
+    }
+
+    /**
+     * 每次執行都等到 release 才回傳新的物件
+     */
+    static class BlockingHandler {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        public Object handle(Object query) {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 7;
+
+    private final Map<SingleFlight.Outcome, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private SingleFlight singleFlight(Duration timeout) {
+        return new SingleFlight(timeout, (key, outcome) ->
+                outcomes.computeIfAbsent(outcome, o -> new AtomicInteger()).incrementAndGet());
+    }
+
+    private int count(SingleFlight.Outcome outcome) {
+        AtomicInteger counter = outcomes.get(outcome);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * 在 leader 執行中送出 FOLLOWERS 個同鍵呼叫，等到它們都已加入後才放行 leader
+     */
+    private List<Future<Object>> joinWhileBlocked(SingleFlight flight, Object key, SingleFlight.Call<Object> call,
+                                                   CountDownLatch leaderStarted) throws Exception {
+        List<Future<Object>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> callUnchecked(flight, key, call)));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < FOLLOWERS; i++) {
+            futures.add(executor.submit(() -> callUnchecked(flight, key, call)));
+        }
+        awaitWaiting(flight, FOLLOWERS);
+        return futures;
+    }
+
+    static void awaitWaiting(SingleFlight flight, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.waiting() < expected) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static Object callUnchecked(SingleFlight flight, Object key, SingleFlight.Call<Object> call) throws Exception {
+        try {
+            return flight.execute(key, call);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    @Nested
+    @DisplayName("合併執行")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("執行中到達的同鍵呼叫共用同一次執行的結果")
+        void shouldShareSingleExecution() throws Exception {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofSeconds(5));
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Object shared = new Object();
+
+            // When
+            List<Future<Object>> futures = joinWhileBlocked(flight, "key", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                release.await();
+                return shared;
+            }, started);
+            release.countDown();
+
+            // Then
+            for (Future<Object> future : futures) {
+                assertSame(shared, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(1, count(SingleFlight.Outcome.LEADER));
+            assertEquals(FOLLOWERS, count(SingleFlight.Outcome.FOLLOWER));
+            assertEquals(0, flight.inFlight());
+        }
+
+        @Test
+        @DisplayName("leader 的例外傳遞給所有 follower")
+        void shouldShareException() throws Exception {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofSeconds(5));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            IllegalStateException failure = new IllegalStateException("boom");
+
+            // When
+            List<Future<Object>> futures = joinWhileBlocked(flight, "key", () -> {
+                started.countDown();
+                release.await();
+                throw failure;
+            }, started);
+            release.countDown();
+
+            // Then
+            for (Future<Object> future : futures) {
+                ExecutionException thrown = assertThrows(ExecutionException.class,
+                        () -> future.get(5, TimeUnit.SECONDS));
+                assertSame(failure, thrown.getCause());
+            }
+            assertEquals(0, flight.inFlight());
+        }
+
+        @Test
+        @DisplayName("不同鍵各自執行")
+        void shouldNotCoalesceDifferentKeys() throws Throwable {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofSeconds(5));
+            AtomicInteger executions = new AtomicInteger();
+
+            // When
+            flight.execute("a", executions::incrementAndGet);
+            flight.execute("b", executions::incrementAndGet);
+
+            // Then
+            assertEquals(2, executions.get());
+            assertEquals(2, count(SingleFlight.Outcome.LEADER));
+        }
+
+        @Test
+        @DisplayName("執行完成後不快取結果，下一次呼叫重新執行")
+        void shouldNotCacheCompletedResult() throws Throwable {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofSeconds(5));
+            AtomicInteger executions = new AtomicInteger();
+
+            // When
+            Object first = flight.execute("key", executions::incrementAndGet);
+            Object second = flight.execute("key", executions::incrementAndGet);
+
+            // Then
+            assertEquals(1, first);
+            assertEquals(2, second);
+            assertEquals(0, count(SingleFlight.Outcome.FOLLOWER));
+        }
+    }
+
+    @Nested
+    @DisplayName("執行期限")
+    class TimeoutTests {
+
+        @Test
+        @DisplayName("leader 超過期限時 follower 改為自行執行")
+        void shouldFallBackToOwnExecutionAfterTimeout() throws Exception {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofMillis(200));
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Object> leader = executor.submit(() -> callUnchecked(flight, "key", () -> {
+                leaderStarted.countDown();
+                release.await();
+                return "leader";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<Object> follower = executor.submit(() -> callUnchecked(flight, "key", () -> "own"));
+
+            // Then
+            assertEquals("own", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, count(SingleFlight.Outcome.TIMEOUT));
+            release.countDown();
+            assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("超過期限的執行不再接受新的 follower")
+        void shouldStartNewFlightWhenExpired() throws Exception {
+            // Given
+            SingleFlight flight = singleFlight(Duration.ofMillis(100));
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Object> leader = executor.submit(() -> callUnchecked(flight, "key", () -> {
+                leaderStarted.countDown();
+                release.await();
+                return "stale";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Thread.sleep(150);
+
+            // When
+            Object result = callUnchecked(flight, "key", () -> "fresh");
+
+            // Then
+            assertEquals("fresh", result);
+            assertEquals(2, count(SingleFlight.Outcome.LEADER));
+            assertEquals(0, count(SingleFlight.Outcome.TIMEOUT));
+            release.countDown();
+            assertEquals("stale", leader.get(5, TimeUnit.SECONDS));
+            assertEquals(0, flight.inFlight());
+        }
+
+        @Test
+        @DisplayName("期限必須為正值")
+        void shouldRejectNonPositiveTimeout() {
+            assertThrows(IllegalArgumentException.class, () -> singleFlight(Duration.ZERO));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StripedLocks Tests")
+class StripedLocksTest {
+
+    @Test
+    @DisplayName("鎖的數量應向上取整為 2 的次方")
+    void shouldRoundStripesUpToPowerOfTwo() {
+        assertEquals(1, new StripedLocks(1).size());
+        assertEquals(1024, new StripedLocks(1000).size());
+        assertEquals(1024, new StripedLocks(1024).size());
+    }
+
+    @Test
+    @DisplayName("同一 key 應永遠取得同一把鎖")
+    void shouldReturnSameLockForSameKey() {
+        // Given
+        StripedLocks locks = new StripedLocks(64);
+
+        // When / Then
+        assertSame(locks.lockFor("PH0000000001"), locks.lockFor(new String("PH0000000001")));
+    }
+
+    @Test
+    @DisplayName("key 應分散到多把鎖")
+    void shouldSpreadKeysAcrossStripes() {
+        // Given
+        StripedLocks locks = new StripedLocks(16);
+
+        // When
+        long distinct = java.util.stream.IntStream.range(0, 1000)
+                .map(i -> locks.indexOf(String.format("PH%010d", i)))
+                .distinct()
+                .count();
+
+        // Then
+        assertEquals(16, distinct);
+    }
+
+    @Test
+    @DisplayName("鎖的數量必須為正數")
+    void shouldRejectNonPositiveStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+    }
+}
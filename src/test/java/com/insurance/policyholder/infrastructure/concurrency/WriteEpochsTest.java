@@ -0,0 +1,30 @@
+package com.insurance.policyholder.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteEpochs Tests")
+class WriteEpochsTest {
+
+    @Test
+    @DisplayName("遞增後同一 key 應取得新的世代")
+    void shouldAdvanceEpochOfKey() {
+        // Given
+        WriteEpochs epochs = new WriteEpochs(64);
+        long before = epochs.current("PH0000000001");
+
+        // When
+        epochs.advance("PH0000000001");
+
+        // Then
+        assertEquals(before + 1, epochs.current(new String("PH0000000001")));
+    }
+
+    @Test
+    @DisplayName("計數器的數量必須為正數")
+    void shouldRejectNonPositiveStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteEpochs(0));
+    }
+}
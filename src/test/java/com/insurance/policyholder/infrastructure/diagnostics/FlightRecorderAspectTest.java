@@ -0,0 +1,98 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import com.insurance.policyholder.application.command.DeletePolicyHolderCommand;
+import com.insurance.policyholder.application.port.input.CommandHandler;
+import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightRecorderAspect Tests")
+class FlightRecorderAspectTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new FlightRecorderAspect());
+        return (T) factory.getProxy();
+    }
+
+    @Nested
+    @DisplayName("處理器事件")
+    class HandlerEventTests {
+
+        @Test
+        @DisplayName("應記錄處理器名稱、保戶 ID 與結果筆數")
+        void shouldRecordHandlerExecution() {
+            // Given
+            PolicyIdsHandler handler = proxy(new PolicyIdsHandler());
+
+            try (JfrTestRecording recording = new JfrTestRecording(HandlerExecutionEvent.class)) {
+                // When
+                handler.handle(new DeletePolicyHolderCommand("PH0000000001"));
+
+                // Then
+                List<RecordedEvent> events = recording.stop(HandlerExecutionEvent.class);
+                assertEquals(1, events.size());
+                RecordedEvent event = events.get(0);
+                assertEquals("PolicyIdsHandler", event.getString("handler"));
+                assertEquals("PH0000000001", event.getString("policyHolderId"));
+                assertEquals(2, event.getInt("resultCount"));
+                assertNull(event.getString("exception"));
+            }
+        }
+
+        @Test
+        @DisplayName("處理器失敗時應記錄例外類型")
+        void shouldRecordExceptionType() {
+            // Given
+            PolicyIdsHandler handler = proxy(new PolicyIdsHandler());
+
+            try (JfrTestRecording recording = new JfrTestRecording(HandlerExecutionEvent.class)) {
+                // When
+                assertThrows(PolicyHolderNotFoundException.class,
+                        () -> handler.handle(new DeletePolicyHolderCommand("PH9999999999")));
+
+                // Then
+                List<RecordedEvent> events = recording.stop(HandlerExecutionEvent.class);
+                assertEquals(1, events.size());
+                assertEquals("PolicyHolderNotFoundException", events.get(0).getString("exception"));
+                assertEquals("PH9999999999", events.get(0).getString("policyHolderId"));
+            }
+        }
+
+        @Test
+        @DisplayName("沒有錄製時處理器應正常執行")
+        void shouldRunWithoutRecording() {
+            // Given
+            PolicyIdsHandler handler = proxy(new PolicyIdsHandler());
+
+            // When
+            List<String> result = handler.handle(new DeletePolicyHolderCommand("PH0000000001"));
+
+            // Then
+            assertEquals(List.of("PO0000000001", "PO0000000002"), result);
+        }
+    }
+
+    /**
+     * 測試用命令處理器：PH9999999999 視為不存在
+     */
+    static class PolicyIdsHandler implements CommandHandler<DeletePolicyHolderCommand, List<String>> {
+
+        @Override
+        public List<String> handle(DeletePolicyHolderCommand command) {
+            if ("PH9999999999".equals(command.getPolicyHolderId())) {
+                throw new PolicyHolderNotFoundException(command.getPolicyHolderId());
+            }
+            return List.of("PO0000000001", "PO0000000002");
+        }
+    }
+}
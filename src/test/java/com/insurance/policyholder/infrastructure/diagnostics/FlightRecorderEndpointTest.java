@@ -0,0 +1,115 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightRecorderEndpoint Tests")
+class FlightRecorderEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecorderEndpoint endpoint;
+    private RecordingInfo started;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint(dumpDirectory);
+        started = endpoint.start("endpoint-test", null, Duration.ofMinutes(1), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close(started.id());
+    }
+
+    @Nested
+    @DisplayName("開始與列出")
+    class StartTests {
+
+        @Test
+        @DisplayName("開始的錄製應出現在清單中")
+        void shouldListStartedRecording() {
+            // When & Then
+            assertEquals("RUNNING", started.state());
+            assertTrue(endpoint.recordings().stream()
+                    .anyMatch(recording -> recording.id() == started.id() && recording.name().equals("endpoint-test")));
+        }
+
+        @Test
+        @DisplayName("未知的設定檔應拒絕")
+        void shouldRejectUnknownSettings() {
+            assertThrows(InvalidEndpointRequestException.class,
+                    () -> endpoint.start("invalid", "no-such-settings", null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("停止、傾印與關閉")
+    class ControlTests {
+
+        @Test
+        @DisplayName("dump 應將目前內容寫入傾印目錄")
+        void shouldDumpToDirectory() {
+            // When
+            Map<String, Object> result = endpoint.control(started.id(), "dump");
+
+            // Then
+            Path file = Path.of((String) result.get("file"));
+            assertTrue(Files.exists(file));
+            assertEquals(dumpDirectory.toAbsolutePath(), file.getParent());
+        }
+
+        @Test
+        @DisplayName("stop 後仍可下載內容")
+        void shouldDownloadAfterStop() throws Exception {
+            // When
+            Map<String, Object> result = endpoint.control(started.id(), "stop");
+            WebEndpointResponse<Resource> download = endpoint.download(started.id());
+
+            // Then
+            assertEquals("STOPPED", ((RecordingInfo) result.get("recording")).state());
+            assertEquals(200, download.getStatus());
+            assertTrue(download.getBody().contentLength() > 0);
+        }
+
+        @Test
+        @DisplayName("close 應捨棄錄製")
+        void shouldCloseRecording() {
+            // When
+            RecordingInfo closed = endpoint.close(started.id());
+
+            // Then
+            assertEquals("CLOSED", closed.state());
+            assertTrue(endpoint.recordings().stream().noneMatch(recording -> recording.id() == started.id()));
+        }
+
+        @Test
+        @DisplayName("未知的錄製 ID 應回傳 404")
+        void shouldReturnNotFoundForUnknownRecording() {
+            assertNull(endpoint.control(Long.MAX_VALUE, "stop"));
+            assertNull(endpoint.close(Long.MAX_VALUE));
+            assertEquals(404, endpoint.download(Long.MAX_VALUE).getStatus());
+        }
+
+        @Test
+        @DisplayName("未知的動作應拒絕")
+        void shouldRejectUnknownAction() {
+            assertThrows(InvalidEndpointRequestException.class, () -> endpoint.control(started.id(), "pause"));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.insurance.policyholder.infrastructure.diagnostics;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 測試用 JFR 錄製：只啟用指定的事件，結束後讀回已記錄的事件
+ */
+public final class JfrTestRecording implements AutoCloseable {
+
+    private final Recording recording = new Recording();
+
+    @SafeVarargs
+    public JfrTestRecording(Class<? extends Event>... eventTypes) {
+        for (Class<? extends Event> eventType : eventTypes) {
+            recording.enable(eventType).withoutThreshold();
+        }
+        recording.start();
+    }
+
+    /**
+     * 停止錄製並回傳指定類型的事件
+     */
+    public List<RecordedEvent> stop(Class<? extends Event> eventType) {
+        String name = eventType.getAnnotation(jdk.jfr.Name.class).value();
+        try {
+            recording.stop();
+            Path file = Files.createTempFile("jfr-test", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(event -> event.getEventType().getName().equals(name))
+                        .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("SqlStatementBudgetFilter Tests")
+class SqlStatementBudgetFilterTest {
+
+    private static final String SELECT_POLICIES = "select * from policies where policy_holder_id=?";
+
+    private SqlStatementTracker tracker;
+    private SimpleMeterRegistry registry;
+    private SqlStatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SqlStatementTracker();
+        registry = new SimpleMeterRegistry();
+        filter = new SqlStatementBudgetFilter(tracker, 3, registry);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/policyholders");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/policyholders");
+        return request;
+    }
+
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            tracker.record("select * from policy_holders", 1_000);
+            for (int i = 1; i < statements; i++) {
+                tracker.record(SELECT_POLICIES, 1_000);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("超過預算應記錄警告並指出重複最多次的 SQL")
+    void shouldWarnWhenBudgetExceeded(CapturedOutput output) throws Exception {
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(6));
+
+        // Then
+        assertTrue(output.getOut().contains("executed 6 SQL statements"));
+        assertTrue(output.getOut().contains("most repeated (5x): " + SELECT_POLICIES));
+        assertEquals(1.0, registry.get("policyholder.sql.budget.exceeded")
+                .tags("uri", "/api/v1/policyholders").counter().count());
+    }
+
+    @Test
+    @DisplayName("未超過預算時只記錄語句數分佈")
+    void shouldRecordStatementsWithinBudget(CapturedOutput output) throws Exception {
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(3));
+
+        // Then
+        assertFalse(output.getOut().contains("budget 3"));
+        assertEquals(3.0, registry.get("policyholder.sql.statements")
+                .tags("method", "GET", "uri", "/api/v1/policyholders").summary().totalAmount());
+        assertTrue(registry.find("policyholder.sql.budget.exceeded").counters().isEmpty());
+    }
+}
@@ -0,0 +1,165 @@
+package com.insurance.policyholder.infrastructure.diagnostics.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("StatementInterceptingDataSource Tests")
+class StatementInterceptingDataSourceTest {
+
+    private static final String SELECT_BY_ID = "SELECT name FROM holders WHERE id = ?";
+
+    private DataSource target;
+    private SqlStatementTracker tracker;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE holders (id VARCHAR(20) PRIMARY KEY, name VARCHAR(50))");
+            statement.execute("INSERT INTO holders VALUES ('PH0000000001', 'Alice'), ('PH0000000002', 'Bob')");
+        }
+        tracker = new SqlStatementTracker();
+    }
+
+    private DataSource intercepting(Duration slowThreshold) {
+        return new StatementInterceptingDataSource(target, tracker, slowThreshold, true);
+    }
+
+    private static String selectName(DataSource dataSource, String id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("語句統計")
+    class CountingTests {
+
+        @Test
+        @DisplayName("範圍內的每次執行應計入統計")
+        void shouldCountStatementsInScope() throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ofSeconds(10));
+
+            // When
+            RequestStatements statements;
+            try (SqlStatementTracker.Scope scope = tracker.open()) {
+                assertEquals("Alice", selectName(dataSource, "PH0000000001"));
+                assertEquals("Bob", selectName(dataSource, "PH0000000002"));
+                try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("UPDATE holders SET name = 'Carol' WHERE id = 'PH0000000002'");
+                }
+                statements = scope.statements();
+            }
+
+            // Then
+            assertEquals(3, statements.getStatementCount());
+            assertEquals(2, statements.getCountsBySql().get(SELECT_BY_ID));
+            assertEquals(SELECT_BY_ID, statements.mostRepeated().orElseThrow().getKey());
+        }
+
+        @Test
+        @DisplayName("巢狀範圍應各自計入")
+        void shouldCountInNestedScopes() throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ofSeconds(10));
+
+            // When
+            try (SqlStatementTracker.Scope outer = tracker.open()) {
+                selectName(dataSource, "PH0000000001");
+                try (SqlStatementTracker.Scope inner = tracker.open()) {
+                    selectName(dataSource, "PH0000000002");
+
+                    // Then
+                    assertEquals(1, inner.statements().getStatementCount());
+                }
+                assertEquals(2, outer.statements().getStatementCount());
+            }
+        }
+
+        @Test
+        @DisplayName("沒有開啟範圍時不應統計")
+        void shouldIgnoreStatementsOutsideScope() throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ofSeconds(10));
+            selectName(dataSource, "PH0000000001");
+
+            // When
+            try (SqlStatementTracker.Scope scope = tracker.open()) {
+                // Then
+                assertEquals(0, scope.statements().getStatementCount());
+            }
+        }
+
+        @Test
+        @DisplayName("語句代理應以自身身分比較")
+        void shouldCompareStatementProxiesByIdentity() throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ofSeconds(10));
+
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement first = connection.prepareStatement(SELECT_BY_ID);
+                 PreparedStatement second = connection.prepareStatement(SELECT_BY_ID)) {
+                // Then
+                assertEquals(first, first);
+                assertNotEquals(first, second);
+                assertEquals(System.identityHashCode(first), first.hashCode());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("慢查詢")
+    class SlowStatementTests {
+
+        @Test
+        @DisplayName("超過門檻的 SELECT 應記錄綁定參數與 EXPLAIN 計畫")
+        void shouldLogSlowStatementWithPlan(CapturedOutput output) throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ZERO);
+
+            // When
+            selectName(dataSource, "PH0000000001");
+
+            // Then
+            assertTrue(output.getOut().contains("Slow SQL"));
+            assertTrue(output.getOut().contains("parameters: {1=PH0000000001}"));
+            assertTrue(output.getOut().contains("PRIMARY_KEY"), "EXPLAIN plan should show the primary key index");
+        }
+
+        @Test
+        @DisplayName("未超過門檻的語句不應記錄")
+        void shouldNotLogFastStatements(CapturedOutput output) throws SQLException {
+            // Given
+            DataSource dataSource = intercepting(Duration.ofSeconds(10));
+
+            // When
+            selectName(dataSource, "PH0000000001");
+
+            // Then
+            assertFalse(output.getOut().contains("Slow SQL"));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.insurance.policyholder.infrastructure.exception;
 
+import com.insurance.policyholder.application.exception.ConcurrencyConflictException;
+import com.insurance.policyholder.application.exception.StaleVersionException;
 import com.insurance.policyholder.domain.exception.DomainException;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotActiveException;
 import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -60,6 +63,50 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Concurrency Conflict Handling")
+    class ConcurrencyConflictTests {
+
+        @Test
+        @DisplayName("should return 409 Conflict for ConcurrencyConflictException")
+        void shouldReturnConflictForConcurrencyConflict() {
+            ConcurrencyConflictException ex = ConcurrencyConflictException.versionMismatch("PH0000000001", 2, 3);
+
+            ResponseEntity<ErrorResponse> response = handler.handleConcurrencyConflictException(ex, request);
+
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(409, response.getBody().getStatus());
+            assertEquals("CONCURRENCY_CONFLICT", response.getBody().getError());
+            assertTrue(response.getBody().getMessage().contains("PH0000000001"));
+        }
+
+        @Test
+        @DisplayName("should return 409 Conflict for OptimisticLockingFailureException")
+        void shouldReturnConflictForOptimisticLockingFailure() {
+            OptimisticLockingFailureException ex = new OptimisticLockingFailureException("Row was updated");
+
+            ResponseEntity<ErrorResponse> response = handler.handleOptimisticLockingFailureException(ex, request);
+
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals("CONCURRENCY_CONFLICT", response.getBody().getError());
+        }
+
+        @Test
+        @DisplayName("should return 412 Precondition Failed for StaleVersionException")
+        void shouldReturnPreconditionFailedForStaleVersion() {
+            StaleVersionException ex = new StaleVersionException("PH0000000001", 2, 3);
+
+            ResponseEntity<ErrorResponse> response = handler.handleStaleVersionException(ex, request);
+
+            assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals(412, response.getBody().getStatus());
+            assertEquals("PRECONDITION_FAILED", response.getBody().getError());
+        }
+    }
+
     @Nested
     @DisplayName("PolicyNotFoundException Handling")
     class PolicyNotFoundExceptionTests {
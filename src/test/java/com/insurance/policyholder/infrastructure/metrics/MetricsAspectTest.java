@@ -0,0 +1,142 @@
+package com.insurance.policyholder.infrastructure.metrics;
+
+import com.insurance.policyholder.domain.exception.PolicyHolderNotFoundException;
+import com.insurance.policyholder.application.port.input.CommandHandler;
+import com.insurance.policyholder.application.port.output.EventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MetricsAspect Tests")
+class MetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private MetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new MetricsAspect(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    @Nested
+    @DisplayName("處理器指標")
+    class HandlerTests {
+
+        @Test
+        @DisplayName("成功呼叫應記錄 exception=none 的計時器")
+        void shouldRecordTimerOnSuccess() {
+            // Given
+            EchoHandler handler = proxy(new EchoHandler(null));
+
+            // When
+            String result = handler.handle("ping");
+
+            // Then
+            assertEquals("ping", result);
+            Timer timer = registry.get("policyholder.handler.duration")
+                    .tags("component", "EchoHandler", "method", "handle", "exception", MetricsAspect.NO_EXCEPTION)
+                    .timer();
+            assertEquals(1, timer.count());
+            assertTrue(registry.find("policyholder.handler.errors").counters().isEmpty());
+        }
+
+        @Test
+        @DisplayName("失敗呼叫應依例外類型計數並重新拋出")
+        void shouldCountErrorsByExceptionType() {
+            // Given
+            EchoHandler handler = proxy(new EchoHandler(null));
+
+            // When
+            assertThrows(PolicyHolderNotFoundException.class, () -> handler.handle("missing"));
+
+            // Then
+            Counter errors = registry.get("policyholder.handler.errors")
+                    .tags("component", "EchoHandler", "exception", "PolicyHolderNotFoundException")
+                    .counter();
+            assertEquals(1.0, errors.count());
+            assertEquals(1, registry.get("policyholder.handler.duration")
+                    .tags("exception", "PolicyHolderNotFoundException")
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("執行中的呼叫應反映在 in-flight gauge")
+        void shouldTrackInFlightCalls() {
+            // Given
+            AtomicReference<Double> observed = new AtomicReference<>();
+            EchoHandler handler = proxy(new EchoHandler(() -> observed.set(
+                    registry.get("policyholder.handler.in.flight").tags("component", "EchoHandler").gauge().value())));
+
+            // When
+            handler.handle("ping");
+
+            // Then
+            assertEquals(1.0, observed.get());
+            Gauge gauge = registry.get("policyholder.handler.in.flight").tags("component", "EchoHandler").gauge();
+            assertEquals(0.0, gauge.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Event Store 指標")
+    class EventStoreTests {
+
+        @Test
+        @DisplayName("Event Store 的每個方法應個別計時")
+        void shouldTimeEachEventStoreMethod() {
+            // Given
+            EventStore eventStore = proxy(mock(EventStore.class));
+
+            // When
+            eventStore.currentVersion("PH0000000001");
+            eventStore.headPosition();
+
+            // Then
+            assertEquals(1, registry.get("policyholder.eventstore.duration").tags("method", "currentVersion").timer().count());
+            assertEquals(1, registry.get("policyholder.eventstore.duration").tags("method", "headPosition").timer().count());
+        }
+    }
+
+    /**
+     * 測試用命令處理器：輸入 missing 時拋出找不到保戶
+     */
+    static class EchoHandler implements CommandHandler<String, String> {
+
+        private final Runnable duringCall;
+
+        EchoHandler(Runnable duringCall) {
+            this.duringCall = duringCall;
+        }
+
+        @Override
+        public String handle(String command) {
+            if (duringCall != null) {
+                duringCall.run();
+            }
+            if ("missing".equals(command)) {
+                throw new PolicyHolderNotFoundException(command);
+            }
+            return command;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderCreated;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.infrastructure.adapter.output.event.EventsAppended;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyHolderViewProjection Tests")
+class PolicyHolderViewProjectionTest {
+
+    private static final String HOLDER_ID = "PH0000000001";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime OCCURRED = LocalDateTime.of(2024, 1, 2, 10, 0);
+
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbc;
+    private PolicyHolderViewProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:view-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        registry = new SimpleMeterRegistry();
+        jdbc = new JdbcTemplate(dataSource);
+        projection = new PolicyHolderViewProjection(dataSource, new DataSourceTransactionManager(dataSource), registry);
+    }
+
+    private void holder(String id, String nationalId, long version) {
+        jdbc.update("INSERT INTO policy_holders (id, national_id, name, gender, birth_date, mobile_phone, email, "
+                        + "zip_code, city, district, street, status, version, created_at, updated_at) "
+                        + "VALUES (?, ?, '王小明', 'MALE', DATE '1990-01-15', '0912345678', NULL, "
+                        + "'10001', '台北市', '信義區', '信義路100號', 'ACTIVE', ?, ?, ?)",
+                id, nationalId, version, CREATED, CREATED);
+    }
+
+    private static PolicyHolderCreated created(String id, String nationalId) {
+        return new PolicyHolderCreated(UUID.randomUUID().toString(), OCCURRED, id, nationalId, "王小明", "MALE",
+                LocalDate.of(1990, 1, 15), "0912345678", null, "10001台北市信義區信義路100號",
+                "10001", "台北市", "信義區", "信義路100號");
+    }
+
+    private static PolicyHolderUpdated updated(String mobilePhone, Long version) {
+        return new PolicyHolderUpdated(UUID.randomUUID().toString(), OCCURRED, HOLDER_ID, mobilePhone,
+                "new@example.com", "10002", "新北市", "板橋區", "文化路1號", version);
+    }
+
+    private static PolicyAdded policyAdded(String type, String premium, String status, Long version) {
+        return new PolicyAdded(UUID.randomUUID().toString(), OCCURRED, HOLDER_ID, UUID.randomUUID().toString(),
+                type, new BigDecimal(premium), new BigDecimal("100000"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), status, version);
+    }
+
+    private static StoredEvent stored(long sequence, DomainEvent event) {
+        return new StoredEvent(sequence, sequence, event.getEventId(), event.getAggregateId(),
+                event.getAggregateType(), event.getClass().getName(), event.getOccurredOn(), () -> event);
+    }
+
+    private Map<String, Object> view(String id) {
+        return jdbc.queryForMap("SELECT * FROM policyholder_view WHERE id = ?", id);
+    }
+
+    private int rows(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private double events(String source, String result) {
+        return registry.get("policyholder.view.events").tag("source", source).tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("套用事件")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("建立事件寫入檢視列，版本號為 0、時間戳記取事件發生時間並預先遮罩身分證字號")
+        void shouldInsertRowOnCreated() {
+            // When
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(created(HOLDER_ID, "A123456789"))));
+
+            // Then
+            Map<String, Object> row = view(HOLDER_ID);
+            assertEquals("A123***789", row.get("MASKED_NATIONAL_ID"));
+            assertEquals("ACTIVE", row.get("STATUS"));
+            assertEquals(0L, ((Number) row.get("VERSION")).longValue());
+            assertEquals(OCCURRED, ((Timestamp) row.get("CREATED_AT")).toLocalDateTime());
+            assertEquals(1L, ((Number) row.get("LAST_SEQUENCE")).longValue());
+            assertNull(row.get("EMAIL"));
+            assertEquals(1.0, events("inline", "applied"));
+        }
+
+        @Test
+        @DisplayName("更新、新增有效保單與刪除事件依序改寫檢視列，版本號取自事件，不讀取寫入端")
+        void shouldApplyChangesInSequence() {
+            // Given
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(created(HOLDER_ID, "A123456789"))));
+
+            // When
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 2, List.of(
+                    updated("0987654321", 1L),
+                    policyAdded("LIFE", "10000.50", "ACTIVE", 2L),
+                    policyAdded("AUTO", "5000", "TERMINATED", 2L),
+                    new PolicyHolderDeleted(UUID.randomUUID().toString(), OCCURRED, HOLDER_ID, "A123******", "王小明", 3L))));
+
+            // Then
+            Map<String, Object> row = view(HOLDER_ID);
+            assertEquals("0987654321", row.get("MOBILE_PHONE"));
+            assertEquals("新北市", row.get("CITY"));
+            assertEquals("INACTIVE", row.get("STATUS"));
+            assertEquals(1, ((Number) row.get("ACTIVE_POLICY_COUNT")).intValue());
+            assertEquals(1, ((Number) row.get("LIFE_POLICY_COUNT")).intValue());
+            assertEquals(0, ((Number) row.get("AUTO_POLICY_COUNT")).intValue());
+            assertEquals(1000050L, ((Number) row.get("TOTAL_PREMIUM_MINOR")).longValue());
+            assertEquals(10000000L, ((Number) row.get("TOTAL_SUM_INSURED_MINOR")).longValue());
+            assertEquals(3L, ((Number) row.get("VERSION")).longValue());
+            assertEquals(5L, ((Number) row.get("LAST_SEQUENCE")).longValue());
+        }
+
+        @Test
+        @DisplayName("沒有版本號的舊版事件沿用檢視列原本的版本號")
+        void shouldKeepVersionForLegacyEvents() {
+            // Given
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(
+                    created(HOLDER_ID, "A123456789"), updated("0911111111", 1L))));
+
+            // When
+            projection.handle(List.of(stored(3, updated("0987654321", null))));
+
+            // Then
+            Map<String, Object> row = view(HOLDER_ID);
+            assertEquals("0987654321", row.get("MOBILE_PHONE"));
+            assertEquals(1L, ((Number) row.get("VERSION")).longValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("冪等與順序")
+    class IdempotencyTests {
+
+        @Test
+        @DisplayName("命令交易已套用的事件由重播再次投遞時不重複累加")
+        void shouldIgnoreRedeliveredEvents() {
+            // Given
+            PolicyHolderCreated created = created(HOLDER_ID, "A123456789");
+            PolicyAdded added = policyAdded("HEALTH", "3000", "ACTIVE", 1L);
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(created, added)));
+
+            // When
+            projection.handle(List.of(stored(1, created), stored(2, added)));
+            projection.handle(List.of(stored(2, added)));
+
+            // Then
+            assertEquals(1, ((Number) view(HOLDER_ID).get("HEALTH_POLICY_COUNT")).intValue());
+            assertEquals(3.0, events("replay", "skipped"));
+        }
+
+        @Test
+        @DisplayName("序號不接續的事件略過，依序重播時補上")
+        void shouldSkipEventsAfterGap() {
+            // Given
+            PolicyHolderCreated created = created(HOLDER_ID, "A123456789");
+            PolicyAdded first = policyAdded("LIFE", "1000", "ACTIVE", 1L);
+            PolicyAdded second = policyAdded("LIFE", "2000", "ACTIVE", 2L);
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(created)));
+
+            // When
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 3, List.of(second)));
+
+            // Then
+            assertEquals(0, ((Number) view(HOLDER_ID).get("LIFE_POLICY_COUNT")).intValue());
+            assertEquals(1.0, events("inline", "skipped"));
+
+            // When
+            projection.handle(List.of(stored(2, first), stored(3, second)));
+
+            // Then
+            Map<String, Object> row = view(HOLDER_ID);
+            assertEquals(2, ((Number) row.get("LIFE_POLICY_COUNT")).intValue());
+            assertEquals(300000L, ((Number) row.get("TOTAL_PREMIUM_MINOR")).longValue());
+        }
+
+        @Test
+        @DisplayName("沒有聚合根序號的事件無法投影")
+        void shouldRejectEventsWithoutSequence() {
+            // Given
+            PolicyHolderCreated created = created(HOLDER_ID, "A123456789");
+
+            // When & Then
+            assertThrows(IllegalStateException.class,
+                    () -> projection.handle(List.of(new StoredEvent(1, created))));
+        }
+    }
+
+    @Nested
+    @DisplayName("重建")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("重建寫入影子表，原檢視表照常查詢並同步套用，追上後換入並同步寫入端的版本號")
+        void shouldRebuildIntoShadowTable() {
+            // Given
+            holder(HOLDER_ID, "A123456789", 2L);
+            PolicyHolderCreated created = created(HOLDER_ID, "A123456789");
+            PolicyHolderUpdated changed = updated("0987654321", 1L);
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 1, List.of(created, changed)));
+
+            // When
+            projection.reset();
+            projection.onEventsAppended(new EventsAppended(HOLDER_ID, 3,
+                    List.of(policyAdded("LIFE", "1000", "ACTIVE", 2L))));
+            projection.handle(List.of(stored(1, created), stored(2, changed)));
+
+            // Then
+            assertEquals(1, ((Number) view(HOLDER_ID).get("LIFE_POLICY_COUNT")).intValue());
+            assertEquals(1, rows("policyholder_view_rebuild"));
+
+            // When
+            projection.onCaughtUp();
+
+            // Then
+            Map<String, Object> row = view(HOLDER_ID);
+            assertEquals("0987654321", row.get("MOBILE_PHONE"));
+            assertEquals(0, ((Number) row.get("LIFE_POLICY_COUNT")).intValue());
+            assertEquals(2L, ((Number) row.get("VERSION")).longValue());
+            assertEquals(2L, ((Number) row.get("LAST_SEQUENCE")).longValue());
+            assertEquals(0, rows("policyholder_view_rebuild"));
+
+            // When：之後的重播套用至檢視表
+            projection.handle(List.of(stored(3, policyAdded("LIFE", "1000", "ACTIVE", 3L))));
+
+            // Then
+            assertEquals(1, ((Number) view(HOLDER_ID).get("LIFE_POLICY_COUNT")).intValue());
+        }
+
+        @Test
+        @DisplayName("換入時移除已封存（不在 policy_holders）的保戶")
+        void shouldDropArchivedHoldersOnSwap() {
+            // Given
+            holder(HOLDER_ID, "A123456789", 0L);
+            projection.reset();
+            projection.handle(List.of(
+                    stored(1, created(HOLDER_ID, "A123456789")),
+                    stored(1, created("PH0000000002", "B123456789"))));
+
+            // When
+            projection.onCaughtUp();
+
+            // Then
+            assertEquals(1, rows("policyholder_view"));
+            assertEquals("A123456789", view(HOLDER_ID).get("NATIONAL_ID"));
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package com.insurance.policyholder.infrastructure.projection;
+
+import com.insurance.policyholder.application.port.input.ProjectionHandler;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.readmodel.StoredEvent;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.ProjectionCheckpointJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.ProjectionCheckpointJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectionReplayEngine Tests")
+class ProjectionReplayEngineTest {
+
+    private static final String PROJECTION = "recording";
+
+    @Mock
+    private ProjectionCheckpointJpaRepository checkpointRepository;
+
+    private InMemoryEventStore eventStore;
+    private RecordingHandler handler;
+    private ProjectionReplayEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = new InMemoryEventStore();
+        handler = new RecordingHandler();
+        engine = new ProjectionReplayEngine(eventStore, checkpointRepository, List.of(handler),
+                3, 2, 2, Duration.ofSeconds(5), Duration.ofMinutes(10), Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Catch Up Tests")
+    class CatchUpTests {
+
+        @Test
+        @DisplayName("should process all events keeping per-aggregate order")
+        void shouldProcessAllEventsInAggregateOrder() {
+            // Given
+            for (int i = 0; i < 20; i++) {
+                eventStore.append(i + 1, "PH" + (i % 4), LocalDateTime.now());
+            }
+
+            // When
+            assertTrue(engine.catchUp(PROJECTION, false));
+            awaitCaughtUp(1);
+
+            // Then
+            for (int aggregate = 0; aggregate < 4; aggregate++) {
+                List<Long> positions = handler.positionsOf("PH" + aggregate);
+                assertEquals(5, positions.size());
+                assertEquals(positions.stream().sorted().toList(), positions);
+            }
+            ProjectionProgress progress = engine.progress(PROJECTION);
+            assertEquals(ProjectionStatus.LIVE, progress.status());
+            assertEquals(20, progress.checkpoint());
+            assertEquals(0, progress.lag());
+            assertEquals(20, progress.eventsProcessed());
+        }
+
+        @Test
+        @DisplayName("should resume from stored checkpoint")
+        void shouldResumeFromStoredCheckpoint() {
+            // Given
+            for (int i = 0; i < 6; i++) {
+                eventStore.append(i + 1, "PH1", LocalDateTime.now());
+            }
+            when(checkpointRepository.findById(PROJECTION))
+                    .thenReturn(Optional.of(new ProjectionCheckpointJpaEntity(PROJECTION, 4, LocalDateTime.now())));
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // Then
+            assertEquals(List.of(5L, 6L), handler.positionsOf("PH1"));
+        }
+
+        @Test
+        @DisplayName("should persist checkpoint after each completed batch")
+        void shouldPersistCheckpointAfterEachBatch() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                eventStore.append(i + 1, "PH1", LocalDateTime.now());
+            }
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // Then
+            ArgumentCaptor<ProjectionCheckpointJpaEntity> captor =
+                    ArgumentCaptor.forClass(ProjectionCheckpointJpaEntity.class);
+            verify(checkpointRepository, atLeastOnce()).save(captor.capture());
+            List<Long> saved = captor.getAllValues().stream()
+                    .map(ProjectionCheckpointJpaEntity::getPosition)
+                    .toList();
+            assertEquals(List.of(0L, 2L, 4L, 5L), saved);
+        }
+
+        @Test
+        @DisplayName("should reset projection and replay from the beginning on rebuild")
+        void shouldResetAndReplayOnRebuild() {
+            // Given
+            eventStore.append(1, "PH1", LocalDateTime.now());
+            eventStore.append(2, "PH1", LocalDateTime.now());
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // When（前一次追趕的收尾可能尚未釋放，重試至接受為止）
+            await(() -> engine.catchUp(PROJECTION, true));
+            awaitCaughtUp(2);
+
+            // Then
+            assertEquals(1, handler.resets.get());
+            assertEquals(List.of(1L, 2L), handler.positionsOf("PH1"));
+        }
+
+        @Test
+        @DisplayName("should reject unknown projection")
+        void shouldRejectUnknownProjection() {
+            assertThrows(IllegalArgumentException.class, () -> engine.catchUp("missing", false));
+        }
+    }
+
+    @Nested
+    @DisplayName("Gap Tests")
+    class GapTests {
+
+        @Test
+        @DisplayName("should stop before a fresh gap")
+        void shouldStopBeforeFreshGap() {
+            // Given
+            eventStore.append(1, "PH1", LocalDateTime.now());
+            eventStore.append(2, "PH1", LocalDateTime.now());
+            eventStore.append(4, "PH1", LocalDateTime.now());
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // Then
+            assertEquals(List.of(1L, 2L), handler.positionsOf("PH1"));
+            assertEquals(2, engine.progress(PROJECTION).checkpoint());
+        }
+
+        @Test
+        @DisplayName("should skip a gap older than the timeout")
+        void shouldSkipExpiredGap() {
+            // Given
+            LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+            eventStore.append(1, "PH1", old);
+            eventStore.append(3, "PH1", old);
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // Then
+            assertEquals(List.of(1L, 3L), handler.positionsOf("PH1"));
+        }
+
+        @Test
+        @DisplayName("should apply an event committed after its gap was skipped")
+        void shouldApplyLateCommittedEvent() {
+            // Given
+            LocalDateTime old = LocalDateTime.now().minusSeconds(30);
+            eventStore.append(1, "PH1", old);
+            eventStore.append(3, "PH1", old);
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+            assertEquals(1, engine.progress(PROJECTION).checkpoint());
+
+            // When（交易在缺口逾時後才提交）
+            eventStore.append(2, "PH2", old.minusSeconds(10));
+            await(() -> {
+                engine.tail();
+                return handler.positionsOf("PH2").size() == 1;
+            });
+
+            // Then
+            assertEquals(List.of(2L), handler.positionsOf("PH2"));
+            assertEquals(List.of(1L, 3L), handler.positionsOf("PH1"));
+            assertEquals(3, engine.progress(PROJECTION).checkpoint());
+        }
+
+        @Test
+        @DisplayName("should not track gaps older than the retention")
+        void shouldNotTrackSettledGap() {
+            // Given
+            LocalDateTime old = LocalDateTime.now().minusHours(1);
+            eventStore.append(1, "PH1", old);
+            eventStore.append(3, "PH1", old);
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+
+            // Then
+            assertEquals(3, engine.progress(PROJECTION).checkpoint());
+        }
+
+        @Test
+        @DisplayName("should give up on a gap after the retention")
+        void shouldGiveUpOnGapAfterRetention() {
+            // Given
+            AdjustableClock clock = new AdjustableClock();
+            ProjectionReplayEngine retaining = new ProjectionReplayEngine(eventStore, checkpointRepository,
+                    List.of(handler), 3, 2, 2, Duration.ofSeconds(5), Duration.ofMinutes(10), clock);
+            LocalDateTime old = LocalDateTime.now(clock).minusSeconds(30);
+            eventStore.append(1, "PH1", old);
+            eventStore.append(3, "PH1", old);
+            try {
+                retaining.catchUp(PROJECTION, false);
+                awaitCaughtUp(1);
+                assertEquals(1, retaining.progress(PROJECTION).checkpoint());
+
+                // When
+                clock.advance(Duration.ofMinutes(11));
+                await(() -> {
+                    retaining.tail();
+                    return retaining.progress(PROJECTION).checkpoint() == 3;
+                });
+
+                // Then
+                assertEquals(List.of(1L, 3L), handler.positionsOf("PH1"));
+            } finally {
+                retaining.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Live Tail Tests")
+    class LiveTailTests {
+
+        @Test
+        @DisplayName("should process new events after switching to live")
+        void shouldProcessNewEventsWhenLive() {
+            // Given
+            eventStore.append(1, "PH1", LocalDateTime.now());
+            engine.catchUp(PROJECTION, false);
+            awaitCaughtUp(1);
+            eventStore.append(2, "PH1", LocalDateTime.now());
+            eventStore.append(3, "PH2", LocalDateTime.now());
+
+            // When（追趕工作的執行旗標可能尚未清除，重試至 tail 取得執行權）
+            await(() -> {
+                engine.tail();
+                return handler.positionsOf("PH2").size() == 1;
+            });
+
+            // Then
+            assertEquals(List.of(1L, 2L), handler.positionsOf("PH1"));
+            assertEquals(List.of(3L), handler.positionsOf("PH2"));
+            assertEquals(3, engine.progress(PROJECTION).checkpoint());
+        }
+
+        @Test
+        @DisplayName("should not tail a projection that has not caught up")
+        void shouldNotTailBeforeCaughtUp() {
+            // Given
+            eventStore.append(1, "PH1", LocalDateTime.now());
+
+            // When
+            engine.tail();
+
+            // Then
+            assertTrue(handler.positionsOf("PH1").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should mark projection failed and keep last completed checkpoint")
+        void shouldMarkFailedAndKeepCheckpoint() {
+            // Given
+            for (int i = 0; i < 6; i++) {
+                eventStore.append(i + 1, "PH1", LocalDateTime.now());
+            }
+            handler.failAt = 5;
+
+            // When
+            engine.catchUp(PROJECTION, false);
+            await(() -> engine.progress(PROJECTION).status() == ProjectionStatus.FAILED);
+
+            // Then
+            ProjectionProgress progress = engine.progress(PROJECTION);
+            assertTrue(progress.checkpoint() <= 4);
+            assertTrue(progress.lastError().contains("boom"));
+            assertEquals(0, handler.caughtUp.get());
+            verify(checkpointRepository, never()).save(argThatPosition(5));
+        }
+    }
+
+    private ProjectionCheckpointJpaEntity argThatPosition(long position) {
+        return argThat(entity -> entity.getPosition() >= position);
+    }
+
+    private void awaitCaughtUp(int times) {
+        await(() -> handler.caughtUp.get() >= times
+                || engine.progress(PROJECTION).status() == ProjectionStatus.FAILED);
+        assertEquals(times, handler.caughtUp.get());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    /**
+     * 可手動前進的時鐘
+     */
+    private static class AdjustableClock extends Clock {
+
+        private volatile Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * 以清單模擬的 Event Store（只實作重播需要的方法）
+     */
+    private static class InMemoryEventStore implements EventStore {
+
+        private final List<StoredEvent> events = new CopyOnWriteArrayList<>();
+
+        void append(long position, String aggregateId, LocalDateTime occurredOn) {
+            events.add(new StoredEvent(position, new PolicyHolderDeleted(
+                    UUID.randomUUID().toString(), occurredOn, aggregateId, "A12****789", "Test", null)));
+        }
+
+        @Override
+        public List<StoredEvent> readForward(long afterPosition, int limit) {
+            return events.stream()
+                    .filter(event -> event.getPosition() > afterPosition)
+                    .sorted(Comparator.comparingLong(StoredEvent::getPosition))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public long headPosition() {
+            return events.isEmpty() ? 0 : events.get(events.size() - 1).getPosition();
+        }
+
+        @Override
+        public void append(String aggregateId, long expectedVersion, List<DomainEvent> events) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long currentVersion(String aggregateId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DomainEvent> findByAggregateId(String aggregateId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DomainEvent> findByAggregateIdAfter(String aggregateId, String afterEventId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<StoredEvent> findEnvelopesByAggregateId(String aggregateId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DomainEvent> findByAggregateType(String aggregateType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DomainEvent> findByEventType(String eventType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * 記錄每個聚合根收到的事件位置
+     */
+    private static class RecordingHandler implements ProjectionHandler {
+
+        private final Map<String, List<Long>> positions = new ConcurrentHashMap<>();
+        private final AtomicInteger resets = new AtomicInteger();
+        private final AtomicInteger caughtUp = new AtomicInteger();
+        private volatile long failAt = -1;
+
+        @Override
+        public String getName() {
+            return PROJECTION;
+        }
+
+        @Override
+        public void reset() {
+            positions.clear();
+            resets.incrementAndGet();
+        }
+
+        @Override
+        public void handle(List<StoredEvent> events) {
+            for (StoredEvent event : events) {
+                if (event.getPosition() == failAt) {
+                    throw new IllegalStateException("boom");
+                }
+                positions.computeIfAbsent(event.getAggregateId(), key -> new CopyOnWriteArrayList<>())
+                        .add(event.getPosition());
+            }
+        }
+
+        @Override
+        public void onCaughtUp() {
+            caughtUp.incrementAndGet();
+        }
+
+        List<Long> positionsOf(String aggregateId) {
+            return new ArrayList<>(positions.getOrDefault(aggregateId, List.of()));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchivalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 冷資料封存端對端行為
+ * horizon 設為 0，直接呼叫封存工作，所有符合條件的資料列立即移入封存表
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivaldb",
+        "persistence.archive.enabled=true",
+        "persistence.archive.horizon=0s"
+})
+@AutoConfigureMockMvc
+@DisplayName("Hot/Cold Archival")
+class ArchivalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PolicyHolderArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("停用的保戶封存後仍可查詢，但不可修改，身分證字號也不可重複建立")
+    void shouldServeArchivedPolicyHolderReadOnly() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789");
+        String policyId = givenPolicy(id);
+        mockMvc.perform(delete("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // When
+        archivalService.run();
+
+        // Then
+        assertEquals(0, count("SELECT COUNT(*) FROM policy_holders WHERE id = ?", id));
+        assertEquals(1, count("SELECT COUNT(*) FROM policy_holders_archive WHERE id = ?", id));
+
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("INACTIVE"))
+                .andExpect(header().exists("ETag"));
+        mockMvc.perform(get("/api/v1/policyholders/national-id/{nationalId}", "A123456789"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id));
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies/{policyId}", id, policyId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("A123456789"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("已終止的保單封存後只在要求歷史時列出，並使保單列表的 ETag 失效")
+    void shouldListArchivedPoliciesOnRequest() throws Exception {
+        // Given
+        String id = givenPolicyHolder("B123456780");
+        String active = givenPolicy(id);
+        String terminated = givenPolicy(id);
+        jdbcTemplate.update("UPDATE policies SET status = 'TERMINATED' WHERE id = ?", terminated);
+        String etag = mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When
+        PolicyHolderArchivalService.Result result = archivalService.run();
+
+        // Then
+        assertTrue(result.policies() >= 1);
+        assertEquals(1, count("SELECT COUNT(*) FROM policies_archive WHERE id = ?", terminated));
+
+        MvcResult hot = mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(active))
+                .andReturn();
+        assertNotEquals(etag, hot.getResponse().getHeader("ETag"));
+
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[1].id").value(terminated))
+                .andExpect(jsonPath("$.data[1].status").value("TERMINATED"));
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies/{policyId}", id, terminated))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("TERMINATED"));
+    }
+
+    private int count(String sql, String id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private String givenPolicyHolder(String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private String givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+}
@@ -0,0 +1,97 @@
+package com.insurance.policyholder.integration;
+
+import com.insurance.policyholder.application.command.AddPolicyCommand;
+import com.insurance.policyholder.application.command.CreatePolicyHolderCommand;
+import com.insurance.policyholder.application.commandhandler.AddPolicyCommandHandler;
+import com.insurance.policyholder.application.commandhandler.CreatePolicyHolderCommandHandler;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
+import com.insurance.policyholder.application.queryhandler.GetPolicyHolderPoliciesQueryHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 關閉依保戶序列化後的並行命令
+ * 衝突只靠重試解決：所有命令最終成功，且每個成功的命令只留下一筆事件
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commandretrydb",
+        "command.serialization.enabled=false",
+        "command.retry.max-attempts=50",
+        "command.retry.initial-backoff=1ms",
+        "command.retry.max-backoff=20ms"
+})
+@DisplayName("Command Retry on Version Conflicts")
+class CommandRetryIntegrationTest {
+
+    private static final int THREADS = 4;
+    private static final int COMMANDS_PER_THREAD = 5;
+
+    @Autowired
+    private CreatePolicyHolderCommandHandler createHandler;
+
+    @Autowired
+    private AddPolicyCommandHandler addPolicyHandler;
+
+    @Autowired
+    private GetPolicyHolderPoliciesQueryHandler policiesQueryHandler;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Test
+    @DisplayName("衝突的命令應重試至成功且不產生重複事件")
+    void shouldRetryConflictsWithoutDuplicateEvents() throws Exception {
+        // Given
+        String policyHolderId = createHandler.handle(new CreatePolicyHolderCommand(
+                "A123456789", "王小明", "MALE", LocalDate.of(1990, 1, 15), "0912345678",
+                "test@example.com", "100", "台北市", "中正區", "忠孝東路100號")).getId();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < COMMANDS_PER_THREAD; i++) {
+                    try {
+                        addPolicyHandler.handle(new AddPolicyCommand(policyHolderId, "LIFE",
+                                new BigDecimal("10000"), new BigDecimal("1000000"),
+                                LocalDate.now(), LocalDate.now().plusYears(1)));
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        int total = THREADS * COMMANDS_PER_THREAD;
+        assertEquals(0, failures.get());
+        assertEquals(total, policiesQueryHandler.handle(new GetPolicyHolderPoliciesQuery(policyHolderId)).size());
+        assertEquals(1 + total, eventStore.findByAggregateId(policyHolderId).size());
+    }
+}
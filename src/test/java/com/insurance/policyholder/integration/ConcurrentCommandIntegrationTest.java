@@ -0,0 +1,104 @@
+package com.insurance.policyholder.integration;
+
+import com.insurance.policyholder.application.command.AddPolicyCommand;
+import com.insurance.policyholder.application.command.CreatePolicyHolderCommand;
+import com.insurance.policyholder.application.command.UpdatePolicyHolderCommand;
+import com.insurance.policyholder.application.commandhandler.AddPolicyCommandHandler;
+import com.insurance.policyholder.application.commandhandler.CreatePolicyHolderCommandHandler;
+import com.insurance.policyholder.application.commandhandler.UpdatePolicyHolderCommandHandler;
+import com.insurance.policyholder.application.query.GetPolicyHolderPoliciesQuery;
+import com.insurance.policyholder.application.queryhandler.GetPolicyHolderPoliciesQueryHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 同一保戶的並行命令
+ * 經由實際的處理器、交易與 @Version 樂觀鎖，確認依保戶序列化後沒有任何命令失敗
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:concurrentcommanddb")
+@DisplayName("Concurrent Commands on One Policy Holder")
+class ConcurrentCommandIntegrationTest {
+
+    private static final int THREADS = 6;
+    private static final int COMMANDS_PER_THREAD = 10;
+
+    @Autowired
+    private CreatePolicyHolderCommandHandler createHandler;
+
+    @Autowired
+    private AddPolicyCommandHandler addPolicyHandler;
+
+    @Autowired
+    private UpdatePolicyHolderCommandHandler updateHandler;
+
+    @Autowired
+    private GetPolicyHolderPoliciesQueryHandler policiesQueryHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("並行新增保單與更新保戶應全部成功且不產生衝突")
+    void shouldApplyConcurrentCommandsWithoutConflicts() throws Exception {
+        // Given
+        String policyHolderId = createHandler.handle(new CreatePolicyHolderCommand(
+                "A123456789", "王小明", "MALE", LocalDate.of(1990, 1, 15), "0912345678",
+                "test@example.com", "100", "台北市", "中正區", "忠孝東路100號")).getId();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            boolean updater = t % 2 == 0;
+            Callable<Void> worker = () -> {
+                start.await();
+                for (int i = 0; i < COMMANDS_PER_THREAD; i++) {
+                    try {
+                        if (updater) {
+                            updateHandler.handle(new UpdatePolicyHolderCommand(policyHolderId, "0987654321",
+                                    "updated@example.com", "220", "新北市", "板橋區", "新地址" + i + "號"));
+                        } else {
+                            addPolicyHandler.handle(new AddPolicyCommand(policyHolderId, "LIFE",
+                                    new BigDecimal("10000"), new BigDecimal("1000000"),
+                                    LocalDate.now(), LocalDate.now().plusYears(1)));
+                        }
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            };
+            futures.add(executor.submit(worker));
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(0, failures.get());
+        assertEquals(THREADS / 2 * COMMANDS_PER_THREAD,
+                policiesQueryHandler.handle(new GetPolicyHolderPoliciesQuery(policyHolderId)).size());
+        assertEquals(0.0, meterRegistry.get("policyholder.command.lock.timeouts").counter().count());
+    }
+}
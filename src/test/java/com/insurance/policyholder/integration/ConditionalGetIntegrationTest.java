@@ -0,0 +1,142 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ETag 與條件式 GET 端對端行為
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:conditionalgetdb")
+@AutoConfigureMockMvc
+@DisplayName("ETag and Conditional GET")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("保戶未變更時回 304，更新後 ETag 改變")
+    void shouldRevalidatePolicyHolder() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789");
+        String etag = etagOf("/api/v1/policyholders/{id}", id);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(put("/api/v1/policyholders/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest())))
+                .andExpect(status().isOk());
+
+        MvcResult changed = mockMvc.perform(get("/api/v1/policyholders/{id}", id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("changed@example.com"))
+                .andReturn();
+        assertNotEquals(etag, changed.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("保單列表未變更時回 304，新增保單後 ETag 改變")
+    void shouldRevalidatePolicies() throws Exception {
+        // Given
+        String id = givenPolicyHolder("B123456780");
+        givenPolicy(id);
+        String etag = etagOf("/api/v1/policyholders/{id}/policies", id);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        givenPolicy(id);
+
+        MvcResult changed = mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andReturn();
+        assertNotEquals(etag, changed.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("條件式請求查詢不存在的保戶應回 404")
+    void shouldReturn404ForUnknownPolicyHolder() throws Exception {
+        mockMvc.perform(get("/api/v1/policyholders/{id}", "PH9999999999").header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", "PH9999999999").header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotFound());
+    }
+
+    private String etagOf(String uri, String id) throws Exception {
+        String etag = mockMvc.perform(get(uri, id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private String givenPolicyHolder(String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private static UpdatePolicyHolderRequest updateRequest() {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("220");
+        address.setCity("新北市");
+        address.setDistrict("板橋區");
+        address.setStreet("新地址200號");
+
+        UpdatePolicyHolderRequest request = new UpdatePolicyHolderRequest();
+        request.setMobilePhone("0987654321");
+        request.setEmail("changed@example.com");
+        request.setAddress(address);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.output.event.archive.EventRetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 事件保留工作與封存後的版本
+ * 整個事件序列都已封存的聚合根，目前版本取自 archived_event_versions，之後的事件接在封存的序號之後
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eventretentiondb",
+        "eventstore.retention.enabled=true",
+        "eventstore.retention.horizon=0s",
+        "eventstore.retention.require-snapshot=false"
+})
+@ActiveProfiles("event-sourced")
+@AutoConfigureMockMvc
+@DisplayName("Event Retention")
+class EventRetentionIntegrationTest {
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("eventstore.retention.directory",
+                Files.createTempDirectory("event-archive").toAbsolutePath()::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRetentionService retentionService;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("事件全部封存後，版本取自封存高水位，新事件接續封存的序號")
+    void shouldContinueSequenceAfterArchive() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789");
+        givenPolicy(id);
+        long version = eventStore.currentVersion(id);
+
+        // When
+        retentionService.run();
+
+        // Then
+        assertEquals(0, scalar("SELECT COUNT(*) FROM domain_events WHERE aggregate_id = ?", id));
+        assertEquals(version, scalar("SELECT sequence_number FROM archived_event_versions WHERE aggregate_id = ?", id));
+        assertEquals(version, eventStore.currentVersion(id));
+
+        givenPolicy(id);
+        assertEquals(version + 1,
+                scalar("SELECT sequence_number FROM domain_events WHERE aggregate_id = ?", id));
+        assertEquals(version + 1, eventStore.currentVersion(id));
+
+        // 再次封存時高水位隨之提高
+        retentionService.run();
+        assertEquals(version + 1, scalar("SELECT sequence_number FROM archived_event_versions WHERE aggregate_id = ?", id));
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    private long scalar(String sql, String id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private String givenPolicyHolder(String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+}
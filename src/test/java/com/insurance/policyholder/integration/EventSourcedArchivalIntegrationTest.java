@@ -0,0 +1,121 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchivalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * event-sourced profile 下的冷資料封存
+ * 由事件重建的保戶不得把已封存的保單寫回目前的資料表，也不得以事件中的版本號覆寫保單
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:eventsourcedarchivaldb",
+        "persistence.archive.enabled=true",
+        "persistence.archive.horizon=0s"
+})
+@ActiveProfiles("event-sourced")
+@AutoConfigureMockMvc
+@DisplayName("Hot/Cold Archival (event-sourced)")
+class EventSourcedArchivalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PolicyHolderArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("由事件重建並儲存後，目前資料表的保單維持不變，封存的保單不會寫回")
+    void shouldNotWriteArchivedPoliciesBack() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789");
+        String active = givenPolicy(id);
+        String terminated = givenPolicy(id);
+        jdbcTemplate.update("UPDATE policies SET status = 'TERMINATED' WHERE id = ?", terminated);
+        jdbcTemplate.update("UPDATE policies SET version = 2 WHERE id = ?", active);
+        archivalService.run();
+        assertEquals(1, count("SELECT COUNT(*) FROM policies WHERE policy_holder_id = ?", id));
+        assertEquals(Map.of("STATUS", "ACTIVE", "VERSION", 2L), policyRow(active));
+
+        // When：新增保單會由事件重建保戶並儲存
+        String added = givenPolicy(id);
+
+        // Then：儲存時既有保單與 JPA 模式相同，從資料列的版本號遞增，而非事件中的 0
+        assertEquals(2, count("SELECT COUNT(*) FROM policies WHERE policy_holder_id = ?", id));
+        assertEquals(Map.of("STATUS", "ACTIVE", "VERSION", 3L), policyRow(active));
+        assertEquals(Map.of("STATUS", "ACTIVE", "VERSION", 0L), policyRow(added));
+        assertEquals(0, count("SELECT COUNT(*) FROM policies WHERE id = ?", terminated));
+        assertEquals(1, count("SELECT COUNT(*) FROM policies_archive WHERE id = ?", terminated));
+
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3));
+    }
+
+    private int count(String sql, String id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private Map<String, Object> policyRow(String policyId) {
+        return jdbcTemplate.queryForMap("SELECT status, version FROM policies WHERE id = ?", policyId);
+    }
+
+    private String givenPolicyHolder(String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private String givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+}
@@ -0,0 +1,151 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Idempotency-Key 端對端行為
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idempotencydb")
+@AutoConfigureMockMvc
+@DisplayName("Idempotency-Key on POST Endpoints")
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("重送建立保戶應回放相同回應而非身分證字號重複錯誤")
+    void shouldReplayCreatePolicyHolder() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(createRequest("A123456789"));
+        MvcResult first = mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "create-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // When / Then
+        MvcResult replay = mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "create-1")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+        assertEquals(first.getResponse().getContentAsString(), replay.getResponse().getContentAsString());
+
+        mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "create-2")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("同時送出的重複新增保單請求只應建立一張保單")
+    void shouldCreateSinglePolicyForConcurrentDuplicates() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("B123456780"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = objectMapper.readTree(created.getResponse().getContentAsString()).path("data").path("id").asText();
+        String body = objectMapper.writeValueAsString(addPolicyRequest());
+
+        int clients = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MvcResult>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Callable<MvcResult> client = () -> {
+                start.await();
+                return mockMvc.perform(post("/api/v1/policyholders/{id}/policies", id)
+                                .header("Idempotency-Key", "add-policy-1")
+                                .contentType(MediaType.APPLICATION_JSON).content(body))
+                        .andReturn();
+            };
+            futures.add(executor.submit(client));
+        }
+
+        // When
+        start.countDown();
+        Set<String> policyIds = new HashSet<>();
+        for (Future<MvcResult> future : futures) {
+            MvcResult result = future.get(30, TimeUnit.SECONDS);
+            assertEquals(201, result.getResponse().getStatus());
+            policyIds.add(objectMapper.readTree(result.getResponse().getContentAsString())
+                    .path("data").path("id").asText());
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, policyIds.size());
+        MvcResult policies = mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode data = objectMapper.readTree(policies.getResponse().getContentAsString()).path("data");
+        assertEquals(1, data.size());
+    }
+
+    @Test
+    @DisplayName("同一 key 用於不同內容應回 422")
+    void shouldRejectReusedKey() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "reused-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("C123456781"))))
+                .andExpect(status().isCreated());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "reused-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("D123456782"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    private static AddPolicyRequest addPolicyRequest() {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        return request;
+    }
+}
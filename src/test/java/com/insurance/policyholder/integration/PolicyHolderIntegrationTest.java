@@ -8,6 +8,7 @@ import com.insurance.policyholder.infrastructure.adapter.input.rest.request.Crea
 import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -27,6 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("PolicyHolder Integration Tests - Full API Workflow")
 class PolicyHolderIntegrationTest {
@@ -305,6 +307,47 @@ class PolicyHolderIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ========================================
+    // Observability Tests
+    // ========================================
+
+    @Test
+    @Order(17)
+    @DisplayName("Prometheus 端點應匯出處理器、Repository 與 Event Store 指標")
+    void shouldExposeHandlerMetricsInPrometheusFormat() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "policyholder_handler_duration_seconds_count{application=\"policyholder-management\",component=\"CreatePolicyHolderCommandHandler\"")))
+                .andExpect(content().string(containsString(
+                        "component=\"DeletePolicyHolderCommandHandler\"")))
+                .andExpect(content().string(containsString(
+                        "policyholder_handler_errors_total{application=\"policyholder-management\",component=\"GetPolicyHolderQueryHandler\",exception=\"PolicyHolderNotFoundException\"")))
+                .andExpect(content().string(containsString("policyholder_repository_duration_seconds_bucket")))
+                .andExpect(content().string(containsString("policyholder_eventstore_in_flight")));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("JFR 端點應可開始並關閉錄製")
+    void shouldStartAndCloseFlightRecording() throws Exception {
+        MvcResult result = mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"integration-test\",\"maxAge\":\"1m\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn();
+        long id = objectMapper.readTree(result.getResponse().getContentAsString()).path("id").asLong();
+
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItem("integration-test")));
+
+        mockMvc.perform(delete("/actuator/jfr/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CLOSED"));
+    }
+
     // ========================================
     // Helper Methods
     // ========================================
@@ -0,0 +1,36 @@
+package com.insurance.policyholder.integration;
+
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+
+import java.time.LocalDate;
+
+/**
+ * 整合測試共用的保戶請求範例
+ */
+public final class PolicyHolderRequests {
+
+    private PolicyHolderRequests() {
+    }
+
+    /**
+     * 以指定身分證字號建立新增保戶請求，其餘欄位使用固定的有效值
+     */
+    public static CreatePolicyHolderRequest createRequest(String nationalId) {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("100");
+        address.setCity("台北市");
+        address.setDistrict("中正區");
+        address.setStreet("忠孝東路100號");
+
+        CreatePolicyHolderRequest request = new CreatePolicyHolderRequest();
+        request.setNationalId(nationalId);
+        request.setName("王小明");
+        request.setGender("MALE");
+        request.setBirthDate(LocalDate.of(1990, 1, 15));
+        request.setMobilePhone("0912345678");
+        request.setEmail("test@example.com");
+        request.setAddress(address);
+        return request;
+    }
+}
@@ -0,0 +1,173 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.projection.PolicyHolderViewProjection;
+import com.insurance.policyholder.infrastructure.projection.ProjectionProgress;
+import com.insurance.policyholder.infrastructure.projection.ProjectionReplayEngine;
+import com.insurance.policyholder.infrastructure.projection.ProjectionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * CQRS 讀取端檢視表端對端行為
+ * 命令在同一個交易中更新 policyholder_view，查詢直接讀取檢視表；以重播引擎重建至影子表，換入後內容與事件一致
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:policyholderviewdb")
+@AutoConfigureMockMvc
+@DisplayName("Policy Holder View")
+class PolicyHolderViewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectionReplayEngine engine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("命令完成後即可從檢視表讀到變更，ETag 與寫入端的版本號一致")
+    void shouldServeQueriesFromView() throws Exception {
+        // Given
+        String id = givenPolicyHolder("C123456781", "檢視甲");
+        givenPolicy(id, "LIFE", "10000.50", "1000000");
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn();
+        PatchPolicyHolderRequest patch = new PatchPolicyHolderRequest();
+        patch.setEmail("view@example.com");
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", id)
+                        .header("If-Match", result.getResponse().getHeader("ETag"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patch)))
+                .andExpect(status().isOk());
+
+        // Then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT v.email, v.version, v.active_policy_count, v.masked_national_id, h.version AS holder_version "
+                        + "FROM policyholder_view v JOIN policy_holders h ON h.id = v.id WHERE v.id = ?", id);
+        assertEquals("view@example.com", row.get("EMAIL"));
+        assertEquals(row.get("HOLDER_VERSION"), row.get("VERSION"));
+        assertEquals(1, ((Number) row.get("ACTIVE_POLICY_COUNT")).intValue());
+        assertEquals("C123***781", row.get("MASKED_NATIONAL_ID"));
+        mockMvc.perform(get("/api/v1/policyholders").param("name", "檢視甲"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(id))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePolicies").value(1))
+                .andExpect(jsonPath("$.data.content[0].policySummary.totalPremiumMinor").value(1000050));
+    }
+
+    @Test
+    @DisplayName("重建時由事件重播寫入影子表，換入後的有效保單摘要不重複累加、版本號與寫入端一致")
+    void shouldRebuildViewFromEvents() throws Exception {
+        // Given
+        String id = givenPolicyHolder("D123456782", "檢視乙");
+        givenPolicy(id, "AUTO", "5000", "500000");
+        givenPolicy(id, "AUTO", "3000", "300000");
+        jdbcTemplate.update("UPDATE policyholder_view SET auto_policy_count = 0, active_policy_count = 0 WHERE id = ?", id);
+
+        // When
+        rebuild();
+
+        // Then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT v.version, h.version AS holder_version "
+                        + "FROM policyholder_view v JOIN policy_holders h ON h.id = v.id WHERE v.id = ?", id);
+        assertEquals(row.get("HOLDER_VERSION"), row.get("VERSION"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM policyholder_view_rebuild", Integer.class));
+        mockMvc.perform(get("/api/v1/policyholders").param("name", "檢視乙"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePolicies").value(2))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePoliciesByType.AUTO").value(2))
+                .andExpect(jsonPath("$.data.content[0].policySummary.totalPremiumMinor").value(800000));
+    }
+
+    private void rebuild() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        LocalDateTime before = engine.progress(PolicyHolderViewProjection.NAME).startedAt();
+        while (!engine.catchUp(PolicyHolderViewProjection.NAME, true)) {
+            assertTrue(System.currentTimeMillis() < deadline, "Projection is still catching up");
+            Thread.sleep(20);
+        }
+        while (true) {
+            ProjectionProgress progress = engine.progress(PolicyHolderViewProjection.NAME);
+            if (progress.status() == ProjectionStatus.LIVE && !progress.startedAt().equals(before)) {
+                return;
+            }
+            assertNotEquals(ProjectionStatus.FAILED, progress.status(), progress.lastError());
+            assertTrue(System.currentTimeMillis() < deadline, "Rebuild did not finish");
+            Thread.sleep(20);
+        }
+    }
+
+    private String givenPolicyHolder(String nationalId, String name) throws Exception {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("100");
+        address.setCity("台北市");
+        address.setDistrict("中正區");
+        address.setStreet("忠孝東路100號");
+
+        CreatePolicyHolderRequest request = new CreatePolicyHolderRequest();
+        request.setNationalId(nationalId);
+        request.setName(name);
+        request.setGender("MALE");
+        request.setBirthDate(LocalDate.of(1990, 1, 15));
+        request.setMobilePhone("0912345678");
+        request.setEmail("test@example.com");
+        request.setAddress(address);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId, String policyType, String premium, String sumInsured)
+            throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType(policyType);
+        request.setPremium(new BigDecimal(premium));
+        request.setSumInsured(new BigDecimal(sumInsured));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+}
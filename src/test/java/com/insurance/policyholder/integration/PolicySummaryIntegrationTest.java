@@ -0,0 +1,136 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.summary.PolicySummaryReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 保戶有效保單摘要端對端行為
+ * 新增保單與保戶在同一個交易更新摘要欄位，列表直接回傳；對帳工作修正被破壞的摘要
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:policysummarydb",
+        "persistence.summary.reconciliation.enabled=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("Policy Summary")
+class PolicySummaryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PolicySummaryReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("新增保單後列表回傳有效保單數、各類型數量與金額合計")
+    void shouldListPolicySummary() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789", "摘要甲");
+
+        // When
+        givenPolicy(id, "LIFE", "10000.50", "1000000");
+        givenPolicy(id, "LIFE", "2000", "200000");
+        givenPolicy(id, "HEALTH", "3000", "300000");
+
+        // Then
+        mockMvc.perform(get("/api/v1/policyholders").param("name", "摘要甲"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(id))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePolicies").value(3))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePoliciesByType.LIFE").value(2))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePoliciesByType.HEALTH").value(1))
+                .andExpect(jsonPath("$.data.content[0].policySummary.totalPremiumMinor").value(1500050))
+                .andExpect(jsonPath("$.data.content[0].policySummary.totalSumInsuredMinor").value(150000000));
+    }
+
+    @Test
+    @DisplayName("對帳工作修正被破壞的摘要欄位")
+    void shouldRepairCorruptedSummary() throws Exception {
+        // Given
+        String id = givenPolicyHolder("B123456780", "摘要乙");
+        givenPolicy(id, "AUTO", "5000", "500000");
+        jdbcTemplate.update("UPDATE policy_holders SET active_policy_count = 7, auto_policy_count = 0 WHERE id = ?", id);
+
+        // When
+        PolicySummaryReconciler.Result result = reconciler.run();
+
+        // Then
+        assertTrue(result.repaired() >= 1);
+        mockMvc.perform(get("/api/v1/policyholders").param("name", "摘要乙"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePolicies").value(1))
+                .andExpect(jsonPath("$.data.content[0].policySummary.activePoliciesByType.AUTO").value(1))
+                .andExpect(jsonPath("$.data.content[0].policySummary.totalPremiumMinor").value(500000));
+        assertEquals(0, reconciler.run().mismatches());
+    }
+
+    private String givenPolicyHolder(String nationalId, String name) throws Exception {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("100");
+        address.setCity("台北市");
+        address.setDistrict("中正區");
+        address.setStreet("忠孝東路100號");
+
+        CreatePolicyHolderRequest request = new CreatePolicyHolderRequest();
+        request.setNationalId(nationalId);
+        request.setName(name);
+        request.setGender("MALE");
+        request.setBirthDate(LocalDate.of(1990, 1, 15));
+        request.setMobilePhone("0912345678");
+        request.setEmail("test@example.com");
+        request.setAddress(address);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId, String policyType, String premium, String sumInsured)
+            throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType(policyType);
+        request.setPremium(new BigDecimal(premium));
+        request.setSumInsured(new BigDecimal(sumInsured));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,257 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.diagnostics.sql.SqlStatementTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 各端點的 SQL 語句數
+ * 鎖定目前的查詢數，查詢數增加（例如 N+1）時測試失敗
+ * 命令端點的每個領域事件在同一個交易中多一個寫入 policyholder_view 的語句
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:querycountdb")
+@AutoConfigureMockMvc
+@DisplayName("SQL Statement Count per Endpoint")
+class QueryCountIntegrationTest {
+
+    private static final AtomicInteger SERIAL = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementTracker tracker;
+
+    private ObjectMapper objectMapper;
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        queryCounter = new QueryCounter(tracker);
+    }
+
+    @Nested
+    @DisplayName("命令端點")
+    class CommandEndpointTests {
+
+        @Test
+        @DisplayName("POST /policyholders")
+        void createPolicyHolder() throws Exception {
+            CreatePolicyHolderRequest request = createRequest(nextNationalId());
+
+            queryCounter.assertStatementCount(7, () -> mockMvc.perform(post("/api/v1/policyholders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated()));
+        }
+
+        @Test
+        @DisplayName("POST /policyholders 以相同 Idempotency-Key 重送（本機快取回放）")
+        void replayCreatePolicyHolder() throws Exception {
+            String body = objectMapper.writeValueAsString(createRequest(nextNationalId()));
+            mockMvc.perform(post("/api/v1/policyholders").header("Idempotency-Key", "count-replay")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated());
+
+            queryCounter.assertStatementCount(0, () -> mockMvc.perform(post("/api/v1/policyholders")
+                            .header("Idempotency-Key", "count-replay")
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated()));
+        }
+
+        @Test
+        @DisplayName("PUT /policyholders/{id}")
+        void updatePolicyHolder() throws Exception {
+            String id = givenPolicyHolder();
+
+            queryCounter.assertStatementCount(7, () -> mockMvc.perform(put("/api/v1/policyholders/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest())))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("PUT /policyholders/{id}（If-Match，條件式 UPDATE 後讀回資料列）")
+        void updatePolicyHolderWithIfMatch() throws Exception {
+            String id = givenPolicyHolder();
+
+            queryCounter.assertStatementCount(6, () -> mockMvc.perform(put("/api/v1/policyholders/{id}", id)
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest())))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("PATCH /policyholders/{id}")
+        void patchPolicyHolder() throws Exception {
+            String id = givenPolicyHolder();
+            PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+            request.setEmail("patched@example.com");
+
+            queryCounter.assertStatementCount(6, () -> mockMvc.perform(patch("/api/v1/policyholders/{id}", id)
+                            .header("If-Match", "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("POST /policyholders/{id}/policies")
+        void addPolicy() throws Exception {
+            String id = givenPolicyHolder();
+            givenPolicy(id);
+
+            // 一般的新增保單路徑不得超過 sql.statement-budget（預設 10）
+            queryCounter.assertStatementCount(10, () -> givenPolicy(id));
+        }
+
+        @Test
+        @DisplayName("DELETE /policyholders/{id}")
+        void deletePolicyHolder() throws Exception {
+            String id = givenPolicyHolder();
+
+            queryCounter.assertStatementCount(7, () -> mockMvc.perform(delete("/api/v1/policyholders/{id}", id))
+                    .andExpect(status().isNoContent()));
+        }
+    }
+
+    @Nested
+    @DisplayName("查詢端點")
+    class QueryEndpointTests {
+
+        @Test
+        @DisplayName("GET /policyholders/{id}（含 3 張保單）")
+        void getPolicyHolder() throws Exception {
+            String id = givenPolicyHolderWithPolicies(3);
+
+            queryCounter.assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("GET /policyholders（分頁查詢不隨筆數增加）")
+        void searchPolicyHolders() throws Exception {
+            givenPolicyHolderWithPolicies(2);
+            givenPolicyHolderWithPolicies(2);
+
+            queryCounter.assertStatementCount(2, () -> mockMvc.perform(get("/api/v1/policyholders")
+                            .param("page", "0").param("size", "20"))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("GET /policyholders/{id}/policies")
+        void getPolicies() throws Exception {
+            String id = givenPolicyHolderWithPolicies(3);
+
+            queryCounter.assertStatementCount(3, () -> mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                    .andExpect(status().isOk()));
+        }
+
+        @Test
+        @DisplayName("GET /policyholders/{id}（If-None-Match 相符，只查版本號）")
+        void getPolicyHolderNotModified() throws Exception {
+            String id = givenPolicyHolderWithPolicies(3);
+            String etag = mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            queryCounter.assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/policyholders/{id}", id)
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified()));
+        }
+
+        @Test
+        @DisplayName("GET /policyholders/{id}/policies（If-None-Match 相符，只查版本號）")
+        void getPoliciesNotModified() throws Exception {
+            String id = givenPolicyHolderWithPolicies(3);
+            String etag = mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            queryCounter.assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id)
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified()));
+        }
+    }
+
+    private String givenPolicyHolderWithPolicies(int policies) throws Exception {
+        String id = givenPolicyHolder();
+        for (int i = 0; i < policies; i++) {
+            givenPolicy(id);
+        }
+        return id;
+    }
+
+    private String givenPolicyHolder() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nextNationalId()))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * 產生檢查碼正確且不重複的身分證字號（B 開頭，值 11）
+     */
+    private static String nextNationalId() {
+        String digits = String.format("1%07d", SERIAL.incrementAndGet());
+        int sum = 1 + 1 * 9;
+        for (int i = 0; i < 8; i++) {
+            sum += (digits.charAt(i) - '0') * (8 - i);
+        }
+        return "B" + digits + (10 - sum % 10) % 10;
+    }
+
+    private static UpdatePolicyHolderRequest updateRequest() {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("220");
+        address.setCity("新北市");
+        address.setDistrict("板橋區");
+        address.setStreet("新地址200號");
+
+        UpdatePolicyHolderRequest request = new UpdatePolicyHolderRequest();
+        request.setMobilePhone("0987654321");
+        request.setEmail("updated@example.com");
+        request.setAddress(address);
+        return request;
+    }
+}
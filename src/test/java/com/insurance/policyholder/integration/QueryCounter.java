@@ -0,0 +1,52 @@
+package com.insurance.policyholder.integration;
+
+import com.insurance.policyholder.infrastructure.diagnostics.sql.RequestStatements;
+import com.insurance.policyholder.infrastructure.diagnostics.sql.SqlStatementTracker;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 測試用 SQL 語句計數器
+ * 統計動作期間本執行緒執行的語句數（MockMvc 請求在同一執行緒執行），用於鎖定各端點的查詢數
+ */
+public final class QueryCounter {
+
+    private final SqlStatementTracker tracker;
+
+    public QueryCounter(SqlStatementTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * 執行動作並回傳期間的 SQL 統計
+     */
+    public RequestStatements count(Action action) throws Exception {
+        try (SqlStatementTracker.Scope scope = tracker.open()) {
+            action.run();
+            return scope.statements();
+        }
+    }
+
+    /**
+     * 斷言動作期間恰好執行 expected 個 SQL 語句，失敗訊息附上各語句的次數
+     */
+    public void assertStatementCount(int expected, Action action) throws Exception {
+        RequestStatements statements = count(action);
+        assertEquals(expected, statements.getStatementCount(), () -> "Unexpected SQL statement count:\n"
+                + describe(statements.getCountsBySql()));
+    }
+
+    private static String describe(Map<String, Integer> countsBySql) {
+        return countsBySql.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
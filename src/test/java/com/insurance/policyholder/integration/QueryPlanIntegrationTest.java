@@ -0,0 +1,314 @@
+package com.insurance.policyholder.integration;
+
+import com.insurance.policyholder.domain.event.PolicyAdded;
+import com.insurance.policyholder.domain.event.PolicyHolderDeleted;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.enums.PolicyHolderStatus;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.domain.model.valueobject.NationalId;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.output.event.EventsAppended;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.adapter.PolicyHolderViewQueryRepositoryAdapter;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.archive.PolicyHolderArchive;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyHolderJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.entity.PolicyJpaEntity;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyHolderMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.mapper.PolicyMapper;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.DomainEventJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyHolderJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.repository.PolicyJpaRepository;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.summary.PolicySummaryReconciler;
+import com.insurance.policyholder.infrastructure.diagnostics.sql.SqlStatementTracker;
+import com.insurance.policyholder.infrastructure.projection.PolicyHolderViewProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 儲存庫查詢的執行計畫
+ * 實際呼叫每個查詢，對 Hibernate 送出的 SELECT 執行 H2 EXPLAIN，計畫出現全表掃描（tableScan）即失敗。
+ * 索引定義於 db/migration/V2__query_indexes.sql、V3__archive_tables.sql 與 V5__policyholder_view.sql
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:queryplandb")
+@DisplayName("Query Plans use Indexes")
+class QueryPlanIntegrationTest {
+
+    private static final String HOLDER_ID = "PH0000000001";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Pattern EXPLAINABLE = Pattern.compile("\\s*(select|update|delete)\\b", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private PolicyHolderJpaRepository policyHolderRepository;
+
+    @Autowired
+    private PolicyJpaRepository policyRepository;
+
+    @Autowired
+    private DomainEventJpaRepository domainEventRepository;
+
+    @Autowired
+    private PolicyHolderArchive archive;
+
+    @Autowired
+    private PolicyHolderViewQueryRepositoryAdapter viewRepository;
+
+    @Autowired
+    private PolicyHolderViewProjection viewProjection;
+
+    @Autowired
+    private PolicyMapper policyMapper;
+
+    @Autowired
+    private PolicyHolderMapper policyHolderMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlStatementTracker tracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(tracker);
+    }
+
+    @Nested
+    @DisplayName("PolicyHolderJpaRepository")
+    class PolicyHolderQueryTests {
+
+        @Test
+        @DisplayName("依身分證字號查詢與存在檢查")
+        void nationalId() throws Exception {
+            assertIndexed(() -> policyHolderRepository.findByNationalId("A123456789"));
+            assertIndexed(() -> policyHolderRepository.existsByNationalId("A123456789"));
+            assertIndexed(() -> policyHolderRepository.existsByNationalIdIncludingArchive("A123456789"));
+        }
+
+        @Test
+        @DisplayName("版本號查詢")
+        void versions() throws Exception {
+            assertIndexed(() -> policyHolderRepository.findVersionById(HOLDER_ID));
+            assertIndexed(() -> policyHolderRepository.findVersionsWithPolicies(HOLDER_ID));
+        }
+
+        @Test
+        @DisplayName("姓名搜尋（分頁與計數）")
+        void nameSearch() throws Exception {
+            assertIndexed(() -> policyHolderRepository.findByNameContaining("王", PageRequest.of(0, 10)));
+            assertIndexed(() -> policyHolderRepository.countByNameContaining("王"));
+        }
+
+        @Test
+        @DisplayName("狀態查詢（分頁與計數）")
+        void status() throws Exception {
+            assertIndexed(() -> policyHolderRepository.findByStatus(
+                    PolicyHolderJpaEntity.Status.ACTIVE, PageRequest.of(0, 10)));
+            assertIndexed(() -> policyHolderRepository.countByStatus(PolicyHolderJpaEntity.Status.ACTIVE));
+        }
+
+        @Test
+        @DisplayName("以版本號為條件更新")
+        void updateIfVersion() throws Exception {
+            assertIndexed(() -> transactionTemplate.executeWithoutResult(status ->
+                    policyHolderRepository.updateIfVersion(HOLDER_ID, 0L,
+                            ContactAddressChange.partial("0987654321", null, null), NOW)));
+        }
+    }
+
+    @Nested
+    @DisplayName("PolicyHolderViewQueryRepositoryAdapter")
+    class PolicyHolderViewQueryTests {
+
+        @Test
+        @DisplayName("依編號、身分證字號與版本號查詢檢視表")
+        void lookups() throws Exception {
+            assertIndexed(() -> viewRepository.findById(PolicyHolderId.of(HOLDER_ID)));
+            assertIndexed(() -> viewRepository.findByNationalId(NationalId.of("A123456789")));
+            assertIndexed(() -> viewRepository.findVersionById(PolicyHolderId.of(HOLDER_ID), false));
+        }
+
+        @Test
+        @DisplayName("姓名搜尋與狀態查詢（分頁與計數）")
+        void searches() throws Exception {
+            assertIndexed(() -> viewRepository.searchByName("王", 0, 10));
+            assertIndexed(() -> viewRepository.countByName("王"));
+            assertIndexed(() -> viewRepository.findByStatus(PolicyHolderStatus.ACTIVE, 0, 10));
+            assertIndexed(() -> viewRepository.countByStatus(PolicyHolderStatus.ACTIVE));
+        }
+
+        @Test
+        @DisplayName("投影更新檢視列")
+        void projection() throws Exception {
+            LocalDateTime occurredOn = LocalDateTime.now();
+            assertIndexed(() -> transactionTemplate.executeWithoutResult(status ->
+                    viewProjection.onEventsAppended(new EventsAppended(HOLDER_ID, 2, List.of(
+                            new PolicyHolderUpdated("E1", occurredOn, HOLDER_ID, "0987654321", null,
+                                    "10001", "台北市", "信義區", "信義路100號", 0L),
+                            new PolicyAdded("E2", occurredOn, HOLDER_ID, "PO0000000001", "LIFE",
+                                    new BigDecimal("1000"), new BigDecimal("100000"),
+                                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "ACTIVE", 0L),
+                            new PolicyHolderDeleted("E3", occurredOn, HOLDER_ID, "A123******", "王小明", 0L))))));
+        }
+    }
+
+    @Nested
+    @DisplayName("PolicyJpaRepository")
+    class PolicyQueryTests {
+
+        @Test
+        @DisplayName("依保戶查詢（全部、分頁、計數）")
+        void byPolicyHolder() throws Exception {
+            assertIndexed(() -> policyRepository.findByPolicyHolderId(HOLDER_ID));
+            assertIndexed(() -> policyRepository.findByPolicyHolderId(HOLDER_ID, PageRequest.of(0, 10)));
+            assertIndexed(() -> policyRepository.countByPolicyHolderId(HOLDER_ID));
+        }
+
+        @Test
+        @DisplayName("依保戶與類型、保戶與狀態查詢")
+        void byPolicyHolderAndAttribute() throws Exception {
+            assertIndexed(() -> policyRepository.findByPolicyHolderIdAndPolicyType(
+                    HOLDER_ID, PolicyJpaEntity.PolicyType.LIFE));
+            assertIndexed(() -> policyRepository.findByPolicyHolderIdAndStatus(
+                    HOLDER_ID, PolicyJpaEntity.PolicyStatus.ACTIVE));
+        }
+
+        @Test
+        @DisplayName("依類型、狀態查詢")
+        void byAttribute() throws Exception {
+            assertIndexed(() -> policyRepository.findByPolicyType(PolicyJpaEntity.PolicyType.LIFE));
+            assertIndexed(() -> policyRepository.findByStatus(PolicyJpaEntity.PolicyStatus.ACTIVE));
+        }
+    }
+
+    @Nested
+    @DisplayName("PolicyHolderArchive")
+    class ArchiveQueryTests {
+
+        @Test
+        @DisplayName("查詢已封存的保戶與保單")
+        void lookups() throws Exception {
+            assertIndexed(() -> archive.findById(HOLDER_ID, true));
+            assertIndexed(() -> archive.findByNationalId("A123456789"));
+            assertIndexed(() -> archive.findVersionById(HOLDER_ID));
+            assertIndexed(() -> archive.findPolicyVersions(HOLDER_ID));
+        }
+
+        @Test
+        @DisplayName("鎖定與搬移封存候選")
+        void archival() throws Exception {
+            assertIndexed(() -> transactionTemplate.executeWithoutResult(status -> {
+                archive.lockInactiveHolders(NOW, 100);
+                archive.archiveHolders(List.of(HOLDER_ID), NOW);
+            }));
+            assertIndexed(() -> transactionTemplate.executeWithoutResult(status -> {
+                archive.lockClosedPolicies(NOW, 100);
+                archive.archivePolicies(List.of("PO0000000001"), NOW);
+            }));
+        }
+    }
+
+    @Nested
+    @DisplayName("PolicySummaryReconciler")
+    class PolicySummaryQueryTests {
+
+        @Test
+        @DisplayName("分批走訪保戶、鎖定並修正不一致的摘要")
+        void reconciliation() throws Exception {
+            PolicySummaryReconciler reconciler = new PolicySummaryReconciler(dataSource, policyMapper,
+                    policyHolderMapper, transactionManager, 100, true, new SimpleMeterRegistry());
+            jdbcTemplate.update("INSERT INTO policy_holders (id, national_id, name, gender, birth_date, mobile_phone, "
+                    + "zip_code, city, district, street, status, version, created_at, updated_at, active_policy_count, "
+                    + "life_policy_count) VALUES ('PH0000000099', 'H123456786', '王小明', 'MALE', DATE '1990-01-15', "
+                    + "'0912345678', '10001', '台北市', '信義區', '信義路100號', 'ACTIVE', 0, ?, ?, 1, 1)", NOW, NOW);
+            try {
+                assertIndexed(reconciler::run);
+            } finally {
+                jdbcTemplate.update("DELETE FROM policy_holders WHERE id = 'PH0000000099'");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("DomainEventJpaRepository")
+    class DomainEventQueryTests {
+
+        @Test
+        @DisplayName("依聚合根讀取事件")
+        void byAggregate() throws Exception {
+            assertIndexed(() -> domainEventRepository.findByAggregateIdOrderBySequenceNumberAsc(HOLDER_ID));
+            assertIndexed(() -> domainEventRepository.findHeadersByAggregateId(HOLDER_ID));
+            assertIndexed(() -> domainEventRepository.findByAggregateIdAfter(HOLDER_ID, 3));
+            assertIndexed(() -> domainEventRepository.findCurrentVersion(HOLDER_ID));
+            assertIndexed(() -> domainEventRepository.findByAggregateIdAndEventType(HOLDER_ID, "PolicyAdded"));
+        }
+
+        @Test
+        @DisplayName("依聚合根類型、事件類型讀取事件")
+        void byType() throws Exception {
+            assertIndexed(() -> domainEventRepository.findByAggregateTypeOrderByOccurredOnAsc("PolicyHolder"));
+            assertIndexed(() -> domainEventRepository.findByEventTypeOrderByOccurredOnAsc("PolicyAdded"));
+        }
+
+        @Test
+        @DisplayName("依全域位置讀取事件")
+        void byGlobalPosition() throws Exception {
+            assertIndexed(() -> domainEventRepository.findByGlobalPositionAfter(0, PageRequest.of(0, 100)));
+            assertIndexed(() -> domainEventRepository.findMaxGlobalPosition());
+        }
+
+        @Test
+        @DisplayName("依時間讀取與封存事件")
+        void byOccurredOn() throws Exception {
+            assertIndexed(() -> domainEventRepository.findByOccurredOnBetween(NOW.minusDays(1), NOW));
+            assertIndexed(() -> domainEventRepository.findArchivable(NOW, PageRequest.of(0, 100)));
+            assertIndexed(() -> domainEventRepository.findArchivableBehindSnapshot(NOW, PageRequest.of(0, 100)));
+        }
+    }
+
+    /**
+     * 執行動作，斷言期間每個查詢、更新與刪除的執行計畫都使用索引
+     */
+    private void assertIndexed(QueryCounter.Action action) throws Exception {
+        Set<String> statements = queryCounter.count(action).getCountsBySql().keySet();
+        List<String> queries = statements.stream()
+                .filter(sql -> EXPLAINABLE.matcher(sql).lookingAt())
+                .toList();
+        assertFalse(queries.isEmpty(), "No query was executed");
+        for (String sql : queries) {
+            String plan = String.join("\n", jdbcTemplate.query(
+                    connection -> connection.prepareStatement("EXPLAIN " + sql), (row, index) -> row.getString(1)));
+            assertFalse(plan.contains(".tableScan"), () -> "Table scan in plan:\n" + plan);
+            assertTrue(plan.contains("/* PUBLIC."), () -> "No access path in plan:\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.routing.SnapshotReplicator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 讀寫分離端對端行為：兩個 H2 資料庫，複製器改為手動觸發
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:readreplicadb",
+        "persistence.replica.url=jdbc:h2:mem:readreplicadb-replica",
+        "persistence.replica.replicator.interval=3600000"
+})
+@ActiveProfiles("read-replica")
+@AutoConfigureMockMvc
+@DisplayName("Read/Write Datasource Routing")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SnapshotReplicator replicator;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        replicator.replicate();
+    }
+
+    private double routed(String role) {
+        return registry.get("policyholder.datasource.routed").tag("role", role).counter().count();
+    }
+
+    @Test
+    @DisplayName("唯讀查詢走副本：同步前其他用戶端讀不到新保戶，寫入的用戶端讀主庫")
+    void shouldReadOwnWritesFromPrimaryUntilReplicated() throws Exception {
+        // Given
+        String id = givenPolicyHolder("writer", "A123456789");
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id).header(CLIENT_HEADER, "reader"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id).header(CLIENT_HEADER, "writer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nationalId").value("A123456789"));
+
+        replicator.replicate();
+
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id).header(CLIENT_HEADER, "reader"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nationalId").value("A123456789"));
+    }
+
+    @Test
+    @DisplayName("副本追上寫入後，寫入的用戶端也改讀副本")
+    void shouldReturnToReplicaOnceCaughtUp() throws Exception {
+        // Given
+        String id = givenPolicyHolder("writer-2", "B123456780");
+        replicator.replicate();
+        double replicaBefore = routed("replica");
+
+        // When
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id).header(CLIENT_HEADER, "writer-2"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertTrue(routed("replica") > replicaBefore);
+    }
+
+    private String givenPolicyHolder(String client, String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .header(CLIENT_HEADER, client)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+}
@@ -0,0 +1,43 @@
+package com.insurance.policyholder.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Flyway migration 與 JPA 實體的一致性
+ * 以 ddl-auto=validate 啟動，實體的資料表或欄位與 migration 不符時 context 無法啟動
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schemamigrationdb",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Schema Migrations")
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("啟動時套用所有 migration，且實體通過 Hibernate 結構驗證")
+    void shouldApplyAllMigrations() {
+        // When
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(info -> info.getVersion().getVersion())
+                .toList();
+
+        // Then
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), applied);
+        MigrationInfo pending = Arrays.stream(flyway.info().pending()).findFirst().orElse(null);
+        assertNull(pending);
+    }
+}
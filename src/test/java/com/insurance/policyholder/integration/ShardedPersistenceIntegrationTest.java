@@ -0,0 +1,182 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.CreatePolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardRouter;
+import com.insurance.policyholder.infrastructure.adapter.output.persistence.sharding.ShardedDataSources;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 分片持久化端對端行為：主資料庫加上三個 H2 分片
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shardeddb",
+        "persistence.sharding.urls=jdbc:h2:mem:shardeddb-0,jdbc:h2:mem:shardeddb-1,jdbc:h2:mem:shardeddb-2"
+})
+@ActiveProfiles("sharded")
+@AutoConfigureMockMvc
+@DisplayName("Sharded Persistence")
+class ShardedPersistenceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShardedDataSources shards;
+
+    @Autowired
+    private ShardRouter router;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("保戶依編號雜湊存放在對應分片，跨分片搜尋依編號合併分頁")
+    void shouldPlaceByHashAndScatterGatherSearch() throws Exception {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (String nationalId : List.of("A123456789", "B123456780", "C123456781", "D123456782", "E123456783")) {
+            ids.add(givenPolicyHolder(nationalId, "陳分片"));
+        }
+
+        // When
+        JsonNode first = search("分片", 0, 3);
+        JsonNode second = search("分片", 1, 3);
+
+        // Then
+        for (String id : ids) {
+            int shard = router.shardOf(id);
+            for (int other = 0; other < shards.size(); other++) {
+                assertEquals(other == shard ? 1 : 0, rowsInShard(other, id), id + " in shard " + other);
+            }
+        }
+        List<String> paged = new ArrayList<>();
+        first.path("content").forEach(holder -> paged.add(holder.path("id").asText()));
+        second.path("content").forEach(holder -> paged.add(holder.path("id").asText()));
+        assertEquals(ids.stream().sorted().toList(), paged);
+        assertEquals(5, first.path("totalElements").asLong());
+    }
+
+    @Test
+    @DisplayName("依身分證字號查詢經由目錄找到分片，重複的身分證字號被拒絕")
+    void shouldResolveNationalIdThroughDirectory() throws Exception {
+        // Given
+        String id = givenPolicyHolder("F123456784", "林目錄");
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/policyholders/national-id/{nationalId}", "F123456784"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id));
+        mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("F123456784", "林目錄"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("新增保單與刪除保戶在保戶所在分片完成")
+    void shouldWritePoliciesToOwningShard() throws Exception {
+        // Given
+        String id = givenPolicyHolder("G123456785", "張保單");
+
+        // When
+        givenPolicy(id);
+        givenPolicy(id);
+        mockMvc.perform(delete("/api/v1/policyholders/{id}", id))
+                .andExpect(status().is2xxSuccessful());
+
+        // Then
+        mockMvc.perform(get("/api/v1/policyholders/{id}/policies", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("INACTIVE"));
+        JdbcTemplate owner = new JdbcTemplate(shards.get(router.shardOf(id)));
+        assertEquals(2, owner.queryForObject(
+                "SELECT COUNT(*) FROM policies WHERE policy_holder_id = ?", Integer.class, id));
+    }
+
+    private JsonNode search(String name, int page, int size) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/policyholders")
+                        .param("name", name)
+                        .param("page", String.valueOf(page))
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data");
+    }
+
+    private int rowsInShard(int shard, String id) {
+        return new JdbcTemplate(shards.get(shard))
+                .queryForObject("SELECT COUNT(*) FROM policy_holders WHERE id = ?", Integer.class, id);
+    }
+
+    private String givenPolicyHolder(String nationalId, String name) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId, name))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private void givenPolicy(String policyHolderId) throws Exception {
+        AddPolicyRequest request = new AddPolicyRequest();
+        request.setPolicyType("LIFE");
+        request.setPremium(new BigDecimal("10000"));
+        request.setSumInsured(new BigDecimal("1000000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", policyHolderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private static CreatePolicyHolderRequest createRequest(String nationalId, String name) {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("100");
+        address.setCity("台北市");
+        address.setDistrict("中正區");
+        address.setStreet("忠孝東路100號");
+
+        CreatePolicyHolderRequest request = new CreatePolicyHolderRequest();
+        request.setNationalId(nationalId);
+        request.setName(name);
+        request.setGender("MALE");
+        request.setBirthDate(LocalDate.of(1990, 1, 15));
+        request.setMobilePhone("0912345678");
+        request.setEmail("test@example.com");
+        request.setAddress(address);
+        return request;
+    }
+}
@@ -0,0 +1,218 @@
+package com.insurance.policyholder.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.insurance.policyholder.application.port.output.EventStore;
+import com.insurance.policyholder.application.port.output.PolicyHolderRepository;
+import com.insurance.policyholder.domain.event.DomainEvent;
+import com.insurance.policyholder.domain.event.PolicyHolderUpdated;
+import com.insurance.policyholder.domain.model.aggregate.PolicyHolder;
+import com.insurance.policyholder.domain.model.enums.PolicyType;
+import com.insurance.policyholder.domain.model.valueobject.ContactAddressChange;
+import com.insurance.policyholder.domain.model.valueobject.PolicyHolderId;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddPolicyRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.AddressRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.PatchPolicyHolderRequest;
+import com.insurance.policyholder.infrastructure.adapter.input.rest.request.UpdatePolicyHolderRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.insurance.policyholder.integration.PolicyHolderRequests.createRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * If-Match 條件式更新端對端行為
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:versionedupdatedb")
+@AutoConfigureMockMvc
+@DisplayName("Version-Guarded Updates with If-Match")
+class VersionedUpdateIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private PolicyHolderRepository policyHolderRepository;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("PUT 帶相符的 If-Match 應更新並遞增 ETag")
+    void shouldUpdateWithMatchingIfMatch() throws Exception {
+        // Given
+        String id = givenPolicyHolder("A123456789");
+        String etag = etagOf(id);
+
+        // When
+        MvcResult result = mockMvc.perform(put("/api/v1/policyholders/{id}", id)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("changed@example.com"))
+                .andExpect(jsonPath("$.data.name").value("王小明"))
+                .andReturn();
+
+        // Then
+        String newETag = result.getResponse().getHeader("ETag");
+        assertNotEquals(etag, newETag);
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", newETag))
+                .andExpect(jsonPath("$.data.address.city").value("新北市"));
+    }
+
+    @Test
+    @DisplayName("PATCH 只應更新提供的欄位並發布完整狀態的 PolicyHolderUpdated")
+    void shouldPatchOnlySuppliedColumns() throws Exception {
+        // Given
+        String id = givenPolicyHolder("B123456780");
+        PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+        request.setEmail("patched@example.com");
+
+        // When
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", id)
+                        .header("If-Match", etagOf(id))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("patched@example.com"))
+                .andExpect(jsonPath("$.data.mobilePhone").value("0912345678"))
+                .andExpect(jsonPath("$.data.address.street").value("忠孝東路100號"));
+
+        // Then
+        List<DomainEvent> events = eventStore.findByAggregateId(id);
+        PolicyHolderUpdated updated = assertInstanceOf(PolicyHolderUpdated.class, events.get(events.size() - 1));
+        assertEquals("patched@example.com", updated.getEmail());
+        assertEquals("0912345678", updated.getMobilePhone());
+        assertEquals("台北市", updated.getCity());
+    }
+
+    @Test
+    @DisplayName("條件式更新回傳的保戶應帶有持久化的有效保單摘要")
+    void shouldKeepPolicySummaryOnConditionalUpdate() throws Exception {
+        // Given
+        String id = givenPolicyHolder("E123456783");
+        AddPolicyRequest policy = new AddPolicyRequest();
+        policy.setPolicyType("LIFE");
+        policy.setPremium(new BigDecimal("10000"));
+        policy.setSumInsured(new BigDecimal("1000000"));
+        policy.setStartDate(LocalDate.now());
+        policy.setEndDate(LocalDate.now().plusYears(1));
+        mockMvc.perform(post("/api/v1/policyholders/{id}/policies", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(policy)))
+                .andExpect(status().isCreated());
+
+        // When
+        PolicyHolder updated = policyHolderRepository.updateIfVersion(PolicyHolderId.of(id), 1L,
+                ContactAddressChange.partial(null, "summary@example.com", null)).orElseThrow();
+
+        // Then
+        assertEquals(2L, updated.getVersion());
+        assertEquals("summary@example.com", updated.getContactInfo().getEmail());
+        assertEquals(1, updated.getPolicySummary().getActivePolicies(PolicyType.LIFE));
+        assertEquals(1000000L, updated.getPolicySummary().getTotalPremiumMinor());
+    }
+
+    @Test
+    @DisplayName("過期的 If-Match 應回 412 且不寫入")
+    void shouldRejectStaleIfMatch() throws Exception {
+        // Given
+        String id = givenPolicyHolder("C123456781");
+        String staleETag = etagOf(id);
+        PatchPolicyHolderRequest first = new PatchPolicyHolderRequest();
+        first.setMobilePhone("0911111111");
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", id)
+                        .header("If-Match", staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk());
+        int eventCount = eventStore.findByAggregateId(id).size();
+
+        // When / Then
+        PatchPolicyHolderRequest second = new PatchPolicyHolderRequest();
+        second.setMobilePhone("0922222222");
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", id)
+                        .header("If-Match", staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("PRECONDITION_FAILED"));
+
+        mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(jsonPath("$.data.mobilePhone").value("0911111111"));
+        assertEquals(eventCount, eventStore.findByAggregateId(id).size());
+    }
+
+    @Test
+    @DisplayName("PATCH 未帶 If-Match 應回 428，保戶不存在應回 404")
+    void shouldRequireIfMatchAndExistingPolicyHolder() throws Exception {
+        PatchPolicyHolderRequest request = new PatchPolicyHolderRequest();
+        request.setMobilePhone("0911111111");
+
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", "PH9999999999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionRequired());
+
+        mockMvc.perform(patch("/api/v1/policyholders/{id}", "PH9999999999")
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+    }
+
+    private String etagOf(String id) throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/policyholders/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        return etag;
+    }
+
+    private String givenPolicyHolder(String nationalId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/policyholders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest(nationalId))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
+    private static UpdatePolicyHolderRequest updateRequest() {
+        AddressRequest address = new AddressRequest();
+        address.setZipCode("220");
+        address.setCity("新北市");
+        address.setDistrict("板橋區");
+        address.setStreet("新地址200號");
+
+        UpdatePolicyHolderRequest request = new UpdatePolicyHolderRequest();
+        request.setMobilePhone("0987654321");
+        request.setEmail("changed@example.com");
+        request.setAddress(address);
+        return request;
+    }
+}